@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.collection.array;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Fixed width primitive array stored outside the java heap. Elements are kept in segments
+ * of at most 1GB, so the array can exceed the 2GB limit of a single {@link ByteBuffer}.
+ * The segments are either direct buffers or read only memory mapped file regions.
+ */
+public abstract class BaseOffHeapArray<E> implements PrimitiveArray<E> {
+
+    private static final int SEGMENT_BYTES_SHIFT = 30;
+
+    private final int elementShift;
+    private final int segmentShift;
+    private final int segmentMask;
+    private ByteBuffer[] segments;
+
+    protected BaseOffHeapArray(int elementShift, int capacity) {
+        this(elementShift, allocate(elementShift, capacity));
+    }
+
+    protected BaseOffHeapArray(int elementShift, ByteBuffer[] segments) {
+        this.elementShift = elementShift;
+        this.segmentShift = SEGMENT_BYTES_SHIFT - elementShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+        this.segments = segments;
+    }
+
+    protected final ByteBuffer segment(int pos) {
+        return segments[pos >>> segmentShift];
+    }
+
+    protected final int offset(int pos) {
+        return (pos & segmentMask) << elementShift;
+    }
+
+    @Override
+    public void drop() {
+        segments = null;
+    }
+
+    private static ByteBuffer[] allocate(int elementShift, int capacity) {
+        long bytes = (long) capacity << elementShift;
+        ByteBuffer[] segments = new ByteBuffer[segmentNum(bytes)];
+        for (int i = 0; i < segments.length; i++) {
+            long segmentBytes = Math.min(bytes - ((long) i << SEGMENT_BYTES_SHIFT), 1L << SEGMENT_BYTES_SHIFT);
+            segments[i] = ByteBuffer.allocateDirect((int) segmentBytes);
+        }
+        return segments;
+    }
+
+    /**
+     * Map capacity elements of the file starting at position as read only segments.
+     */
+    static ByteBuffer[] map(FileChannel channel, long position, int capacity, int elementShift)
+        throws IOException {
+        long bytes = (long) capacity << elementShift;
+        ByteBuffer[] segments = new ByteBuffer[segmentNum(bytes)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long) i << SEGMENT_BYTES_SHIFT;
+            long segmentBytes = Math.min(bytes - start, 1L << SEGMENT_BYTES_SHIFT);
+            segments[i] = channel.map(MapMode.READ_ONLY, position + start, segmentBytes);
+        }
+        return segments;
+    }
+
+    private static int segmentNum(long bytes) {
+        return (int) ((bytes + (1L << SEGMENT_BYTES_SHIFT) - 1) >>> SEGMENT_BYTES_SHIFT);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.collection.array;
+
+import java.nio.ByteBuffer;
+
+public class OffHeapIntArray extends BaseOffHeapArray<Integer> {
+
+    static final int ELEMENT_SHIFT = 2;
+
+    public OffHeapIntArray(int capacity) {
+        super(ELEMENT_SHIFT, capacity);
+    }
+
+    public OffHeapIntArray(ByteBuffer[] segments) {
+        super(ELEMENT_SHIFT, segments);
+    }
+
+    @Override
+    public void set(int pos, Integer value) {
+        segment(pos).putInt(offset(pos), value);
+    }
+
+    @Override
+    public Integer get(int pos) {
+        return getInt(pos);
+    }
+
+    public int getInt(int pos) {
+        return segment(pos).getInt(offset(pos));
+    }
+
+}
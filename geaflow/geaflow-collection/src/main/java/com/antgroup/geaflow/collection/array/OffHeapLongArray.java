@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.collection.array;
+
+import java.nio.ByteBuffer;
+
+public class OffHeapLongArray extends BaseOffHeapArray<Long> {
+
+    static final int ELEMENT_SHIFT = 3;
+
+    public OffHeapLongArray(int capacity) {
+        super(ELEMENT_SHIFT, capacity);
+    }
+
+    public OffHeapLongArray(ByteBuffer[] segments) {
+        super(ELEMENT_SHIFT, segments);
+    }
+
+    @Override
+    public void set(int pos, Long value) {
+        segment(pos).putLong(offset(pos), value);
+    }
+
+    @Override
+    public Long get(int pos) {
+        return getLong(pos);
+    }
+
+    public long getLong(int pos) {
+        return segment(pos).getLong(offset(pos));
+    }
+
+}
@@ -14,6 +14,9 @@
 
 package com.antgroup.geaflow.collection.array;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -22,6 +25,7 @@ public class PrimitiveArrayFactory {
 
     private static final Function<Integer, PrimitiveArray> DEFAULT_BUILDER = ObjectArray::new;
     private static final Map<Class<?>, Function<Integer, PrimitiveArray>> UNMARSHALL = new HashMap<>();
+    private static final Map<Class<?>, OffHeapBuilder> OFF_HEAP = new HashMap<>();
 
     static {
         UNMARSHALL.put(Integer.class, IntArray::new);
@@ -39,9 +43,84 @@ public class PrimitiveArrayFactory {
         UNMARSHALL.put(Short.class, ShortArray::new);
         UNMARSHALL.put(Short.TYPE, ShortArray::new);
         UNMARSHALL.put(byte[].class, BytesArray::new);
+
+        registerOffHeap(OffHeapIntArray.ELEMENT_SHIFT, OffHeapIntArray::new, OffHeapIntArray::new,
+            Integer.class, Integer.TYPE);
+        registerOffHeap(OffHeapLongArray.ELEMENT_SHIFT, OffHeapLongArray::new, OffHeapLongArray::new,
+            Long.class, Long.TYPE);
+        registerOffHeap(OffHeapDoubleArray.ELEMENT_SHIFT, OffHeapDoubleArray::new,
+            OffHeapDoubleArray::new, Double.class, Double.TYPE);
+        registerOffHeap(OffHeapByteArray.ELEMENT_SHIFT, OffHeapByteArray::new, OffHeapByteArray::new,
+            Byte.class, Byte.TYPE);
+        registerOffHeap(OffHeapFloatArray.ELEMENT_SHIFT, OffHeapFloatArray::new,
+            OffHeapFloatArray::new, Float.class, Float.TYPE);
+        registerOffHeap(OffHeapShortArray.ELEMENT_SHIFT, OffHeapShortArray::new,
+            OffHeapShortArray::new, Short.class, Short.TYPE);
+    }
+
+    private static void registerOffHeap(int elementShift, Function<Integer, PrimitiveArray> builder,
+                                        Function<ByteBuffer[], PrimitiveArray> mapper,
+                                        Class<?>... types) {
+        for (Class<?> type : types) {
+            OFF_HEAP.put(type, new OffHeapBuilder(elementShift, builder, mapper));
+        }
     }
 
     public static PrimitiveArray getCustomArray(Class<?> type, int capacity) {
         return UNMARSHALL.getOrDefault(type, DEFAULT_BUILDER).apply(capacity);
     }
+
+    /**
+     * Returns an off heap array for fixed width types, other types fall back to heap array.
+     */
+    public static PrimitiveArray getOffHeapArray(Class<?> type, int capacity) {
+        OffHeapBuilder builder = OFF_HEAP.get(type);
+        return builder == null ? getCustomArray(type, capacity) : builder.builder.apply(capacity);
+    }
+
+    /**
+     * Returns true if the type has an off heap array, which can be mapped from file.
+     */
+    public static boolean isFixedWidth(Class<?> type) {
+        return OFF_HEAP.containsKey(type);
+    }
+
+    /**
+     * Returns the byte size of a fixed width element.
+     */
+    public static int getElementSize(Class<?> type) {
+        return 1 << getOffHeapBuilder(type).elementShift;
+    }
+
+    /**
+     * Map capacity elements of the file starting at position as a read only off heap array.
+     */
+    public static PrimitiveArray mapOffHeapArray(Class<?> type, FileChannel channel,
+                                                 long position, int capacity) throws IOException {
+        OffHeapBuilder builder = getOffHeapBuilder(type);
+        return builder.mapper.apply(
+            BaseOffHeapArray.map(channel, position, capacity, builder.elementShift));
+    }
+
+    private static OffHeapBuilder getOffHeapBuilder(Class<?> type) {
+        OffHeapBuilder builder = OFF_HEAP.get(type);
+        if (builder == null) {
+            throw new IllegalArgumentException("not fixed width type " + type);
+        }
+        return builder;
+    }
+
+    private static class OffHeapBuilder {
+
+        private final int elementShift;
+        private final Function<Integer, PrimitiveArray> builder;
+        private final Function<ByteBuffer[], PrimitiveArray> mapper;
+
+        private OffHeapBuilder(int elementShift, Function<Integer, PrimitiveArray> builder,
+                               Function<ByteBuffer[], PrimitiveArray> mapper) {
+            this.elementShift = elementShift;
+            this.builder = builder;
+            this.mapper = mapper;
+        }
+    }
 }
@@ -16,6 +16,12 @@ package com.antgroup.geaflow.collection.array;
 
 
 import com.antgroup.geaflow.collection.PrimitiveType;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -76,4 +82,48 @@ public class PrimitiveArrayFactoryTest {
         }
     }
 
+    @Test
+    public void testOffHeap() {
+        List<Class> list = Arrays.asList(
+            Integer.TYPE,
+            Long.TYPE,
+            Double.TYPE,
+            Float.TYPE,
+            Byte.TYPE,
+            Short.TYPE
+        );
+
+        for (Class clazz : list) {
+            Assert.assertTrue(PrimitiveArrayFactory.isFixedWidth(clazz));
+            PrimitiveArray array = PrimitiveArrayFactory.getOffHeapArray(clazz, 10);
+            Assert.assertTrue(array instanceof BaseOffHeapArray);
+            for (int j = 0; j < 10; j++) {
+                Object obj = getRandomValue(clazz);
+                array.set(j, obj);
+                Assert.assertEquals(array.get(j), obj);
+            }
+            array.drop();
+        }
+        Assert.assertFalse(PrimitiveArrayFactory.isFixedWidth(byte[].class));
+        Assert.assertTrue(PrimitiveArrayFactory.getOffHeapArray(byte[].class, 10) instanceof BytesArray);
+    }
+
+    @Test
+    public void testMapOffHeap() throws IOException {
+        File file = File.createTempFile("offheap", ".bin");
+        file.deleteOnExit();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(-1);
+            for (long i = 0; i < 100; i++) {
+                out.writeLong(i * i);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            PrimitiveArray<Long> array = PrimitiveArrayFactory.mapOffHeapArray(Long.class, channel, 4, 100);
+            for (int i = 0; i < 100; i++) {
+                Assert.assertEquals(array.get(i).longValue(), (long) i * i);
+            }
+        }
+    }
+
 }
@@ -71,4 +71,10 @@ public class ConnectorConfigKeys implements Serializable {
         .key("geaflow.dsl.file.name.regex")
         .defaultValue("")
         .description("The regular expression for filtering the files in the path.");
+
+    public static final ConfigKey GEAFLOW_DSL_FILE_SPLIT_SIZE = ConfigKeys
+        .key("geaflow.dsl.file.split.size")
+        .defaultValue(-1L)
+        .description("The byte size of each split for reading a large file by many tasks. "
+            + "A non-positive value means that each file is a single split.");
 }
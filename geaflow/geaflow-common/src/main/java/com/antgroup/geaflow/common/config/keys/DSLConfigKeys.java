@@ -80,4 +80,22 @@ public class DSLConfigKeys implements Serializable {
         .key("geaflow.dsl.ignore.exception")
         .defaultValue(false)
         .description("If set true, dsl will skip the exception for dirty data.");
+
+    public static final ConfigKey GEAFLOW_DSL_JOIN_BROADCAST_THRESHOLD = ConfigKeys
+        .key("geaflow.dsl.join.broadcast.threshold")
+        .defaultValue(0L)
+        .description("The max estimated row count of the build side for a broadcast hash join, "
+            + "default 0 means the join inputs are always key partitioned.");
+
+    public static final ConfigKey GEAFLOW_DSL_SORT_SPILL_BYTES = ConfigKeys
+        .key("geaflow.dsl.sort.spill.bytes")
+        .defaultValue(256 * 1024 * 1024L)
+        .description("The max estimated bytes of rows buffered in memory by order by, more rows "
+            + "are spilled to local disk as sorted runs.");
+
+    public static final ConfigKey GEAFLOW_DSL_REQUEST_CACHE_CAPACITY = ConfigKeys
+        .key("geaflow.dsl.request.cache.capacity")
+        .defaultValue(1024)
+        .description("The max number of distinct parameter requests whose identical requests are "
+            + "merged into one traversal in a window, 0 means the requests are never merged.");
 }
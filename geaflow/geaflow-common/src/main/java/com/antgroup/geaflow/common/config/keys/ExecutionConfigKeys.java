@@ -210,6 +210,17 @@ public class ExecutionConfigKeys implements Serializable {
         .defaultValue(16)
         .description("max worker num in container");
 
+    public static final ConfigKey WORKER_INPUT_QUEUE_CAPACITY_BYTES = ConfigKeys
+        .key("geaflow.worker.input.queue.capacity.bytes")
+        .defaultValue(0L)
+        .description("bytes of fetched messages buffered for a worker, the fetcher blocks once "
+            + "it is exceeded, unbounded if not positive");
+
+    public static final ConfigKey WORKER_INPUT_QUEUE_SLOT_NUM = ConfigKeys
+        .key("geaflow.worker.input.queue.slot.num")
+        .defaultValue(4096)
+        .description("max messages buffered in the bounded worker input queue, must be a power of 2");
+
     public static final ConfigKey CONTAINER_JVM_OPTION = ConfigKeys
         .key("geaflow.container.jvm.options")
         .noDefaultValue()
@@ -64,5 +64,25 @@ public class FrameworkConfigKeys implements Serializable {
         .key("geaflow.inc.stream.materialize.disable")
         .defaultValue(false)
         .description("inc stream materialize, enabled by default");
-}
 
+    public static final ConfigKey INC_VERTEX_PREFETCH_BATCH_SIZE = ConfigKeys
+        .key("geaflow.inc.vertex.prefetch.batch.size")
+        .defaultValue(1024)
+        .description("number of message box vertices of the dynamic vertex centric operators "
+            + "fetched by one keyed state query, 0 disables the prefetch");
+
+    public static final ConfigKey KEY_BY_HOT_KEY_COMBINE_ENABLE = ConfigKeys
+        .key("geaflow.key.by.hot.key.combine.enable")
+        .defaultValue(false)
+        .description("pre-combine hot keys of a keyed reduce before the shuffle, disabled by default");
+
+    public static final ConfigKey KEY_BY_HOT_KEY_THRESHOLD = ConfigKeys
+        .key("geaflow.key.by.hot.key.threshold")
+        .defaultValue(1000)
+        .description("a key is hot once its estimated frequency in a window reaches the threshold");
+
+    public static final ConfigKey KEY_BY_HOT_KEY_SKETCH_WIDTH = ConfigKeys
+        .key("geaflow.key.by.hot.key.sketch.width")
+        .defaultValue(4096)
+        .description("counter number of each row of the hot key sketch, must be a power of 2");
+}
@@ -205,16 +205,23 @@ public class EncoderResolver {
         if (baseClass == Object.class) {
             return null;
         }
+        return resolveType(resolveFunctionType(baseClass, function, typeParaIdx));
+    }
+
+    /**
+     * Resolve the actual type of the type parameter of the function base class, a type variable
+     * is returned if the type is erased.
+     */
+    public static Type resolveFunctionType(Class<?> baseClass, Object function, int typeParaIdx) {
         Class<?> funcClass = function.getClass();
         List<ParameterizedType> typeTree = new ArrayList<>();
         Type paraType = extractParaType(typeTree, baseClass, funcClass, typeParaIdx);
 
         if (paraType instanceof TypeVariable) {
-            Type concreteType = getConcreteTypeofTypeVariable(typeTree, (TypeVariable<?>) paraType);
-            return resolveType(concreteType);
+            return getConcreteTypeofTypeVariable(typeTree, (TypeVariable<?>) paraType);
         }
 
-        return resolveType(paraType);
+        return paraType;
     }
 
     private static Type extractParaType(List<ParameterizedType> typeTree,
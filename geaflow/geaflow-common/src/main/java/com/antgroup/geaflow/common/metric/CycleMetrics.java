@@ -33,6 +33,8 @@ public class CycleMetrics implements Serializable {
     private long outputKb;
     private long avgGcTime;
     private long avgExecuteTime;
+    private long scheduleTime;
+    private int scheduleRpcNum;
 
     public CycleMetrics(String name, String pipelineName, String opName) {
         this.name = name;
@@ -144,6 +146,22 @@ public class CycleMetrics implements Serializable {
         this.outputKb = outputKb;
     }
 
+    public long getScheduleTime() {
+        return scheduleTime;
+    }
+
+    public void setScheduleTime(long scheduleTime) {
+        this.scheduleTime = scheduleTime;
+    }
+
+    public int getScheduleRpcNum() {
+        return scheduleRpcNum;
+    }
+
+    public void setScheduleRpcNum(int scheduleRpcNum) {
+        this.scheduleRpcNum = scheduleRpcNum;
+    }
+
 
     @Override
     public String toString() {
@@ -161,6 +179,8 @@ public class CycleMetrics implements Serializable {
             + ", inputKb=" + inputKb
             + ", outputRecords=" + outputRecords
             + ", outputKb=" + outputKb
+            + ", scheduleTime=" + scheduleTime + "ms"
+            + ", scheduleRpcNum=" + scheduleRpcNum
             + '}';
     }
 
@@ -18,6 +18,8 @@ import java.io.Serializable;
 
 public class EventMetrics implements Serializable {
 
+    public static final long UNKNOWN_COUNT = -1;
+
     /**
      * execute compute event time cost.
      */
@@ -45,6 +47,12 @@ public class EventMetrics implements Serializable {
     private long outputRecords;
     private long outputBytes;
 
+    /**
+     * active records and messages left after current iteration, negative if not tracked.
+     */
+    private long activeRecords = UNKNOWN_COUNT;
+    private long messageRecords = UNKNOWN_COUNT;
+
     private transient long startTs;
 
     private transient long startGcTs;
@@ -124,4 +132,20 @@ public class EventMetrics implements Serializable {
         this.outputBytes = outputBytes;
     }
 
+    public long getActiveRecords() {
+        return activeRecords;
+    }
+
+    public void setActiveRecords(long activeRecords) {
+        this.activeRecords = activeRecords;
+    }
+
+    public long getMessageRecords() {
+        return messageRecords;
+    }
+
+    public void setMessageRecords(long messageRecords) {
+        this.messageRecords = messageRecords;
+    }
+
 }
@@ -29,6 +29,10 @@ public class ShuffleWriteMetrics implements Serializable {
     private long encodedSize;
     /** time cost on serializing. */
     private long encodeMs;
+    /** total written bytes after compression. */
+    private long compressedSize;
+    /** time cost on compression. */
+    private long compressMs;
     /** max written slice size in KB. */
     private long maxSliceKB;
 
@@ -40,6 +44,8 @@ public class ShuffleWriteMetrics implements Serializable {
     private int oomCount;
     /** max spilled size in KB. */
     private long maxSpillKB;
+    /** total spilled bytes. */
+    private long spillSize;
 
     /** total spill cost in ms. */
     private long spillMs;
@@ -51,10 +57,13 @@ public class ShuffleWriteMetrics implements Serializable {
         this.writtenRecords += metrics.writtenRecords;
         this.encodedSize += metrics.encodedSize;
         this.encodeMs += metrics.encodeMs;
+        this.compressedSize += metrics.compressedSize;
+        this.compressMs += metrics.compressMs;
         this.spillNum += metrics.spillNum;
         this.spillDisk += metrics.spillDisk;
         this.oomCount += metrics.oomCount;
         this.spillMs += metrics.spillMs;
+        this.spillSize += metrics.spillSize;
         this.flushMs += metrics.flushMs;
         this.maxSliceKB = Math.max(maxSliceKB, metrics.maxSliceKB);
         this.maxSpillKB = Math.max(maxSpillKB, metrics.maxSpillKB);
@@ -84,6 +93,29 @@ public class ShuffleWriteMetrics implements Serializable {
         this.encodeMs = encodeMs;
     }
 
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    public void setCompressedSize(long compressedSize) {
+        this.compressedSize = compressedSize;
+    }
+
+    public long getCompressMs() {
+        return compressMs;
+    }
+
+    public void setCompressMs(long compressMs) {
+        this.compressMs = compressMs;
+    }
+
+    /**
+     * Ratio of the encoded size to the compressed size, 1 when compression is disabled.
+     */
+    public double getCompressionRatio() {
+        return compressedSize == 0 ? 1 : (double) encodedSize / compressedSize;
+    }
+
     public int getSpillNum() {
         return spillNum;
     }
@@ -124,6 +156,14 @@ public class ShuffleWriteMetrics implements Serializable {
         this.maxSliceKB = maxSliceSizeKB;
     }
 
+    public long getSpillSize() {
+        return spillSize;
+    }
+
+    public void setSpillSize(long spillSize) {
+        this.spillSize = spillSize;
+    }
+
     public long getSpillMs() {
         return spillMs;
     }
@@ -168,6 +208,14 @@ public class ShuffleWriteMetrics implements Serializable {
         this.encodeMs += encodeMs;
     }
 
+    public void increaseCompressedSize(long bytes) {
+        this.compressedSize += bytes;
+    }
+
+    public void increaseCompressMs(long compressMs) {
+        this.compressMs += compressMs;
+    }
+
     public void increaseSpillMs(long spillMs) {
         this.spillMs += spillMs;
     }
@@ -176,6 +224,14 @@ public class ShuffleWriteMetrics implements Serializable {
         this.spillNum++;
     }
 
+    public void increaseSpillDisk() {
+        this.spillDisk++;
+    }
+
+    public void increaseSpillSize(long bytes) {
+        this.spillSize += bytes;
+    }
+
     public void increaseWrittenChannels() {
         writtenChannels++;
     }
@@ -189,8 +245,10 @@ public class ShuffleWriteMetrics implements Serializable {
     @Override
     public String toString() {
         return "WriteMetrics{" + "outputRecords=" + writtenRecords + ", encodedKb="
-            + encodedSize / 1024 + ", encodeMs=" + encodeMs + ", spillNum=" + spillNum
-            + ", spillDisk=" + spillDisk + ", oomCnt=" + oomCount + ", spillMs=" + spillMs
+            + encodedSize / 1024 + ", encodeMs=" + encodeMs + ", compressedKb="
+            + compressedSize / 1024 + ", compressMs=" + compressMs + ", spillNum=" + spillNum
+            + ", spillDisk=" + spillDisk + ", spillKb=" + spillSize / 1024 + ", oomCnt=" + oomCount
+            + ", spillMs=" + spillMs
             + ", maxSpillKB=" + maxSpillKB + ", " + "maxSliceKB=" + maxSliceKB + ", channels="
             + numChannels + ", writtenChannels=" + writtenChannels + '}';
     }
@@ -31,4 +31,12 @@ public abstract class VertexCentricCompute<K, VV, EV, M> extends VertexCentricAl
      * Returns vertex centric compute function.
      */
     public abstract VertexCentricComputeFunction<K, VV, EV, M> getComputeFunction();
+
+    /**
+     * Returns whether vertices stay active after each iteration until they vote to halt. By
+     * default only the vertices receiving messages are computed after the first iteration.
+     */
+    public boolean isActiveUntilHalt() {
+        return false;
+    }
 }
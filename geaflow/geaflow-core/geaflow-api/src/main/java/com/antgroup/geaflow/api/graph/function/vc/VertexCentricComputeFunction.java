@@ -50,6 +50,13 @@ public interface VertexCentricComputeFunction<K, VV, EV, M> extends VertexCentri
          */
         void setNewVertexValue(VV value);
 
+        /**
+         * Vote to halt current vertex, a halted vertex is not computed in later iterations
+         * until it receives messages again. It only takes effect if the algorithm keeps
+         * vertices active until halt.
+         */
+        void voteToHalt();
+
     }
 
 }
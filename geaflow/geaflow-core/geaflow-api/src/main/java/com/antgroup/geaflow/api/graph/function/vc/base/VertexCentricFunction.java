@@ -18,6 +18,7 @@ import com.antgroup.geaflow.api.context.RuntimeContext;
 import com.antgroup.geaflow.api.function.Function;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import java.util.List;
 
@@ -102,5 +103,20 @@ public interface VertexCentricFunction<K, VV, EV, M> extends Function {
          * Get the edges which satisfies filter condition.
          */
         List<IEdge<K, EV>> getEdges(IFilter edgeFilter);
+
+        /**
+         * Returns a reusable cursor over the both edges, valid until the next query.
+         */
+        IEdgeCursor<K, EV> getEdgeCursor();
+
+        /**
+         * Returns a reusable cursor over the out edges, valid until the next query.
+         */
+        IEdgeCursor<K, EV> getOutEdgeCursor();
+
+        /**
+         * Returns a reusable cursor over the in edges, valid until the next query.
+         */
+        IEdgeCursor<K, EV> getInEdgeCursor();
     }
 }
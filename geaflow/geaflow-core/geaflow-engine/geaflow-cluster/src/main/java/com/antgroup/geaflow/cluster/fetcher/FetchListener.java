@@ -28,4 +28,9 @@ public interface FetchListener {
      */
     void onCompleted(long windowId, long windowCount);
 
+    /**
+     * Stop delivering fetched data, wake up the fetcher if it waits for the processor.
+     */
+    void onCancel();
+
 }
@@ -35,7 +35,7 @@ public class PipelineInputFetcher {
     private IShuffleReader shuffleReader;
     private InitFetchRequest initRequest;
 
-    private List<FetchListener> fetchListeners;
+    private volatile List<FetchListener> fetchListeners;
     private BarrierHandler barrierHandler;
 
     private long pipelineId;
@@ -78,6 +78,12 @@ public class PipelineInputFetcher {
     public void cancel() {
         // TODO Cancel fetching task.
         //      Shuffle reader should support cancel.
+        List<FetchListener> listeners = fetchListeners;
+        if (listeners != null) {
+            for (FetchListener listener : listeners) {
+                listener.onCancel();
+            }
+        }
     }
 
     /**
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.shuffle.api.pipeline.buffer;
+
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+
+/**
+ * Buffer spilled to a range of a {@link SpillFile}. It is sent to remote readers as a
+ * {@link DefaultFileRegion} so the bytes go from page cache to socket without a heap copy.
+ */
+public class FileBuffer extends AbstractBuffer {
+
+    private final SpillFile spillFile;
+    private final long offset;
+    private final int length;
+    private boolean released;
+
+    public FileBuffer(SpillFile spillFile, long offset, int length) {
+        this.spillFile = spillFile;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        try {
+            FileInputStream inputStream = new FileInputStream(spillFile.getFile());
+            IOUtils.skipFully(inputStream, offset);
+            return new BoundedInputStream(inputStream, length);
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(e);
+        }
+    }
+
+    @Override
+    public FileRegion toFileRegion() {
+        return new DefaultFileRegion(spillFile.getFile(), offset, length);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return length;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = getInputStream()) {
+            IOUtils.copy(inputStream, outputStream);
+        }
+    }
+
+    @Override
+    public synchronized void release() {
+        if (!released) {
+            released = true;
+            spillFile.release();
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.shuffle.api.pipeline.buffer;
+
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.shuffle.network.protocol.ByteBufFileRegion;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.FileRegion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Buffer backed by a pooled direct {@link ByteBuf}. Records are serialized straight into the
+ * pooled memory and the same memory is handed to netty when the buffer is sent.
+ */
+public class OffHeapBuffer extends AbstractBuffer {
+
+    private ByteBuf buffer;
+    private final int memorySize;
+
+    public OffHeapBuffer(ByteBuf buffer, boolean memoryTrack) {
+        this(buffer, buffer.capacity(), memoryTrack);
+    }
+
+    public OffHeapBuffer(ByteBuf buffer, int memorySize, boolean memoryTrack) {
+        super(memoryTrack);
+        this.buffer = buffer;
+        this.memorySize = memorySize;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufInputStream(buffer.duplicate());
+    }
+
+    @Override
+    public FileRegion toFileRegion() {
+        return new ByteBufFileRegion(buffer.retainedDuplicate());
+    }
+
+    @Override
+    public int getBufferSize() {
+        return buffer == null ? 0 : buffer.readableBytes();
+    }
+
+    @Override
+    public int getMemorySize() {
+        return memorySize;
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+        if (buffer != null) {
+            buffer.getBytes(buffer.readerIndex(), outputStream, buffer.readableBytes());
+        }
+    }
+
+    public ByteBuf getByteBuf() {
+        return buffer;
+    }
+
+    @Override
+    public void release() {
+        if (buffer != null) {
+            releaseMemory(memorySize);
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    public static class OffHeapBufferBuilder extends AbstractBufferBuilder {
+
+        private final ByteBufAllocator allocator;
+        private final int initialCapacity;
+        private ByteBuf buffer;
+        private ByteBufOutputStream outputStream;
+
+        public OffHeapBufferBuilder(ByteBufAllocator allocator, int initialCapacity) {
+            this.allocator = allocator;
+            this.initialCapacity = initialCapacity;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            if (outputStream == null) {
+                buffer = allocator.directBuffer(initialCapacity);
+                outputStream = new ByteBufOutputStream(buffer);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void positionStream(int position) {
+            if (buffer != null) {
+                buffer.writerIndex(position);
+            }
+        }
+
+        @Override
+        public int getBufferSize() {
+            return buffer != null ? buffer.readableBytes() : 0;
+        }
+
+        @Override
+        public OutBuffer build() {
+            getOutputStream();
+            // The whole capacity is handed over and charged to the memory tracker.
+            ByteBuf built = buffer;
+            buffer = null;
+            outputStream = null;
+            batchCount = 0;
+            return new OffHeapBuffer(built, memoryTrack);
+        }
+
+        @Override
+        public void close() {
+            if (outputStream != null) {
+                try {
+                    outputStream.close();
+                } catch (IOException e) {
+                    throw new GeaflowRuntimeException(e);
+                }
+                outputStream = null;
+            }
+            if (buffer != null) {
+                buffer.release();
+                buffer = null;
+            }
+        }
+    }
+}
@@ -42,6 +42,15 @@ public interface OutBuffer {
      */
     int getBufferSize();
 
+    /**
+     * Get the memory held by this buffer, which is charged to the memory tracker.
+     *
+     * @return memory size.
+     */
+    default int getMemorySize() {
+        return getBufferSize();
+    }
+
     /**
      * Write data from a output stream.
      *
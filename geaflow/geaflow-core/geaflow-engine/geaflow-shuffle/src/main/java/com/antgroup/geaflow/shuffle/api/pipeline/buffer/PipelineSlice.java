@@ -190,6 +190,11 @@ public class PipelineSlice {
 
             // Release all available buffers
             bufferSize = buffers.size();
+            for (PipeBuffer buffer : buffers) {
+                if (buffer.getBuffer() != null) {
+                    buffer.getBuffer().release();
+                }
+            }
             buffers.clear();
 
             reader = sliceReader;
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.shuffle.api.pipeline.buffer;
+
+import io.netty.buffer.ByteBuf;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only local file holding the buffers spilled by one slice. Each appended buffer is
+ * handed back as a {@link FileBuffer}, the file is deleted once it is sealed and all of its
+ * buffers are released.
+ */
+public class SpillFile {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SpillFile.class);
+
+    private final File file;
+    private FileChannel channel;
+    private long size;
+    private int liveBuffers;
+    private boolean sealed;
+
+    public SpillFile(Path dir, String prefix) throws IOException {
+        Files.createDirectories(dir);
+        this.file = File.createTempFile(prefix, ".spill", dir.toFile());
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE);
+    }
+
+    public synchronized FileBuffer append(OutBuffer buffer) throws IOException {
+        long offset = size;
+        if (buffer instanceof HeapBuffer) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(((HeapBuffer) buffer).getBytes());
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+        } else if (buffer instanceof OffHeapBuffer) {
+            ByteBuf byteBuf = ((OffHeapBuffer) buffer).getByteBuf();
+            for (ByteBuffer byteBuffer : byteBuf.nioBuffers(byteBuf.readerIndex(),
+                byteBuf.readableBytes())) {
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+            }
+        } else {
+            // Not closed on purpose, closing the stream closes the channel.
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            buffer.write(outputStream);
+        }
+        int length = buffer.getBufferSize();
+        size += length;
+        liveBuffers++;
+        return new FileBuffer(this, offset, length);
+    }
+
+    /**
+     * Close the file for writing, no more buffers can be appended.
+     */
+    public synchronized void seal() throws IOException {
+        if (!sealed) {
+            sealed = true;
+            channel.close();
+            channel = null;
+            deleteIfUnused();
+        }
+    }
+
+    synchronized void release() {
+        liveBuffers--;
+        deleteIfUnused();
+    }
+
+    private void deleteIfUnused() {
+        if (sealed && liveBuffers <= 0 && file.exists()) {
+            if (!file.delete()) {
+                LOGGER.warn("fail to delete spill file {}", file);
+            }
+        }
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+}
@@ -20,6 +20,7 @@ import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.encoder.IEncoder;
 import com.antgroup.geaflow.common.metric.ShuffleReadMetrics;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer;
+import com.antgroup.geaflow.shuffle.compress.BlockCompressor;
 import com.antgroup.geaflow.shuffle.config.ShuffleConfig;
 import com.antgroup.geaflow.shuffle.message.FetchRequest;
 import com.antgroup.geaflow.shuffle.message.ISliceMeta;
@@ -84,14 +85,18 @@ public abstract class AbstractFetcher<T extends ISliceMeta> implements IShuffleF
 
     protected IMessageIterator<?> getMessageIterator(int edgeId, OutBuffer outBuffer) {
         IEncoder<?> encoder = this.encoders.get(edgeId);
+        boolean compressed = shuffleConfig.isCompressionEnabled();
         if (encoder == null) {
-            return new MessageIterator<>(outBuffer);
+            return new MessageIterator<>(outBuffer, compressed);
         }
-        return new EncoderMessageIterator<>(outBuffer, encoder);
+        return new EncoderMessageIterator<>(outBuffer, encoder, compressed);
     }
 
     protected IMessageIterator<?> getMessageIterator(int edgeId, InputStream inputStream) {
         IEncoder<?> encoder = this.encoders.get(edgeId);
+        if (shuffleConfig.isCompressionEnabled()) {
+            inputStream = BlockCompressor.decompress(inputStream);
+        }
         if (encoder == null) {
             return new MessageIterator<>(inputStream);
         }
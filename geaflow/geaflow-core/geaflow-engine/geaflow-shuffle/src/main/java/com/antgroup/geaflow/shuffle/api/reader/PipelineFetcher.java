@@ -99,7 +99,8 @@ public class PipelineFetcher extends AbstractFetcher<PipelineSliceMeta> {
                 } else {
                     int edgeId = buffer.getSliceId().getEdgeId();
                     IMessageIterator<?> msgIterator = this.getMessageIterator(edgeId, buffer.getBuffer());
-                    return new PipelineMessage<>(buffer.getBatchId(), buffer.getStreamName(), msgIterator);
+                    return new PipelineMessage<>(buffer.getBatchId(), buffer.getStreamName(),
+                        msgIterator, buffer.getBufferSize());
                 }
             } else {
                 if (!isRunning) {
@@ -44,9 +44,9 @@ public class PipelineShardBuffer<T, R> extends ShardBuffer<T, R> {
 
     @Override
     public void init(IWriterContext writerContext) {
+        this.maxBufferSize = writerContext.getConfig().getInteger(SHUFFLE_WRITE_BUFFER_SIZE);
         super.init(writerContext);
 
-        this.maxBufferSize = config.getInteger(SHUFFLE_WRITE_BUFFER_SIZE);
         initResultSlices(targetChannels);
 
         String threadName = "OutputFlusher-" + Thread.currentThread().getName();
@@ -108,6 +108,7 @@ public class PipelineShardBuffer<T, R> extends ShardBuffer<T, R> {
         if (outputFlusher != null) {
             outputFlusher.terminate();
         }
+        LOGGER.info("{} close writer of edge {}, {}", taskLogTag, edgeId, writeMetrics);
     }
 
     private void checkError() throws IOException {
@@ -16,16 +16,21 @@ package com.antgroup.geaflow.shuffle.api.writer;
 
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.encoder.IEncoder;
+import com.antgroup.geaflow.common.metric.ShuffleWriteMetrics;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.HeapBuffer.HeapBufferBuilder;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OffHeapBuffer.OffHeapBufferBuilder;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer.BufferBuilder;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.PipeBuffer;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.PipelineSlice;
+import com.antgroup.geaflow.shuffle.compress.BlockCompressor;
+import com.antgroup.geaflow.shuffle.config.ShuffleConfig;
 import com.antgroup.geaflow.shuffle.memory.ShuffleMemoryTracker;
 import com.antgroup.geaflow.shuffle.message.PipelineBarrier;
 import com.antgroup.geaflow.shuffle.serialize.EncoderRecordSerializer;
 import com.antgroup.geaflow.shuffle.serialize.IRecordSerializer;
 import com.antgroup.geaflow.shuffle.serialize.RecordSerializer;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 public abstract class ShardBuffer<T, R> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ShardBuffer.class);
+    private static final int MIN_OFFHEAP_BUFFER_SIZE = 256;
 
     protected long pipelineId;
     protected int edgeId;
@@ -51,6 +57,10 @@ public abstract class ShardBuffer<T, R> {
     protected ShuffleMemoryTracker memoryTracker;
     protected long maxBufferSize;
     protected IRecordSerializer<T> recordSerializer;
+    protected BlockCompressor compressor;
+    protected ShuffleWriteMetrics writeMetrics;
+    // compress time not reported yet, less than one millisecond.
+    private long compressNanos;
 
     public void init(IWriterContext writerContext) {
         this.config = writerContext.getConfig();
@@ -63,6 +73,11 @@ public abstract class ShardBuffer<T, R> {
         this.taskIndex = writerContext.getTaskIndex();
         this.taskLogTag = writerContext.getTaskName();
         this.recordSerializer = getRecordSerializer(writerContext);
+        this.writeMetrics = new ShuffleWriteMetrics();
+        ShuffleConfig shuffleConfig = ShuffleConfig.getInstance(config);
+        if (shuffleConfig.isCompressionEnabled()) {
+            this.compressor = new BlockCompressor(shuffleConfig.getCompressionType());
+        }
 
         this.batchCounter = new int[targetChannels];
         this.bytesCounter = new long[targetChannels];
@@ -71,8 +86,14 @@ public abstract class ShardBuffer<T, R> {
 
     private void buildBufferBuilder(int channels) {
         this.buffers = new ArrayList<>(channels);
+        // Leave room for the record crossing the max buffer size, so that a full buffer is
+        // not reallocated, the whole capacity is charged to the memory tracker on send.
+        int initialCapacity = maxBufferSize > 0
+            ? Integer.highestOneBit((int) maxBufferSize) << 1 : MIN_OFFHEAP_BUFFER_SIZE;
         for (int i = 0; i < channels; i++) {
-            BufferBuilder bufferBuilder = new HeapBufferBuilder();
+            BufferBuilder bufferBuilder = memoryTracker.isMemoryPoolEnabled()
+                ? new OffHeapBufferBuilder(memoryTracker.getBufferAllocator(), initialCapacity)
+                : new HeapBufferBuilder();
             bufferBuilder.enableMemoryTrack();
             buffers.add(bufferBuilder);
         }
@@ -92,11 +113,33 @@ public abstract class ShardBuffer<T, R> {
     }
 
     protected void send(int selectChannel, OutBuffer outBuffer, long batchId) {
-        sendBuffer(selectChannel, outBuffer, batchId);
         this.bytesCounter[selectChannel] += outBuffer.getBufferSize();
-        if (outBuffer.isMemoryTracking()) {
-            memoryTracker.requireMemory(outBuffer.getBufferSize());
+        this.writeMetrics.increaseEncodedSize(outBuffer.getBufferSize());
+        if (compressor != null) {
+            long start = System.nanoTime();
+            outBuffer = compressor.compress(outBuffer);
+            this.compressNanos += System.nanoTime() - start;
+            long compressMs = this.compressNanos / 1000000;
+            this.compressNanos -= compressMs * 1000000;
+            this.writeMetrics.increaseCompressMs(compressMs);
+            this.writeMetrics.increaseCompressedSize(outBuffer.getBufferSize());
         }
+        if (outBuffer.isMemoryTracking() && !memoryTracker.requireMemory(outBuffer.getMemorySize())) {
+            outBuffer = spill(selectChannel, outBuffer);
+        }
+        sendBuffer(selectChannel, outBuffer, batchId);
+    }
+
+    /**
+     * Called when the shuffle memory is over budget after requiring memory for the buffer.
+     * The buffer is kept in memory by default.
+     *
+     * @param selectChannel channel of the buffer.
+     * @param outBuffer buffer to send.
+     * @return the buffer to send instead.
+     */
+    protected OutBuffer spill(int selectChannel, OutBuffer outBuffer) {
+        return outBuffer;
     }
 
     protected void sendBuffer(int sliceIndex, OutBuffer buffer, long batchId) {
@@ -128,6 +171,11 @@ public abstract class ShardBuffer<T, R> {
         resultSlice.add(new PipeBuffer(batchId, count, false, isFinish));
     }
 
+    @VisibleForTesting
+    public ShuffleWriteMetrics getWriteMetrics() {
+        return writeMetrics;
+    }
+
     public long getOutputQueueSize() {
         PipelineSlice[] slices = resultSlices;
         long queueSize = 0;
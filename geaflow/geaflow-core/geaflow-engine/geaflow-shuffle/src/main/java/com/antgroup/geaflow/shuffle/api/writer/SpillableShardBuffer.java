@@ -14,12 +14,18 @@
 
 package com.antgroup.geaflow.shuffle.api.writer;
 
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.JOB_APP_NAME;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.JOB_WORK_PATH;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_CACHE_SPILL_THRESHOLD;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_SPILL_TO_LOCAL;
 
-import com.antgroup.geaflow.common.metric.ShuffleWriteMetrics;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer.BufferBuilder;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.PipelineShard;
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.PipelineSlice;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.SpillFile;
 import com.antgroup.geaflow.shuffle.config.ShuffleConfig;
 import com.antgroup.geaflow.shuffle.memory.ShuffleDataManager;
 import com.antgroup.geaflow.shuffle.message.ISliceMeta;
@@ -30,8 +36,9 @@ import com.antgroup.geaflow.shuffle.message.ShuffleId;
 import com.antgroup.geaflow.shuffle.message.SliceId;
 import com.antgroup.geaflow.shuffle.message.WriterId;
 import com.antgroup.geaflow.shuffle.network.IConnectionManager;
-import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -47,12 +54,17 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
     protected WriterId writerId;
     protected ShuffleId shuffleId;
 
-    protected ShuffleWriteMetrics writeMetrics;
     protected ShuffleConfig shuffleConfig;
     protected IWriterContext writerContext;
     protected IConnectionManager connectionManager;
     protected int taskId;
 
+    protected boolean spillEnabled;
+    protected Path spillDir;
+    protected long maxSpillSizePerSlice;
+    protected SpillFile[] spillFiles;
+    protected long spillNanos;
+
     public SpillableShardBuffer() {
     }
 
@@ -72,8 +84,6 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
         this.taskId = writerContext.getTaskId();
         this.shuffleConfig = ShuffleConfig.getInstance(config);
 
-        this.writeMetrics = new ShuffleWriteMetrics();
-
         this.cacheEnabled = writerContext.getShuffleDescriptor().isCacheEnabled();
         if (cacheEnabled) {
             LOGGER.info("cache is enabled in {}", taskLogTag);
@@ -86,6 +96,12 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
         initResultSlices(channels, refCount);
 
         this.cacheSpillThreshold = config.getDouble(SHUFFLE_CACHE_SPILL_THRESHOLD);
+        this.spillEnabled = config.getBoolean(SHUFFLE_SPILL_TO_LOCAL);
+        this.spillDir = Paths.get(config.getString(JOB_WORK_PATH), config.getString(JOB_APP_NAME),
+            "shuffle");
+        this.maxSpillSizePerSlice = shuffleConfig.getMaxSpillSizePerSlice();
+        this.spillFiles = new SpillFile[channels];
+        this.spillNanos = 0;
     }
 
     private void initResultSlices(int channels, int refCount) {
@@ -112,7 +128,6 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
             if (sliceMeta.getRecordNum() > 0) {
                 writeMetrics.increaseWrittenChannels();
                 writeMetrics.increaseRecords(sliceMeta.getRecordNum());
-                writeMetrics.increaseEncodedSize(sliceMeta.getEncodedSize());
                 if (sliceMeta.getEncodedSize() > maxSliceSize) {
                     maxSliceSize = sliceMeta.getEncodedSize();
                 }
@@ -120,6 +135,7 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
             buffers.get(i).close();
         }
 
+        sealSpillFiles();
         writeMetrics.setMaxSliceKB(maxSliceSize / 1024);
         writeMetrics.setNumChannels(slices.size());
         long flushTime = System.currentTimeMillis() - beginTime;
@@ -132,10 +148,67 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
         batchCounter = null;
         resultSlices = null;
         bytesCounter = null;
+        spillFiles = null;
 
         return Optional.of(new Shard(edgeId, slices));
     }
 
+    /**
+     * Write the buffer to the local spill file of its slice when the shuffle memory is over
+     * budget, the memory of the buffer is given back once it lives on disk.
+     */
+    @Override
+    protected OutBuffer spill(int selectChannel, OutBuffer outBuffer) {
+        if (!spillEnabled) {
+            return outBuffer;
+        }
+        long start = System.nanoTime();
+        OutBuffer fileBuffer;
+        try {
+            fileBuffer = getSpillFile(selectChannel, outBuffer.getBufferSize()).append(outBuffer);
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("shuffle spill error"), e);
+        }
+        outBuffer.release();
+        spillNanos += System.nanoTime() - start;
+        writeMetrics.increaseSpillNum();
+        writeMetrics.increaseSpillSize(fileBuffer.getBufferSize());
+        return fileBuffer;
+    }
+
+    private SpillFile getSpillFile(int selectChannel, int bufferSize) throws IOException {
+        SpillFile spillFile = spillFiles[selectChannel];
+        if (spillFile != null && spillFile.getSize() > 0
+            && spillFile.getSize() + bufferSize > maxSpillSizePerSlice) {
+            sealSpillFile(spillFile);
+            spillFile = null;
+        }
+        if (spillFile == null) {
+            String prefix = String.format("%s-%s-%s-%s-", writerId.getPipelineId(),
+                writerId.getEdgeId(), writerId.getShardIndex(), selectChannel);
+            spillFile = new SpillFile(spillDir, prefix);
+            spillFiles[selectChannel] = spillFile;
+            writeMetrics.increaseSpillDisk();
+            LOGGER.info("{} spill slice {} to {}", taskLogTag, selectChannel, spillFile.getFile());
+        }
+        return spillFile;
+    }
+
+    private void sealSpillFiles() throws IOException {
+        for (int i = 0; i < spillFiles.length; i++) {
+            if (spillFiles[i] != null) {
+                sealSpillFile(spillFiles[i]);
+                spillFiles[i] = null;
+            }
+        }
+        writeMetrics.increaseSpillMs(spillNanos / 1000000);
+    }
+
+    private void sealSpillFile(SpillFile spillFile) throws IOException {
+        writeMetrics.updateMaxSpillKB(spillFile.getSize() / 1024);
+        spillFile.seal();
+    }
+
     private List<ISliceMeta> buildSliceMeta(long batchId) {
         List<ISliceMeta> slices = new ArrayList<>();
         PipelineBarrier barrier = new PipelineBarrier(batchId, edgeId, taskIndex);
@@ -161,11 +234,6 @@ public class SpillableShardBuffer<T> extends ShardBuffer<T, Shard> {
         return slices;
     }
 
-    @VisibleForTesting
-    public ShuffleWriteMetrics getWriteMetrics() {
-        return writeMetrics;
-    }
-
     @Override
     public void close() {
     }
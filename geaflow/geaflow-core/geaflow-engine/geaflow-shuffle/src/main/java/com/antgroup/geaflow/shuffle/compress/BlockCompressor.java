@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.shuffle.compress;
+
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.HeapBuffer;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OffHeapBuffer;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Compress the whole out buffer as one block. The block starts with a header of the codec id
+ * and the raw length, buffers which do not shrink are kept raw with the {@link
+ * CompressionType#NONE} codec.
+ */
+public class BlockCompressor {
+
+    public static final int HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+    private static final int MIN_COMPRESS_SIZE = 64;
+
+    private final CompressionType compressionType;
+
+    public BlockCompressor(CompressionType compressionType) {
+        this.compressionType = compressionType;
+    }
+
+    public OutBuffer compress(OutBuffer buffer) {
+        byte[] raw = getBytes(buffer);
+        CompressionType type = compressionType;
+        byte[] compressed = null;
+        if (raw.length >= MIN_COMPRESS_SIZE && type != CompressionType.NONE) {
+            try {
+                compressed = type.getCodec().compress(raw, 0, raw.length);
+            } catch (IOException e) {
+                throw new GeaflowRuntimeException(
+                    RuntimeErrors.INST.runError("shuffle compress error"), e);
+            }
+        }
+        if (compressed == null || compressed.length >= raw.length) {
+            type = CompressionType.NONE;
+            compressed = raw;
+        }
+        if (buffer instanceof OffHeapBuffer) {
+            return compressOffHeap((OffHeapBuffer) buffer, type, raw.length, compressed);
+        }
+        byte[] block = new byte[HEADER_SIZE + compressed.length];
+        block[0] = type.getId();
+        writeInt(block, Byte.BYTES, raw.length);
+        System.arraycopy(compressed, 0, block, HEADER_SIZE, compressed.length);
+        return new HeapBuffer(block, buffer.isMemoryTracking());
+    }
+
+    private static OutBuffer compressOffHeap(OffHeapBuffer buffer, CompressionType type,
+                                             int rawLength, byte[] compressed) {
+        ByteBuf raw = buffer.getByteBuf();
+        ByteBufAllocator allocator = raw.alloc();
+        ByteBuf header = allocator.directBuffer(HEADER_SIZE);
+        header.writeByte(type.getId());
+        header.writeInt(rawLength);
+        ByteBuf body;
+        int memorySize;
+        if (type == CompressionType.NONE) {
+            // Keep the raw pooled memory, only the header is prepended.
+            body = raw;
+            memorySize = buffer.getMemorySize();
+        } else {
+            // The raw buffer is not tracked yet, free it without touching the tracker.
+            raw.release();
+            body = allocator.directBuffer(compressed.length).writeBytes(compressed);
+            memorySize = body.capacity();
+        }
+        ByteBuf block = allocator.compositeDirectBuffer(2).addComponents(true, header, body);
+        return new OffHeapBuffer(block, header.capacity() + memorySize,
+            buffer.isMemoryTracking());
+    }
+
+    public static InputStream decompress(InputStream inputStream) {
+        try {
+            DataInputStream input = new DataInputStream(inputStream);
+            CompressionType type = CompressionType.of(input.readByte());
+            int rawLength = input.readInt();
+            if (type == CompressionType.NONE) {
+                return inputStream;
+            }
+            byte[] compressed = IOUtils.toByteArray(input);
+            return new ByteArrayInputStream(
+                type.getCodec().decompress(compressed, 0, compressed.length, rawLength));
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(
+                RuntimeErrors.INST.runError("shuffle decompress error"), e);
+        }
+    }
+
+    private static byte[] getBytes(OutBuffer buffer) {
+        if (buffer instanceof HeapBuffer) {
+            return ((HeapBuffer) buffer).getBytes();
+        }
+        if (buffer instanceof OffHeapBuffer) {
+            return ByteBufUtil.getBytes(((OffHeapBuffer) buffer).getByteBuf());
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(buffer.getBufferSize());
+        try {
+            buffer.write(outputStream);
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("read buffer error"), e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.shuffle.compress;
+
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.github.luben.zstd.Zstd;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Supported shuffle compression codecs, the id is recorded in the header of each buffer.
+ */
+public enum CompressionType {
+
+    /**
+     * Raw bytes, used when compression does not pay off.
+     */
+    NONE((byte) 0, new ICompressionCodec() {
+        @Override
+        public byte[] compress(byte[] src, int offset, int length) {
+            return Arrays.copyOfRange(src, offset, offset + length);
+        }
+
+        @Override
+        public byte[] decompress(byte[] src, int offset, int length, int rawLength) {
+            return Arrays.copyOfRange(src, offset, offset + length);
+        }
+    }),
+
+    LZ4((byte) 1, new ICompressionCodec() {
+        private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+        private final LZ4FastDecompressor decompressor =
+            LZ4Factory.fastestInstance().fastDecompressor();
+
+        @Override
+        public byte[] compress(byte[] src, int offset, int length) {
+            byte[] dest = new byte[compressor.maxCompressedLength(length)];
+            int size = compressor.compress(src, offset, length, dest, 0, dest.length);
+            return Arrays.copyOf(dest, size);
+        }
+
+        @Override
+        public byte[] decompress(byte[] src, int offset, int length, int rawLength) {
+            byte[] dest = new byte[rawLength];
+            decompressor.decompress(src, offset, dest, 0, rawLength);
+            return dest;
+        }
+    }),
+
+    SNAPPY((byte) 2, new ICompressionCodec() {
+        @Override
+        public byte[] compress(byte[] src, int offset, int length) throws IOException {
+            byte[] dest = new byte[Snappy.maxCompressedLength(length)];
+            int size = Snappy.compress(src, offset, length, dest, 0);
+            return Arrays.copyOf(dest, size);
+        }
+
+        @Override
+        public byte[] decompress(byte[] src, int offset, int length, int rawLength)
+            throws IOException {
+            byte[] dest = new byte[rawLength];
+            Snappy.uncompress(src, offset, length, dest, 0);
+            return dest;
+        }
+    }),
+
+    ZSTD((byte) 3, new ICompressionCodec() {
+        private static final int LEVEL = 1;
+
+        @Override
+        public byte[] compress(byte[] src, int offset, int length) {
+            return Zstd.compress(offset == 0 && length == src.length
+                ? src : Arrays.copyOfRange(src, offset, offset + length), LEVEL);
+        }
+
+        @Override
+        public byte[] decompress(byte[] src, int offset, int length, int rawLength) {
+            return Zstd.decompress(offset == 0 && length == src.length
+                ? src : Arrays.copyOfRange(src, offset, offset + length), rawLength);
+        }
+    });
+
+    private final byte id;
+    private final ICompressionCodec codec;
+
+    CompressionType(byte id, ICompressionCodec codec) {
+        this.id = id;
+        this.codec = codec;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    public ICompressionCodec getCodec() {
+        return codec;
+    }
+
+    public static CompressionType of(String name) {
+        try {
+            return CompressionType.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new GeaflowRuntimeException(
+                RuntimeErrors.INST.runError("unsupported shuffle compression codec " + name), e);
+        }
+    }
+
+    public static CompressionType of(byte id) {
+        for (CompressionType type : values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        throw new GeaflowRuntimeException(
+            RuntimeErrors.INST.runError("unknown shuffle compression codec id " + id));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.shuffle.compress;
+
+import java.io.IOException;
+
+public interface ICompressionCodec {
+
+    /**
+     * Compress the bytes of the range.
+     *
+     * @param src source bytes.
+     * @param offset start offset.
+     * @param length byte length.
+     * @return compressed bytes.
+     * @throws IOException io exception.
+     */
+    byte[] compress(byte[] src, int offset, int length) throws IOException;
+
+    /**
+     * Decompress the bytes of the range.
+     *
+     * @param src compressed bytes.
+     * @param offset start offset.
+     * @param length compressed byte length.
+     * @param rawLength byte length before compression.
+     * @return decompressed bytes.
+     * @throws IOException io exception.
+     */
+    byte[] decompress(byte[] src, int offset, int length, int rawLength) throws IOException;
+
+}
@@ -28,6 +28,7 @@ import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.NETTY_
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.NETTY_SERVER_PORT;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.NETTY_SERVER_THREADS_NUM;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.NETTY_THREAD_CACHE_ENABLE;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_COMPRESSION_CODEC;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_COMPRESSION_ENABLE;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_FETCH_TIMEOUT_MS;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_SLICE_MAX_SPILL_SIZE;
@@ -35,6 +36,7 @@ import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFL
 
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.shuffle.StorageLevel;
+import com.antgroup.geaflow.shuffle.compress.CompressionType;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,7 +59,8 @@ public class ShuffleConfig {
 
     private final Configuration configuration;
 
-    private boolean compressionEnabled;
+    private final boolean compressionEnabled;
+    private final CompressionType compressionType;
 
     private static ShuffleConfig INSTANCE;
 
@@ -75,6 +78,7 @@ public class ShuffleConfig {
         this.clientThreads = config.getInteger(NETTY_CLIENT_THREADS_NUM);
 
         this.compressionEnabled = config.getBoolean(SHUFFLE_COMPRESSION_ENABLE);
+        this.compressionType = CompressionType.of(config.getString(SHUFFLE_COMPRESSION_CODEC));
 
         this.configuration = config;
         LOGGER.info("init shuffle config: {}", config);
@@ -163,6 +167,18 @@ public class ShuffleConfig {
         return configuration.getInteger(NETTY_CONNECT_MAX_BACKOFF_MS);
     }
 
+    public long getMaxSpillSizePerSlice() {
+        return maxSpillSizePerSlice;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public CompressionType getCompressionType() {
+        return compressionType;
+    }
+
     public Configuration getConfig() {
         return configuration;
     }
@@ -180,7 +196,8 @@ public class ShuffleConfig {
         return "ShuffleConfig{" + ", connectTimeoutMs=" + connectTimeoutMs + ", fetchTimeoutMs="
             + fetchTimeoutMs + ", serverBacklog=" + serverBacklog + ", serverThreads="
             + serverThreads + ", clientThreads=" + clientThreads + ", maxSpillSizePerSliceMB="
-            + maxSpillSizePerSlice / FileUtils.ONE_MB + '}';
+            + maxSpillSizePerSlice / FileUtils.ONE_MB + ", compressionEnabled=" + compressionEnabled
+            + ", compressionType=" + compressionType + '}';
     }
 
 }
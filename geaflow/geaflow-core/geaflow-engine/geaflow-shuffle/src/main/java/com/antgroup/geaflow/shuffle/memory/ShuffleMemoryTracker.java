@@ -15,12 +15,17 @@
 package com.antgroup.geaflow.shuffle.memory;
 
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.CONTAINER_HEAP_SIZE_MB;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.NETTY_THREAD_CACHE_ENABLE;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_HEAP_MEMORY_FRACTION;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_MEMORY_POOL_ENABLE;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_MEMORY_SAFETY_FRACTION;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_OFFHEAP_MEMORY_FRACTION;
 
 import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.shuffle.network.NettyUtils;
 import com.google.common.annotations.VisibleForTesting;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.internal.PlatformDependent;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -32,17 +37,30 @@ public class ShuffleMemoryTracker {
 
     private final long maxShuffleSize;
     private final AtomicLong usedMemory;
+    private final boolean memoryPool;
+    private final ByteBufAllocator bufferAllocator;
 
     private static ShuffleMemoryTracker INSTANCE;
 
     private ShuffleMemoryTracker(Configuration config) {
-        boolean memoryPool = config.getBoolean(SHUFFLE_MEMORY_POOL_ENABLE);
+        this.memoryPool = config.getBoolean(SHUFFLE_MEMORY_POOL_ENABLE);
 
-        // Set offHeap 0 or not enable memory pool.
         double safetyFraction = config.getDouble(SHUFFLE_MEMORY_SAFETY_FRACTION);
-        long maxHeapSize = config.getInteger(CONTAINER_HEAP_SIZE_MB) * FileUtils.ONE_MB;
-        long maxMemorySize = (long) (maxHeapSize * safetyFraction);
-        double fraction = config.getDouble(SHUFFLE_HEAP_MEMORY_FRACTION);
+        long maxMemorySize;
+        double fraction;
+        if (memoryPool) {
+            // Shuffle buffers are allocated from a pooled direct allocator, bounded by the
+            // offHeap fraction of the max direct memory.
+            maxMemorySize = (long) (PlatformDependent.maxDirectMemory() * safetyFraction);
+            fraction = config.getDouble(SHUFFLE_OFFHEAP_MEMORY_FRACTION);
+            bufferAllocator = NettyUtils.createPooledByteBufAllocator(true,
+                config.getBoolean(NETTY_THREAD_CACHE_ENABLE), 0);
+        } else {
+            long maxHeapSize = config.getInteger(CONTAINER_HEAP_SIZE_MB) * FileUtils.ONE_MB;
+            maxMemorySize = (long) (maxHeapSize * safetyFraction);
+            fraction = config.getDouble(SHUFFLE_HEAP_MEMORY_FRACTION);
+            bufferAllocator = null;
+        }
         maxShuffleSize = (long) (maxMemorySize * fraction);
 
         usedMemory = new AtomicLong(0);
@@ -82,6 +100,14 @@ public class ShuffleMemoryTracker {
         return usedMemory.addAndGet(releasedBytes * -1);
     }
 
+    public boolean isMemoryPoolEnabled() {
+        return memoryPool;
+    }
+
+    public ByteBufAllocator getBufferAllocator() {
+        return bufferAllocator;
+    }
+
     public long getUsedMemory() {
         return usedMemory.get();
     }
@@ -21,10 +21,17 @@ public class PipelineMessage<T> implements PipelineEvent {
 
     private final RecordArgs recordArgs;
     private final IMessageIterator<T> messageIterator;
+    private final long encodedSize;
 
     public PipelineMessage(long batchId, String streamName, IMessageIterator<T> messageIterator) {
+        this(batchId, streamName, messageIterator, 0);
+    }
+
+    public PipelineMessage(long batchId, String streamName, IMessageIterator<T> messageIterator,
+                           long encodedSize) {
         this.recordArgs = new RecordArgs(batchId, streamName);
         this.messageIterator = messageIterator;
+        this.encodedSize = encodedSize;
     }
 
     @Override
@@ -40,4 +47,11 @@ public class PipelineMessage<T> implements PipelineEvent {
         return recordArgs;
     }
 
+    /**
+     * Returns the bytes of the buffer held by the message until it is consumed.
+     */
+    public long getEncodedSize() {
+        return encodedSize;
+    }
+
 }
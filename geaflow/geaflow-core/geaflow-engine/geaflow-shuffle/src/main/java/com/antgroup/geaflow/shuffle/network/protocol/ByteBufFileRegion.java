@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.shuffle.network.protocol;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * File region over a {@link ByteBuf}, the readable bytes are written to the channel from the
+ * buffer memory directly and the buffer is released with the region.
+ */
+public class ByteBufFileRegion extends AbstractFileRegion {
+
+    private final ByteBuf buffer;
+
+    public ByteBufFileRegion(ByteBuf buffer) {
+        super(buffer.readableBytes());
+        this.buffer = buffer;
+    }
+
+    @Override
+    public long transferTo(WritableByteChannel target, long position) throws IOException {
+        Preconditions.checkArgument(position == transferred, "Invalid position.");
+        if (position == contentSize) {
+            return 0L;
+        }
+        int length = Math.min(buffer.readableBytes(), chunkSize);
+        long written = 0L;
+        for (ByteBuffer byteBuffer : buffer.nioBuffers(buffer.readerIndex(), length)) {
+            int remaining = byteBuffer.remaining();
+            int writtenSize = target.write(byteBuffer);
+            written += writtenSize;
+            if (writtenSize < remaining) {
+                // The channel did not accept our entire write, netty wants us to stop here.
+                break;
+            }
+        }
+        buffer.skipBytes((int) written);
+        transferred += written;
+        return written;
+    }
+
+    @Override
+    protected void deallocate() {
+        buffer.release();
+    }
+
+}
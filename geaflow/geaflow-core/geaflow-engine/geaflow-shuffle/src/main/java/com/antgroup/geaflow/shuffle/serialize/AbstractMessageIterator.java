@@ -15,6 +15,7 @@
 package com.antgroup.geaflow.shuffle.serialize;
 
 import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer;
+import com.antgroup.geaflow.shuffle.compress.BlockCompressor;
 import java.io.InputStream;
 import org.apache.commons.io.IOUtils;
 
@@ -27,8 +28,13 @@ public abstract class AbstractMessageIterator<T> implements IMessageIterator<T>
     protected InputStream inputStream;
 
     public AbstractMessageIterator(OutBuffer outBuffer) {
+        this(outBuffer, false);
+    }
+
+    public AbstractMessageIterator(OutBuffer outBuffer, boolean compressed) {
         this.outBuffer = outBuffer;
-        this.inputStream = outBuffer.getInputStream();
+        this.inputStream = compressed
+            ? BlockCompressor.decompress(outBuffer.getInputStream()) : outBuffer.getInputStream();
     }
 
     public AbstractMessageIterator(InputStream inputStream) {
@@ -30,7 +30,11 @@ public class EncoderMessageIterator<T> extends AbstractMessageIterator<T> {
     private final IEncoder<T> encoder;
 
     public EncoderMessageIterator(OutBuffer outBuffer, IEncoder<T> encoder) {
-        super(outBuffer);
+        this(outBuffer, encoder, false);
+    }
+
+    public EncoderMessageIterator(OutBuffer outBuffer, IEncoder<T> encoder, boolean compressed) {
+        super(outBuffer, compressed);
         this.encoder = encoder;
     }
 
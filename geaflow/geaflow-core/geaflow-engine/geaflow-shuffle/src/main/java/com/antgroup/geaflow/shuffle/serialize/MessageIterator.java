@@ -31,7 +31,11 @@ public class MessageIterator<T> extends AbstractMessageIterator<T> {
     private final Input input;
 
     public MessageIterator(OutBuffer outBuffer) {
-        super(outBuffer);
+        this(outBuffer, false);
+    }
+
+    public MessageIterator(OutBuffer outBuffer, boolean compressed) {
+        super(outBuffer, compressed);
         this.kryoSerializer = ((KryoSerializer) SerializerFactory.getKryoSerializer());
         this.input = new Input(this.inputStream);
     }
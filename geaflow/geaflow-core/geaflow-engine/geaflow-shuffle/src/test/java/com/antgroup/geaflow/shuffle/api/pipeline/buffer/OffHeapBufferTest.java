@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.shuffle.api.pipeline.buffer;
+
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OffHeapBuffer.OffHeapBufferBuilder;
+import com.antgroup.geaflow.shuffle.compress.BlockCompressor;
+import com.antgroup.geaflow.shuffle.compress.CompressionType;
+import com.antgroup.geaflow.shuffle.serialize.MessageIterator;
+import com.antgroup.geaflow.shuffle.serialize.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.FileRegion;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class OffHeapBufferTest {
+
+    private OffHeapBuffer build(int recordNum) {
+        OffHeapBufferBuilder builder = new OffHeapBufferBuilder(PooledByteBufAllocator.DEFAULT, 256);
+        RecordSerializer<String> serializer = new RecordSerializer<>();
+        for (int i = 0; i < recordNum; i++) {
+            serializer.serialize("record-" + i, false, builder);
+        }
+        OffHeapBuffer buffer = (OffHeapBuffer) builder.build();
+        Assert.assertEquals(builder.getBufferSize(), 0);
+        builder.close();
+        return buffer;
+    }
+
+    @Test
+    public void testReadAndRelease() {
+        OffHeapBuffer buffer = build(1000);
+        ByteBuf byteBuf = buffer.getByteBuf();
+        Assert.assertTrue(byteBuf.isDirect());
+
+        MessageIterator<String> iterator = new MessageIterator<>(buffer);
+        int count = 0;
+        while (iterator.hasNext()) {
+            Assert.assertEquals(iterator.next(), "record-" + count);
+            count++;
+        }
+        Assert.assertEquals(count, 1000);
+        iterator.close();
+        Assert.assertEquals(byteBuf.refCnt(), 0);
+    }
+
+    @Test
+    public void testMemorySize() {
+        OffHeapBufferBuilder builder = new OffHeapBufferBuilder(PooledByteBufAllocator.DEFAULT, 4096);
+        new RecordSerializer<String>().serialize("record", false, builder);
+        OffHeapBuffer buffer = (OffHeapBuffer) builder.build();
+        builder.close();
+
+        // A partial buffer is handed over without copying, its whole capacity is charged.
+        Assert.assertEquals(buffer.getByteBuf().capacity(), 4096);
+        Assert.assertEquals(buffer.getMemorySize(), 4096);
+        Assert.assertTrue(buffer.getBufferSize() < buffer.getMemorySize());
+
+        OutBuffer compressed = new BlockCompressor(CompressionType.NONE).compress(buffer);
+        Assert.assertEquals(compressed.getMemorySize(), 4096 + BlockCompressor.HEADER_SIZE);
+        compressed.release();
+    }
+
+    @Test
+    public void testFileRegion() throws Exception {
+        OffHeapBuffer buffer = build(1000);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        buffer.write(expected);
+        Assert.assertEquals(expected.size(), buffer.getBufferSize());
+
+        FileRegion region = buffer.toFileRegion();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(outputStream);
+        while (region.transferred() < region.count()) {
+            region.transferTo(channel, region.transferred());
+        }
+        Assert.assertEquals(outputStream.toByteArray(), expected.toByteArray());
+
+        // The region holds its own reference to the pooled memory.
+        buffer.release();
+        Assert.assertEquals(region.refCnt(), 1);
+        region.release();
+    }
+
+    @Test
+    public void testCompress() {
+        for (CompressionType type : CompressionType.values()) {
+            OffHeapBuffer buffer = build(1000);
+            ByteBuf raw = buffer.getByteBuf();
+            OutBuffer compressed = new BlockCompressor(type).compress(buffer);
+            Assert.assertTrue(compressed instanceof OffHeapBuffer);
+
+            MessageIterator<String> iterator = new MessageIterator<>(compressed, true);
+            int count = 0;
+            while (iterator.hasNext()) {
+                Assert.assertEquals(iterator.next(), "record-" + count);
+                count++;
+            }
+            Assert.assertEquals(count, 1000);
+            iterator.close();
+            Assert.assertEquals(raw.refCnt(), 0);
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.shuffle.api.writer;
+
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.CONTAINER_HEAP_SIZE_MB;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_MEMORY_POOL_ENABLE;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.metric.ShuffleWriteMetrics;
+import com.antgroup.geaflow.common.shuffle.ShuffleDescriptor;
+import com.antgroup.geaflow.shuffle.config.ShuffleConfig;
+import com.antgroup.geaflow.shuffle.memory.ShuffleMemoryTracker;
+import java.io.IOException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PipelineShardBufferTest {
+
+    @Test
+    public void testWriteMetrics() throws IOException {
+        PipelineShardBuffer<String, ?> shardBuffer = new PipelineShardBuffer<>();
+        WriterContext writerContext = new WriterContext(3, "name");
+        Configuration config = new Configuration();
+        config.put(CONTAINER_HEAP_SIZE_MB, "1");
+        config.put(SHUFFLE_MEMORY_POOL_ENABLE, "false");
+        writerContext.setConfig(config);
+        writerContext.setChannelNum(1);
+        writerContext.setShuffleDescriptor(new ShuffleDescriptor());
+        shardBuffer.init(writerContext);
+        int[] channels = new int[]{0};
+
+        for (int i = 0; i < 10000; i++) {
+            shardBuffer.emit(0, "hello, testing pipeline writer", false, channels);
+        }
+        shardBuffer.finish(0);
+        shardBuffer.close();
+
+        // the metrics are reported on send, not only by the spillable writer.
+        ShuffleWriteMetrics writeMetrics = shardBuffer.getWriteMetrics();
+        Assert.assertTrue(writeMetrics.getEncodedSize() > 0);
+        if (ShuffleConfig.getInstance().isCompressionEnabled()) {
+            Assert.assertTrue(writeMetrics.getCompressedSize() > 0);
+        } else {
+            Assert.assertEquals(writeMetrics.getCompressedSize(), 0);
+        }
+        ShuffleMemoryTracker.getInstance().dispose();
+    }
+
+}
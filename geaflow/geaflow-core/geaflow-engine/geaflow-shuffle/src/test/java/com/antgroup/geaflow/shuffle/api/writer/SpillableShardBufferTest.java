@@ -15,17 +15,30 @@
 package com.antgroup.geaflow.shuffle.api.writer;
 
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.CONTAINER_HEAP_SIZE_MB;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.JOB_APP_NAME;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.JOB_WORK_PATH;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_MEMORY_POOL_ENABLE;
 import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_SPILL_RECORDS;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.SHUFFLE_SPILL_TO_LOCAL;
 
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.metric.ShuffleWriteMetrics;
 import com.antgroup.geaflow.common.shuffle.ShuffleAddress;
 import com.antgroup.geaflow.common.shuffle.ShuffleDescriptor;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.FileBuffer;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.PipeBuffer;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.PipelineSlice;
+import com.antgroup.geaflow.shuffle.config.ShuffleConfig;
+import com.antgroup.geaflow.shuffle.memory.ShuffleDataManager;
 import com.antgroup.geaflow.shuffle.memory.ShuffleMemoryTracker;
+import com.antgroup.geaflow.shuffle.message.PipelineSliceMeta;
 import com.antgroup.geaflow.shuffle.message.Shard;
 import com.antgroup.geaflow.shuffle.network.IConnectionManager;
+import com.antgroup.geaflow.shuffle.serialize.MessageIterator;
+import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
+import org.apache.commons.io.FileUtils;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -43,6 +56,7 @@ public class SpillableShardBufferTest {
         Configuration config = new Configuration();
         config.put(SHUFFLE_SPILL_RECORDS, "50");
         config.put(CONTAINER_HEAP_SIZE_MB, "1");
+        config.put(SHUFFLE_MEMORY_POOL_ENABLE, "false");
         writerContext.setConfig(config);
         writerContext.setChannelNum(1);
         writerContext.setShuffleDescriptor(new ShuffleDescriptor());
@@ -57,11 +71,70 @@ public class SpillableShardBufferTest {
         Assert.assertNotNull(shard);
 
         ShuffleWriteMetrics writeMetrics = shardBuffer.getWriteMetrics();
-        Assert.assertEquals(writeMetrics.getSpillNum(), 0);
-        Assert.assertEquals(writeMetrics.getSpillDisk(), 0);
+        Assert.assertTrue(writeMetrics.getSpillNum() > 0);
+        Assert.assertEquals(writeMetrics.getSpillDisk(), 1);
+        Assert.assertTrue(writeMetrics.getSpillSize() > 0);
         long usedMemory = ShuffleMemoryTracker.getInstance().getUsedMemory();
         Assert.assertTrue(usedMemory > 0);
         ShuffleMemoryTracker.getInstance().dispose();
     }
 
+    @Test
+    public void testReadSpilledSlice() throws IOException {
+        IConnectionManager connectionManager = Mockito.mock(IConnectionManager.class);
+        Mockito.when(connectionManager.getShuffleAddress()).thenReturn(new ShuffleAddress(
+            "localhost", 1));
+
+        String workPath = "/tmp/SpillableShardBufferTest";
+        FileUtils.deleteQuietly(new File(workPath));
+        SpillableShardBuffer shardBuffer = new SpillableShardBuffer(connectionManager);
+        WriterContext writerContext = new WriterContext(2, "name");
+        Configuration config = new Configuration();
+        config.put(CONTAINER_HEAP_SIZE_MB, "1");
+        config.put(SHUFFLE_MEMORY_POOL_ENABLE, "false");
+        config.put(SHUFFLE_SPILL_TO_LOCAL, "true");
+        config.put(JOB_WORK_PATH, workPath);
+        config.put(JOB_APP_NAME, "testReadSpilledSlice");
+        writerContext.setConfig(config);
+        writerContext.setChannelNum(1);
+        writerContext.setShuffleDescriptor(new ShuffleDescriptor());
+        shardBuffer.init(writerContext);
+        int[] channels = new int[]{0};
+
+        int recordNum = 10000;
+        for (int i = 0; i < recordNum; i++) {
+            shardBuffer.emit(0, "hello, testing spillable writer " + i, false, channels);
+        }
+        Shard shard = (Shard) shardBuffer.finish(0).get();
+        Assert.assertTrue(shardBuffer.getWriteMetrics().getSpillNum() > 0);
+        File spillDir = new File(workPath, "testReadSpilledSlice/shuffle");
+        Assert.assertEquals(spillDir.list().length, 1);
+
+        PipelineSliceMeta sliceMeta = (PipelineSliceMeta) shard.getSlices().get(0);
+        PipelineSlice slice = ShuffleDataManager.getInstance().getSlice(sliceMeta.getSliceId());
+        int fileBuffers = 0;
+        int readNum = 0;
+        PipeBuffer pipeBuffer;
+        while ((pipeBuffer = slice.next()) != null) {
+            if (!pipeBuffer.isData()) {
+                continue;
+            }
+            if (pipeBuffer.getBuffer() instanceof FileBuffer) {
+                fileBuffers++;
+            }
+            MessageIterator<String> iterator = new MessageIterator<>(pipeBuffer.getBuffer(),
+                ShuffleConfig.getInstance().isCompressionEnabled());
+            while (iterator.hasNext()) {
+                Assert.assertEquals(iterator.next(), "hello, testing spillable writer " + readNum);
+                readNum++;
+            }
+            iterator.close();
+        }
+        Assert.assertTrue(fileBuffers > 0);
+        Assert.assertEquals(readNum, recordNum);
+        // The spill file is deleted once all of its buffers are consumed.
+        Assert.assertEquals(spillDir.list().length, 0);
+        ShuffleMemoryTracker.getInstance().dispose();
+    }
+
 }
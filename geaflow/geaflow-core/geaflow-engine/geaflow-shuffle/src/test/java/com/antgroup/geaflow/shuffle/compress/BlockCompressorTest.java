@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.shuffle.compress;
+
+import com.antgroup.geaflow.model.record.impl.Record;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.HeapBuffer;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.HeapBuffer.HeapBufferBuilder;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer;
+import com.antgroup.geaflow.shuffle.api.pipeline.buffer.OutBuffer.BufferBuilder;
+import com.antgroup.geaflow.shuffle.serialize.MessageIterator;
+import com.antgroup.geaflow.shuffle.serialize.RecordSerializer;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BlockCompressorTest {
+
+    @Test
+    public void testCompress() {
+        for (CompressionType type : CompressionType.values()) {
+            RecordSerializer<Record> serializer = new RecordSerializer<>();
+            BufferBuilder builder = new HeapBufferBuilder();
+            List<Record> recordList = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                Record record = new Record("hello, testing shuffle compression " + i % 10);
+                serializer.serialize(record, false, builder);
+                recordList.add(record);
+            }
+            OutBuffer raw = builder.build();
+            OutBuffer compressed = new BlockCompressor(type).compress(raw);
+            Assert.assertEquals(((HeapBuffer) compressed).getBytes()[0], type.getId());
+            if (type != CompressionType.NONE) {
+                Assert.assertTrue(compressed.getBufferSize() < raw.getBufferSize());
+            }
+
+            MessageIterator<Record> iterator = new MessageIterator<>(compressed, true);
+            List<Record> list = new ArrayList<>();
+            while (iterator.hasNext()) {
+                list.add(iterator.next());
+            }
+            Assert.assertEquals(list, recordList);
+        }
+    }
+
+    @Test
+    public void testSmallBuffer() {
+        OutBuffer raw = new HeapBuffer(new byte[]{1, 2, 3});
+        OutBuffer compressed = new BlockCompressor(CompressionType.ZSTD).compress(raw);
+        Assert.assertEquals(((HeapBuffer) compressed).getBytes()[0], CompressionType.NONE.getId());
+        Assert.assertEquals(compressed.getBufferSize(), BlockCompressor.HEADER_SIZE + 3);
+    }
+
+}
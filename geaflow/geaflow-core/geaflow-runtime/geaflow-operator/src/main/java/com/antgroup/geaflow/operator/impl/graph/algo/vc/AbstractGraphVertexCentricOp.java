@@ -20,7 +20,9 @@ import com.antgroup.geaflow.api.graph.function.vc.VertexCentricCombineFunction;
 import com.antgroup.geaflow.api.partition.graph.edge.IGraphVCPartition;
 import com.antgroup.geaflow.collector.AbstractCollector;
 import com.antgroup.geaflow.collector.ICollector;
+import com.antgroup.geaflow.common.encoder.EncoderResolver;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.metric.EventMetrics;
 import com.antgroup.geaflow.context.AbstractRuntimeContext;
 import com.antgroup.geaflow.metrics.common.MetricNameFormatter;
 import com.antgroup.geaflow.metrics.common.api.Meter;
@@ -43,6 +45,7 @@ import com.antgroup.geaflow.utils.keygroup.KeyGroupAssignment;
 import com.antgroup.geaflow.view.IViewDesc.BackendType;
 import com.antgroup.geaflow.view.graph.GraphViewDesc;
 import com.google.common.base.Preconditions;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -55,6 +58,9 @@ public abstract class AbstractGraphVertexCentricOp<K, VV, EV, M,
     private static final Logger LOGGER = LoggerFactory.getLogger(
         AbstractGraphVertexCentricOp.class);
 
+    private static final int KEY_TYPE_INDEX = 0;
+    private static final int MESSAGE_TYPE_INDEX = 3;
+
     protected int taskId;
 
     protected VertexCentricCombineFunction<M> msgCombineFunction;
@@ -69,6 +75,10 @@ public abstract class AbstractGraphVertexCentricOp<K, VV, EV, M,
     protected GraphState<K, VV, EV> graphState;
     protected IGraphMsgBox<K, M> graphMsgBox;
 
+    // Active records and messages of the finished iteration, negative if not tracked.
+    protected long activeCount = EventMetrics.UNKNOWN_COUNT;
+    protected long messageCount = EventMetrics.UNKNOWN_COUNT;
+
     protected Map<String, ICollector> collectorMap;
     protected ICollector<IGraphMessage<K, M>> messageCollector;
     protected Meter msgMeter;
@@ -111,7 +121,14 @@ public abstract class AbstractGraphVertexCentricOp<K, VV, EV, M,
         if (this.messageCollector instanceof AbstractCollector) {
             ((AbstractCollector) this.messageCollector).setOutputMetric(this.msgMeter);
         }
-        this.graphMsgBox = GraphMsgBoxFactory.buildMessageBox(this.messageCollector, this.msgCombineFunction);
+        this.graphMsgBox = GraphMsgBoxFactory.buildMessageBox(this.messageCollector,
+            this.msgCombineFunction, resolveFunctionClass(KEY_TYPE_INDEX),
+            resolveFunctionClass(MESSAGE_TYPE_INDEX));
+    }
+
+    private Class<?> resolveFunctionClass(int typeParaIdx) {
+        Type type = EncoderResolver.resolveFunctionType(VertexCentricAlgo.class, function, typeParaIdx);
+        return EncoderResolver.isClassType(type) ? EncoderResolver.typeToClass(type) : null;
     }
 
     protected GraphStateDescriptor<K, VV, EV> buildGraphStateDesc(String name) {
@@ -187,6 +204,16 @@ public abstract class AbstractGraphVertexCentricOp<K, VV, EV, M,
 
     public abstract void doFinishIteration(long iteration);
 
+    @Override
+    public long getActiveCount() {
+        return this.activeCount;
+    }
+
+    @Override
+    public long getMessageCount() {
+        return this.messageCount;
+    }
+
     @Override
     public void close() {
         this.graphMsgBox.clearInBox();
@@ -19,6 +19,8 @@ import com.antgroup.geaflow.api.graph.function.vc.base.VertexCentricFunction.Edg
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.state.DynamicEdgeState;
 import com.antgroup.geaflow.state.GraphState;
+import com.antgroup.geaflow.state.iterator.EdgeListCursor;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import com.antgroup.geaflow.state.pushdown.filter.InEdgeFilter;
 import com.antgroup.geaflow.state.pushdown.filter.OutEdgeFilter;
@@ -29,6 +31,7 @@ public class DynamicEdgeQueryImpl<K, VV, EV> implements EdgeQuery<K, EV> {
     protected K vId;
     private long versionId;
     private GraphState<K, VV, EV> graphState;
+    private final EdgeListCursor<K, EV> edgeCursor = new EdgeListCursor<>();
 
     public DynamicEdgeQueryImpl(K vId, long versionId, GraphState<K, VV, EV> graphState) {
         this.vId = vId;
@@ -59,4 +62,19 @@ public class DynamicEdgeQueryImpl<K, VV, EV> implements EdgeQuery<K, EV> {
         DynamicEdgeState<K, VV, EV> edgeState = graphState.dynamicGraph().E();
         return edgeState.query(versionId, vId).by(edgeFilter).asList();
     }
+
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor() {
+        return edgeCursor.reset(vId, getEdges());
+    }
+
+    @Override
+    public IEdgeCursor<K, EV> getOutEdgeCursor() {
+        return edgeCursor.reset(vId, getOutEdges());
+    }
+
+    @Override
+    public IEdgeCursor<K, EV> getInEdgeCursor() {
+        return edgeCursor.reset(vId, getInEdges());
+    }
 }
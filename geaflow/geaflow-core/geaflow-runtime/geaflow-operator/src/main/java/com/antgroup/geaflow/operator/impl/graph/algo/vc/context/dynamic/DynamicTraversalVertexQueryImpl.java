@@ -26,6 +26,12 @@ public class DynamicTraversalVertexQueryImpl<K, VV, EV> extends DynamicVertexQue
         super(vertexId, versionId, graphState);
     }
 
+    public DynamicTraversalVertexQueryImpl(K vertexId, long versionId,
+                                           GraphState<K, VV, EV> graphState,
+                                           IncVertexPrefetcher<K, VV, EV> prefetcher) {
+        super(vertexId, versionId, graphState, prefetcher);
+    }
+
     @Override
     public Iterator<K> loadIdIterator() {
         return graphState.dynamicGraph().V().idIterator();
@@ -19,17 +19,25 @@ import com.antgroup.geaflow.api.graph.function.vc.base.VertexCentricFunction.Ver
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.GraphState;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
+import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
 
 public class DynamicVertexQueryImpl<K, VV, EV> implements VertexQuery<K,VV> {
 
     private K vertexId;
     private long versionId;
     protected GraphState<K, VV, EV> graphState;
+    private final IncVertexPrefetcher<K, VV, EV> prefetcher;
 
     public DynamicVertexQueryImpl(K vertexId, long versionId, GraphState<K, VV, EV> graphState) {
+        this(vertexId, versionId, graphState, null);
+    }
+
+    public DynamicVertexQueryImpl(K vertexId, long versionId, GraphState<K, VV, EV> graphState,
+                                  IncVertexPrefetcher<K, VV, EV> prefetcher) {
         this.vertexId = vertexId;
         this.versionId = versionId;
         this.graphState = graphState;
+        this.prefetcher = prefetcher;
     }
 
     @Override
@@ -40,11 +48,18 @@ public class DynamicVertexQueryImpl<K, VV, EV> implements VertexQuery<K,VV> {
 
     @Override
     public IVertex<K, VV> get() {
+        if (prefetcher != null && prefetcher.contains(vertexId)) {
+            return prefetcher.getVertex(versionId, vertexId);
+        }
         return graphState.dynamicGraph().V().query(versionId, vertexId).get();
     }
 
     @Override
     public IVertex<K, VV> get(IFilter vertexFilter) {
+        if (prefetcher != null && prefetcher.contains(vertexId)) {
+            IVertex<K, VV> vertex = prefetcher.getVertex(versionId, vertexId);
+            return vertex != null && GraphFilter.of(vertexFilter).filterVertex(vertex) ? vertex : null;
+        }
         return graphState.dynamicGraph().V().query(versionId, vertexId).by(vertexFilter).get();
     }
 }
@@ -19,6 +19,7 @@ import com.antgroup.geaflow.api.graph.function.vc.base.IncVertexCentricFunction.
 import com.antgroup.geaflow.api.graph.function.vc.base.IncVertexCentricFunction.IncGraphContext;
 import com.antgroup.geaflow.api.graph.function.vc.base.IncVertexCentricFunction.MutableGraph;
 import com.antgroup.geaflow.api.graph.function.vc.base.IncVertexCentricFunction.TemporaryGraph;
+import com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.operator.Operator.OpContext;
 import com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox.IGraphMsgBox;
@@ -41,6 +42,7 @@ public class IncGraphContextImpl<K, VV, EV, M> implements IncGraphContext<K, VV,
     private final IncHistoricalGraph<K, VV, EV> historicalGraph;
     private final IncTemporaryGraph<K, VV, EV> temporaryGraph;
     private final IncMutableGraph<K, VV, EV> mutableGraph;
+    private final IncVertexPrefetcher<K, VV, EV> prefetcher;
     private final GraphState<K, VV, EV> graphState;
     private final IGraphMsgBox<K, M> graphMsgBox;
     private final long maxIteration;
@@ -53,9 +55,11 @@ public class IncGraphContextImpl<K, VV, EV, M> implements IncGraphContext<K, VV,
                                long maxIteration) {
         this.opContext = opContext;
         this.runtimeContext = runtimeContext;
-        this.historicalGraph = new IncHistoricalGraph<>(graphState);
+        this.prefetcher = new IncVertexPrefetcher<>(graphState,
+            runtimeContext.getConfiguration().getInteger(FrameworkConfigKeys.INC_VERTEX_PREFETCH_BATCH_SIZE));
+        this.historicalGraph = new IncHistoricalGraph<>(graphState, prefetcher);
         this.temporaryGraph = new IncTemporaryGraph<>(temporaryGraphCache);
-        this.mutableGraph = new IncMutableGraph<>(graphState);
+        this.mutableGraph = new IncMutableGraph<>(graphState, prefetcher);
         this.graphMsgBox = graphMsgBox;
         this.graphState = graphState;
         this.maxIteration = maxIteration;
@@ -67,7 +71,18 @@ public class IncGraphContextImpl<K, VV, EV, M> implements IncGraphContext<K, VV,
 
         this.historicalGraph.init(vertexId);
         this.temporaryGraph.init(vertexId);
+        this.prefetcher.init(vertexId);
+    }
+
+    /**
+     * Prefetch the vertices of the in-box vertex ids, which must be given in processing order.
+     */
+    public void prefetch(List<K> vertexIds) {
+        this.prefetcher.prefetch(vertexIds);
+    }
 
+    public void clearPrefetch() {
+        this.prefetcher.clear();
     }
 
     @Override
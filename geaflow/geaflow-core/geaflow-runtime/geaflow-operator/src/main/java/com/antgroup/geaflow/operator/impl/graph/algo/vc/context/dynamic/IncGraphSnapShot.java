@@ -24,11 +24,14 @@ public class IncGraphSnapShot<K, VV, EV> implements GraphSnapShot<K, VV, EV> {
     protected final K vertexId;
     protected final long versionId;
     protected final GraphState<K, VV, EV> graphState;
+    protected final IncVertexPrefetcher<K, VV, EV> prefetcher;
 
-    public IncGraphSnapShot(K vertexId, long versionId, GraphState<K, VV, EV> graphState) {
+    public IncGraphSnapShot(K vertexId, long versionId, GraphState<K, VV, EV> graphState,
+                            IncVertexPrefetcher<K, VV, EV> prefetcher) {
         this.vertexId = vertexId;
         this.versionId = versionId;
         this.graphState = graphState;
+        this.prefetcher = prefetcher;
     }
 
     @Override
@@ -38,7 +41,7 @@ public class IncGraphSnapShot<K, VV, EV> implements GraphSnapShot<K, VV, EV> {
 
     @Override
     public VertexQuery<K, VV> vertex() {
-        return new DynamicVertexQueryImpl<>(vertexId, versionId, graphState);
+        return new DynamicVertexQueryImpl<>(vertexId, versionId, graphState, prefetcher);
     }
 
     @Override
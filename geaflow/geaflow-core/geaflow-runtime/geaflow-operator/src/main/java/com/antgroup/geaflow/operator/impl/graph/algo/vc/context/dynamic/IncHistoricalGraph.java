@@ -27,9 +27,12 @@ public class IncHistoricalGraph<K, VV, EV> implements HistoricalGraph<K, VV, EV>
 
     protected K vertexId;
     protected final GraphState<K, VV, EV> graphState;
+    protected final IncVertexPrefetcher<K, VV, EV> prefetcher;
 
-    public IncHistoricalGraph(GraphState<K, VV, EV> graphState) {
+    public IncHistoricalGraph(GraphState<K, VV, EV> graphState,
+                              IncVertexPrefetcher<K, VV, EV> prefetcher) {
         this.graphState = graphState;
+        this.prefetcher = prefetcher;
     }
 
     public void init(K vertexId) {
@@ -64,6 +67,6 @@ public class IncHistoricalGraph<K, VV, EV> implements HistoricalGraph<K, VV, EV>
 
     @Override
     public GraphSnapShot<K, VV, EV> getSnapShot(long version) {
-        return new IncGraphSnapShot(vertexId, version, graphState);
+        return new IncGraphSnapShot(vertexId, version, graphState, prefetcher);
     }
 }
@@ -23,14 +23,18 @@ import com.antgroup.geaflow.state.GraphState;
 public class IncMutableGraph<K, VV, EV> implements MutableGraph<K, VV, EV> {
 
     private GraphState<K, VV, EV> graphState;
+    private final IncVertexPrefetcher<K, VV, EV> prefetcher;
 
-    public IncMutableGraph(GraphState<K, VV, EV> graphState) {
+    public IncMutableGraph(GraphState<K, VV, EV> graphState,
+                           IncVertexPrefetcher<K, VV, EV> prefetcher) {
         this.graphState = graphState;
+        this.prefetcher = prefetcher;
     }
 
     @Override
     public void addVertex(long version, IVertex<K, VV> vertex) {
         graphState.dynamicGraph().V().add(version, vertex);
+        prefetcher.invalidate(vertex.getId());
     }
 
     @Override
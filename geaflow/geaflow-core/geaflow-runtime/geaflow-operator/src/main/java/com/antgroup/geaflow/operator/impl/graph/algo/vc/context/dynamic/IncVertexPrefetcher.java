@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.operator.impl.graph.algo.vc.context.dynamic;
+
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.state.GraphState;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prefetches the vertices of the message box of an iteration. The vertex ids are split into
+ * batches in the order they are processed, and the vertices of a batch in a version are loaded
+ * with one keyed state query on the first lookup, which lets the store batch the reads.
+ */
+public class IncVertexPrefetcher<K, VV, EV> {
+
+    private final GraphState<K, VV, EV> graphState;
+    private final int batchSize;
+
+    private List<K> vertexIds = Collections.emptyList();
+    private int next;
+    private int batchStart;
+    private int batchEnd;
+    private final Set<K> batchIds;
+    private final Map<Long, Map<K, IVertex<K, VV>>> batchVertices;
+
+    public IncVertexPrefetcher(GraphState<K, VV, EV> graphState, int batchSize) {
+        this.graphState = graphState;
+        this.batchSize = batchSize;
+        this.batchIds = new HashSet<>();
+        this.batchVertices = new HashMap<>();
+    }
+
+    /**
+     * Set the vertex ids to prefetch, they must be in the order of the following init calls.
+     */
+    public void prefetch(List<K> vertexIds) {
+        clear();
+        if (batchSize > 0) {
+            this.vertexIds = vertexIds;
+        }
+    }
+
+    /**
+     * Move to the vertex being processed, the next batch is taken once the current one is done.
+     */
+    public void init(K vertexId) {
+        if (next < vertexIds.size() && vertexIds.get(next).equals(vertexId)) {
+            if (next == batchEnd) {
+                batchStart = next;
+                batchEnd = Math.min(next + batchSize, vertexIds.size());
+                batchIds.clear();
+                batchIds.addAll(vertexIds.subList(batchStart, batchEnd));
+                batchVertices.clear();
+            }
+            next++;
+        }
+    }
+
+    public boolean contains(K vertexId) {
+        return batchIds.contains(vertexId);
+    }
+
+    /**
+     * Get the vertex of a version in the current batch, null if it does not exist.
+     */
+    public IVertex<K, VV> getVertex(long version, K vertexId) {
+        Map<K, IVertex<K, VV>> vertices = batchVertices.get(version);
+        if (vertices == null) {
+            vertices = new HashMap<>(batchIds.size());
+            Iterator<IVertex<K, VV>> it = graphState.dynamicGraph().V()
+                .query(version, vertexIds.subList(batchStart, batchEnd)).iterator();
+            while (it.hasNext()) {
+                IVertex<K, VV> vertex = it.next();
+                vertices.put(vertex.getId(), vertex);
+            }
+            batchVertices.put(version, vertices);
+        }
+        return vertices.get(vertexId);
+    }
+
+    /**
+     * Drop a vertex updated by the function, its following lookups go to the state.
+     */
+    public void invalidate(K vertexId) {
+        batchIds.remove(vertexId);
+    }
+
+    public void clear() {
+        vertexIds = Collections.emptyList();
+        next = 0;
+        batchStart = 0;
+        batchEnd = 0;
+        batchIds.clear();
+        batchVertices.clear();
+    }
+}
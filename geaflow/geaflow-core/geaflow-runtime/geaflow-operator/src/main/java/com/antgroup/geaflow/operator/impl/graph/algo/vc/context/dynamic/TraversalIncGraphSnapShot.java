@@ -23,13 +23,14 @@ public class TraversalIncGraphSnapShot<K, VV, EV> extends IncGraphSnapShot<K, VV
     implements TraversalGraphSnapShot<K, VV, EV> {
 
     public TraversalIncGraphSnapShot(K vertexId, long versionId,
-                                     GraphState<K, VV, EV> graphState) {
-        super(vertexId, versionId, graphState);
+                                     GraphState<K, VV, EV> graphState,
+                                     IncVertexPrefetcher<K, VV, EV> prefetcher) {
+        super(vertexId, versionId, graphState, prefetcher);
     }
 
     @Override
     public TraversalVertexQuery<K, VV> vertex() {
-        return new DynamicTraversalVertexQueryImpl<>(vertexId, versionId, graphState);
+        return new DynamicTraversalVertexQueryImpl<>(vertexId, versionId, graphState, prefetcher);
     }
 
     @Override
@@ -59,6 +59,7 @@ public class TraversalIncHistoricalGraph<K, VV, EV> implements HistoricalGraph<K
 
     @Override
     public TraversalGraphSnapShot<K, VV, EV> getSnapShot(long version) {
-        return new TraversalIncGraphSnapShot<>(historicalGraph.vertexId, version, historicalGraph.graphState);
+        return new TraversalIncGraphSnapShot<>(historicalGraph.vertexId, version,
+            historicalGraph.graphState, historicalGraph.prefetcher);
     }
 }
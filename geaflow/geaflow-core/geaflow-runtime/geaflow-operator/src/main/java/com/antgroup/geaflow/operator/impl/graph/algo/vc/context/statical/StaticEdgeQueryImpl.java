@@ -18,6 +18,7 @@ package com.antgroup.geaflow.operator.impl.graph.algo.vc.context.statical;
 import com.antgroup.geaflow.api.graph.function.vc.base.VertexCentricFunction.EdgeQuery;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.state.GraphState;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import com.antgroup.geaflow.state.pushdown.filter.InEdgeFilter;
 import com.antgroup.geaflow.state.pushdown.filter.OutEdgeFilter;
@@ -52,4 +53,19 @@ public class StaticEdgeQueryImpl<K, VV, EV> implements EdgeQuery<K, EV> {
     public List<IEdge<K, EV>> getEdges(IFilter edgeFilter) {
         return graphState.staticGraph().E().query(vId).by(edgeFilter).asList();
     }
+
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor() {
+        return graphState.staticGraph().E().query(vId).cursor();
+    }
+
+    @Override
+    public IEdgeCursor<K, EV> getOutEdgeCursor() {
+        return graphState.staticGraph().E().query(vId).by(OutEdgeFilter.instance()).cursor();
+    }
+
+    @Override
+    public IEdgeCursor<K, EV> getInEdgeCursor() {
+        return graphState.staticGraph().E().query(vId).by(InEdgeFilter.instance()).cursor();
+    }
 }
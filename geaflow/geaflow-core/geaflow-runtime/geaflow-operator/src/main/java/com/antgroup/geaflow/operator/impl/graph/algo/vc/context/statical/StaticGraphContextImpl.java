@@ -32,6 +32,7 @@ public class StaticGraphContextImpl<K, VV, EV, M>
     private final long maxIteration;
     protected long iterationId;
     protected K vertexId;
+    private long messageCount;
 
     public StaticGraphContextImpl(Operator.OpContext opContext,
                                   RuntimeContext runtimeContext,
@@ -81,6 +82,7 @@ public class StaticGraphContextImpl<K, VV, EV, M>
             return;
         }
         this.graphMsgBox.addOutMessage(vertexId, message);
+        this.messageCount++;
     }
 
     @Override
@@ -92,7 +94,19 @@ public class StaticGraphContextImpl<K, VV, EV, M>
         while (edgeIterator.hasNext()) {
             IEdge<K, EV> edge = edgeIterator.next();
             this.graphMsgBox.addOutMessage(edge.getTargetId(), message);
+            this.messageCount++;
         }
     }
 
+    /**
+     * Returns the number of messages sent since last reset.
+     */
+    public long getMessageCount() {
+        return this.messageCount;
+    }
+
+    public void resetMessageCount() {
+        this.messageCount = 0;
+    }
+
 }
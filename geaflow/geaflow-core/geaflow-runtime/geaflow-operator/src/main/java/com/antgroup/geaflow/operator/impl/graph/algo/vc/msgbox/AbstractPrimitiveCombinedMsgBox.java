@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox;
+
+import com.antgroup.geaflow.api.graph.function.vc.VertexCentricCombineFunction;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base of the combined message boxes keyed by primitive long, int vertex ids are widened to
+ * long and narrowed back when the messages are processed.
+ */
+public abstract class AbstractPrimitiveCombinedMsgBox<K, MESSAGE> implements IGraphMsgBox<K, MESSAGE> {
+
+    protected final VertexCentricCombineFunction<MESSAGE> combineFunction;
+    protected final SingleMessageList<MESSAGE> messageList;
+    private final boolean intKey;
+
+    protected AbstractPrimitiveCombinedMsgBox(VertexCentricCombineFunction<MESSAGE> combineFunction,
+                                              boolean intKey) {
+        this.combineFunction = combineFunction;
+        this.messageList = new SingleMessageList<>();
+        this.intKey = intKey;
+    }
+
+    protected long toLong(K vertexId) {
+        return ((Number) vertexId).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    protected K toKey(long vertexId) {
+        return intKey ? (K) Integer.valueOf((int) vertexId) : (K) Long.valueOf(vertexId);
+    }
+
+    protected List<K> toKeys(LongSet vertexIds) {
+        List<K> keys = new ArrayList<>(vertexIds.size());
+        LongIterator iterator = vertexIds.iterator();
+        while (iterator.hasNext()) {
+            keys.add(toKey(iterator.nextLong()));
+        }
+        return keys;
+    }
+
+    @Override
+    public void processInMessage(MsgProcessFunc<K, MESSAGE> processFunc) {
+        processMessage(true, processFunc);
+    }
+
+    @Override
+    public void processOutMessage(MsgProcessFunc<K, MESSAGE> processFunc) {
+        processMessage(false, processFunc);
+    }
+
+    protected abstract void processMessage(boolean inBox, MsgProcessFunc<K, MESSAGE> processFunc);
+
+}
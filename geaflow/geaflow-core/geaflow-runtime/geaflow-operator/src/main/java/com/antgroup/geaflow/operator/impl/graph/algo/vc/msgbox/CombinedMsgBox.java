@@ -16,8 +16,9 @@ package com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox;
 
 import com.antgroup.geaflow.api.graph.function.vc.VertexCentricCombineFunction;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -27,9 +28,11 @@ public class CombinedMsgBox<K, MESSAGE> implements IGraphMsgBox<K, MESSAGE> {
     private final Map<K, MESSAGE> outMessageBox;
 
     private final VertexCentricCombineFunction<MESSAGE> combineFunction;
+    private final SingleMessageList<MESSAGE> messageList;
 
     public CombinedMsgBox(VertexCentricCombineFunction<MESSAGE> combineFunction) {
         this.combineFunction = combineFunction;
+        this.messageList = new SingleMessageList<>();
         this.inMessageBox = new HashMap<>();
         this.outMessageBox = new HashMap<>();
     }
@@ -50,6 +53,11 @@ public class CombinedMsgBox<K, MESSAGE> implements IGraphMsgBox<K, MESSAGE> {
         processMessage(inMessageBox, processFunc);
     }
 
+    @Override
+    public List<K> getInBoxVertexIds() {
+        return new ArrayList<>(inMessageBox.keySet());
+    }
+
     @Override
     public void clearInBox() {
         this.inMessageBox.clear();
@@ -72,7 +80,7 @@ public class CombinedMsgBox<K, MESSAGE> implements IGraphMsgBox<K, MESSAGE> {
 
     private void processMessage(Map<K, MESSAGE> messageBox, MsgProcessFunc<K, MESSAGE> processFunc) {
         for (Entry<K, MESSAGE> entry : messageBox.entrySet()) {
-            processFunc.process(entry.getKey(), Lists.newArrayList(entry.getValue()));
+            processFunc.process(entry.getKey(), messageList.reset(entry.getValue()));
         }
     }
 
@@ -44,6 +44,11 @@ public class DirectEmitMsgBox<K, MESSAGE> implements IGraphMsgBox<K, MESSAGE> {
         processMessage(inMessageBox, processFunc);
     }
 
+    @Override
+    public List<K> getInBoxVertexIds() {
+        return new ArrayList<>(inMessageBox.keySet());
+    }
+
     @Override
     public void clearInBox() {
         this.inMessageBox.clear();
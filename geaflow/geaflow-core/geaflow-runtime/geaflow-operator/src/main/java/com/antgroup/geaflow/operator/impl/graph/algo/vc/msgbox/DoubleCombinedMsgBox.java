@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox;
+
+import com.antgroup.geaflow.api.graph.function.vc.VertexCentricCombineFunction;
+import com.antgroup.geaflow.collection.map.MapFactory;
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.List;
+
+/**
+ * Combined message box for long or int vertex ids and double messages, messages are kept
+ * unboxed in fastutil maps.
+ */
+public class DoubleCombinedMsgBox<K> extends AbstractPrimitiveCombinedMsgBox<K, Double> {
+
+    private final Long2DoubleOpenHashMap inMessageBox;
+    private final Long2DoubleOpenHashMap outMessageBox;
+
+    @SuppressWarnings("unchecked")
+    public DoubleCombinedMsgBox(VertexCentricCombineFunction<Double> combineFunction, boolean intKey) {
+        super(combineFunction, intKey);
+        this.inMessageBox = (Long2DoubleOpenHashMap) MapFactory.buildMap(Long.class, Double.class);
+        this.outMessageBox = (Long2DoubleOpenHashMap) MapFactory.buildMap(Long.class, Double.class);
+    }
+
+    @Override
+    public void addInMessages(K vertexId, Double message) {
+        addMessage(inMessageBox, toLong(vertexId), message);
+    }
+
+    @Override
+    public List<K> getInBoxVertexIds() {
+        return toKeys(inMessageBox.keySet());
+    }
+
+    @Override
+    public void clearInBox() {
+        this.inMessageBox.clear();
+    }
+
+    @Override
+    public void addOutMessage(K vertexId, Double message) {
+        addMessage(outMessageBox, toLong(vertexId), message);
+    }
+
+    @Override
+    public void clearOutBox() {
+        this.outMessageBox.clear();
+    }
+
+    @Override
+    protected void processMessage(boolean inBox, MsgProcessFunc<K, Double> processFunc) {
+        Long2DoubleOpenHashMap messageBox = inBox ? inMessageBox : outMessageBox;
+        ObjectIterator<Long2DoubleMap.Entry> iterator = messageBox.long2DoubleEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Long2DoubleMap.Entry entry = iterator.next();
+            processFunc.process(toKey(entry.getLongKey()), messageList.reset(entry.getDoubleValue()));
+        }
+    }
+
+    private void addMessage(Long2DoubleOpenHashMap messageBox, long vertexId, Double message) {
+        if (messageBox.containsKey(vertexId)) {
+            Double newMessage = combineFunction.combine(messageBox.get(vertexId), message);
+            messageBox.put(vertexId, newMessage.doubleValue());
+        } else {
+            messageBox.put(vertexId, message.doubleValue());
+        }
+    }
+
+    @VisibleForTesting
+    protected Long2DoubleOpenHashMap getInMessageBox() {
+        return this.inMessageBox;
+    }
+
+    @VisibleForTesting
+    protected Long2DoubleOpenHashMap getOutMessageBox() {
+        return this.outMessageBox;
+    }
+
+}
@@ -23,11 +23,34 @@ public class GraphMsgBoxFactory {
     public static <K, MESSAGE> IGraphMsgBox<K, MESSAGE> buildMessageBox(
         ICollector<IGraphMessage<K, MESSAGE>> msgCollector,
         VertexCentricCombineFunction<MESSAGE> combineFunction) {
+        return buildMessageBox(msgCollector, combineFunction, null, null);
+    }
+
+    /**
+     * Build message box, a primitive specialized combined box is chosen if the key is long or
+     * int and the message is long or double.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, MESSAGE> IGraphMsgBox<K, MESSAGE> buildMessageBox(
+        ICollector<IGraphMessage<K, MESSAGE>> msgCollector,
+        VertexCentricCombineFunction<MESSAGE> combineFunction,
+        Class<?> keyClass, Class<?> msgClass) {
         if (combineFunction == null) {
             return new DirectEmitMsgBox<>(msgCollector);
-        } else {
-            return new CombinedMsgBox<>(combineFunction);
         }
+        boolean longKey = keyClass == Long.class || keyClass == Long.TYPE;
+        boolean intKey = keyClass == Integer.class || keyClass == Integer.TYPE;
+        if (longKey || intKey) {
+            if (msgClass == Long.class || msgClass == Long.TYPE) {
+                return (IGraphMsgBox<K, MESSAGE>) new LongCombinedMsgBox<K>(
+                    (VertexCentricCombineFunction<Long>) combineFunction, intKey);
+            }
+            if (msgClass == Double.class || msgClass == Double.TYPE) {
+                return (IGraphMsgBox<K, MESSAGE>) new DoubleCombinedMsgBox<K>(
+                    (VertexCentricCombineFunction<Double>) combineFunction, intKey);
+            }
+        }
+        return new CombinedMsgBox<>(combineFunction);
     }
 
 }
@@ -28,6 +28,12 @@ public interface IGraphMsgBox<K, MESSAGE> {
      */
     void processInMessage(MsgProcessFunc<K, MESSAGE> processFunc);
 
+    /**
+     * Get the vertex ids of the in-message box in the order they are processed, the messages
+     * are not materialized.
+     */
+    List<K> getInBoxVertexIds();
+
     /**
      * Clear in-message box.
      */
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox;
+
+import com.antgroup.geaflow.api.graph.function.vc.VertexCentricCombineFunction;
+import com.antgroup.geaflow.collection.map.MapFactory;
+import com.google.common.annotations.VisibleForTesting;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.List;
+
+/**
+ * Combined message box for long or int vertex ids and long messages, messages are kept
+ * unboxed in fastutil maps.
+ */
+public class LongCombinedMsgBox<K> extends AbstractPrimitiveCombinedMsgBox<K, Long> {
+
+    private final Long2LongOpenHashMap inMessageBox;
+    private final Long2LongOpenHashMap outMessageBox;
+
+    @SuppressWarnings("unchecked")
+    public LongCombinedMsgBox(VertexCentricCombineFunction<Long> combineFunction, boolean intKey) {
+        super(combineFunction, intKey);
+        this.inMessageBox = (Long2LongOpenHashMap) MapFactory.buildMap(Long.class, Long.class);
+        this.outMessageBox = (Long2LongOpenHashMap) MapFactory.buildMap(Long.class, Long.class);
+    }
+
+    @Override
+    public void addInMessages(K vertexId, Long message) {
+        addMessage(inMessageBox, toLong(vertexId), message);
+    }
+
+    @Override
+    public List<K> getInBoxVertexIds() {
+        return toKeys(inMessageBox.keySet());
+    }
+
+    @Override
+    public void clearInBox() {
+        this.inMessageBox.clear();
+    }
+
+    @Override
+    public void addOutMessage(K vertexId, Long message) {
+        addMessage(outMessageBox, toLong(vertexId), message);
+    }
+
+    @Override
+    public void clearOutBox() {
+        this.outMessageBox.clear();
+    }
+
+    @Override
+    protected void processMessage(boolean inBox, MsgProcessFunc<K, Long> processFunc) {
+        Long2LongOpenHashMap messageBox = inBox ? inMessageBox : outMessageBox;
+        ObjectIterator<Long2LongMap.Entry> iterator = messageBox.long2LongEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Long2LongMap.Entry entry = iterator.next();
+            processFunc.process(toKey(entry.getLongKey()), messageList.reset(entry.getLongValue()));
+        }
+    }
+
+    private void addMessage(Long2LongOpenHashMap messageBox, long vertexId, Long message) {
+        if (messageBox.containsKey(vertexId)) {
+            Long newMessage = combineFunction.combine(messageBox.get(vertexId), message);
+            messageBox.put(vertexId, newMessage.longValue());
+        } else {
+            messageBox.put(vertexId, message.longValue());
+        }
+    }
+
+    @VisibleForTesting
+    protected Long2LongOpenHashMap getInMessageBox() {
+        return this.inMessageBox;
+    }
+
+    @VisibleForTesting
+    protected Long2LongOpenHashMap getOutMessageBox() {
+        return this.outMessageBox;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Reusable list holding the single combined message of a vertex, the list and its iterator
+ * are reset for each vertex instead of allocating a new list per vertex per superstep.
+ */
+public class SingleMessageList<MESSAGE> extends AbstractList<MESSAGE> implements RandomAccess {
+
+    private final SingleMessageIterator iterator = new SingleMessageIterator();
+    private MESSAGE message;
+
+    public SingleMessageList<MESSAGE> reset(MESSAGE message) {
+        this.message = message;
+        return this;
+    }
+
+    @Override
+    public MESSAGE get(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: 1");
+        }
+        return message;
+    }
+
+    @Override
+    public int size() {
+        return 1;
+    }
+
+    @Override
+    public Iterator<MESSAGE> iterator() {
+        iterator.consumed = false;
+        return iterator;
+    }
+
+    private class SingleMessageIterator implements Iterator<MESSAGE> {
+
+        private boolean consumed;
+
+        @Override
+        public boolean hasNext() {
+            return !consumed;
+        }
+
+        @Override
+        public MESSAGE next() {
+            if (consumed) {
+                throw new NoSuchElementException();
+            }
+            consumed = true;
+            return message;
+        }
+    }
+
+}
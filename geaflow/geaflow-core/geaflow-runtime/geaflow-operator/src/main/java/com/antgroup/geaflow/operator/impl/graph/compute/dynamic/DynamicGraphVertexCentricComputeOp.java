@@ -97,6 +97,7 @@ public class DynamicGraphVertexCentricComputeOp<K, VV, EV, M> extends
                     this.graphIncVCComputeCtx.getTemporaryGraph());
             }
         } else {
+            this.graphIncVCComputeCtx.prefetch(this.graphMsgBox.getInBoxVertexIds());
             this.graphMsgBox.processInMessage(new MsgProcessFunc<K, M>() {
                 @Override
                 public void process(K vertexId, List<M> ms) {
@@ -105,6 +106,7 @@ public class DynamicGraphVertexCentricComputeOp<K, VV, EV, M> extends
                     incVCComputeFunction.compute(vertexId, ms.iterator());
                 }
             });
+            this.graphIncVCComputeCtx.clearPrefetch();
             this.graphMsgBox.clearInBox();
         }
         if (incVCComputeFunction instanceof RichIteratorFunction) {
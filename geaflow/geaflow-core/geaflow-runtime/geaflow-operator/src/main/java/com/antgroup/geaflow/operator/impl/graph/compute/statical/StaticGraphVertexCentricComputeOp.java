@@ -20,6 +20,7 @@ import com.antgroup.geaflow.api.graph.compute.VertexCentricCompute;
 import com.antgroup.geaflow.api.graph.function.vc.VertexCentricComputeFunction;
 import com.antgroup.geaflow.api.graph.function.vc.VertexCentricComputeFunction.VertexCentricComputeFuncContext;
 import com.antgroup.geaflow.collector.ICollector;
+import com.antgroup.geaflow.common.metric.EventMetrics;
 import com.antgroup.geaflow.model.graph.message.DefaultGraphMessage;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.record.RecordArgs.GraphRecordNames;
@@ -32,8 +33,10 @@ import com.antgroup.geaflow.state.GraphState;
 import com.antgroup.geaflow.view.graph.GraphViewDesc;
 import com.google.common.base.Preconditions;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +50,12 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
 
     private ICollector<IVertex<K, VV>> vertexCollector;
 
+    // Vertices computed in next iteration even without messages, only used if the algorithm
+    // keeps vertices active until halt.
+    private boolean activeUntilHalt;
+    private Set<K> activeVertices;
+    private Set<K> nextActiveVertices;
+
     public StaticGraphVertexCentricComputeOp(GraphViewDesc graphViewDesc, VertexCentricCompute<K, VV, EV, M> vcAlgorithm) {
         super(graphViewDesc, vcAlgorithm);
         opArgs.setOpType(OpType.VERTEX_CENTRIC_COMPUTE);
@@ -57,6 +66,9 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
         super.open(opContext);
 
         this.vcComputeFunction = this.function.getComputeFunction();
+        this.activeUntilHalt = this.function.isActiveUntilHalt();
+        this.activeVertices = new HashSet<>();
+        this.nextActiveVertices = new HashSet<>();
 
         this.graphVCComputeCtx = new GraphVCComputeCtxImpl(
             opContext, this.runtimeContext, this.graphState, this.graphMsgBox, this.maxIterations);
@@ -73,26 +85,35 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
 
     @Override
     public void doFinishIteration(long iterations) {
-
+        this.graphVCComputeCtx.resetMessageCount();
         // Compute.
         if (iterations == 1L) {
             Iterator<IVertex<K, VV>> vertexIterator = this.graphState.staticGraph().V().iterator();
             while (vertexIterator.hasNext()) {
                 IVertex<K, VV> vertex = vertexIterator.next();
-                K vertexId = vertex.getId();
-                graphVCComputeCtx.init(iterations, vertexId);
-                vcComputeFunction.compute(vertexId, Collections.emptyIterator());
+                compute(iterations, vertex.getId(), Collections.emptyIterator());
             }
         } else {
             this.graphMsgBox.processInMessage(new MsgProcessFunc<K, M>() {
                 @Override
                 public void process(K vertexId, List<M> ms) {
-                    graphVCComputeCtx.init(iterations, vertexId);
-                    vcComputeFunction.compute(vertexId, ms.iterator());
+                    if (activeUntilHalt) {
+                        activeVertices.remove(vertexId);
+                    }
+                    compute(iterations, vertexId, ms.iterator());
                 }
             });
             this.graphMsgBox.clearInBox();
+            // Vertices staying active without messages.
+            for (K vertexId : activeVertices) {
+                compute(iterations, vertexId, Collections.emptyIterator());
+            }
         }
+        Set<K> tmp = this.activeVertices;
+        this.activeVertices = this.nextActiveVertices;
+        this.nextActiveVertices = tmp;
+        this.nextActiveVertices.clear();
+
         if (vcComputeFunction instanceof RichIteratorFunction) {
             ((RichIteratorFunction) vcComputeFunction).finishIteration(iterations);
         }
@@ -109,8 +130,18 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
         });
         messageCollector.finish();
         this.graphMsgBox.clearOutBox();
+        // Only the algorithms keeping vertices active until halt track the active vertices.
+        this.activeCount = activeUntilHalt ? this.activeVertices.size() : EventMetrics.UNKNOWN_COUNT;
+        this.messageCount = this.graphVCComputeCtx.getMessageCount();
     }
 
+    private void compute(long iterations, K vertexId, Iterator<M> messageIterator) {
+        graphVCComputeCtx.init(iterations, vertexId);
+        vcComputeFunction.compute(vertexId, messageIterator);
+        if (activeUntilHalt && !graphVCComputeCtx.halted) {
+            nextActiveVertices.add(vertexId);
+        }
+    }
 
     @Override
     public void finish() {
@@ -126,6 +157,8 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
 
     class GraphVCComputeCtxImpl extends StaticGraphContextImpl<K, VV, EV, M> implements VertexCentricComputeFuncContext<K, VV, EV, M> {
 
+        private boolean halted;
+
         public GraphVCComputeCtxImpl(OpContext opContext,
                                      RuntimeContext runtimeContext,
                                      GraphState<K, VV, EV> graphState,
@@ -134,6 +167,12 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
             super(opContext, runtimeContext, graphState, graphMsgBox, maxIteration);
         }
 
+        @Override
+        public void init(long iterationId, K vertexId) {
+            super.init(iterationId, vertexId);
+            this.halted = false;
+        }
+
         @Override
         public void setNewVertexValue(VV value) {
             IVertex<K, VV> valueVertex = graphState.staticGraph().V().query(vertexId).get();
@@ -141,6 +180,11 @@ public class StaticGraphVertexCentricComputeOp<K, VV, EV, M> extends
             graphState.staticGraph().V().add(valueVertex);
         }
 
+        @Override
+        public void voteToHalt() {
+            this.halted = true;
+        }
+
     }
 
 }
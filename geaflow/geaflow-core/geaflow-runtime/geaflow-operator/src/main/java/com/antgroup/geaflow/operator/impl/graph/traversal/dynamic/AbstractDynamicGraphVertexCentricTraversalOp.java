@@ -97,6 +97,7 @@ public abstract class AbstractDynamicGraphVertexCentricTraversalOp<K, VV, EV, M,
             }
             traversalByRequest();
         } else {
+            this.graphVCTraversalCtx.prefetch(this.graphMsgBox.getInBoxVertexIds());
             this.graphMsgBox.processInMessage(new MsgProcessFunc<K, M>() {
                 @Override
                 public void process(K vertexId, List<M> messages) {
@@ -104,6 +105,7 @@ public abstract class AbstractDynamicGraphVertexCentricTraversalOp<K, VV, EV, M,
                     incVcTraversalFunction.compute(vertexId, messages.iterator());
                 }
             });
+            this.graphVCTraversalCtx.clearPrefetch();
             this.graphMsgBox.clearInBox();
         }
         if (this.incVcTraversalFunction instanceof RichIteratorFunction) {
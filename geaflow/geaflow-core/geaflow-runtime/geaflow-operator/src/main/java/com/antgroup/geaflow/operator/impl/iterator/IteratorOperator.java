@@ -33,4 +33,14 @@ public interface IteratorOperator extends Operator {
      */
     void finishIteration(long iteration);
 
+    /**
+     * Returns the number of active records after the finished iteration, negative if not tracked.
+     */
+    long getActiveCount();
+
+    /**
+     * Returns the number of messages sent in the finished iteration, negative if not tracked.
+     */
+    long getMessageCount();
+
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.operator.impl.window;
+
+import com.antgroup.geaflow.api.function.RichFunction;
+import com.antgroup.geaflow.api.function.base.KeySelector;
+import com.antgroup.geaflow.api.function.base.ReduceFunction;
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys;
+import com.antgroup.geaflow.model.common.Null;
+import com.antgroup.geaflow.utils.math.CountMinSketch;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Key selector which pre-combines hot keys of a keyed reduce before the shuffle. Key
+ * frequencies of the window are estimated by a count-min sketch, records of cold keys are
+ * emitted directly, records of a key reaching the hot threshold are reduced locally and
+ * emitted once when the window finishes, so the owner task of a hot key receives at most
+ * one record of it from every upstream task per window.
+ */
+public class KeySelectorCombineOperator<IN, KEY> extends KeySelectorOperator<IN, KEY> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeySelectorCombineOperator.class);
+
+    private static final int SKETCH_DEPTH = 4;
+
+    private final ReduceFunction<IN> combineFunction;
+    private transient CountMinSketch sketch;
+    private transient Map<KEY, IN> combinedValues;
+    private transient int hotThreshold;
+
+    public KeySelectorCombineOperator(KeySelector<IN, KEY> keySelector,
+                                      ReduceFunction<IN> combineFunction) {
+        super(keySelector);
+        this.combineFunction = combineFunction;
+    }
+
+    @Override
+    public void open(OpContext opContext) {
+        super.open(opContext);
+        Configuration config = this.runtimeContext.getConfiguration();
+        this.hotThreshold = config.getInteger(FrameworkConfigKeys.KEY_BY_HOT_KEY_THRESHOLD);
+        this.sketch = new CountMinSketch(SKETCH_DEPTH,
+            config.getInteger(FrameworkConfigKeys.KEY_BY_HOT_KEY_SKETCH_WIDTH));
+        this.combinedValues = new HashMap<>();
+        if (this.combineFunction instanceof RichFunction) {
+            ((RichFunction) this.combineFunction).open(this.runtimeContext);
+        }
+    }
+
+    @Override
+    protected void process(IN value) throws Exception {
+        KEY key = function.getKey(value);
+        if (key == null) {
+            key = (KEY) new Null();
+        }
+        IN combined = combinedValues.get(key);
+        if (combined != null) {
+            combinedValues.put(key, combineFunction.reduce(combined, value));
+        } else if (sketch.add(key) >= hotThreshold) {
+            combinedValues.put(key, value);
+        } else {
+            collectKValue(key, value);
+        }
+    }
+
+    @Override
+    public void finish() {
+        if (!combinedValues.isEmpty()) {
+            LOGGER.info("{} emit {} combined hot keys", opArgs.getOpName(), combinedValues.size());
+            for (Entry<KEY, IN> entry : combinedValues.entrySet()) {
+                collectKValue(entry.getKey(), entry.getValue());
+            }
+            combinedValues.clear();
+        }
+        sketch.clear();
+        super.finish();
+    }
+
+    @Override
+    public void close() {
+        if (this.combineFunction instanceof RichFunction) {
+            ((RichFunction) this.combineFunction).close();
+        }
+        super.close();
+    }
+}
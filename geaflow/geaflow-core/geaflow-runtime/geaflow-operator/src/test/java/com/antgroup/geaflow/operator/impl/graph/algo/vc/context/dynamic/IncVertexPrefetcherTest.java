@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.operator.impl.graph.algo.vc.context.dynamic;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
+import com.antgroup.geaflow.state.DataModel;
+import com.antgroup.geaflow.state.GraphState;
+import com.antgroup.geaflow.state.StateFactory;
+import com.antgroup.geaflow.state.StoreType;
+import com.antgroup.geaflow.state.descriptor.GraphStateDescriptor;
+import com.antgroup.geaflow.state.pushdown.filter.IVertexFilter;
+import com.antgroup.geaflow.utils.keygroup.DefaultKeyGroupAssigner;
+import com.antgroup.geaflow.utils.keygroup.KeyGroup;
+import java.util.Arrays;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class IncVertexPrefetcherTest {
+
+    private GraphState<Integer, Integer, Integer> graphState;
+
+    @BeforeClass
+    public void setup() {
+        GraphStateDescriptor<Integer, Integer, Integer> desc =
+            GraphStateDescriptor.build("test", StoreType.MEMORY.name());
+        desc.withDataModel(DataModel.DYNAMIC_GRAPH);
+        GraphMetaType graphMetaType = new GraphMetaType(IntegerType.INSTANCE, ValueVertex.class,
+            Integer.class, ValueEdge.class, Integer.class);
+        desc.withGraphMeta(new GraphMeta(graphMetaType));
+        desc.withKeyGroup(new KeyGroup(0, 1023)).withKeyGroupAssigner(new DefaultKeyGroupAssigner(1024));
+        graphState = StateFactory.buildGraphState(desc, new Configuration());
+
+        for (int i = 1; i <= 5; i++) {
+            graphState.dynamicGraph().V().add(0, new ValueVertex<>(i, i));
+            graphState.dynamicGraph().V().add(1, new ValueVertex<>(i, i * 10));
+        }
+    }
+
+    @Test
+    public void testBatches() {
+        IncVertexPrefetcher<Integer, Integer, Integer> prefetcher =
+            new IncVertexPrefetcher<>(graphState, 2);
+        prefetcher.prefetch(Arrays.asList(1, 6, 3));
+
+        prefetcher.init(1);
+        Assert.assertTrue(prefetcher.contains(1));
+        Assert.assertTrue(prefetcher.contains(6));
+        Assert.assertFalse(prefetcher.contains(3));
+        Assert.assertEquals(prefetcher.getVertex(0, 1).getValue(), Integer.valueOf(1));
+        Assert.assertEquals(prefetcher.getVertex(1, 1).getValue(), Integer.valueOf(10));
+        Assert.assertNull(prefetcher.getVertex(0, 6));
+
+        prefetcher.init(6);
+        Assert.assertTrue(prefetcher.contains(1));
+        prefetcher.init(3);
+        Assert.assertFalse(prefetcher.contains(1));
+        Assert.assertTrue(prefetcher.contains(3));
+        Assert.assertEquals(prefetcher.getVertex(1, 3).getValue(), Integer.valueOf(30));
+
+        prefetcher.invalidate(3);
+        Assert.assertFalse(prefetcher.contains(3));
+
+        prefetcher.clear();
+        prefetcher.init(1);
+        Assert.assertFalse(prefetcher.contains(1));
+    }
+
+    @Test
+    public void testDisabled() {
+        IncVertexPrefetcher<Integer, Integer, Integer> prefetcher =
+            new IncVertexPrefetcher<>(graphState, 0);
+        prefetcher.prefetch(Arrays.asList(1, 2));
+        prefetcher.init(1);
+        Assert.assertFalse(prefetcher.contains(1));
+    }
+
+    @Test
+    public void testVertexQuery() {
+        IncVertexPrefetcher<Integer, Integer, Integer> prefetcher =
+            new IncVertexPrefetcher<>(graphState, 16);
+        prefetcher.prefetch(Arrays.asList(2, 4));
+        prefetcher.init(2);
+
+        DynamicVertexQueryImpl<Integer, Integer, Integer> vertexQuery =
+            new DynamicVertexQueryImpl<>(2, 0, graphState, prefetcher);
+        Assert.assertEquals(vertexQuery.get().getValue(), Integer.valueOf(2));
+        IVertex<Integer, Integer> vertex = vertexQuery.withId(4).get(
+            (IVertexFilter<Integer, Integer>) value -> value.getValue() > 3);
+        Assert.assertEquals(vertex.getValue(), Integer.valueOf(4));
+        Assert.assertNull(vertexQuery.withId(2).get(
+            (IVertexFilter<Integer, Integer>) value -> value.getValue() > 3));
+        // Vertices out of the prefetched batch are read from the state.
+        Assert.assertEquals(vertexQuery.withId(5).get().getValue(), Integer.valueOf(5));
+    }
+}
@@ -14,6 +14,10 @@
 
 package com.antgroup.geaflow.operator.impl.graph.algo.vc.msgbox;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -47,4 +51,102 @@ public class MsgBoxTest {
         Assert.assertEquals(box.getOutMessageBox().size(), 0);
     }
 
+    @Test
+    public void testLongCombinedMsgBox() {
+        LongCombinedMsgBox<Long> box = new LongCombinedMsgBox<>(Long::sum, false);
+        box.addInMessages(1L, 1L);
+        box.addInMessages(1L, 2L);
+        box.addInMessages(2L, 2L);
+        Assert.assertEquals(box.getInMessageBox().size(), 2);
+        Assert.assertEquals(box.getInMessageBox().get(1L), 3L);
+
+        Map<Long, Long> result = new HashMap<>();
+        box.processInMessage((vertexId, messages) -> {
+            Assert.assertEquals(messages.size(), 1);
+            result.put(vertexId, messages.get(0));
+        });
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals((long) result.get(1L), 3L);
+        Assert.assertEquals((long) result.get(2L), 2L);
+        box.clearInBox();
+        Assert.assertEquals(box.getInMessageBox().size(), 0);
+
+        box.addOutMessage(0L, 5L);
+        box.addOutMessage(2L, 1L);
+        box.addOutMessage(2L, 3L);
+        Assert.assertEquals(box.getOutMessageBox().size(), 2);
+        Assert.assertEquals(box.getOutMessageBox().get(2L), 4L);
+        box.clearOutBox();
+        Assert.assertEquals(box.getOutMessageBox().size(), 0);
+    }
+
+    @Test
+    public void testDoubleCombinedMsgBoxWithIntKey() {
+        DoubleCombinedMsgBox<Integer> box = new DoubleCombinedMsgBox<>(Double::sum, true);
+        box.addInMessages(1, 0.5);
+        box.addInMessages(1, 1.5);
+        box.addInMessages(3, 1.0);
+
+        Map<Integer, Double> result = new HashMap<>();
+        box.processInMessage((vertexId, messages) -> {
+            Iterator<Double> iterator = messages.iterator();
+            Assert.assertTrue(iterator.hasNext());
+            result.put(vertexId, iterator.next());
+            Assert.assertFalse(iterator.hasNext());
+        });
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals(result.get(1), 2.0, 1e-9);
+        Assert.assertEquals(result.get(3), 1.0, 1e-9);
+    }
+
+    @Test
+    public void testInBoxVertexIds() {
+        List<IGraphMsgBox<Integer, Long>> boxes = new ArrayList<>();
+        boxes.add(new CombinedMsgBox<>(Long::sum));
+        boxes.add(new LongCombinedMsgBox<>(Long::sum, true));
+        boxes.add(new DirectEmitMsgBox<>(null));
+        for (IGraphMsgBox<Integer, Long> box : boxes) {
+            for (int i = 0; i < 100; i++) {
+                box.addInMessages(i % 37, (long) i);
+            }
+            List<Integer> processed = new ArrayList<>();
+            box.processInMessage((vertexId, messages) -> processed.add(vertexId));
+            // the ids are in the processing order.
+            Assert.assertEquals(box.getInBoxVertexIds(), processed);
+            Assert.assertEquals(processed.size(), 37);
+            box.clearInBox();
+            Assert.assertTrue(box.getInBoxVertexIds().isEmpty());
+        }
+    }
+
+    @Test
+    public void testSingleMessageList() {
+        SingleMessageList<Integer> list = new SingleMessageList<>();
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Iterator<Integer> iterator = list.reset(i).iterator();
+            while (iterator.hasNext()) {
+                values.add(iterator.next());
+            }
+        }
+        Assert.assertEquals(values.size(), 3);
+        Assert.assertEquals((int) values.get(2), 2);
+        Assert.assertEquals(list.size(), 1);
+        Assert.assertEquals((int) list.get(0), 2);
+    }
+
+    @Test
+    public void testBuildMessageBox() {
+        Assert.assertTrue(GraphMsgBoxFactory.<Long, Long>buildMessageBox(null, Long::sum, Long.class,
+            Long.class) instanceof LongCombinedMsgBox);
+        Assert.assertTrue(GraphMsgBoxFactory.<Integer, Double>buildMessageBox(null, Double::sum, Integer.class,
+            Double.class) instanceof DoubleCombinedMsgBox);
+        Assert.assertTrue(GraphMsgBoxFactory.<Long, Integer>buildMessageBox(null, Integer::sum, Long.class,
+            Integer.class) instanceof CombinedMsgBox);
+        Assert.assertTrue(GraphMsgBoxFactory.<String, Long>buildMessageBox(null, Long::sum, String.class,
+            Long.class) instanceof CombinedMsgBox);
+        Assert.assertTrue(GraphMsgBoxFactory.<Long, Long>buildMessageBox(null, null, Long.class,
+            Long.class) instanceof DirectEmitMsgBox);
+    }
+
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.operator.impl.graph.compute.statical;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.antgroup.geaflow.api.context.RuntimeContext;
+import com.antgroup.geaflow.api.graph.compute.VertexCentricCompute;
+import com.antgroup.geaflow.api.graph.function.vc.VertexCentricCombineFunction;
+import com.antgroup.geaflow.api.graph.function.vc.VertexCentricComputeFunction;
+import com.antgroup.geaflow.collector.ICollector;
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.metric.EventMetrics;
+import com.antgroup.geaflow.common.task.TaskArgs;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.context.AbstractRuntimeContext;
+import com.antgroup.geaflow.metrics.common.MetricGroupRegistry;
+import com.antgroup.geaflow.metrics.common.api.MetricGroup;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.model.graph.message.DefaultGraphMessage;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
+import com.antgroup.geaflow.model.record.RecordArgs.GraphRecordNames;
+import com.antgroup.geaflow.operator.Operator;
+import com.antgroup.geaflow.operator.base.AbstractOperator;
+import com.antgroup.geaflow.view.GraphViewBuilder;
+import com.antgroup.geaflow.view.IViewDesc;
+import com.antgroup.geaflow.view.graph.GraphViewDesc;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class StaticGraphVertexCentricComputeOpTest {
+
+    @Test
+    public void testActiveUntilHalt() {
+        Map<Long, Set<Integer>> computed = new HashMap<>();
+        StaticGraphVertexCentricComputeOp<Integer, Integer, Integer, Integer> operator =
+            buildOperator(new HaltCompute(computed, true));
+
+        // Vertex 2 stays active while vertices 1 and 3 vote to halt.
+        runIteration(operator, 1);
+        Assert.assertEquals(computed.get(1L), new HashSet<>(Arrays.asList(1, 2, 3)));
+        Assert.assertEquals(operator.getActiveCount(), 1);
+
+        // Halted vertices are no longer computed.
+        runIteration(operator, 2);
+        Assert.assertEquals(computed.get(2L), new HashSet<>(Arrays.asList(2)));
+        Assert.assertEquals(operator.getActiveCount(), 1);
+
+        // A message reactivates the halted vertex 1, vertex 2 votes to halt now.
+        operator.processMessage(new DefaultGraphMessage<>(1, 1));
+        runIteration(operator, 3);
+        Assert.assertEquals(computed.get(3L), new HashSet<>(Arrays.asList(1, 2)));
+        Assert.assertEquals(operator.getActiveCount(), 1);
+
+        // The reactivated vertex is computed without messages until it votes to halt.
+        runIteration(operator, 4);
+        Assert.assertEquals(computed.get(4L), new HashSet<>(Arrays.asList(1)));
+        Assert.assertEquals(operator.getActiveCount(), 0);
+
+        runIteration(operator, 5);
+        Assert.assertNull(computed.get(5L));
+        operator.close();
+    }
+
+    @Test
+    public void testNotTrackedByDefault() {
+        Map<Long, Set<Integer>> computed = new HashMap<>();
+        StaticGraphVertexCentricComputeOp<Integer, Integer, Integer, Integer> operator =
+            buildOperator(new HaltCompute(computed, false));
+
+        // The active vertices are not tracked, so the iteration is never terminated early.
+        runIteration(operator, 1);
+        Assert.assertEquals(computed.get(1L), new HashSet<>(Arrays.asList(1, 2, 3)));
+        Assert.assertEquals(operator.getActiveCount(), EventMetrics.UNKNOWN_COUNT);
+
+        // Only the vertices receiving messages are computed.
+        runIteration(operator, 2);
+        Assert.assertNull(computed.get(2L));
+        Assert.assertEquals(operator.getActiveCount(), EventMetrics.UNKNOWN_COUNT);
+
+        operator.processMessage(new DefaultGraphMessage<>(1, 1));
+        runIteration(operator, 3);
+        Assert.assertEquals(computed.get(3L), new HashSet<>(Arrays.asList(1)));
+        Assert.assertEquals(operator.getActiveCount(), EventMetrics.UNKNOWN_COUNT);
+        operator.close();
+    }
+
+    private StaticGraphVertexCentricComputeOp<Integer, Integer, Integer, Integer> buildOperator(
+        HaltCompute compute) {
+        GraphViewDesc graphViewDesc = GraphViewBuilder.createGraphView("test")
+            .withShardNum(1)
+            .withBackend(IViewDesc.BackendType.Memory)
+            .withSchema(new GraphMetaType<>(IntegerType.INSTANCE, ValueVertex.class,
+                Integer.class, ValueEdge.class, Integer.class))
+            .build();
+
+        StaticGraphVertexCentricComputeOp<Integer, Integer, Integer, Integer> operator =
+            new StaticGraphVertexCentricComputeOp<>(graphViewDesc, compute);
+        operator.getOpArgs().setOpName("test");
+
+        List<ICollector> collectors = new ArrayList<>();
+        ICollector messageCollector = mock(ICollector.class);
+        when(messageCollector.getTag()).thenReturn(GraphRecordNames.Message.name());
+        ICollector vertexCollector = mock(ICollector.class);
+        when(vertexCollector.getTag()).thenReturn(GraphRecordNames.Vertex.name());
+        collectors.add(messageCollector);
+        collectors.add(vertexCollector);
+        Operator.OpContext context = new AbstractOperator.DefaultOpContext(collectors, new TestRuntimeContext());
+        operator.open(context);
+
+        for (int i = 1; i <= 3; i++) {
+            operator.addVertex(new ValueVertex<>(i, i));
+        }
+        return operator;
+    }
+
+    private static void runIteration(
+        StaticGraphVertexCentricComputeOp<Integer, Integer, Integer, Integer> operator, long iteration) {
+        operator.initIteration(iteration);
+        operator.finishIteration(iteration);
+    }
+
+    private static class HaltCompute extends VertexCentricCompute<Integer, Integer, Integer, Integer> {
+
+        private final Map<Long, Set<Integer>> computed;
+        private final boolean activeUntilHalt;
+
+        public HaltCompute(Map<Long, Set<Integer>> computed, boolean activeUntilHalt) {
+            super(5);
+            this.computed = computed;
+            this.activeUntilHalt = activeUntilHalt;
+        }
+
+        @Override
+        public VertexCentricComputeFunction<Integer, Integer, Integer, Integer> getComputeFunction() {
+            return new HaltComputeFunction(computed);
+        }
+
+        @Override
+        public VertexCentricCombineFunction<Integer> getCombineFunction() {
+            return null;
+        }
+
+        @Override
+        public boolean isActiveUntilHalt() {
+            return activeUntilHalt;
+        }
+    }
+
+    private static class HaltComputeFunction implements VertexCentricComputeFunction<Integer,
+        Integer, Integer, Integer> {
+
+        private final Map<Long, Set<Integer>> computed;
+        private VertexCentricComputeFuncContext<Integer, Integer, Integer, Integer> context;
+
+        public HaltComputeFunction(Map<Long, Set<Integer>> computed) {
+            this.computed = computed;
+        }
+
+        @Override
+        public void init(VertexCentricComputeFuncContext<Integer, Integer, Integer, Integer> context) {
+            this.context = context;
+        }
+
+        @Override
+        public void compute(Integer vertexId, Iterator<Integer> messageIterator) {
+            long iteration = context.getIterationId();
+            computed.computeIfAbsent(iteration, k -> new HashSet<>()).add(vertexId);
+            // Vertices receiving messages stay active for one more iteration.
+            if (messageIterator.hasNext() || (vertexId == 2 && iteration < 3)) {
+                return;
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public void finish() {
+        }
+    }
+
+    public class TestRuntimeContext extends AbstractRuntimeContext {
+
+        public TestRuntimeContext() {
+            super(new Configuration());
+        }
+
+        @Override
+        public long getPipelineId() {
+            return 0;
+        }
+
+        @Override
+        public String getPipelineName() {
+            return null;
+        }
+
+        @Override
+        public TaskArgs getTaskArgs() {
+            return new TaskArgs(0, 0, "test", 1, 1);
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return new Configuration();
+        }
+
+        @Override
+        public RuntimeContext clone(Map<String, String> opConfig) {
+            return new TestRuntimeContext();
+        }
+
+        @Override
+        public long getWindowId() {
+            return windowId;
+        }
+
+        @Override
+        public MetricGroup getMetric() {
+            Configuration config = new Configuration();
+            config.put(ExecutionConfigKeys.REPORTER_LIST.getKey(), "");
+            return MetricGroupRegistry.getInstance(config).getMetricGroup();
+        }
+
+    }
+}
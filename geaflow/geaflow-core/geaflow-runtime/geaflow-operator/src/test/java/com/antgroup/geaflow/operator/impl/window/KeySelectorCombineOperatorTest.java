@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.operator.impl.window;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.antgroup.geaflow.api.context.RuntimeContext;
+import com.antgroup.geaflow.api.function.base.KeySelector;
+import com.antgroup.geaflow.api.function.base.ReduceFunction;
+import com.antgroup.geaflow.collector.ICollector;
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys;
+import com.antgroup.geaflow.common.task.TaskArgs;
+import com.antgroup.geaflow.metrics.common.MetricGroupRegistry;
+import com.antgroup.geaflow.metrics.common.api.MetricGroup;
+import com.antgroup.geaflow.operator.base.AbstractOperator;
+import java.util.HashMap;
+import java.util.Map;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.collections.Lists;
+
+public class KeySelectorCombineOperatorTest {
+
+    @Test
+    public void testCombineHotKey() throws Exception {
+        Map<Integer, Integer> received = new HashMap<>();
+        Map<Integer, Integer> receivedTimes = new HashMap<>();
+        ICollector collector = mock(ICollector.class);
+        Mockito.doAnswer(invocation -> {
+            Integer key = (Integer) invocation.getArguments()[0];
+            received.merge(key, (Integer) invocation.getArguments()[1], Integer::sum);
+            receivedTimes.merge(key, 1, Integer::sum);
+            return null;
+        }).when(collector).partition(any(), any());
+
+        Configuration config = new Configuration();
+        config.put(FrameworkConfigKeys.KEY_BY_HOT_KEY_THRESHOLD.getKey(), "10");
+        RuntimeContext runtimeContext = mock(RuntimeContext.class);
+        when(runtimeContext.getConfiguration()).thenReturn(config);
+        when(runtimeContext.getTaskArgs()).thenReturn(new TaskArgs(1, 0, "combine", 1, 1024));
+        Configuration metricConfig = new Configuration();
+        metricConfig.put(ExecutionConfigKeys.REPORTER_LIST.getKey(), "");
+        MetricGroup metricGroup = MetricGroupRegistry.getInstance(metricConfig).getMetricGroup();
+        Mockito.doReturn(metricGroup).when(runtimeContext).getMetric();
+        Mockito.doReturn(runtimeContext).when(runtimeContext).clone(any());
+
+        KeySelectorCombineOperator<Integer, Integer> operator =
+            new KeySelectorCombineOperator<>(new ModKeySelector(), new SumReduce());
+        operator.open(new AbstractOperator.DefaultOpContext(Lists.newArrayList(collector),
+            runtimeContext));
+
+        for (int window = 0; window < 2; window++) {
+            received.clear();
+            receivedTimes.clear();
+            // key 0 is hot, keys 1 to 50 appear once.
+            for (int i = 0; i < 100; i++) {
+                operator.processElement(1000);
+            }
+            for (int i = 1; i <= 50; i++) {
+                operator.processElement(i);
+            }
+            operator.finish();
+
+            Assert.assertEquals(received.get(0).intValue(), 100 * 1000);
+            // records before the key turns hot are emitted directly, the rest once combined.
+            Assert.assertEquals(receivedTimes.get(0).intValue(), 10);
+            for (int i = 1; i <= 50; i++) {
+                Assert.assertEquals(received.get(i).intValue(), i);
+                Assert.assertEquals(receivedTimes.get(i).intValue(), 1);
+            }
+        }
+    }
+
+    private static class ModKeySelector implements KeySelector<Integer, Integer> {
+
+        @Override
+        public Integer getKey(Integer value) {
+            return value % 1000;
+        }
+    }
+
+    private static class SumReduce implements ReduceFunction<Integer> {
+
+        @Override
+        public Integer reduce(Integer oldValue, Integer newValue) {
+            return oldValue + newValue;
+        }
+    }
+}
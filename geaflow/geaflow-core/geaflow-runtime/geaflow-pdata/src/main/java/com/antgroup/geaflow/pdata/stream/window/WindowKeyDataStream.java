@@ -24,7 +24,9 @@ import com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys;
 import com.antgroup.geaflow.common.encoder.EncoderResolver;
 import com.antgroup.geaflow.common.encoder.IEncoder;
 import com.antgroup.geaflow.context.AbstractPipelineContext;
+import com.antgroup.geaflow.operator.OpArgs;
 import com.antgroup.geaflow.operator.base.AbstractOperator;
+import com.antgroup.geaflow.operator.impl.window.KeySelectorCombineOperator;
 import com.antgroup.geaflow.operator.impl.window.WindowAggregateOperator;
 import com.antgroup.geaflow.operator.impl.window.WindowReduceOperator;
 import com.antgroup.geaflow.partitioner.IPartitioner;
@@ -39,6 +41,7 @@ public class WindowKeyDataStream<KEY, T> extends WindowDataStream<T> implements
 
     private KeySelector<T, KEY> keySelector;
     private boolean materializeDisable;
+    private boolean hotKeyCombineEnable;
 
     public WindowKeyDataStream(IPipelineContext context, WindowDataStream dataStream,
                                AbstractOperator operator,
@@ -47,6 +50,8 @@ public class WindowKeyDataStream<KEY, T> extends WindowDataStream<T> implements
         this.keySelector = keySelector;
         this.materializeDisable = ((AbstractPipelineContext) context).getConfig()
             .getBoolean(FrameworkConfigKeys.INC_STREAM_MATERIALIZE_DISABLE);
+        this.hotKeyCombineEnable = ((AbstractPipelineContext) context).getConfig()
+            .getBoolean(FrameworkConfigKeys.KEY_BY_HOT_KEY_COMBINE_ENABLE);
     }
 
     @Override
@@ -61,6 +66,9 @@ public class WindowKeyDataStream<KEY, T> extends WindowDataStream<T> implements
 
     @Override
     public PWindowStream<T> reduce(ReduceFunction<T> reduceFunction) {
+        if (hotKeyCombineEnable && reduceFunction != null) {
+            combineHotKeys(reduceFunction);
+        }
         if (!materializeDisable) {
             return materialize().reduce(reduceFunction);
         }
@@ -68,6 +76,24 @@ public class WindowKeyDataStream<KEY, T> extends WindowDataStream<T> implements
         return new WindowDataStream(this.context, this, new WindowReduceOperator<>(reduceFunction, keySelector)).withEncoder(this.encoder);
     }
 
+    /**
+     * Replace the key selector with one which pre-combines hot keys by the reduce function,
+     * reduce is type preserving so the downstream reduce is unchanged.
+     */
+    private void combineHotKeys(ReduceFunction<T> reduceFunction) {
+        KeySelectorCombineOperator<T, KEY> combineOperator =
+            new KeySelectorCombineOperator<>(keySelector, reduceFunction);
+        OpArgs combineArgs = combineOperator.getOpArgs();
+        combineArgs.setOpId(this.opArgs.getOpId());
+        combineArgs.setOpName(this.opArgs.getOpName());
+        combineArgs.setParallelism(this.opArgs.getParallelism());
+        combineArgs.setConfig(this.opArgs.getConfig());
+        combineArgs.setChainStrategy(this.opArgs.getChainStrategy());
+        combineArgs.setEnGroup(this.opArgs.isEnGroup());
+        this.operator = combineOperator;
+        this.opArgs = combineArgs;
+    }
+
     @Override
     public PIncStreamView<T> materialize() {
         IncStreamView incStreamView = new IncStreamView<>(context, keySelector);
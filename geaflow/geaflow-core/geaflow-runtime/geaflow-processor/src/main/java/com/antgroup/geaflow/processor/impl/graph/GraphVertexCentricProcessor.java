@@ -15,6 +15,7 @@
 package com.antgroup.geaflow.processor.impl.graph;
 
 import com.antgroup.geaflow.api.context.RuntimeContext;
+import com.antgroup.geaflow.api.trait.TerminationTrait;
 import com.antgroup.geaflow.collector.ICollector;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.message.IGraphMessage;
@@ -32,7 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class GraphVertexCentricProcessor<U> extends AbstractWindowProcessor<BatchRecord<U>,
-    Void, AbstractGraphVertexCentricOp> {
+    Void, AbstractGraphVertexCentricOp> implements TerminationTrait {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GraphVertexCentricProcessor.class);
 
@@ -97,4 +98,14 @@ public class GraphVertexCentricProcessor<U> extends AbstractWindowProcessor<Batc
         }
     }
 
+    @Override
+    public long getActiveCount() {
+        return this.operator.getActiveCount();
+    }
+
+    @Override
+    public long getMessageCount() {
+        return this.operator.getMessageCount();
+    }
+
 }
@@ -74,6 +74,9 @@ public abstract class AbstractExecutableCommand implements IExecutableCommand {
     @Override
     public void interrupt() {
         worker.interrupt();
+        if (fetcherRunner != null) {
+            fetcherRunner.interrupt();
+        }
     }
 
     /**
@@ -54,4 +54,12 @@ public abstract class AbstractInitCommand extends AbstractExecutableCommand {
         request.addListener(new FetchListenerImpl(((AbstractAlignedWorker) worker).getInputReader()));
         fetcherRunner.add(request);
     }
+
+    /**
+     * Drop the input left by an interrupted or failed over cycle before the worker fetches
+     * for a new one.
+     */
+    protected void resetInput() {
+        ((AbstractAlignedWorker) worker).resetInput();
+    }
 }
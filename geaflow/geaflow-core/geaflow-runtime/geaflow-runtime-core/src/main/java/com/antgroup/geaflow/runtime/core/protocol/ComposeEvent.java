@@ -31,6 +31,13 @@ import java.util.List;
  */
 public class ComposeEvent implements IComposeEvent, ICommand {
 
+    /**
+     * Worker id of a compose event that spans the workers of one container, e.g. the events
+     * submitted to or the done events responded by a container, each basic event is still
+     * handled by its own worker.
+     */
+    public static final int ALL_WORKERS = -1;
+
     private int workerId;
 
     // A list of event that will be executed by worker sequentially.
@@ -41,6 +48,10 @@ public class ComposeEvent implements IComposeEvent, ICommand {
         this.events = events;
     }
 
+    public ComposeEvent(List<IEvent> events) {
+        this(ALL_WORKERS, events);
+    }
+
     @Override
     public int getWorkerId() {
         return workerId;
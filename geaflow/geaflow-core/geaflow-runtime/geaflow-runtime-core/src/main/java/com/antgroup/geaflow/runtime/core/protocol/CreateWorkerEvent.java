@@ -45,7 +45,9 @@ public class CreateWorkerEvent implements IExecutableCommand, IHighAvailableEven
 
     @Override
     public void execute(ITaskContext context) {
-        context.registerWorker(new ComputeWorker());
+        ComputeWorker worker = new ComputeWorker();
+        worker.getInputReader().init(context.getConfig(), context.getMetricGroup(), workerId);
+        context.registerWorker(worker);
         LOGGER.info("create worker {} worker Id {}", context.getWorker(), workerId);
     }
 
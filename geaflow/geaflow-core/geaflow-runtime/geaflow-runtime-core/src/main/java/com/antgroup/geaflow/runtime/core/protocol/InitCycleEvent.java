@@ -78,6 +78,7 @@ public class InitCycleEvent extends AbstractInitCommand implements IHighAvailabl
             .withWindowId(iterationWindowId)
             .build();
         workerContext.init(eventContext);
+        resetInput();
         if (!(ExecutionTaskUtils.isCycleHead(workerContext.getExecutionTask())
                 && ioDescriptor.getInputTaskNum() == 0)) {
             initFetchRequest(ioDescriptor, pipelineId, pipelineName);
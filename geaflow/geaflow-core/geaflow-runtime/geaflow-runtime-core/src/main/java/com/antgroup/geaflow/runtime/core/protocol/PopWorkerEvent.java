@@ -61,6 +61,7 @@ public class PopWorkerEvent extends AbstractInitCommand implements IExecutableCo
         emitterRunner.add(new CloseEmitterRequest());
 
         AbstractWorkerContext workerContext = (AbstractWorkerContext) context;
+        resetInput();
         if (!(ExecutionTaskUtils.isCycleHead(workerContext.getExecutionTask())
             && ioDescriptor.getInputTaskNum() == 0)) {
             initFetchRequest(ioDescriptor, pipelineId, pipelineName);
@@ -30,6 +30,7 @@ import com.antgroup.geaflow.common.metric.PipelineMetrics;
 import com.antgroup.geaflow.core.graph.ExecutionEdge;
 import com.antgroup.geaflow.runtime.core.protocol.CleanEnvEvent;
 import com.antgroup.geaflow.runtime.core.protocol.CleanStashEnvEvent;
+import com.antgroup.geaflow.runtime.core.protocol.ComposeEvent;
 import com.antgroup.geaflow.runtime.core.protocol.DoneEvent;
 import com.antgroup.geaflow.runtime.core.scheduler.context.AbstractCycleSchedulerContext;
 import com.antgroup.geaflow.runtime.core.scheduler.context.CycleSchedulerContextFactory;
@@ -261,7 +262,12 @@ public class ExecutionGraphCycleScheduler<R> extends AbstractCycleScheduler impl
 
         @Override
         public void dispatch(IEvent event) throws GeaflowDispatchException {
-            if (event instanceof ICycleResponseEvent) {
+            if (event.getEventType() == EventType.COMPOSE) {
+                // The done events responded by the workers of a container may be composed.
+                for (IEvent e : ((ComposeEvent) event).getEventList()) {
+                    dispatch(e);
+                }
+            } else if (event instanceof ICycleResponseEvent) {
                 ICycleResponseEvent callbackEvent = (ICycleResponseEvent) event;
 
                 if (cycleIdToScheduler.containsKey(callbackEvent.getCycleId())) {
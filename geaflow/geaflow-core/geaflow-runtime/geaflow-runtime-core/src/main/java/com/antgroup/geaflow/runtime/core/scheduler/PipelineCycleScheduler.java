@@ -23,9 +23,11 @@ import com.antgroup.geaflow.cluster.response.IResult;
 import com.antgroup.geaflow.cluster.rpc.RpcClient;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
 import com.antgroup.geaflow.common.metric.CycleMetrics;
+import com.antgroup.geaflow.common.metric.EventMetrics;
 import com.antgroup.geaflow.common.shuffle.DataExchangeMode;
 import com.antgroup.geaflow.common.utils.LoggerFormatter;
 import com.antgroup.geaflow.core.graph.ExecutionTask;
+import com.antgroup.geaflow.core.graph.util.ExecutionTaskUtils;
 import com.antgroup.geaflow.runtime.core.protocol.ComposeEvent;
 import com.antgroup.geaflow.runtime.core.protocol.DoneEvent;
 import com.antgroup.geaflow.runtime.core.scheduler.context.AbstractCycleSchedulerContext;
@@ -65,6 +67,8 @@ public class PipelineCycleScheduler<E>
     private Map<Integer, Long> taskIdToFinishedSourceIds;
     private long pipelineId;
     private boolean isIteration;
+    // Whether the cycle can terminate once no active record and message left.
+    private boolean terminable;
 
     private DataExchangeMode inputExchangeMode;
     private DataExchangeMode outputExchangeMode;
@@ -85,6 +89,10 @@ public class PipelineCycleScheduler<E>
         this.cycleLogTag = LoggerFormatter.getCycleTag(nodeCycle.getPipelineName(), nodeCycle.getCycleId());
         this.cycleTasks = nodeCycle.getTasks().stream().collect(Collectors.toMap(t -> t.getTaskId(), t -> t));
         this.isIteration = nodeCycle.getVertexGroup().getCycleGroupMeta().isIterative();
+        // Non-head tasks wait for the whole iterations, only terminate if all tasks are launched
+        // by iteration.
+        this.terminable = this.isIteration && nodeCycle.getTasks().stream()
+            .allMatch(t -> ExecutionTaskUtils.isCycleHead(t) && ExecutionTaskUtils.isCycleTail(t));
         this.pipelineId = nodeCycle.getPipelineId();
         this.resultManager = context.getResultManager();
 
@@ -173,6 +181,7 @@ public class PipelineCycleScheduler<E>
         } else {
             events = buildEvents(schedulerStates, iterationId);
         }
+        Map<String, List<IEvent>> containerToEvents = new LinkedHashMap<>();
         for (Map.Entry<Integer, IEvent> entry : events.entrySet()) {
             ExecutionTask task = cycleTasks.get(entry.getKey());
 
@@ -182,8 +191,26 @@ public class PipelineCycleScheduler<E>
                 task.getWorkerInfo().getWorkerIndex(), task.getWorkerInfo().getHost(),
                 task.getWorkerInfo().getProcessId());
 
-            RpcClient.getInstance().processContainer(task.getWorkerInfo().getContainerName(), entry.getValue());
+            containerToEvents.computeIfAbsent(task.getWorkerInfo().getContainerName(),
+                k -> new ArrayList<>()).add(entry.getValue());
         }
+        cycleMetrics.setScheduleRpcNum(submitEvents(containerToEvents));
+        cycleMetrics.setScheduleTime(System.currentTimeMillis() - cycleMetrics.getStartTime());
+    }
+
+    /**
+     * Submit the events of each container by one rpc, the container dispatches every basic
+     * event to its own worker.
+     *
+     * @return the number of rpc requests.
+     */
+    private int submitEvents(Map<String, List<IEvent>> containerToEvents) {
+        for (Map.Entry<String, List<IEvent>> entry : containerToEvents.entrySet()) {
+            List<IEvent> containerEvents = entry.getValue();
+            IEvent event = containerEvents.size() == 1 ? containerEvents.get(0) : new ComposeEvent(containerEvents);
+            RpcClient.getInstance().processContainer(entry.getKey(), event);
+        }
+        return containerToEvents.size();
     }
 
     private Map<Integer, IEvent> buildEvents(List<ICycleSchedulerContext.SchedulerState> states, long iterationId) {
@@ -236,6 +263,30 @@ public class PipelineCycleScheduler<E>
         collectEventMetrics(cycleMetrics, responses);
         StatsCollectorFactory.getInstance().getPipelineStatsCollector().reportCycleMetrics(cycleMetrics);
         LOGGER.info("{} finished iterationId {}, {}", iterationLogTag, iterationId, cycleMetrics);
+
+        if (terminable && isIterationTerminated(responses)) {
+            LOGGER.info("{} no active record and message left, terminate at iterationId {}",
+                iterationLogTag, iterationId);
+            ((AbstractCycleSchedulerContext) context).setTerminatedIterationId(iterationId);
+        }
+    }
+
+    /**
+     * Returns true if all tasks track the active records and messages, and none is left.
+     */
+    private boolean isIterationTerminated(List<IEvent> responses) {
+        long activeRecords = 0;
+        long messageRecords = 0;
+        for (IEvent response : responses) {
+            EventMetrics eventMetrics = ((DoneEvent) response).getEventMetrics();
+            if (eventMetrics == null || eventMetrics.getActiveRecords() < 0
+                || eventMetrics.getMessageRecords() < 0) {
+                return false;
+            }
+            activeRecords += eventMetrics.getActiveRecords();
+            messageRecords += eventMetrics.getMessageRecords();
+        }
+        return activeRecords == 0 && messageRecords == 0;
     }
 
     protected List<IResult> finish() {
@@ -245,11 +296,15 @@ public class PipelineCycleScheduler<E>
 
         Map<Integer, IEvent> events = eventBuilder.build(ICycleSchedulerContext.SchedulerState.FINISH,
             context.getCurrentIterationId());
+        Map<String, List<IEvent>> containerToEvents = new LinkedHashMap<>();
         for (Map.Entry<Integer, IEvent> entry : events.entrySet()) {
             ExecutionTask task = cycleTasks.get(entry.getKey());
-            RpcClient.getInstance().processContainer(task.getWorkerInfo().getContainerName(), entry.getValue());
+            containerToEvents.computeIfAbsent(task.getWorkerInfo().getContainerName(),
+                k -> new ArrayList<>()).add(entry.getValue());
             LOGGER.info("{} submit finish event {} ", finishLogTag, entry);
         }
+        cycleMetrics.setScheduleRpcNum(submitEvents(containerToEvents));
+        cycleMetrics.setScheduleTime(System.currentTimeMillis() - cycleMetrics.getStartTime());
 
         // Need receive all tail responses.
         int responseCount = 0;
@@ -16,19 +16,99 @@ package com.antgroup.geaflow.runtime.core.scheduler;
 
 import com.antgroup.geaflow.cluster.protocol.IEvent;
 import com.antgroup.geaflow.cluster.rpc.RpcClient;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.runtime.core.protocol.ComposeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PipelineMaster {
 
+    // The workers of one container share the sender of a driver.
+    private static final Map<String, EventBatchSender> SENDERS = new ConcurrentHashMap<>();
+
     private String driverId;
 
     public PipelineMaster(String driverId) {
         this.driverId = driverId;
     }
-    
+
     /**
      * Send event to scheduler in worker.
+     * The events sent by the workers of a container at the same time are composed into one rpc.
      */
     public void send(IEvent event) {
-        RpcClient.getInstance().processPipeline(driverId, event);
+        SENDERS.computeIfAbsent(driverId, EventBatchSender::new).send(event);
+    }
+
+    /**
+     * Group commit of the events sent to a driver. The first sender sends the events added so far
+     * and blocks until the rpc finished, the events added meanwhile are sent by one of their
+     * senders after that. Every sender returns after its own event is sent, or throws the
+     * exception of the rpc which sent its event.
+     */
+    private static class EventBatchSender {
+
+        private final String driverId;
+
+        private EventBatch openBatch = new EventBatch();
+
+        private boolean sending;
+
+        public EventBatchSender(String driverId) {
+            this.driverId = driverId;
+        }
+
+        public void send(IEvent event) {
+            EventBatch batch;
+            synchronized (this) {
+                batch = openBatch;
+                batch.events.add(event);
+                while (!batch.done && sending) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new GeaflowRuntimeException(e);
+                    }
+                }
+                if (batch.done) {
+                    batch.checkError();
+                    return;
+                }
+                sending = true;
+                openBatch = new EventBatch();
+            }
+            try {
+                List<IEvent> events = batch.events;
+                IEvent request = events.size() == 1 ? events.get(0) : new ComposeEvent(events);
+                RpcClient.getInstance().processPipeline(driverId, request);
+            } catch (Throwable t) {
+                batch.error = t;
+            } finally {
+                synchronized (this) {
+                    batch.done = true;
+                    sending = false;
+                    notifyAll();
+                }
+            }
+            batch.checkError();
+        }
+    }
+
+    private static class EventBatch {
+
+        private final List<IEvent> events = new ArrayList<>();
+
+        private boolean done;
+
+        private Throwable error;
+
+        private void checkError() {
+            if (error != null) {
+                throw new GeaflowRuntimeException(error);
+            }
+        }
     }
 }
@@ -173,6 +173,17 @@ public abstract class AbstractCycleSchedulerContext implements ICycleSchedulerCo
         allSourceFinishIterationId = iterationId;
     }
 
+    /**
+     * Terminate the cycle after the iteration, no more iteration will be launched.
+     */
+    public void setTerminatedIterationId(long iterationId) {
+        if (iterationId < finishIterationId) {
+            LOGGER.info("cycle {} terminated at iterationId {}, finishIterationId {}",
+                cycle.getPipelineName(), iterationId, finishIterationId);
+            finishIterationId = iterationId;
+        }
+    }
+
     public void setCallbackFunction(ICallbackFunction callbackFunction) {
         this.callbackFunction = callbackFunction;
     }
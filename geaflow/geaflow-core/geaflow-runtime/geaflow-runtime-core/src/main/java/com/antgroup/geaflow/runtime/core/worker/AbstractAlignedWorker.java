@@ -45,15 +45,21 @@ public abstract class AbstractAlignedWorker<O> implements IWorker<BatchRecord, O
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractAlignedWorker.class);
 
+    private static final int INPUT_BATCH_SIZE = 64;
+
     protected AbstractWorkerContext context;
     protected InputReader inputReader;
     protected OutputWriter outputWriter;
     protected Map<Long, Long> windowCount;
     protected Map<Long, List<PipelineMessage>> windowMessageCache;
     protected volatile boolean running;
+    // messages taken from the input reader in a batch and not processed yet.
+    private final List<Message> pendingInputs;
+    private int pendingIndex;
 
     public AbstractAlignedWorker() {
         this.inputReader = new InputReader();
+        this.pendingInputs = new ArrayList<>(INPUT_BATCH_SIZE);
         this.outputWriter = new OutputWriter();
         this.windowCount = new HashMap<>();
         this.windowMessageCache = new HashMap();
@@ -75,6 +81,15 @@ public abstract class AbstractAlignedWorker<O> implements IWorker<BatchRecord, O
         return inputReader;
     }
 
+    /**
+     * Drop the input not processed yet, including messages still buffered in the input reader.
+     */
+    public void resetInput() {
+        inputReader.reset();
+        pendingInputs.clear();
+        pendingIndex = 0;
+    }
+
     public OutputWriter getOutputWriter() {
         return outputWriter;
     }
@@ -87,7 +102,7 @@ public abstract class AbstractAlignedWorker<O> implements IWorker<BatchRecord, O
         long processedWindowCount = 0;
         while (processedWindowCount < totalWindowCount && running) {
             try {
-                Message input = inputReader.poll(100, TimeUnit.MILLISECONDS);
+                Message input = nextInput();
                 if (input != null) {
                     long windowId = input.getWindowId();
                     if (input.getMessage() != null) {
@@ -109,6 +124,21 @@ public abstract class AbstractAlignedWorker<O> implements IWorker<BatchRecord, O
         }
     }
 
+    /**
+     * Returns the next input message, messages are taken from the input reader in batches and
+     * the rest of a batch is kept for the next window.
+     */
+    private Message nextInput() {
+        if (pendingIndex == pendingInputs.size()) {
+            pendingInputs.clear();
+            pendingIndex = 0;
+            if (inputReader.drainTo(pendingInputs, INPUT_BATCH_SIZE, 100, TimeUnit.MILLISECONDS) == 0) {
+                return null;
+            }
+        }
+        return pendingInputs.get(pendingIndex++);
+    }
+
     /**
      * Tell scheduler finish and send back response to scheduler.
      */
@@ -247,5 +277,7 @@ public abstract class AbstractAlignedWorker<O> implements IWorker<BatchRecord, O
         }
         windowCount.clear();
         windowMessageCache.clear();
+        pendingInputs.clear();
+        pendingIndex = 0;
     }
 }
@@ -15,25 +15,115 @@
 package com.antgroup.geaflow.runtime.core.worker;
 
 import com.antgroup.geaflow.cluster.protocol.Message;
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
-
+import com.antgroup.geaflow.metrics.common.MetricNameFormatter;
+import com.antgroup.geaflow.metrics.common.api.Gauge;
+import com.antgroup.geaflow.metrics.common.api.Histogram;
+import com.antgroup.geaflow.metrics.common.api.MetricGroup;
 import java.io.Serializable;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class InputReader implements Serializable {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(InputReader.class);
+
     private LinkedBlockingQueue<Message> inputQueue;
+    // bounded queue, the fetcher blocks in add once the buffered bytes exceed the capacity.
+    private transient SpscInputQueue<Message> boundedQueue;
+    // epoch of the unbounded queue, the bounded queue tracks its own.
+    private final AtomicInteger epoch = new AtomicInteger();
+
+    private transient Gauge<Integer> queueSizeGauge;
+    private transient Gauge<Long> queueBytesGauge;
+    private transient Histogram blockedHistogram;
 
     public InputReader() {
         this.inputQueue = new LinkedBlockingQueue<>();
     }
 
+    /**
+     * Switch to the bounded queue if a capacity is configured, called before any message
+     * is added.
+     */
+    public void init(Configuration config, MetricGroup metricGroup, int workerId) {
+        long capacityBytes = config.getLong(ExecutionConfigKeys.WORKER_INPUT_QUEUE_CAPACITY_BYTES);
+        if (capacityBytes <= 0) {
+            return;
+        }
+        int slotNum = config.getInteger(ExecutionConfigKeys.WORKER_INPUT_QUEUE_SLOT_NUM);
+        this.boundedQueue = new SpscInputQueue<>(slotNum, capacityBytes);
+        this.queueSizeGauge = metricGroup.gauge(MetricNameFormatter.inputQueueSizeMetricName(workerId));
+        this.queueBytesGauge = metricGroup.gauge(MetricNameFormatter.inputQueueBytesMetricName(workerId));
+        this.blockedHistogram = metricGroup.histogram(
+            MetricNameFormatter.inputQueueBlockedMetricName(workerId));
+        LOGGER.info("worker {} input queue capacity {} bytes, {} slots", workerId, capacityBytes,
+            slotNum);
+    }
+
     /**
      * Add message into input queue.
      */
     public void add(Message message) {
-        inputQueue.add(message);
+        add(message, getEpoch());
+    }
+
+    /**
+     * Add message of the given epoch into input queue, the message is dropped if the epoch
+     * is cancelled.
+     */
+    public void add(Message message, int messageEpoch) {
+        if (boundedQueue == null) {
+            if (messageEpoch == epoch.get()) {
+                inputQueue.add(message);
+            }
+            return;
+        }
+        long bytes = message.getMessage() == null ? 0 : message.getMessage().getEncodedSize();
+        try {
+            long blockedNanos = boundedQueue.put(message, bytes, messageEpoch);
+            if (blockedNanos > 0) {
+                blockedHistogram.update(TimeUnit.NANOSECONDS.toMillis(blockedNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeaflowRuntimeException(e);
+        }
+    }
+
+    public int getEpoch() {
+        return boundedQueue == null ? epoch.get() : boundedQueue.getEpoch();
+    }
+
+    /**
+     * Cancel the current epoch, messages added by it are dropped from now on and a fetcher
+     * waiting for room in the bounded queue gives up.
+     */
+    public void cancel() {
+        if (boundedQueue == null) {
+            epoch.incrementAndGet();
+        } else {
+            boundedQueue.cancel();
+        }
+    }
+
+    /**
+     * Cancel the current epoch and drop the buffered messages, called by the worker thread when
+     * the worker is initialized for a new cycle.
+     */
+    public void reset() {
+        cancel();
+        if (boundedQueue == null) {
+            inputQueue.clear();
+        } else {
+            boundedQueue.clear();
+        }
     }
 
     /**
@@ -48,4 +138,29 @@ public class InputReader implements Serializable {
         }
         return message;
     }
+
+    /**
+     * Move at most maxMessages messages from input queue into the list, wait up to the
+     * timeout if there is no message.
+     *
+     * @return number of messages moved.
+     */
+    public int drainTo(List<Message> messages, int maxMessages, long timeout, TimeUnit unit) {
+        try {
+            if (boundedQueue != null) {
+                int num = boundedQueue.drainTo(messages, maxMessages, timeout, unit);
+                queueSizeGauge.setValue(boundedQueue.size());
+                queueBytesGauge.setValue(boundedQueue.getBufferedBytes());
+                return num;
+            }
+            Message message = inputQueue.poll(timeout, unit);
+            if (message == null) {
+                return 0;
+            }
+            messages.add(message);
+            return 1 + inputQueue.drainTo(messages, maxMessages - 1);
+        } catch (Throwable t) {
+            throw new GeaflowRuntimeException(t);
+        }
+    }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.runtime.core.worker;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock free ring buffer with a single producer thread and a single consumer thread, bounded by
+ * both the slot number and the bytes of buffered elements. The producer parks while the queue
+ * is full, the consumer takes elements in batches.
+ */
+public class SpscInputQueue<T> {
+
+    // upper bound of a single park, so that a missed wake up only delays.
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Object[] elements;
+    private final long[] sizes;
+    private final int mask;
+    private final long capacityBytes;
+
+    // next slot to read, only written by the consumer.
+    private final AtomicLong head = new AtomicLong();
+    // next slot to write, only written by the producer.
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    // bumped on cancel, a put of an older epoch gives up and drops its element.
+    private final AtomicInteger epoch = new AtomicInteger();
+
+    private volatile Thread waitingProducer;
+    private volatile Thread waitingConsumer;
+
+    public SpscInputQueue(int slotNum, long capacityBytes) {
+        Preconditions.checkArgument(slotNum > 0 && (slotNum & (slotNum - 1)) == 0,
+            "slot num must be a power of 2: %s", slotNum);
+        Preconditions.checkArgument(capacityBytes > 0, "capacity must be positive");
+        this.elements = new Object[slotNum];
+        this.sizes = new long[slotNum];
+        this.mask = slotNum - 1;
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Add the element, wait until there is room for it. An element larger than the capacity
+     * is accepted once the queue is empty.
+     *
+     * @return nanos the producer was blocked.
+     */
+    public long put(T element, long bytes) throws InterruptedException {
+        return put(element, bytes, epoch.get());
+    }
+
+    /**
+     * Add the element of the given epoch, wait until there is room for it or the epoch is
+     * cancelled.
+     *
+     * @return nanos the producer was blocked, or -1 if the element is dropped because its epoch
+     *     is cancelled.
+     */
+    public long put(T element, long bytes, int elementEpoch) throws InterruptedException {
+        if (elementEpoch != epoch.get()) {
+            return -1;
+        }
+        long blockedNanos = 0;
+        if (!hasRoom(bytes)) {
+            long start = System.nanoTime();
+            while (!hasRoom(bytes)) {
+                waitingProducer = Thread.currentThread();
+                if (!hasRoom(bytes) && elementEpoch == epoch.get()) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                waitingProducer = null;
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (elementEpoch != epoch.get()) {
+                    return -1;
+                }
+            }
+            blockedNanos = System.nanoTime() - start;
+            // the room may come from a clear after the cancel.
+            if (elementEpoch != epoch.get()) {
+                return -1;
+            }
+        }
+        long t = tail.get();
+        int index = (int) t & mask;
+        elements[index] = element;
+        sizes[index] = bytes;
+        bufferedBytes.addAndGet(bytes);
+        tail.set(t + 1);
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+        return blockedNanos;
+    }
+
+    /**
+     * Move at most maxElements elements into the list, wait up to the timeout if the queue is
+     * empty.
+     *
+     * @return number of elements moved.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super T> list, int maxElements, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        long h = head.get();
+        long available = tail.get() - h;
+        if (available == 0) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (available == 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return 0;
+                }
+                waitingConsumer = Thread.currentThread();
+                if (tail.get() == h) {
+                    LockSupport.parkNanos(this, Math.min(remaining, MAX_PARK_NANOS));
+                }
+                waitingConsumer = null;
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                available = tail.get() - h;
+            }
+        }
+        int num = (int) Math.min(available, maxElements);
+        long freedBytes = 0;
+        for (int i = 0; i < num; i++) {
+            int index = (int) (h + i) & mask;
+            list.add((T) elements[index]);
+            elements[index] = null;
+            freedBytes += sizes[index];
+        }
+        head.set(h + num);
+        bufferedBytes.addAndGet(-freedBytes);
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+        return num;
+    }
+
+    /**
+     * Cancel the current epoch and wake up a producer waiting for room, its element is dropped.
+     */
+    public void cancel() {
+        epoch.incrementAndGet();
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    public int getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Drop all buffered elements, must be called by the consumer thread.
+     */
+    public void clear() {
+        long h = head.get();
+        long t = tail.get();
+        long freedBytes = 0;
+        for (long i = h; i < t; i++) {
+            int index = (int) i & mask;
+            elements[index] = null;
+            freedBytes += sizes[index];
+        }
+        head.set(t);
+        bufferedBytes.addAndGet(-freedBytes);
+        Thread producer = waitingProducer;
+        if (producer != null) {
+            LockSupport.unpark(producer);
+        }
+    }
+
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    private boolean hasRoom(long bytes) {
+        if (tail.get() - head.get() > mask) {
+            return false;
+        }
+        long buffered = bufferedBytes.get();
+        return buffered <= 0 || buffered + bytes <= capacityBytes;
+    }
+}
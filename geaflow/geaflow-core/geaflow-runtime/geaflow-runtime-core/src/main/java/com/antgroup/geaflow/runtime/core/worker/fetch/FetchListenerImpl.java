@@ -22,9 +22,12 @@ import com.antgroup.geaflow.shuffle.message.PipelineMessage;
 public class FetchListenerImpl implements FetchListener {
 
     private InputReader inputReader;
+    // messages fetched after the epoch is cancelled are dropped.
+    private final int epoch;
 
     public FetchListenerImpl(InputReader inputReader) {
         this.inputReader = inputReader;
+        this.epoch = inputReader.getEpoch();
     }
 
     /**
@@ -33,11 +36,18 @@ public class FetchListenerImpl implements FetchListener {
     @Override
     public void onMessage(PipelineMessage message) {
         long windowId = message.getWindowId();
-        inputReader.add(new Message(windowId, message));
+        inputReader.add(new Message(windowId, message), epoch);
     }
 
     @Override
     public void onCompleted(long windowId, long windowCount) {
-        inputReader.add(new Message(windowId, windowCount));
+        inputReader.add(new Message(windowId, windowCount), epoch);
+    }
+
+    @Override
+    public void onCancel() {
+        if (epoch == inputReader.getEpoch()) {
+            inputReader.cancel();
+        }
     }
 }
@@ -14,6 +14,7 @@
 
 package com.antgroup.geaflow.runtime.core.worker.impl;
 
+import com.antgroup.geaflow.api.trait.TerminationTrait;
 import com.antgroup.geaflow.api.trait.TransactionTrait;
 import com.antgroup.geaflow.cluster.worker.IAffinityWorker;
 import com.antgroup.geaflow.cluster.worker.IWorkerContext;
@@ -73,6 +74,11 @@ public class ComputeWorker<R> extends AbstractAlignedWorker<R> implements Transa
         eventMetrics.setFinishTime(System.currentTimeMillis() - startFinishTime);
         eventMetrics.setExecuteTime(System.currentTimeMillis() - eventMetrics.getStartTs());
         eventMetrics.setGcTime(GcUtil.computeCurrentTotalGcTime() - eventMetrics.getStartGcTs());
+        if (context.getProcessor() instanceof TerminationTrait) {
+            TerminationTrait processor = (TerminationTrait) context.getProcessor();
+            eventMetrics.setActiveRecords(processor.getActiveCount());
+            eventMetrics.setMessageRecords(processor.getMessageCount());
+        }
         finishWindow(context.getCurrentWindowId());
     }
 
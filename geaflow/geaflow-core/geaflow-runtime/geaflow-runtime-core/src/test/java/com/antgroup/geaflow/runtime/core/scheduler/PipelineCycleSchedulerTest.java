@@ -186,7 +186,44 @@ public class PipelineCycleSchedulerTest extends BaseCycleSchedulerTest {
         Assert.assertEquals(EventType.CLEAN_CYCLE, events.get(2).getEventType());
     }
 
+    @Test(priority = 2)
+    public void testComposeEventsPerContainer() {
+        PipelineCycleScheduler scheduler = new PipelineCycleScheduler();
+        processor.register(scheduler);
+        ShuffleManager.init(configuration);
+        ShuffleManager.getInstance().initShuffleMaster();
+        StatsCollectorFactory.init(configuration);
+
+        // All the mocked workers are on the same container.
+        CheckpointSchedulerContext context = new CheckpointSchedulerContext(buildMockCycle(configuration, 2), null);
+        scheduler.init(context);
+        scheduler.execute();
+        scheduler.close();
+
+        List<IEvent> events = new ArrayList<>();
+        for (IEvent event : processor.getProcessed()) {
+            if (event.getEventType() == EventType.COMPOSE
+                && ((ComposeEvent) event).getWorkerId() == ComposeEvent.ALL_WORKERS) {
+                events.add(event);
+            }
+        }
+        // One rpc for each iteration and one for the finish.
+        Assert.assertEquals(6, events.size());
+        for (IEvent event : events) {
+            Assert.assertEquals(2, ((ComposeEvent) event).getEventList().size());
+        }
+        List<IEvent> firstEvents = ((ComposeEvent) events.get(0)).getEventList();
+        Assert.assertEquals(EventType.COMPOSE, firstEvents.get(0).getEventType());
+        Assert.assertEquals(EventType.LAUNCH_SOURCE, ((ComposeEvent) firstEvents.get(1)).getEventList().get(1).getEventType());
+        Assert.assertEquals(EventType.LAUNCH_SOURCE, ((ComposeEvent) events.get(4)).getEventList().get(1).getEventType());
+        Assert.assertEquals(EventType.CLEAN_CYCLE, ((ComposeEvent) events.get(5)).getEventList().get(0).getEventType());
+    }
+
     private ExecutionNodeCycle buildMockCycle(Configuration configuration) {
+        return buildMockCycle(configuration, 1);
+    }
+
+    private ExecutionNodeCycle buildMockCycle(Configuration configuration, int parallelism) {
 
         long finishIterationId = 5;
         ExecutionVertexGroup vertexGroup = new ExecutionVertexGroup(1);
@@ -194,7 +231,7 @@ public class PipelineCycleSchedulerTest extends BaseCycleSchedulerTest {
         vertexGroup.getCycleGroupMeta().setIterationCount(finishIterationId);
         vertexGroup.getCycleGroupMeta().setIterative(false);
         ExecutionVertex vertex = new ExecutionVertex(0, "test");
-        vertex.setParallelism(1);
+        vertex.setParallelism(parallelism);
         vertexGroup.getVertexMap().put(0, vertex);
         vertexGroup.putVertexId2InEdgeIds(0, new ArrayList<>());
         vertexGroup.putVertexId2OutEdgeIds(0, new ArrayList<>());
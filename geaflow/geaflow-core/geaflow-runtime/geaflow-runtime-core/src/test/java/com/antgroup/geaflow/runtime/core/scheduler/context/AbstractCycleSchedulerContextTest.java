@@ -122,6 +122,27 @@ public class AbstractCycleSchedulerContextTest extends BaseCycleSchedulerContext
         Assert.assertEquals(checkpointId + 1, newContext.getCurrentIterationId());
     }
 
+    @Test
+    public void testTerminateIteration() {
+        ExecutionNodeCycle cycle = buildMockCycle(true);
+        CheckpointSchedulerContext context = new CheckpointSchedulerContext(cycle, null);
+        Assert.assertEquals(100, context.getFinishIterationId());
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(context.hasNextIteration());
+            context.getNextIterationId();
+            context.getNextFinishIterationId();
+        }
+        context.setTerminatedIterationId(5);
+        Assert.assertEquals(5, context.getFinishIterationId());
+        Assert.assertFalse(context.hasNextIteration());
+        Assert.assertTrue(context.isCycleFinished());
+
+        // Never extend the finish iteration.
+        context.setTerminatedIterationId(10);
+        Assert.assertEquals(5, context.getFinishIterationId());
+    }
+
     private ExecutionNodeCycle buildMockCycle(boolean isIterative) {
         Configuration configuration = new Configuration();
         configuration.put(JOB_UNIQUE_ID, "test-scheduler-context");
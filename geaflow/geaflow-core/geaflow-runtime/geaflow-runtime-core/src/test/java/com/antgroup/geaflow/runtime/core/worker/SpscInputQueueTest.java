@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.runtime.core.worker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SpscInputQueueTest {
+
+    @Test
+    public void testBoundedBytes() throws Exception {
+        SpscInputQueue<Integer> queue = new SpscInputQueue<>(16, 100);
+        Assert.assertEquals(queue.put(1, 60), 0);
+        Assert.assertEquals(queue.getBufferedBytes(), 60);
+
+        // the second element exceeds the capacity, the producer waits for the consumer.
+        CompletableFuture<Long> blocked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.put(2, 60);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        Assert.assertFalse(blocked.isDone());
+
+        List<Integer> list = new ArrayList<>();
+        Assert.assertEquals(queue.drainTo(list, 10, 1, TimeUnit.SECONDS), 1);
+        Assert.assertTrue(blocked.get(1, TimeUnit.SECONDS) > 0);
+        Assert.assertEquals(queue.drainTo(list, 10, 1, TimeUnit.SECONDS), 1);
+        Assert.assertEquals(list.size(), 2);
+        Assert.assertEquals(queue.getBufferedBytes(), 0);
+
+        // an element larger than the capacity is accepted by an empty queue.
+        Assert.assertEquals(queue.put(3, 1000), 0);
+        Assert.assertEquals(queue.drainTo(list, 10, 1, TimeUnit.SECONDS), 1);
+        Assert.assertEquals(queue.drainTo(list, 10, 10, TimeUnit.MILLISECONDS), 0);
+    }
+
+    @Test
+    public void testCancelWakesUpProducer() throws Exception {
+        SpscInputQueue<Integer> queue = new SpscInputQueue<>(16, 100);
+        int epoch = queue.getEpoch();
+        Assert.assertEquals(queue.put(1, 100, epoch), 0);
+
+        // the producer waits for room until the epoch is cancelled, then drops the element.
+        CompletableFuture<Long> blocked = CompletableFuture.supplyAsync(() -> {
+            try {
+                return queue.put(2, 100, epoch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(100);
+        Assert.assertFalse(blocked.isDone());
+        queue.cancel();
+        Assert.assertEquals(blocked.get(1, TimeUnit.SECONDS).longValue(), -1L);
+        Assert.assertEquals(queue.size(), 1);
+
+        // elements of the cancelled epoch are dropped, the new epoch is accepted.
+        Assert.assertEquals(queue.put(3, 10, epoch), -1);
+        queue.clear();
+        Assert.assertEquals(queue.size(), 0);
+        Assert.assertEquals(queue.getBufferedBytes(), 0);
+        Assert.assertEquals(queue.put(4, 10, queue.getEpoch()), 0);
+        List<Integer> list = new ArrayList<>();
+        Assert.assertEquals(queue.drainTo(list, 10, 1, TimeUnit.SECONDS), 1);
+        Assert.assertEquals(list.get(0).intValue(), 4);
+    }
+
+    @Test
+    public void testProduceAndConsume() throws Exception {
+        int total = 100000;
+        SpscInputQueue<Integer> queue = new SpscInputQueue<>(64, 1024);
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try {
+                for (int i = 0; i < total; i++) {
+                    queue.put(i, 10);
+                }
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        List<Integer> batch = new ArrayList<>();
+        int expected = 0;
+        while (expected < total) {
+            batch.clear();
+            queue.drainTo(batch, 32, 1, TimeUnit.SECONDS);
+            Assert.assertTrue(batch.size() <= 32);
+            for (int value : batch) {
+                Assert.assertEquals(value, expected++);
+            }
+        }
+        producer.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(queue.size(), 0);
+        Assert.assertEquals(queue.getBufferedBytes(), 0);
+    }
+}
@@ -51,6 +51,7 @@ public class GeaFlowGraph extends AbstractTable implements Serializable {
     private final Map<String, String> config;
     private final boolean isStatic;
     private final boolean ifNotExists;
+    private GraphStatistic graphStatistic;
 
     public GeaFlowGraph(String instanceName, String name, List<VertexTable> vertexTables,
                         List<EdgeTable> edgeTables, Map<String, String> config,
@@ -139,6 +140,17 @@ public class GeaFlowGraph extends AbstractTable implements Serializable {
         return isStatic;
     }
 
+    /**
+     * Get the statistics collected by "ANALYZE GRAPH", return null if the graph has not been analyzed.
+     */
+    public GraphStatistic getGraphStatistic() {
+        return graphStatistic;
+    }
+
+    public void setGraphStatistic(GraphStatistic graphStatistic) {
+        this.graphStatistic = graphStatistic;
+    }
+
     public IType<?> getIdType() {
         VertexTable vertexTable = vertexTables.iterator().next();
         return vertexTable.getIdField().getType();
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.schema;
+
+import com.google.common.base.Preconditions;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The statistics of a graph collected by "ANALYZE GRAPH", including the count of each vertex
+ * and edge label, the degree histograms of the edges and the NDV of the properties.
+ */
+public class GraphStatistic implements Serializable {
+
+    private final Map<String, VertexStatistic> vertexStatistics = new HashMap<>();
+
+    private final Map<String, EdgeStatistic> edgeStatistics = new HashMap<>();
+
+    public GraphStatistic addVertexStatistic(VertexStatistic statistic) {
+        vertexStatistics.put(statistic.getLabel(), statistic);
+        return this;
+    }
+
+    public GraphStatistic addEdgeStatistic(EdgeStatistic statistic) {
+        edgeStatistics.put(statistic.getLabel(), statistic);
+        return this;
+    }
+
+    public VertexStatistic getVertexStatistic(String label) {
+        return vertexStatistics.get(label);
+    }
+
+    public EdgeStatistic getEdgeStatistic(String label) {
+        return edgeStatistics.get(label);
+    }
+
+    public Collection<VertexStatistic> getVertexStatistics() {
+        return Collections.unmodifiableCollection(vertexStatistics.values());
+    }
+
+    public Collection<EdgeStatistic> getEdgeStatistics() {
+        return Collections.unmodifiableCollection(edgeStatistics.values());
+    }
+
+    @Override
+    public String toString() {
+        return "GraphStatistic{"
+            + "vertexStatistics=" + vertexStatistics.values()
+            + ", edgeStatistics=" + edgeStatistics.values()
+            + '}';
+    }
+
+    public abstract static class ElementStatistic implements Serializable {
+
+        private final String label;
+
+        private final long count;
+
+        // field name -> number of distinct values.
+        private final Map<String, Long> fieldNdv;
+
+        protected ElementStatistic(String label, long count, Map<String, Long> fieldNdv) {
+            this.label = Objects.requireNonNull(label);
+            this.count = count;
+            this.fieldNdv = new HashMap<>(fieldNdv);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Get the number of distinct values of the field, return -1 if it is unknown.
+         */
+        public long getNdv(String fieldName) {
+            Long ndv = fieldNdv.get(fieldName);
+            return ndv == null ? -1L : ndv;
+        }
+
+        public Map<String, Long> getFieldNdv() {
+            return Collections.unmodifiableMap(fieldNdv);
+        }
+    }
+
+    public static class VertexStatistic extends ElementStatistic {
+
+        public VertexStatistic(String label, long count, Map<String, Long> fieldNdv) {
+            super(label, count, fieldNdv);
+        }
+
+        @Override
+        public String toString() {
+            return "VertexStatistic{"
+                + "label='" + getLabel() + '\''
+                + ", count=" + getCount()
+                + ", fieldNdv=" + getFieldNdv()
+                + '}';
+        }
+    }
+
+    public static class EdgeStatistic extends ElementStatistic {
+
+        private final DegreeHistogram outDegree;
+
+        private final DegreeHistogram inDegree;
+
+        public EdgeStatistic(String label, long count, Map<String, Long> fieldNdv,
+                             DegreeHistogram outDegree, DegreeHistogram inDegree) {
+            super(label, count, fieldNdv);
+            this.outDegree = Objects.requireNonNull(outDegree);
+            this.inDegree = Objects.requireNonNull(inDegree);
+        }
+
+        /**
+         * The out degree histogram of the source vertices.
+         */
+        public DegreeHistogram getOutDegree() {
+            return outDegree;
+        }
+
+        /**
+         * The in degree histogram of the target vertices.
+         */
+        public DegreeHistogram getInDegree() {
+            return inDegree;
+        }
+
+        @Override
+        public String toString() {
+            return "EdgeStatistic{"
+                + "label='" + getLabel() + '\''
+                + ", count=" + getCount()
+                + ", fieldNdv=" + getFieldNdv()
+                + ", outDegree=" + outDegree
+                + ", inDegree=" + inDegree
+                + '}';
+        }
+    }
+
+    /**
+     * Histogram of the vertex degrees with log2 buckets, the i-th bucket counts the vertices
+     * whose degree is in [2^i, 2^(i+1)).
+     */
+    public static class DegreeHistogram implements Serializable {
+
+        private static final int NUM_BUCKETS = 64;
+
+        private final long[] buckets = new long[NUM_BUCKETS];
+
+        private long vertexCount;
+
+        private long degreeSum;
+
+        private long maxDegree;
+
+        /**
+         * Add the vertices with the same degree to the histogram.
+         * @param degree The degree of the vertices.
+         * @param numVertices The number of the vertices.
+         */
+        public DegreeHistogram add(long degree, long numVertices) {
+            Preconditions.checkArgument(degree > 0, "Illegal degree: " + degree);
+            buckets[NUM_BUCKETS - 1 - Long.numberOfLeadingZeros(degree)] += numVertices;
+            vertexCount += numVertices;
+            degreeSum += degree * numVertices;
+            maxDegree = Math.max(maxDegree, degree);
+            return this;
+        }
+
+        /**
+         * The number of the vertices which have at least one edge.
+         */
+        public long getVertexCount() {
+            return vertexCount;
+        }
+
+        public long getMaxDegree() {
+            return maxDegree;
+        }
+
+        public double getAvgDegree() {
+            return vertexCount == 0 ? 0 : (double) degreeSum / vertexCount;
+        }
+
+        /**
+         * Get the upper bound of the degree for the given quantile of the vertices.
+         */
+        public long getQuantile(double quantile) {
+            Preconditions.checkArgument(quantile >= 0 && quantile <= 1, "Illegal quantile: " + quantile);
+            long rank = (long) Math.ceil(quantile * vertexCount);
+            long accumulate = 0;
+            for (int i = 0; i < NUM_BUCKETS; i++) {
+                accumulate += buckets[i];
+                if (accumulate >= rank && buckets[i] > 0) {
+                    long upperBound = i < NUM_BUCKETS - 1 ? (1L << (i + 1)) - 1 : Long.MAX_VALUE;
+                    return Math.min(maxDegree, upperBound);
+                }
+            }
+            return maxDegree;
+        }
+
+        @Override
+        public String toString() {
+            return "DegreeHistogram{"
+                + "vertexCount=" + vertexCount
+                + ", avgDegree=" + getAvgDegree()
+                + ", maxDegree=" + maxDegree
+                + '}';
+        }
+    }
+}
@@ -51,24 +51,32 @@ public class TextDeserializer implements TableDeserializer<String> {
         if (text == null || text.isEmpty()) {
             return Collections.emptyList();
         }
+        if (!text.contains(lineSeparator)) {
+            // The common case for line based sources which fetch one line per record.
+            return Collections.singletonList(deserializeLine(text));
+        }
         List<Row> rows = new ArrayList<>();
         String[] lines = StringUtils.splitByWholeSeparator(text, lineSeparator);
         for (String line : lines) {
             if (line.isEmpty() && schema.size() >= 1) {
                 continue;
             }
-            String[] fields = StringUtils.splitByWholeSeparatorPreserveAllTokens(line, columnSeparator);
-            if (schema.size() != fields.length) {
-                throw new GeaFlowDSLException("Data fields size:{}, is not equal to the schema size:{}",
-                    fields.length, schema.size());
-            }
-            Object[] values = new Object[schema.size()];
-            for (int i = 0; i < values.length; i++) {
-                String trimField = isColumnTrim ? StringUtils.trim(fields[i]) : fields[i];
-                values[i] = TypeCastUtil.cast(trimField, schema.getType(i));
-            }
-            rows.add(ObjectRow.create(values));
+            rows.add(deserializeLine(line));
         }
         return rows;
     }
+
+    private Row deserializeLine(String line) {
+        String[] fields = StringUtils.splitByWholeSeparatorPreserveAllTokens(line, columnSeparator);
+        if (schema.size() != fields.length) {
+            throw new GeaFlowDSLException("Data fields size:{}, is not equal to the schema size:{}",
+                fields.length, schema.size());
+        }
+        Object[] values = new Object[schema.size()];
+        for (int i = 0; i < values.length; i++) {
+            String trimField = isColumnTrim ? StringUtils.trim(fields[i]) : fields[i];
+            values[i] = TypeCastUtil.cast(trimField, schema.getType(i));
+        }
+        return ObjectRow.create(values);
+    }
 }
@@ -14,13 +14,21 @@
 
 package com.antgroup.geaflow.dsl.connector.file.source;
 
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ConnectorConfigKeys;
+import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
 import com.antgroup.geaflow.dsl.connector.api.FetchData;
+import com.antgroup.geaflow.dsl.connector.api.Partition;
 import com.antgroup.geaflow.dsl.connector.api.Windows;
 import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileOffset;
 import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileSplit;
-import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,49 +36,81 @@ public abstract class AbstractFileReadHandler implements FileReadHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFileReadHandler.class);
 
-    protected abstract BufferedReader getPartitionReader(FileSplit split, FileOffset offset);
+    protected String lineSeparator;
+
+    protected long splitSize;
+
+    private Map<FileSplit, LineSplitReader> readers;
 
     @Override
-    public FetchData<String> readPartition(FileSplit split, FileOffset offset, long size) throws IOException {
-        BufferedReader reader = getPartitionReader(split, offset);
+    public void init(Configuration conf, String path) {
+        this.lineSeparator = conf.getString(ConnectorConfigKeys.GEAFLOW_DSL_LINE_SEPARATOR);
+        this.splitSize = conf.getLong(ConnectorConfigKeys.GEAFLOW_DSL_FILE_SPLIT_SIZE);
+        this.readers = new HashMap<>();
+    }
 
-        String readContent;
-        long nextOffset;
-        boolean isFinished;
-        if (size == Windows.SIZE_OF_ALL_WINDOW) { // read all data from file
-            StringBuilder content = new StringBuilder();
-            char[] buffer = new char[1024];
-            int readSize;
-            int totalRead = 0;
-            while ((readSize = reader.read(buffer)) != -1) {
-                content.append(buffer, 0, readSize);
-                totalRead += readSize;
-            }
-            readContent = content.toString();
-            nextOffset = totalRead;
-            isFinished = true;
-        } else {
-            nextOffset = offset.getOffset();
-            StringBuilder lines = new StringBuilder();
-            int i;
-            for (i = 0; i < size; i++) {
-                String line = reader.readLine();
-                if (line == null ) {
-                    if (lines.length() > 0) {
-                        lines.deleteCharAt(lines.length() - 1);
-                    }
-                    break;
-                }
-                if (i != size - 1) {
-                    line = line + "\n";
-                }
-                lines.append(line);
-                nextOffset += line.length();
+    /**
+     * Open the input stream of the split file positioned at the byte offset.
+     */
+    protected abstract InputStream openInputStream(FileSplit split, long position) throws IOException;
+
+    /**
+     * Split the file into byte ranges of the split size.
+     */
+    protected List<Partition> splitFile(String baseDir, String relativePath, long fileLength) {
+        if (splitSize <= 0 || fileLength <= splitSize) {
+            return Collections.singletonList(new FileSplit(baseDir, relativePath));
+        }
+        List<Partition> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += splitSize) {
+            long length = Math.min(splitSize, fileLength - start);
+            splits.add(new FileSplit(baseDir, relativePath, start, length));
+        }
+        return splits;
+    }
+
+    protected LineSplitReader getPartitionReader(FileSplit split, FileOffset offset) {
+        try {
+            LineSplitReader reader = readers.get(split);
+            if (reader == null) {
+                long position = LineSplitReader.getOpenPosition(
+                    Math.max(offset.getOffset(), split.getStart()), split.getStart(), lineSeparator);
+                InputStream inputStream = openInputStream(split, position);
+                reader = new LineSplitReader(inputStream, position, split.getStart(),
+                    split.getEnd(), lineSeparator);
+                readers.put(split, reader);
             }
-            readContent = lines.toString();
-            isFinished = i < size;
+            return reader;
+        } catch (IOException e) {
+            throw new GeaFlowDSLException(e);
         }
+    }
+
+    @Override
+    public FetchData<String> readPartition(FileSplit split, FileOffset offset, long size) throws IOException {
+        LineSplitReader reader = getPartitionReader(split, offset);
+        long limit = size == Windows.SIZE_OF_ALL_WINDOW ? Long.MAX_VALUE : size;
+        List<String> lines = new ArrayList<>();
+        String line;
+        while (lines.size() < limit && (line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        boolean isFinished = !reader.hasNext();
+        return new FetchData<>(lines, new FileOffset(reader.getPosition()), isFinished);
+    }
 
-        return new FetchData<>(Collections.singletonList(readContent), new FileOffset(nextOffset), isFinished);
+    @Override
+    public void close() {
+        if (readers == null) {
+            return;
+        }
+        for (LineSplitReader reader : readers.values()) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                LOGGER.warn("Error in close reader", e);
+            }
+        }
+        readers.clear();
     }
 }
@@ -70,8 +70,8 @@ public class FileTableSource implements TableSource {
         if (this.fileNameRegex != null) {
             List<Partition> filterPartitions = new ArrayList<>();
             for (Partition partition : allPartitions) {
-                if (!partition.getName().startsWith(".") && Pattern.matches(this.fileNameRegex,
-                    partition.getName())) {
+                String fileName = ((FileSplit) partition).getRelativePath();
+                if (!fileName.startsWith(".") && Pattern.matches(this.fileNameRegex, fileName)) {
                     filterPartitions.add(partition);
                 }
             }
@@ -90,8 +90,10 @@ public class FileTableSource implements TableSource {
     @Override
     public <T> FetchData<T> fetch(Partition partition, Optional<Offset> startOffset,
                                   long windowSize) throws IOException {
-        FileOffset offset = startOffset.map(value -> (FileOffset) value).orElseGet(() -> new FileOffset(0L));
-        return (FetchData<T>) fileReadHandler.readPartition((FileSplit) partition, offset, windowSize);
+        FileSplit split = (FileSplit) partition;
+        FileOffset offset = startOffset.map(value -> (FileOffset) value)
+            .orElseGet(() -> new FileOffset(split.getStart()));
+        return (FetchData<T>) fileReadHandler.readPartition(split, offset, windowSize);
     }
 
     @Override
@@ -105,9 +107,25 @@ public class FileTableSource implements TableSource {
 
         private final String relativePath;
 
+        /**
+         * The start byte of the split in the file.
+         */
+        private final long start;
+
+        /**
+         * The byte length of the split, -1 means to the end of the file.
+         */
+        private final long length;
+
         public FileSplit(String baseDir, String relativePath) {
+            this(baseDir, relativePath, 0L, -1L);
+        }
+
+        public FileSplit(String baseDir, String relativePath, long start, long length) {
             this.baseDir = baseDir;
             this.relativePath = relativePath;
+            this.start = start;
+            this.length = length;
         }
 
         public FileSplit(String file) {
@@ -117,13 +135,38 @@ public class FileTableSource implements TableSource {
             }
             this.baseDir = file.substring(0, index);
             this.relativePath = file.substring(index + 1);
+            this.start = 0L;
+            this.length = -1L;
         }
 
         @Override
         public String getName() {
+            if (isWholeFile()) {
+                return relativePath;
+            }
+            return relativePath + "@" + start;
+        }
+
+        public String getRelativePath() {
             return relativePath;
         }
 
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * Returns the end byte of the split, the line starting at the end byte belongs to
+         * this split.
+         */
+        public long getEnd() {
+            return isWholeFile() ? Long.MAX_VALUE : start + length;
+        }
+
+        public boolean isWholeFile() {
+            return start == 0L && length < 0;
+        }
+
         public String getPath() {
             if (baseDir.endsWith("/")) {
                 return baseDir + relativePath;
@@ -133,7 +176,7 @@ public class FileTableSource implements TableSource {
 
         @Override
         public int hashCode() {
-            return Objects.hash(baseDir, relativePath);
+            return Objects.hash(baseDir, relativePath, start, length);
         }
 
         @Override
@@ -145,15 +188,22 @@ public class FileTableSource implements TableSource {
                 return false;
             }
             FileSplit that = (FileSplit) o;
-            return Objects.equals(baseDir, that.baseDir) && Objects.equals(relativePath, that.relativePath);
+            return Objects.equals(baseDir, that.baseDir) && Objects.equals(relativePath, that.relativePath)
+                && start == that.start && length == that.length;
         }
 
         @Override
         public String toString() {
-            return "FileSplit(path=" + getPath() + ")";
+            if (isWholeFile()) {
+                return "FileSplit(path=" + getPath() + ")";
+            }
+            return "FileSplit(path=" + getPath() + ", start=" + start + ", length=" + length + ")";
         }
     }
 
+    /**
+     * The byte position of the next line to read in the file.
+     */
     public static class FileOffset implements Offset {
 
         private final long offset;
@@ -18,19 +18,13 @@ import static com.antgroup.geaflow.dsl.connector.file.FileConstants.PREFIX_HDFS;
 
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
-import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
 import com.antgroup.geaflow.dsl.connector.api.Partition;
 import com.antgroup.geaflow.dsl.connector.file.FileConnectorUtil;
-import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileOffset;
 import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileSplit;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocatedFileStatus;
@@ -46,18 +40,16 @@ public class HdfsFileReadHandler extends AbstractFileReadHandler {
     protected Configuration conf;
     protected String path;
 
-    protected Map<FileSplit, BufferedReader> readers;
-
     protected transient FileSystem fileSystem;
 
     @Override
     public void init(Configuration conf, String path) {
+        super.init(conf, path);
         if (path.startsWith(PREFIX_HDFS)) {
             this.path = path.substring(PREFIX_HDFS.length());
         } else {
             this.path = path;
         }
-        this.readers = new HashMap<>();
         this.conf = conf;
         this.fileSystem = FileConnectorUtil.getHdfsFileSystem(conf);
         LOGGER.info("init hdfs file system. path: {}", path);
@@ -73,17 +65,19 @@ public class HdfsFileReadHandler extends AbstractFileReadHandler {
                 while (files.hasNext()) {
                     LocatedFileStatus f = files.next();
                     String relativePath = f.getPath().getName();
-                    FileSplit partition = new FileSplit(path, relativePath);
-                    LOGGER.info("fetch file partition: {}", partition);
-                    partitions.add(partition);
+                    List<Partition> splits = splitFile(path, relativePath, f.getLen());
+                    LOGGER.info("fetch file partitions: {}", splits);
+                    partitions.addAll(splits);
                 }
                 return partitions;
             } else {
                 String relativePath = new Path(path).getName();
                 String directory = new Path(path).getParent().toUri().getPath();
-                FileSplit partition = new FileSplit(directory, relativePath);
-                LOGGER.info("fetch single file partition: {}", partition);
-                return Collections.singletonList(partition);
+                // Only look up the file length when splitting is enabled.
+                long fileLength = splitSize > 0 ? fileSystem.getFileStatus(new Path(path)).getLen() : 0L;
+                List<Partition> splits = splitFile(directory, relativePath, fileLength);
+                LOGGER.info("fetch single file partitions: {}", splits);
+                return splits;
             }
         } catch (Exception e) {
             LOGGER.error("Cannot get partitions for path: {}",  path);
@@ -92,32 +86,11 @@ public class HdfsFileReadHandler extends AbstractFileReadHandler {
     }
 
     @Override
-    protected BufferedReader getPartitionReader(FileSplit split, FileOffset offset) {
-        try {
-            if (!readers.containsKey(split)) {
-                FSDataInputStream inputStream = fileSystem.open(new Path(split.getPath()));
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-                long skipOffset = reader.skip(offset.getOffset());
-                assert skipOffset <= offset.getOffset();
-                readers.put(split, reader);
-            }
-            return readers.get(split);
-        } catch (IOException e) {
-            throw new GeaFlowDSLException(e);
-        }
-    }
-
-
-    @Override
-    public void close() {
-        for (BufferedReader reader : readers.values()) {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    LOGGER.warn("Error in close reader", e);
-                }
-            }
+    protected InputStream openInputStream(FileSplit split, long position) throws IOException {
+        FSDataInputStream inputStream = fileSystem.open(new Path(split.getPath()));
+        if (position > 0) {
+            inputStream.seek(position);
         }
+        return inputStream;
     }
 }
@@ -19,27 +19,21 @@ import static com.antgroup.geaflow.dsl.connector.file.FileConstants.PREFIX_JAVA_
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
 import com.antgroup.geaflow.dsl.connector.api.Partition;
-import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileOffset;
 import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileSplit;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.Collections;
 import java.util.List;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.apache.commons.io.IOUtils;
 
 public class JarFileReadHandler extends AbstractFileReadHandler {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(JarFileReadHandler.class);
-
     private String path;
 
-    private BufferedReader reader;
-
     @Override
     public void init(Configuration conf, String path) {
+        super.init(conf, path);
         this.path = path.substring(PREFIX_JAVA_RESOURCE.length());
     }
 
@@ -52,28 +46,13 @@ public class JarFileReadHandler extends AbstractFileReadHandler {
     }
 
     @Override
-    public void close() {
-        if (reader != null) {
-            try {
-                reader.close();
-            } catch (IOException e) {
-                LOGGER.warn("Error in close reader", e);
-            }
-        }
-    }
-
-    @Override
-    protected BufferedReader getPartitionReader(FileSplit split, FileOffset offset) {
-        try {
-            if (reader == null) {
-                URL url = getClass().getResource(path);
-                assert url != null;
-                reader = new BufferedReader(new InputStreamReader(url.openStream()));
-                reader.skip(offset.getOffset());
-            }
-            return reader;
-        } catch (IOException e) {
-            throw new GeaFlowDSLException(e);
+    protected InputStream openInputStream(FileSplit split, long position) throws IOException {
+        URL url = getClass().getResource(path);
+        if (url == null) {
+            throw new GeaFlowDSLException("Resource not found: " + path);
         }
+        InputStream inputStream = url.openStream();
+        IOUtils.skipFully(inputStream, position);
+        return inputStream;
     }
 }
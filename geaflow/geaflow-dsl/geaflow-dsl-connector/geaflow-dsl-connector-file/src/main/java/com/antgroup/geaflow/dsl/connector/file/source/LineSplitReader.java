@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.connector.file.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A byte level line reader for a range of a file. It tracks the real byte position of the
+ * underlying stream so that the position can be used as a recoverable offset.
+ *
+ * <p>A split owns all the lines which start in the range (start, end], and the first split
+ * additionally owns the line starting at 0. So a reader of a split not starting at 0 skips
+ * the first (partial) line, and keeps reading while the start of the next line is not
+ * beyond the end of the split.
+ */
+public class LineSplitReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+
+    private final byte[] separator;
+
+    private final boolean stripCarriageReturn;
+
+    private final long end;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int bufferLength = 0;
+
+    private int bufferPos = 0;
+
+    private byte[] line = new byte[1024];
+
+    private long position;
+
+    private boolean isEof = false;
+
+    /**
+     * Create a line reader.
+     *
+     * @param input The input stream which has been positioned at {@code position}.
+     * @param position The current byte position of the input stream in the file, see
+     *                 {@link #getOpenPosition} for a split which has not been read.
+     * @param splitStart The start byte of the split.
+     * @param splitEnd The end byte of the split.
+     * @param separator The line separator.
+     */
+    public LineSplitReader(InputStream input, long position, long splitStart, long splitEnd,
+                           String separator) throws IOException {
+        this.input = input;
+        this.position = position;
+        this.end = splitEnd;
+        this.separator = separator.getBytes(StandardCharsets.UTF_8);
+        this.stripCarriageReturn = "\n".equals(separator);
+        if (position <= splitStart && splitStart != 0) {
+            // The partial line belongs to the previous split.
+            readLineBytes();
+        }
+    }
+
+    /**
+     * Returns the byte position to open the input stream at. A split which has not been read
+     * is opened separator length - 1 bytes before its start, so that a separator straddling
+     * the start is still matched when the partial first line is skipped.
+     *
+     * @param position The byte position to read the split from.
+     * @param splitStart The start byte of the split.
+     * @param separator The line separator.
+     */
+    public static long getOpenPosition(long position, long splitStart, String separator) {
+        if (position != splitStart || splitStart == 0) {
+            return position;
+        }
+        int sepLength = separator.getBytes(StandardCharsets.UTF_8).length;
+        return Math.max(0, splitStart - (sepLength - 1));
+    }
+
+    /**
+     * Read the next line in the split.
+     *
+     * @return The next line without the separator or null if the split has been drained.
+     */
+    public String readLine() throws IOException {
+        if (!hasNext()) {
+            return null;
+        }
+        int length = readLineBytes();
+        if (length < 0) {
+            return null;
+        }
+        if (stripCarriageReturn && length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns true if there are more lines to read in this split.
+     */
+    public boolean hasNext() throws IOException {
+        return position <= end && fillIfNeeded();
+    }
+
+    /**
+     * Returns the byte position of the next line in the file.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    private int readLineBytes() throws IOException {
+        int length = 0;
+        int sepLength = separator.length;
+        while (fillIfNeeded()) {
+            byte b = buffer[bufferPos++];
+            position++;
+            if (length == line.length) {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+            line[length++] = b;
+            if (b == separator[sepLength - 1] && endsWithSeparator(length)) {
+                return length - sepLength;
+            }
+        }
+        return length == 0 ? -1 : length;
+    }
+
+    private boolean endsWithSeparator(int length) {
+        int sepLength = separator.length;
+        if (length < sepLength) {
+            return false;
+        }
+        for (int i = 0; i < sepLength; i++) {
+            if (line[length - sepLength + i] != separator[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fillIfNeeded() throws IOException {
+        if (bufferPos < bufferLength) {
+            return true;
+        }
+        if (isEof) {
+            return false;
+        }
+        int readSize = input.read(buffer);
+        if (readSize <= 0) {
+            isEof = true;
+            return false;
+        }
+        bufferLength = readSize;
+        bufferPos = 0;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
@@ -28,13 +28,18 @@ import com.antgroup.geaflow.dsl.connector.file.sink.HdfsFileWriteHandler;
 import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileOffset;
 import com.antgroup.geaflow.dsl.connector.file.source.FileTableSource.FileSplit;
 import com.antgroup.geaflow.dsl.connector.file.source.HdfsFileReadHandler;
+import com.antgroup.geaflow.dsl.connector.file.source.LineSplitReader;
 import com.antgroup.geaflow.dsl.connector.file.source.LocalFileReadHandler;
 import com.antgroup.geaflow.file.FileConfigKeys;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.io.FileUtils;
@@ -119,6 +124,85 @@ public class FileTableConnectorTest {
         handler.close();
     }
 
+    @Test
+    public void testSplitLocalFile() throws IOException {
+        File testDir = new File("/tmp/testDirForSplitLocalFile");
+        FileUtils.deleteDirectory(testDir);
+        List<String> expectLines = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            String line = "line_" + i + ",\u4e2d\u6587_" + i;
+            expectLines.add(line);
+            content.append(line).append("\n");
+        }
+        FileUtils.writeStringToFile(new File(testDir, "data.txt"), content.toString(),
+            StandardCharsets.UTF_8);
+
+        Configuration conf = new Configuration();
+        conf.put(ConnectorConfigKeys.GEAFLOW_DSL_FILE_SPLIT_SIZE, "97");
+        LocalFileReadHandler handler = new LocalFileReadHandler();
+        handler.init(conf, "file://" + testDir.getAbsolutePath());
+        List<Partition> partitions = handler.listPartitions();
+        Assert.assertTrue(partitions.size() > 1);
+
+        List<String> readLines = new ArrayList<>();
+        for (Partition partition : partitions) {
+            FileSplit split = (FileSplit) partition;
+            FetchData<String> fetchData = handler.readPartition(split,
+                new FileOffset(split.getStart()), 3L);
+            readLines.addAll(fetchData.getDataList());
+            while (!fetchData.isFinish()) {
+                fetchData = handler.readPartition(split, (FileOffset) fetchData.getNextOffset(), 3L);
+                readLines.addAll(fetchData.getDataList());
+            }
+        }
+        handler.close();
+        Assert.assertEquals(readLines, expectLines);
+
+        // Recover from a byte offset with a new handler.
+        handler = new LocalFileReadHandler();
+        handler.init(conf, "file://" + testDir.getAbsolutePath());
+        FileSplit split = (FileSplit) handler.listPartitions().get(0);
+        FetchData<String> fetchData = handler.readPartition(split, new FileOffset(0L), 2L);
+        handler.close();
+        handler = new LocalFileReadHandler();
+        handler.init(conf, "file://" + testDir.getAbsolutePath());
+        fetchData = handler.readPartition(split, (FileOffset) fetchData.getNextOffset(), 1L);
+        Assert.assertEquals(fetchData.getDataList().get(0), expectLines.get(2));
+        handler.close();
+    }
+
+    @Test
+    public void testSplitWithMultiByteSeparator() throws IOException {
+        String separator = "\r\n";
+        List<String> expectLines = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            String line = "line_" + i;
+            expectLines.add(line);
+            content.append(line).append(separator);
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        // Every split size puts some split starts between the two separator bytes.
+        for (int splitSize = 1; splitSize <= bytes.length; splitSize++) {
+            List<String> readLines = new ArrayList<>();
+            for (long start = 0; start < bytes.length; start += splitSize) {
+                long end = Math.min(start + splitSize, bytes.length);
+                long position = LineSplitReader.getOpenPosition(start, start, separator);
+                InputStream input = new ByteArrayInputStream(bytes, (int) position,
+                    bytes.length - (int) position);
+                try (LineSplitReader reader = new LineSplitReader(input, position, start, end,
+                    separator)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        readLines.add(line);
+                    }
+                }
+            }
+            Assert.assertEquals(readLines, expectLines, "split size " + splitSize);
+        }
+    }
+
     @Test
     public void testConsoleOffset() {
         FileOffset test = new FileOffset(111L);
@@ -33,4 +33,16 @@ public class KafkaConfigKeys {
         .key("geaflow.dsl.kafka.group.id")
         .defaultValue("default-group-id")
         .description("The kafka group id, default is 'default-group-id'.");
+
+    public static final ConfigKey GEAFLOW_DSL_KAFKA_WINDOW_BYTES = ConfigKeys
+        .key("geaflow.dsl.kafka.window.bytes")
+        .defaultValue(-1L)
+        .description("The max bytes of the records fetched from a partition in one window, "
+            + "a non-positive value means only the window size limits the records.");
+
+    public static final ConfigKey GEAFLOW_DSL_KAFKA_PREFETCH_PARTITION_BYTES = ConfigKeys
+        .key("geaflow.dsl.kafka.prefetch.partition.bytes")
+        .defaultValue(16L * 1024 * 1024)
+        .description("The max bytes of the prefetched records buffered for each partition, "
+            + "the partition is paused when the buffer is full.");
 }
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.connector.kafka;
+
+import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A background fetcher which keeps polling all the assigned partitions of a consumer into
+ * per-partition prefetch buffers. The consumer keeps its assignment and position across
+ * windows, and a partition is only seeked when it is assigned or recovered to an offset
+ * different from the position of the buffer. A partition is paused when its buffer exceeds
+ * the byte limit and resumed after it has been drained.
+ */
+public class KafkaRecordFetcher implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaRecordFetcher.class);
+
+    private final Consumer<String, String> consumer;
+
+    private final long maxBufferBytes;
+
+    private final Duration pollTimeout;
+
+    /**
+     * The lock for accessing the consumer which is not thread-safe.
+     */
+    private final ReentrantLock consumerLock = new ReentrantLock(true);
+
+    /**
+     * Whether the fetch thread is blocked in polling, guarded by itself. A consumer keeps a
+     * wakeup until its next blocking call, so it is only woken up while polling.
+     */
+    private final Object pollingState = new Object();
+
+    private boolean polling;
+
+    private final Map<TopicPartition, PartitionBuffer> buffers = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    private volatile Throwable fetchError;
+
+    private Thread fetchThread;
+
+    public KafkaRecordFetcher(Consumer<String, String> consumer, long maxBufferBytes,
+                              Duration pollTimeout) {
+        this.consumer = consumer;
+        this.maxBufferBytes = maxBufferBytes;
+        this.pollTimeout = pollTimeout;
+    }
+
+    public void start(String name) {
+        this.running = true;
+        this.fetchThread = new Thread(this::runFetchLoop, "kafka-fetcher-" + name);
+        this.fetchThread.setDaemon(true);
+        this.fetchThread.start();
+    }
+
+    public boolean isAssigned(TopicPartition partition) {
+        return buffers.containsKey(partition);
+    }
+
+    /**
+     * Run an operation on the consumer, e.g. looking up the start offsets.
+     */
+    public <R> R withConsumer(Function<Consumer<String, String>, R> operation) {
+        synchronized (pollingState) {
+            if (polling) {
+                consumer.wakeup();
+            }
+        }
+        consumerLock.lock();
+        try {
+            while (true) {
+                try {
+                    return operation.apply(consumer);
+                } catch (WakeupException e) {
+                    // The poll had returned before the wakeup, which is left to this operation.
+                    LOGGER.info("retry consumer operation after a stale wakeup");
+                }
+            }
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    /**
+     * Add the partition to the assignment of the consumer starting from the offset. The
+     * positions of the other assigned partitions are kept.
+     */
+    public void assign(TopicPartition partition, long offset) {
+        withConsumer(kafkaConsumer -> {
+            PartitionBuffer buffer = new PartitionBuffer(offset);
+            buffers.put(partition, buffer);
+            kafkaConsumer.assign(new ArrayList<>(buffers.keySet()));
+            kafkaConsumer.seek(partition, offset);
+            LOGGER.info("assign partition: {}, offset: {}, assignment: {}", partition, offset,
+                buffers.keySet());
+            return null;
+        });
+    }
+
+    /**
+     * Reposition the partition to the offset if it differs from the next offset of the
+     * buffer, which only happens on recovery.
+     */
+    public void seekIfNeeded(TopicPartition partition, long offset) {
+        PartitionBuffer buffer = getBuffer(partition);
+        synchronized (buffer) {
+            if (buffer.nextOffset == offset) {
+                return;
+            }
+        }
+        withConsumer(kafkaConsumer -> {
+            synchronized (buffer) {
+                LOGGER.info("seek partition: {} from {} to {}", partition, buffer.nextOffset,
+                    offset);
+                buffer.clear(offset);
+                kafkaConsumer.seek(partition, offset);
+                if (buffer.isPaused) {
+                    kafkaConsumer.resume(Collections.singleton(partition));
+                    buffer.isPaused = false;
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Take the buffered records of the partition within the record and byte budget. It waits
+     * until at least one record is available or the timeout elapses.
+     *
+     * @param maxRecords The max number of records to take.
+     * @param maxBytes The max bytes of the records to take, a non-positive value means no
+     *                 byte limit. At least one record is taken if available.
+     */
+    public List<ConsumerRecord<String, String>> fetch(TopicPartition partition, long maxRecords,
+                                                      long maxBytes, Duration timeout)
+        throws InterruptedException {
+        PartitionBuffer buffer = getBuffer(partition);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        synchronized (buffer) {
+            long remainNanos;
+            while (buffer.records.isEmpty() && (remainNanos = deadline - System.nanoTime()) > 0) {
+                checkError();
+                TimeUnit.NANOSECONDS.timedWait(buffer, remainNanos);
+            }
+            checkError();
+            long takeBytes = 0;
+            while (!buffer.records.isEmpty() && records.size() < maxRecords
+                && (maxBytes <= 0 || takeBytes < maxBytes)) {
+                ConsumerRecord<String, String> record = buffer.records.poll();
+                long size = recordSize(record);
+                buffer.bufferedBytes -= size;
+                takeBytes += size;
+                buffer.nextOffset = record.offset() + 1;
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Returns the offset of the next record to take from the partition.
+     */
+    public long nextOffset(TopicPartition partition) {
+        PartitionBuffer buffer = getBuffer(partition);
+        synchronized (buffer) {
+            return buffer.nextOffset;
+        }
+    }
+
+    private PartitionBuffer getBuffer(TopicPartition partition) {
+        PartitionBuffer buffer = buffers.get(partition);
+        if (buffer == null) {
+            throw new GeaFlowDSLException("Partition: {} has not been assigned.", partition);
+        }
+        return buffer;
+    }
+
+    private void checkError() {
+        if (fetchError != null) {
+            throw new GeaFlowDSLException("Error in fetching kafka records.", fetchError);
+        }
+    }
+
+    private void runFetchLoop() {
+        while (running) {
+            if (buffers.isEmpty()) {
+                sleepQuietly();
+                continue;
+            }
+            consumerLock.lock();
+            try {
+                updatePausedPartitions();
+                ConsumerRecords<String, String> records;
+                synchronized (pollingState) {
+                    polling = true;
+                }
+                try {
+                    records = consumer.poll(pollTimeout);
+                } finally {
+                    synchronized (pollingState) {
+                        polling = false;
+                    }
+                }
+                for (TopicPartition partition : records.partitions()) {
+                    PartitionBuffer buffer = buffers.get(partition);
+                    if (buffer == null) {
+                        continue;
+                    }
+                    synchronized (buffer) {
+                        for (ConsumerRecord<String, String> record : records.records(partition)) {
+                            buffer.records.add(record);
+                            buffer.bufferedBytes += recordSize(record);
+                        }
+                        buffer.notifyAll();
+                    }
+                }
+            } catch (WakeupException e) {
+                // Woken up by other consumer operations.
+            } catch (Throwable e) {
+                if (running) {
+                    LOGGER.error("Error in kafka fetch thread", e);
+                    fetchError = e;
+                    running = false;
+                    for (PartitionBuffer buffer : buffers.values()) {
+                        synchronized (buffer) {
+                            buffer.notifyAll();
+                        }
+                    }
+                }
+            } finally {
+                consumerLock.unlock();
+            }
+        }
+    }
+
+    private void updatePausedPartitions() {
+        List<TopicPartition> toPause = new ArrayList<>();
+        List<TopicPartition> toResume = new ArrayList<>();
+        for (Map.Entry<TopicPartition, PartitionBuffer> entry : buffers.entrySet()) {
+            PartitionBuffer buffer = entry.getValue();
+            synchronized (buffer) {
+                if (!buffer.isPaused && buffer.bufferedBytes >= maxBufferBytes) {
+                    buffer.isPaused = true;
+                    toPause.add(entry.getKey());
+                } else if (buffer.isPaused && buffer.bufferedBytes < maxBufferBytes / 2) {
+                    buffer.isPaused = false;
+                    toResume.add(entry.getKey());
+                }
+            }
+        }
+        if (!toPause.isEmpty()) {
+            consumer.pause(toPause);
+        }
+        if (!toResume.isEmpty()) {
+            consumer.resume(toResume);
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static long recordSize(ConsumerRecord<String, String> record) {
+        if (record.value() == null) {
+            return 0;
+        }
+        return record.serializedValueSize() >= 0 ? record.serializedValueSize()
+                                                 : record.value().length();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (fetchThread != null) {
+            consumer.wakeup();
+            try {
+                fetchThread.join(pollTimeout.toMillis() * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            fetchThread = null;
+        }
+        consumerLock.lock();
+        try {
+            consumer.close();
+        } finally {
+            consumerLock.unlock();
+        }
+    }
+
+    private static class PartitionBuffer {
+
+        private final ArrayDeque<ConsumerRecord<String, String>> records = new ArrayDeque<>();
+
+        private long bufferedBytes;
+
+        private long nextOffset;
+
+        private boolean isPaused;
+
+        PartitionBuffer(long nextOffset) {
+            this.nextOffset = nextOffset;
+        }
+
+        void clear(long nextOffset) {
+            this.records.clear();
+            this.bufferedBytes = 0;
+            this.nextOffset = nextOffset;
+        }
+    }
+}
@@ -34,13 +34,11 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -65,7 +63,10 @@ public class KafkaTableSource implements TableSource {
     private int startTime;
     private Properties props;
 
-    private transient KafkaConsumer<String, String> consumer;
+    private long windowBytes;
+    private long prefetchPartitionBytes;
+
+    private transient KafkaRecordFetcher fetcher;
 
     @Override
     public void init(Configuration conf, TableSchema tableSchema) {
@@ -82,6 +83,9 @@ public class KafkaTableSource implements TableSource {
         } else if (windowSize <= 0) {
             throw new GeaFlowDSLException("Invalid window size: {}", windowSize);
         }
+        this.windowBytes = conf.getLong(KafkaConfigKeys.GEAFLOW_DSL_KAFKA_WINDOW_BYTES);
+        this.prefetchPartitionBytes =
+            conf.getLong(KafkaConfigKeys.GEAFLOW_DSL_KAFKA_PREFETCH_PARTITION_BYTES);
         final String startTimeStr = tableConf.getString(ConnectorConfigKeys.GEAFLOW_DSL_START_TIME,
             (String) ConnectorConfigKeys.GEAFLOW_DSL_START_TIME.getDefaultValue());
         if (startTimeStr.equalsIgnoreCase(KafkaConstants.KAFKA_BEGIN)) {
@@ -105,7 +109,10 @@ public class KafkaTableSource implements TableSource {
 
     @Override
     public void open(RuntimeContext context) {
-        consumer = new KafkaConsumer<>(props);
+        KafkaConsumer<String, String> consumer = new KafkaConsumer<>(props);
+        fetcher = new KafkaRecordFetcher(consumer, prefetchPartitionBytes,
+            Duration.ofMillis(KafkaConstants.KAFKA_PREFETCH_POLL_TIMEOUT_MS));
+        fetcher.start(topic);
         LOGGER.info("consumer opened, topic: {}", topic);
     }
 
@@ -137,28 +144,53 @@ public class KafkaTableSource implements TableSource {
 
         TopicPartition topicPartition = new TopicPartition(kafkaPartition.getTopic(),
             kafkaPartition.getPartition());
-        Set<TopicPartition> singletonPartition = Collections.singleton(topicPartition);
-
-        Set<TopicPartition> currentAssignment = consumer.assignment();
-        if (currentAssignment.size() != 1 || !currentAssignment.contains(topicPartition)) {
-            consumer.assign(singletonPartition);
+        if (!fetcher.isAssigned(topicPartition)) {
+            long offset = startOffset.map(value -> ((KafkaOffset) value).getKafkaOffset())
+                .orElseGet(() -> getStartOffset(topicPartition));
+            fetcher.assign(topicPartition, offset);
+        } else if (startOffset.isPresent()) {
+            // Only seek when recovering from an offset different from the current position.
+            long offset = ((KafkaOffset) startOffset.get()).getKafkaOffset();
+            fetcher.seekIfNeeded(topicPartition, offset);
         }
 
-        KafkaOffset reqKafkaOffset;
-        if (startOffset.isPresent()) {
-            reqKafkaOffset = (KafkaOffset) startOffset.get();
-            consumer.seek(topicPartition, reqKafkaOffset.getKafkaOffset());
+        List<ConsumerRecord<String, String>> records;
+        try {
+            records = fetcher.fetch(topicPartition, windowSize, windowBytes, POLL_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeaFlowDSLException("Interrupted in fetching partition: " + topicPartition, e);
+        }
+        List<String> dataList = new ArrayList<>(records.size());
+        long responseMaxTimestamp = -1;
+        for (ConsumerRecord<String, String> record : records) {
+            assert record.topic().equals(this.topic) : "Data topic wrong.";
+            dataList.add(record.value());
+            if (record.timestamp() > responseMaxTimestamp) {
+                responseMaxTimestamp = record.timestamp();
+            }
+        }
+        long nextOffset = fetcher.nextOffset(topicPartition);
+        KafkaOffset nextKafkaOffset;
+        if (responseMaxTimestamp >= 0) {
+            nextKafkaOffset = new KafkaOffset(nextOffset, responseMaxTimestamp);
         } else {
+            nextKafkaOffset = new KafkaOffset(nextOffset, System.currentTimeMillis());
+        }
+        return (FetchData<T>) new FetchData<>(dataList, nextKafkaOffset, false);
+    }
+
+    private long getStartOffset(TopicPartition topicPartition) {
+        return fetcher.withConsumer(consumer -> {
             if (startTime == 0) {
-                Map<TopicPartition, Long> partition2Offset =
-                    consumer.beginningOffsets(singletonPartition, OPERATION_TIMEOUT);
+                Map<TopicPartition, Long> partition2Offset = consumer.beginningOffsets(
+                    Collections.singleton(topicPartition), OPERATION_TIMEOUT);
                 Long beginningOffset = partition2Offset.get(topicPartition);
                 if (beginningOffset == null) {
                     throw new GeaFlowDSLException("Cannot get beginning offset for partition: {}, "
                         + "startTime: {}.", topicPartition, startTime);
-                } else {
-                    consumer.seek(topicPartition, beginningOffset);
                 }
+                return beginningOffset;
             } else {
                 Map<TopicPartition, OffsetAndTimestamp> partitionOffset =
                     consumer.offsetsForTimes(Collections.singletonMap(topicPartition,
@@ -167,38 +199,17 @@ public class KafkaTableSource implements TableSource {
                 if (offset == null) {
                     throw new GeaFlowDSLException("Cannot get offset for partition: {}, "
                         + "startTime: {}.", topicPartition, startTime);
-                } else {
-                    consumer.seek(topicPartition, offset.offset());
                 }
+                return offset.offset();
             }
-        }
-
-        Iterator<ConsumerRecord<String, String>> recordIterator = consumer.poll(POLL_TIMEOUT).iterator();
-        List<String> dataList = new ArrayList<>();
-        long responseMaxTimestamp = -1;
-        while (recordIterator.hasNext()) {
-            ConsumerRecord<String, String> record = recordIterator.next();
-            assert record.topic().equals(this.topic) : "Data topic wrong.";
-            dataList.add(record.value());
-            if (record.timestamp() > responseMaxTimestamp) {
-                responseMaxTimestamp = record.timestamp();
-            }
-        }
-        //reload cursor
-        long nextOffset = consumer.position(topicPartition, OPERATION_TIMEOUT);
-        if (responseMaxTimestamp >= 0) {
-            reqKafkaOffset = new KafkaOffset(nextOffset, responseMaxTimestamp);
-        } else {
-            reqKafkaOffset = new KafkaOffset(nextOffset, System.currentTimeMillis());
-        }
-        return (FetchData<T>) new FetchData<>(dataList, reqKafkaOffset, false);
+        });
     }
 
     @Override
     public void close() {
-        if (consumer != null) {
-            consumer.close();
-            consumer = null;
+        if (fetcher != null) {
+            fetcher.close();
+            fetcher = null;
         }
         LOGGER.info("close");
     }
@@ -31,4 +31,5 @@ public class KafkaConstants {
     public static final String KAFKA_BEGIN = "begin";
     public static final int KAFKA_OPERATION_TIMEOUT_SECONDS = 10;
     public static final int KAFKA_DATA_TIMEOUT_SECONDS = 30;
+    public static final int KAFKA_PREFETCH_POLL_TIMEOUT_MS = 100;
 }
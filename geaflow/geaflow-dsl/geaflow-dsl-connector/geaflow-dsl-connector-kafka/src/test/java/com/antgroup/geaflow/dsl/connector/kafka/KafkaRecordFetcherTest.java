@@ -0,0 +1,174 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.connector.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class KafkaRecordFetcherTest {
+
+    private static final String TOPIC = "test-topic";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    public void testFetchMultiPartitions() throws Exception {
+        MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        TopicPartition p1 = new TopicPartition(TOPIC, 1);
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(p0, 0L);
+        beginningOffsets.put(p1, 0L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+
+        KafkaRecordFetcher fetcher = new KafkaRecordFetcher(consumer, 1024, Duration.ofMillis(10));
+        fetcher.start(TOPIC);
+        fetcher.assign(p0, 0L);
+        fetcher.assign(p1, 0L);
+        Assert.assertEquals(consumer.assignment().size(), 2);
+        fetcher.withConsumer(c -> {
+            for (int i = 0; i < 10; i++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, null, "p0_" + i));
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 1, i, null, "p1_" + i));
+            }
+            return null;
+        });
+
+        Assert.assertEquals(values(fetchAtLeast(fetcher, p0, 4)), Arrays.asList("p0_0", "p0_1",
+            "p0_2", "p0_3"));
+        Assert.assertEquals(fetcher.nextOffset(p0), 4L);
+        // The position is kept across fetches, so no seek is needed.
+        fetcher.seekIfNeeded(p0, 4L);
+        Assert.assertEquals(values(fetchAtLeast(fetcher, p0, 2)), Arrays.asList("p0_4", "p0_5"));
+        Assert.assertEquals(values(fetchAtLeast(fetcher, p1, 10)).size(), 10);
+        Assert.assertEquals(fetcher.nextOffset(p1), 10L);
+
+        // Recover from an older offset.
+        fetcher.seekIfNeeded(p0, 1L);
+        // The mock consumer drops the polled records, so add them back as the broker keeps them.
+        fetcher.withConsumer(c -> {
+            for (int i = 0; i < 10; i++) {
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, i, null, "p0_" + i));
+            }
+            return null;
+        });
+        Assert.assertEquals(values(fetchAtLeast(fetcher, p0, 2)), Arrays.asList("p0_1", "p0_2"));
+        Assert.assertEquals(fetcher.nextOffset(p0), 3L);
+
+        // The byte budget limits the records of a window.
+        List<ConsumerRecord<String, String>> records = fetcher.fetch(p0, 100, 4, TIMEOUT);
+        Assert.assertEquals(values(records), Arrays.asList("p0_3"));
+        fetcher.close();
+    }
+
+    @Test
+    public void testConsumerOperationNotWokenUpOutsidePoll() throws Exception {
+        WakeupAwareConsumer consumer = new WakeupAwareConsumer();
+        TopicPartition p0 = new TopicPartition(TOPIC, 0);
+        consumer.updateBeginningOffsets(Collections.singletonMap(p0, 0L));
+
+        KafkaRecordFetcher fetcher = new KafkaRecordFetcher(consumer, 1024, Duration.ofMillis(10));
+        fetcher.start(TOPIC);
+        // The fetch thread is sleeping as no partition has been assigned.
+        Thread.sleep(50);
+        Assert.assertEquals(fetcher.withConsumer(c -> c.beginningOffsets(Collections.singleton(p0))),
+            Collections.singletonMap(p0, 0L));
+
+        // A wakeup left by a poll which has returned is retried.
+        consumer.wakeup();
+        Assert.assertEquals(fetcher.withConsumer(c -> c.beginningOffsets(Collections.singleton(p0))),
+            Collections.singletonMap(p0, 0L));
+
+        fetcher.assign(p0, 0L);
+        fetcher.withConsumer(c -> {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, 0, null, "p0_0"));
+            return null;
+        });
+        Assert.assertEquals(values(fetchAtLeast(fetcher, p0, 1)), Collections.singletonList("p0_0"));
+        Assert.assertEquals(fetcher.withConsumer(c -> c.beginningOffsets(Collections.singleton(p0))),
+            Collections.singletonMap(p0, 0L));
+        fetcher.close();
+    }
+
+    /**
+     * Keeps a wakeup until the next blocking call like the kafka consumer, while the mock
+     * consumer only checks it in poll.
+     */
+    private static class WakeupAwareConsumer extends MockConsumer<String, String> {
+
+        private final AtomicBoolean wakeup = new AtomicBoolean();
+
+        public WakeupAwareConsumer() {
+            super(OffsetResetStrategy.EARLIEST);
+        }
+
+        @Override
+        public void wakeup() {
+            wakeup.set(true);
+        }
+
+        @Override
+        public synchronized ConsumerRecords<String, String> poll(Duration timeout) {
+            checkWakeup();
+            return super.poll(timeout);
+        }
+
+        @Override
+        public synchronized Map<TopicPartition, Long> beginningOffsets(
+            Collection<TopicPartition> partitions) {
+            checkWakeup();
+            return super.beginningOffsets(partitions);
+        }
+
+        private void checkWakeup() {
+            if (wakeup.getAndSet(false)) {
+                throw new WakeupException();
+            }
+        }
+    }
+
+    private static List<ConsumerRecord<String, String>> fetchAtLeast(KafkaRecordFetcher fetcher,
+                                                                     TopicPartition partition,
+                                                                     int size) throws Exception {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        while (records.size() < size) {
+            records.addAll(fetcher.fetch(partition, size - records.size(), -1, TIMEOUT));
+        }
+        return records;
+    }
+
+    private static List<String> values(List<ConsumerRecord<String, String>> records) {
+        List<String> values = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            values.add(record.value());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,11 @@
+SqlCall SqlAnalyzeGraph() :
+{
+    SqlIdentifier graph = null;
+}
+{
+    <ANALYZE> <GRAPH> graph = CompoundIdentifier()
+    {
+        Span s = Span.of();
+        return new SqlAnalyzeGraph(s.end(this), graph);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.sqlnode;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Objects;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.SqlSpecialOperator;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+
+/**
+ * Sql node for "ANALYZE GRAPH g" which collects the statistics of the graph into the catalog.
+ */
+public class SqlAnalyzeGraph extends SqlCall {
+
+    private static final SqlOperator OPERATOR = new SqlSpecialOperator("SqlAnalyzeGraph",
+        SqlKind.OTHER_DDL);
+
+    private SqlIdentifier graph;
+
+    public SqlAnalyzeGraph(SqlParserPos pos, SqlIdentifier graph) {
+        super(pos);
+        this.graph = Objects.requireNonNull(graph);
+    }
+
+    @Override
+    public void setOperand(int i, SqlNode operand) {
+        if (i == 0) {
+            this.graph = (SqlIdentifier) operand;
+        } else {
+            throw new IllegalArgumentException("Illegal index: " + i);
+        }
+    }
+
+    @Override
+    public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
+        writer.keyword("analyze");
+        writer.keyword("graph");
+        graph.unparse(writer, 0, 0);
+    }
+
+    @Override
+    public List<SqlNode> getOperandList() {
+        return ImmutableList.of(graph);
+    }
+
+    @Override
+    public SqlOperator getOperator() {
+        return OPERATOR;
+    }
+
+    public SqlIdentifier getGraph() {
+        return graph;
+    }
+}
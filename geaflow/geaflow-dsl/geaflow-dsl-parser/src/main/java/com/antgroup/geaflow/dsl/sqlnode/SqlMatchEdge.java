@@ -111,6 +111,17 @@ public class SqlMatchEdge extends SqlMatchNode {
             }
             throw new IllegalArgumentException("Illegal direction value: " + value);
         }
+
+        public EdgeDirection reverse() {
+            switch (this) {
+                case OUT:
+                    return IN;
+                case IN:
+                    return OUT;
+                default:
+                    return BOTH;
+            }
+        }
     }
 
     @Override
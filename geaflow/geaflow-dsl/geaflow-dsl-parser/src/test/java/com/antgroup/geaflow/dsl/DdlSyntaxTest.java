@@ -62,6 +62,13 @@ public class DdlSyntaxTest extends BaseDslTest {
         Assert.assertEquals(unParseStmts, unParseSql);
     }
 
+    @Test
+    public void testGQLAnalyzeGraph() throws Exception {
+        String unParseSql = parseSqlAndUnParse("GQLAnalyzeGraph.sql");
+        String unParseStmts = parseStmtsAndUnParse(parseStmtsAndUnParse(unParseSql));
+        Assert.assertEquals(unParseStmts, unParseSql);
+    }
+
     @Test
     public void testCreateView() throws Exception {
         String unParseSql = parseSqlAndUnParse("CreateView.sql");
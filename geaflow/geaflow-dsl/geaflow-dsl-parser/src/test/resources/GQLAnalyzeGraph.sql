@@ -0,0 +1 @@
+Analyze Graph g;
\ No newline at end of file
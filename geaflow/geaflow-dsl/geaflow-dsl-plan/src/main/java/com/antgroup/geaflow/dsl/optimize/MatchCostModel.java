@@ -0,0 +1,238 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.optimize;
+
+import com.antgroup.geaflow.dsl.rel.match.EdgeMatch;
+import com.antgroup.geaflow.dsl.rel.match.IMatchLabel;
+import com.antgroup.geaflow.dsl.rel.match.VertexMatch;
+import com.antgroup.geaflow.dsl.rex.PathInputRef;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.EdgeStatistic;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.VertexStatistic;
+import com.antgroup.geaflow.dsl.sqlnode.SqlMatchEdge.EdgeDirection;
+import com.antgroup.geaflow.dsl.util.GQLRexUtil;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexFieldAccess;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+
+/**
+ * Estimates the cost to traverse a linear match chain with the {@link GraphStatistic} of the graph.
+ * The cost is the sum of the path counts produced by each step of the traversal.
+ */
+public class MatchCostModel {
+
+    private final GraphStatistic statistic;
+
+    public MatchCostModel(GraphStatistic statistic) {
+        this.statistic = Objects.requireNonNull(statistic);
+    }
+
+    /**
+     * Estimate the cost of the chain.
+     * @param chain The vertex and edge match nodes of the chain from the head to the tail.
+     * @param nodeFilters The filter conditions referring to a single node, keyed by the node label.
+     * @param reverse Whether to start the traversal from the tail of the chain.
+     * @return The estimated cost, or infinity if the statistics cannot cover the chain.
+     */
+    public double estimate(List<IMatchLabel> chain, Map<String, List<RexNode>> nodeFilters,
+                           boolean reverse) {
+        List<IMatchLabel> nodes = reverse ? Lists.reverse(chain) : chain;
+        VertexMatch start = (VertexMatch) nodes.get(0);
+        double rows = getVertexCount(start.getTypes());
+        if (rows < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        rows *= getSelectivity(start, nodeFilters);
+        double cost = rows;
+        for (int i = 1; i + 1 < nodes.size(); i += 2) {
+            EdgeMatch edge = (EdgeMatch) nodes.get(i);
+            VertexMatch vertex = (VertexMatch) nodes.get(i + 1);
+            EdgeDirection direction = reverse ? edge.getDirection().reverse() : edge.getDirection();
+
+            List<EdgeStatistic> edgeStatistics = getEdgeStatistics(edge.getTypes());
+            if (edgeStatistics == null) {
+                return Double.POSITIVE_INFINITY;
+            }
+            rows *= getFanOut(edgeStatistics, direction) * getSelectivity(edge, nodeFilters);
+            cost += rows;
+
+            double labelSelectivity = getLabelSelectivity(vertex.getTypes(), edgeStatistics, direction);
+            if (labelSelectivity < 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            rows *= labelSelectivity * getSelectivity(vertex, nodeFilters);
+            cost += rows;
+        }
+        return cost;
+    }
+
+    private long getVertexCount(Collection<String> types) {
+        List<VertexStatistic> vertexStatistics = getVertexStatistics(types);
+        if (vertexStatistics == null) {
+            return -1;
+        }
+        long count = 0;
+        for (VertexStatistic vertexStatistic : vertexStatistics) {
+            count += vertexStatistic.getCount();
+        }
+        return count;
+    }
+
+    private List<VertexStatistic> getVertexStatistics(Collection<String> types) {
+        if (types.isEmpty()) {
+            Collection<VertexStatistic> all = statistic.getVertexStatistics();
+            return all.isEmpty() ? null : new ArrayList<>(all);
+        }
+        List<VertexStatistic> vertexStatistics = new ArrayList<>(types.size());
+        for (String type : types) {
+            VertexStatistic vertexStatistic = statistic.getVertexStatistic(type);
+            if (vertexStatistic == null) {
+                return null;
+            }
+            vertexStatistics.add(vertexStatistic);
+        }
+        return vertexStatistics;
+    }
+
+    private List<EdgeStatistic> getEdgeStatistics(Collection<String> types) {
+        if (types.isEmpty()) {
+            Collection<EdgeStatistic> all = statistic.getEdgeStatistics();
+            return all.isEmpty() ? null : new ArrayList<>(all);
+        }
+        List<EdgeStatistic> edgeStatistics = new ArrayList<>(types.size());
+        for (String type : types) {
+            EdgeStatistic edgeStatistic = statistic.getEdgeStatistic(type);
+            if (edgeStatistic == null) {
+                return null;
+            }
+            edgeStatistics.add(edgeStatistic);
+        }
+        return edgeStatistics;
+    }
+
+    /**
+     * The average number of edges visited from a vertex which has the edges of the direction.
+     */
+    private static double getFanOut(List<EdgeStatistic> edgeStatistics, EdgeDirection direction) {
+        switch (direction) {
+            case OUT:
+                return getAvgDegree(edgeStatistics, true);
+            case IN:
+                return getAvgDegree(edgeStatistics, false);
+            default:
+                return getAvgDegree(edgeStatistics, true) + getAvgDegree(edgeStatistics, false);
+        }
+    }
+
+    private static double getAvgDegree(List<EdgeStatistic> edgeStatistics, boolean out) {
+        long edgeCount = 0;
+        long vertexCount = 0;
+        for (EdgeStatistic edgeStatistic : edgeStatistics) {
+            edgeCount += edgeStatistic.getCount();
+            vertexCount += out ? edgeStatistic.getOutDegree().getVertexCount()
+                : edgeStatistic.getInDegree().getVertexCount();
+        }
+        return vertexCount == 0 ? 0 : (double) edgeCount / vertexCount;
+    }
+
+    /**
+     * The ratio of the vertices reached by the edges which match the vertex types.
+     */
+    private double getLabelSelectivity(Collection<String> vertexTypes, List<EdgeStatistic> edgeStatistics,
+                                       EdgeDirection direction) {
+        if (vertexTypes.isEmpty()) {
+            return 1.0;
+        }
+        long vertexCount = getVertexCount(vertexTypes);
+        if (vertexCount < 0) {
+            return -1;
+        }
+        long reachedCount = 0;
+        for (EdgeStatistic edgeStatistic : edgeStatistics) {
+            if (direction != EdgeDirection.IN) {
+                reachedCount += edgeStatistic.getInDegree().getVertexCount();
+            }
+            if (direction != EdgeDirection.OUT) {
+                reachedCount += edgeStatistic.getOutDegree().getVertexCount();
+            }
+        }
+        return reachedCount == 0 ? 1.0 : Math.min(1.0, (double) vertexCount / reachedCount);
+    }
+
+    private double getSelectivity(IMatchLabel node, Map<String, List<RexNode>> nodeFilters) {
+        List<RexNode> filters = nodeFilters.getOrDefault(node.getLabel(), Collections.emptyList());
+        double selectivity = 1.0;
+        for (RexNode filter : filters) {
+            for (RexNode conjunction : RelOptUtil.conjunctions(filter)) {
+                selectivity *= getSelectivity(node, conjunction);
+            }
+        }
+        return selectivity;
+    }
+
+    private double getSelectivity(IMatchLabel node, RexNode predicate) {
+        if (predicate.getKind() == SqlKind.EQUALS) {
+            List<RexNode> operands = ((RexCall) predicate).getOperands();
+            RexNode fieldAccess = null;
+            if (GQLRexUtil.isLiteralOrParameter(operands.get(1), true)) {
+                fieldAccess = operands.get(0);
+            } else if (GQLRexUtil.isLiteralOrParameter(operands.get(0), true)) {
+                fieldAccess = operands.get(1);
+            }
+            if (fieldAccess instanceof RexFieldAccess
+                && ((RexFieldAccess) fieldAccess).getReferenceExpr() instanceof PathInputRef) {
+                long ndv = getNdv(node, ((RexFieldAccess) fieldAccess).getField().getName());
+                if (ndv > 0) {
+                    return 1.0 / ndv;
+                }
+                if (GQLRexUtil.isVertexIdFieldAccess(fieldAccess)) {
+                    long vertexCount = getVertexCount(node.getTypes());
+                    return vertexCount > 0 ? 1.0 / vertexCount : 1.0;
+                }
+            }
+        }
+        return RelMdUtil.guessSelectivity(predicate);
+    }
+
+    private long getNdv(IMatchLabel node, String fieldName) {
+        long ndv = -1;
+        if (node instanceof VertexMatch) {
+            List<VertexStatistic> vertexStatistics = getVertexStatistics(node.getTypes());
+            if (vertexStatistics != null) {
+                for (VertexStatistic vertexStatistic : vertexStatistics) {
+                    ndv = Math.max(ndv, vertexStatistic.getNdv(fieldName));
+                }
+            }
+        } else {
+            List<EdgeStatistic> edgeStatistics = getEdgeStatistics(node.getTypes());
+            if (edgeStatistics != null) {
+                for (EdgeStatistic edgeStatistic : edgeStatistics) {
+                    ndv = Math.max(ndv, edgeStatistic.getNdv(fieldName));
+                }
+            }
+        }
+        return ndv;
+    }
+}
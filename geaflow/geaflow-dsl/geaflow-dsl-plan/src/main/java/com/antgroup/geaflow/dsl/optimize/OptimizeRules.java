@@ -18,6 +18,7 @@ import com.antgroup.geaflow.dsl.optimize.rule.AddVertexResetRule;
 import com.antgroup.geaflow.dsl.optimize.rule.GQLAggregateProjectMergeRule;
 import com.antgroup.geaflow.dsl.optimize.rule.GQLMatchUnionMergeRule;
 import com.antgroup.geaflow.dsl.optimize.rule.GQLProjectRemoveRule;
+import com.antgroup.geaflow.dsl.optimize.rule.MatchReverseRule;
 import com.antgroup.geaflow.dsl.optimize.rule.MatchSortToLogicalSortRule;
 import com.antgroup.geaflow.dsl.optimize.rule.PathInputReplaceRule;
 import com.antgroup.geaflow.dsl.optimize.rule.PathModifyMergeRule;
@@ -45,6 +46,10 @@ public class OptimizeRules {
 
     private static final List<RelOptRule> PRE_REWRITE_RULES = ImmutableList.of();
 
+    private static final List<RelOptRule> COST_BASED_RULES = ImmutableList.of(
+        MatchReverseRule.INSTANCE
+    );
+
     private static final List<RelOptRule> LOGICAL_RULES = ImmutableList.of(
         ReduceExpressionsRule.FILTER_INSTANCE,
         ReduceExpressionsRule.PROJECT_INSTANCE,
@@ -84,6 +89,7 @@ public class OptimizeRules {
 
     public static final List<RuleGroup> RULE_GROUPS = ImmutableList.of(
         RuleGroup.of(PRE_REWRITE_RULES, 10),
+        RuleGroup.of(COST_BASED_RULES, 8),
         RuleGroup.of(LOGICAL_RULES, 5),
         RuleGroup.of(POST_OPTIMIZE_RULES, 0)
     );
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.optimize.rule;
+
+import com.antgroup.geaflow.dsl.calcite.MetaFieldType;
+import com.antgroup.geaflow.dsl.calcite.MetaFieldType.MetaField;
+import com.antgroup.geaflow.dsl.calcite.PathRecordType;
+import com.antgroup.geaflow.dsl.optimize.MatchCostModel;
+import com.antgroup.geaflow.dsl.rel.logical.LogicalGraphMatch;
+import com.antgroup.geaflow.dsl.rel.logical.LogicalGraphScan;
+import com.antgroup.geaflow.dsl.rel.match.EdgeMatch;
+import com.antgroup.geaflow.dsl.rel.match.IMatchLabel;
+import com.antgroup.geaflow.dsl.rel.match.IMatchNode;
+import com.antgroup.geaflow.dsl.rel.match.MatchFilter;
+import com.antgroup.geaflow.dsl.rel.match.SingleMatchNode;
+import com.antgroup.geaflow.dsl.rel.match.VertexMatch;
+import com.antgroup.geaflow.dsl.rex.PathInputRef;
+import com.antgroup.geaflow.dsl.schema.GeaFlowGraph;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic;
+import com.antgroup.geaflow.dsl.util.GQLRelUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexFieldAccess;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.rex.RexVisitorImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reverse a linear match chain to start the traversal from the other end when it is cheaper
+ * according to the {@link GraphStatistic} of the graph, e.g. "(a:person)-[:knows]->(b:city where name = 'x')"
+ * will be rewritten to "(b:city where name = 'x')<-[:knows]-(a:person)".
+ *
+ * <p>The edges loaded in the reversed direction are the reversed copies of the original edges,
+ * so the chain is only reversed when the source and target id of the edges are not referred.
+ */
+public class MatchReverseRule extends RelOptRule {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatchReverseRule.class);
+
+    public static final MatchReverseRule INSTANCE = new MatchReverseRule();
+
+    private MatchReverseRule() {
+        super(operand(LogicalProject.class,
+            operand(LogicalGraphMatch.class,
+                operand(LogicalGraphScan.class, none()))));
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        LogicalProject project = call.rel(0);
+        LogicalGraphMatch graphMatch = call.rel(1);
+        LogicalGraphScan graphScan = call.rel(2);
+
+        GeaFlowGraph graph = graphScan.getTable().unwrap(GeaFlowGraph.class);
+        GraphStatistic statistic = graph == null ? null : graph.getGraphStatistic();
+        if (statistic == null) {
+            return;
+        }
+        // Split the path pattern into the match nodes from head to tail and the filters on them.
+        List<IMatchLabel> chain = new ArrayList<>();
+        List<MatchFilter> filters = new ArrayList<>();
+        RelNode node = graphMatch.getPathPattern();
+        while (node != null) {
+            if (node instanceof MatchFilter) {
+                filters.add((MatchFilter) node);
+                node = GQLRelUtil.toRel(((MatchFilter) node).getInput());
+            } else if (node instanceof VertexMatch || node instanceof EdgeMatch) {
+                chain.add((IMatchLabel) node);
+                RelNode input = ((SingleMatchNode) node).getInput();
+                node = input == null ? null : GQLRelUtil.toRel(input);
+            } else {
+                return;
+            }
+        }
+        Collections.reverse(chain);
+        Collections.reverse(filters);
+        Set<String> labels = chain.stream().map(IMatchLabel::getLabel).collect(Collectors.toSet());
+        if (chain.size() < 3 || labels.size() != chain.size()
+            || !(chain.get(chain.size() - 1) instanceof VertexMatch)) {
+            return;
+        }
+        PathRecordType pathType = graphMatch.getPathPattern().getPathSchema();
+        Set<Integer> edgeIndices = chain.stream()
+            .filter(matchNode -> matchNode instanceof EdgeMatch)
+            .map(matchNode -> pathType.getField(matchNode.getLabel(), true, false).getIndex())
+            .collect(Collectors.toSet());
+        for (RexNode projectExp : project.getProjects()) {
+            if (referEdgeIdentity(projectExp, edgeIndices)) {
+                return;
+            }
+        }
+        Map<String, List<RexNode>> nodeFilters = new HashMap<>();
+        for (MatchFilter filter : filters) {
+            PathRecordType filterPath = filter.getPathSchema();
+            Set<Integer> filterEdgeIndices = new HashSet<>();
+            for (RelDataTypeField field : filterPath.getFieldList()) {
+                if (edgeIndices.contains(pathType.getField(field.getName(), true, false).getIndex())) {
+                    filterEdgeIndices.add(field.getIndex());
+                }
+            }
+            if (referEdgeIdentity(filter.getCondition(), filterEdgeIndices)) {
+                return;
+            }
+            Set<String> referLabels = getReferLabels(filter);
+            if (referLabels.size() == 1) {
+                nodeFilters.computeIfAbsent(referLabels.iterator().next(), k -> new ArrayList<>())
+                    .add(filter.getCondition());
+            }
+        }
+
+        MatchCostModel costModel = new MatchCostModel(statistic);
+        double forwardCost = costModel.estimate(chain, nodeFilters, false);
+        double reverseCost = costModel.estimate(chain, nodeFilters, true);
+        if (!(reverseCost < forwardCost)) {
+            return;
+        }
+        LOGGER.info("Reverse match chain of graph: {}, forward cost: {}, reverse cost: {}",
+            graph.getName(), forwardCost, reverseCost);
+
+        IMatchNode reversePattern = reverse(chain, filters, pathType);
+        PathRecordType reversePathType = reversePattern.getPathSchema();
+        LogicalGraphMatch newGraphMatch = graphMatch.copy(graphMatch.getTraitSet(), graphMatch.getInput(),
+            reversePattern, reversePathType);
+        List<RexNode> newProjects = project.getProjects().stream()
+            .map(exp -> adjustPathRef(exp, pathType, reversePathType))
+            .collect(Collectors.toList());
+        call.transformTo(project.copy(project.getTraitSet(), newGraphMatch, newProjects, project.getRowType()));
+    }
+
+    private static IMatchNode reverse(List<IMatchLabel> chain, List<MatchFilter> filters,
+                                      PathRecordType pathType) {
+        // position of the node in the reversed chain -> filters to apply after the node.
+        Map<Integer, List<MatchFilter>> positionFilters = new HashMap<>();
+        for (MatchFilter filter : filters) {
+            int position = 0;
+            for (String label : getReferLabels(filter)) {
+                int index = indexOf(chain, label);
+                position = Math.max(position, chain.size() - 1 - index);
+            }
+            positionFilters.computeIfAbsent(position, k -> new ArrayList<>()).add(filter);
+        }
+        SingleMatchNode current = null;
+        PathRecordType currentPath = PathRecordType.EMPTY;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            IMatchLabel node = chain.get(i);
+            currentPath = currentPath.addField(node.getLabel(),
+                pathType.getField(node.getLabel(), true, false).getType(), true);
+            if (node instanceof VertexMatch) {
+                VertexMatch vertexMatch = (VertexMatch) node;
+                current = VertexMatch.create(vertexMatch.getCluster(), current, vertexMatch.getLabel(),
+                    new ArrayList<>(vertexMatch.getTypes()), vertexMatch.getNodeType(), currentPath);
+            } else {
+                EdgeMatch edgeMatch = (EdgeMatch) node;
+                current = EdgeMatch.create(edgeMatch.getCluster(), current, edgeMatch.getLabel(),
+                    new ArrayList<>(edgeMatch.getTypes()), edgeMatch.getDirection().reverse(),
+                    edgeMatch.getNodeType(), currentPath);
+            }
+            int position = chain.size() - 1 - i;
+            for (MatchFilter filter : positionFilters.getOrDefault(position, Collections.emptyList())) {
+                RexNode condition = adjustPathRef(filter.getCondition(), filter.getPathSchema(), currentPath);
+                current = MatchFilter.create(current, condition, currentPath);
+            }
+        }
+        return current;
+    }
+
+    private static int indexOf(List<IMatchLabel> chain, String label) {
+        for (int i = 0; i < chain.size(); i++) {
+            if (chain.get(i).getLabel().equals(label)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Label: " + label + " is not in the match chain");
+    }
+
+    private static Set<String> getReferLabels(MatchFilter filter) {
+        PathRecordType filterPath = filter.getPathSchema();
+        Set<String> labels = new HashSet<>();
+        filter.getCondition().accept(new RexVisitorImpl<Void>(true) {
+            @Override
+            public Void visitInputRef(RexInputRef inputRef) {
+                labels.add(filterPath.getFieldList().get(inputRef.getIndex()).getName());
+                return null;
+            }
+        });
+        return labels;
+    }
+
+    /**
+     * Whether the expression refers to the whole edge or the source/target id of the edge.
+     */
+    private static boolean referEdgeIdentity(RexNode exp, Set<Integer> edgeIndices) {
+        boolean[] refer = new boolean[1];
+        exp.accept(new RexVisitorImpl<Void>(true) {
+            @Override
+            public Void visitFieldAccess(RexFieldAccess fieldAccess) {
+                RexNode reference = fieldAccess.getReferenceExpr();
+                if (reference instanceof RexInputRef
+                    && edgeIndices.contains(((RexInputRef) reference).getIndex())) {
+                    if (fieldAccess.getType() instanceof MetaFieldType) {
+                        MetaField metaField = ((MetaFieldType) fieldAccess.getType()).getMetaField();
+                        if (metaField == MetaField.EDGE_SRC_ID || metaField == MetaField.EDGE_TARGET_ID) {
+                            refer[0] = true;
+                        }
+                    }
+                    return null;
+                }
+                return super.visitFieldAccess(fieldAccess);
+            }
+
+            @Override
+            public Void visitInputRef(RexInputRef inputRef) {
+                if (edgeIndices.contains(inputRef.getIndex())) {
+                    refer[0] = true;
+                }
+                return null;
+            }
+        });
+        return refer[0];
+    }
+
+    private static RexNode adjustPathRef(RexNode exp, PathRecordType fromPath, PathRecordType toPath) {
+        return exp.accept(new RexShuttle() {
+            @Override
+            public RexNode visitInputRef(RexInputRef inputRef) {
+                String label = fromPath.getFieldList().get(inputRef.getIndex()).getName();
+                int newIndex = toPath.getField(label, true, false).getIndex();
+                if (inputRef instanceof PathInputRef) {
+                    return ((PathInputRef) inputRef).copy(newIndex);
+                }
+                return new RexInputRef(newIndex, inputRef.getType());
+            }
+        });
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl;
+
+import com.antgroup.geaflow.dsl.optimize.RuleGroup;
+import com.antgroup.geaflow.dsl.optimize.rule.MatchReverseRule;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.DegreeHistogram;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.EdgeStatistic;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.VertexStatistic;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import org.testng.annotations.Test;
+
+public class GQLMatchReverseTest {
+
+    private static final List<RuleGroup> RULES = ImmutableList.of(
+        RuleGroup.of(ImmutableList.of(MatchReverseRule.INSTANCE), 0));
+
+    private static GraphStatistic createStatistic() {
+        long numUser = 1000000L;
+        long avgDegree = 10L;
+        VertexStatistic user = new VertexStatistic("user", numUser,
+            ImmutableMap.of("id", numUser, "name", numUser, "age", 100L));
+        EdgeStatistic knows = new EdgeStatistic("knows", numUser * avgDegree,
+            ImmutableMap.of("weight", 1000L),
+            new DegreeHistogram().add(avgDegree, numUser),
+            new DegreeHistogram().add(avgDegree, numUser));
+        return new GraphStatistic()
+            .addVertexStatistic(user)
+            .addEdgeStatistic(knows);
+    }
+
+    @Test
+    public void testReverseToSelectiveNode() {
+        PlanTester.build()
+            .setGraphStatistic(createStatistic())
+            .gql("MATCH (a:user)-[e:knows]->(b:user WHERE b.name = 'x')\n"
+                + "RETURN a.id as a_id, b.name as b_name, e.weight as weight")
+            .optimize(RULES)
+            .checkRelNode(
+                "LogicalProject(a_id=[$2.id], b_name=[$0.name], weight=[$1.weight])\n"
+                    + "  LogicalGraphMatch(path=[(b:user) where =(b.name, _UTF-16LE'x') "
+                    + "-[e:knows]<-(a:user)])\n"
+                    + "    LogicalGraphScan(table=[default.g0])\n"
+            );
+    }
+
+    @Test
+    public void testKeepSelectiveStart() {
+        PlanTester.build()
+            .setGraphStatistic(createStatistic())
+            .gql("MATCH (a:user WHERE a.name = 'x')-[e:knows]->(b:user)\n"
+                + "RETURN a.id as a_id, b.name as b_name")
+            .optimize(RULES)
+            .checkRelNode(
+                "LogicalProject(a_id=[$0.id], b_name=[$2.name])\n"
+                    + "  LogicalGraphMatch(path=[(a:user) where =(a.name, _UTF-16LE'x') "
+                    + "-[e:knows]->(b:user)])\n"
+                    + "    LogicalGraphScan(table=[default.g0])\n"
+            );
+    }
+
+    @Test
+    public void testNotReverseWithEdgeReferred() {
+        PlanTester.build()
+            .setGraphStatistic(createStatistic())
+            .gql("MATCH (a:user)-[e:knows]->(b:user WHERE b.name = 'x')\n"
+                + "RETURN a.id as a_id, e.src_id as src_id")
+            .optimize(RULES)
+            .checkRelNode(
+                "LogicalProject(a_id=[$0.id], src_id=[$1.src_id])\n"
+                    + "  LogicalGraphMatch(path=[(a:user)-[e:knows]->(b:user) "
+                    + "where =(b.name, _UTF-16LE'x') ])\n"
+                    + "    LogicalGraphScan(table=[default.g0])\n"
+            );
+    }
+
+    @Test
+    public void testNotReverseWithoutStatistic() {
+        PlanTester.build()
+            .gql("MATCH (a:user)-[e:knows]->(b:user WHERE b.name = 'x')\n"
+                + "RETURN a.id as a_id, b.name as b_name")
+            .optimize(RULES)
+            .checkRelNode(
+                "LogicalProject(a_id=[$0.id], b_name=[$2.name])\n"
+                    + "  LogicalGraphMatch(path=[(a:user)-[e:knows]->(b:user) "
+                    + "where =(b.name, _UTF-16LE'x') ])\n"
+                    + "    LogicalGraphScan(table=[default.g0])\n"
+            );
+    }
+}
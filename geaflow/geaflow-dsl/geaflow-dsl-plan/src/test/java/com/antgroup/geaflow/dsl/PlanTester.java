@@ -16,12 +16,15 @@ package com.antgroup.geaflow.dsl;
 
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import com.antgroup.geaflow.dsl.optimize.RuleGroup;
 import com.antgroup.geaflow.dsl.parser.GeaFlowDSLParser;
 import com.antgroup.geaflow.dsl.planner.GQLContext;
 import com.antgroup.geaflow.dsl.schema.GeaFlowGraph;
 import com.antgroup.geaflow.dsl.schema.GeaFlowTable;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic;
 import com.antgroup.geaflow.dsl.sqlnode.SqlCreateGraph;
 import com.antgroup.geaflow.dsl.sqlnode.SqlCreateTable;
+import java.util.List;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.type.RelDataType;
@@ -94,6 +97,13 @@ public class PlanTester {
         return this;
     }
 
+    public PlanTester setGraphStatistic(GraphStatistic statistic) {
+        GeaFlowGraph graph = (GeaFlowGraph) gqlContext.getCatalog()
+            .getGraph(gqlContext.getCurrentInstance(), gqlContext.getCurrentGraph());
+        graph.setGraphStatistic(statistic);
+        return this;
+    }
+
     public static PlanTester build() {
         return new PlanTester();
     }
@@ -130,6 +140,14 @@ public class PlanTester {
         return this;
     }
 
+    public PlanTester optimize(List<RuleGroup> ruleGroups) {
+        toRel();
+        if (validateException == null) {
+            this.relNode = gqlContext.optimize(ruleGroups, relNode);
+        }
+        return this;
+    }
+
     public void expectValidateType(String expectType) {
         if (validateException != null) {
             throw new GeaFlowDSLException(validateException);
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.schema;
+
+import static org.testng.Assert.assertEquals;
+
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.DegreeHistogram;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.VertexStatistic;
+import com.google.common.collect.ImmutableMap;
+import org.testng.annotations.Test;
+
+public class GraphStatisticTest {
+
+    @Test
+    public void testDegreeHistogram() {
+        DegreeHistogram histogram = new DegreeHistogram()
+            .add(1, 50)
+            .add(3, 40)
+            .add(100, 10);
+        assertEquals(histogram.getVertexCount(), 100);
+        assertEquals(histogram.getMaxDegree(), 100);
+        assertEquals(histogram.getAvgDegree(), 11.7, 1e-9);
+        assertEquals(histogram.getQuantile(0.5), 1);
+        assertEquals(histogram.getQuantile(0.9), 3);
+        assertEquals(histogram.getQuantile(0.99), 100);
+        assertEquals(new DegreeHistogram().getAvgDegree(), 0.0);
+    }
+
+    @Test
+    public void testVertexStatistic() {
+        GraphStatistic statistic = new GraphStatistic()
+            .addVertexStatistic(new VertexStatistic("person", 10L, ImmutableMap.of("name", 8L)));
+        VertexStatistic person = statistic.getVertexStatistic("person");
+        assertEquals(person.getCount(), 10L);
+        assertEquals(person.getNdv("name"), 8L);
+        assertEquals(person.getNdv("age"), -1L);
+        assertEquals(statistic.getVertexStatistics().size(), 1);
+    }
+}
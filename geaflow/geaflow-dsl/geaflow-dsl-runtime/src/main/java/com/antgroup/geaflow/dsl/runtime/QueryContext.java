@@ -24,6 +24,7 @@ import com.antgroup.geaflow.dsl.optimize.OptimizeRules;
 import com.antgroup.geaflow.dsl.optimize.RuleGroup;
 import com.antgroup.geaflow.dsl.planner.GQLContext;
 import com.antgroup.geaflow.dsl.runtime.command.AlterGraphCommand;
+import com.antgroup.geaflow.dsl.runtime.command.AnalyzeGraphCommand;
 import com.antgroup.geaflow.dsl.runtime.command.CreateFunctionCommand;
 import com.antgroup.geaflow.dsl.runtime.command.CreateGraphCommand;
 import com.antgroup.geaflow.dsl.runtime.command.CreateTableCommand;
@@ -39,6 +40,7 @@ import com.antgroup.geaflow.dsl.runtime.expression.Expression;
 import com.antgroup.geaflow.dsl.schema.GeaFlowGraph;
 import com.antgroup.geaflow.dsl.schema.GeaFlowTable;
 import com.antgroup.geaflow.dsl.sqlnode.SqlAlterGraph;
+import com.antgroup.geaflow.dsl.sqlnode.SqlAnalyzeGraph;
 import com.antgroup.geaflow.dsl.sqlnode.SqlCreateFunction;
 import com.antgroup.geaflow.dsl.sqlnode.SqlCreateGraph;
 import com.antgroup.geaflow.dsl.sqlnode.SqlCreateTable;
@@ -142,6 +144,11 @@ public class QueryContext {
                 return new UseInstanceCommand((SqlUseInstance) node);
             case CREATE_FUNCTION:
                 return new CreateFunctionCommand((SqlCreateFunction) node);
+            case OTHER_DDL:
+                if (node instanceof SqlAnalyzeGraph) {
+                    return new AnalyzeGraphCommand((SqlAnalyzeGraph) node);
+                }
+                throw new IllegalArgumentException("Not support sql node: " + node);
             default:
                 throw new IllegalArgumentException("Not support sql kind: " + kind);
         }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.command;
+
+import com.antgroup.geaflow.common.type.Types;
+import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import com.antgroup.geaflow.dsl.common.types.TableField;
+import com.antgroup.geaflow.dsl.parser.GeaFlowDSLParser;
+import com.antgroup.geaflow.dsl.planner.GQLContext;
+import com.antgroup.geaflow.dsl.runtime.QueryContext;
+import com.antgroup.geaflow.dsl.runtime.QueryResult;
+import com.antgroup.geaflow.dsl.schema.GeaFlowGraph;
+import com.antgroup.geaflow.dsl.schema.GeaFlowGraph.EdgeTable;
+import com.antgroup.geaflow.dsl.schema.GeaFlowGraph.VertexTable;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.DegreeHistogram;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.EdgeStatistic;
+import com.antgroup.geaflow.dsl.schema.GraphStatistic.VertexStatistic;
+import com.antgroup.geaflow.dsl.sqlnode.SqlAnalyzeGraph;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.parser.SqlParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collect the {@link GraphStatistic} of the graph by running aggregate queries on each vertex
+ * and edge label, and store it to the graph in the catalog for the cost based optimization.
+ */
+public class AnalyzeGraphCommand implements IQueryCommand {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AnalyzeGraphCommand.class);
+
+    private final GeaFlowDSLParser parser = new GeaFlowDSLParser();
+
+    private final SqlAnalyzeGraph analyzeGraph;
+
+    public AnalyzeGraphCommand(SqlAnalyzeGraph analyzeGraph) {
+        this.analyzeGraph = analyzeGraph;
+    }
+
+    @Override
+    public QueryResult execute(QueryContext context) {
+        GQLContext gqlContext = context.getGqlContext();
+        SqlIdentifier graphName = gqlContext.completeCatalogObjName(analyzeGraph.getGraph());
+        String instanceName = graphName.names.get(0);
+        Table table = gqlContext.getCatalog().getGraph(instanceName, GQLContext.getCatalogObjName(graphName));
+        if (!(table instanceof GeaFlowGraph)) {
+            throw new GeaFlowDSLException("Graph: {} is not exists.", graphName);
+        }
+        if (context.isCompile()) {
+            // The statistic queries need the data of the graph, skip them in compile.
+            return new QueryResult(true);
+        }
+        GeaFlowGraph graph = (GeaFlowGraph) table;
+        long startTs = System.currentTimeMillis();
+        String currentInstance = gqlContext.getCurrentInstance();
+        String currentGraph = gqlContext.getCurrentGraph();
+        gqlContext.setCurrentInstance(instanceName);
+        gqlContext.setCurrentGraph(graph.getName());
+        try {
+            GraphStatistic statistic = new GraphStatistic();
+            for (VertexTable vertexTable : graph.getVertexTables()) {
+                statistic.addVertexStatistic(analyzeVertex(vertexTable, context));
+            }
+            for (EdgeTable edgeTable : graph.getEdgeTables()) {
+                statistic.addEdgeStatistic(analyzeEdge(edgeTable, context));
+            }
+            graph.setGraphStatistic(statistic);
+            LOGGER.info("Finish analyze graph: {}, spend: {}ms, statistic: {}", graph.getName(),
+                System.currentTimeMillis() - startTs, statistic);
+        } finally {
+            gqlContext.setCurrentInstance(currentInstance);
+            gqlContext.setCurrentGraph(currentGraph);
+        }
+        return new QueryResult(true);
+    }
+
+    private VertexStatistic analyzeVertex(VertexTable vertexTable, QueryContext context) {
+        String label = vertexTable.getTypeName();
+        List<TableField> fields = vertexTable.getFields();
+        String sql = "SELECT COUNT(1)" + ndvColumns("a", fields)
+            + " FROM (MATCH (a:" + quote(label) + ") RETURN a)";
+        List<Row> rows = executeQuery(sql, context);
+        if (rows.isEmpty()) {
+            return new VertexStatistic(label, 0L, new HashMap<>());
+        }
+        Row row = rows.get(0);
+        return new VertexStatistic(label, (Long) row.getField(0, Types.LONG), toFieldNdv(row, fields));
+    }
+
+    private EdgeStatistic analyzeEdge(EdgeTable edgeTable, QueryContext context) {
+        String label = edgeTable.getTypeName();
+        List<TableField> fields = edgeTable.getFields();
+        String sql = "SELECT COUNT(1)" + ndvColumns("e", fields)
+            + " FROM (MATCH (a)-[e:" + quote(label) + "]->(b) RETURN e)";
+        List<Row> rows = executeQuery(sql, context);
+        long count = 0L;
+        Map<String, Long> fieldNdv = new HashMap<>();
+        if (!rows.isEmpty()) {
+            count = (Long) rows.get(0).getField(0, Types.LONG);
+            fieldNdv = toFieldNdv(rows.get(0), fields);
+        }
+        DegreeHistogram outDegree = analyzeDegree(label, edgeTable.getSrcIdFieldName(), context);
+        DegreeHistogram inDegree = analyzeDegree(label, edgeTable.getTargetIdFieldName(), context);
+        return new EdgeStatistic(label, count, fieldNdv, outDegree, inDegree);
+    }
+
+    private DegreeHistogram analyzeDegree(String label, String idField, QueryContext context) {
+        String sql = "SELECT d, COUNT(1) FROM ("
+            + "SELECT e." + quote(idField) + " AS vid, COUNT(1) AS d"
+            + " FROM (MATCH (a)-[e:" + quote(label) + "]->(b) RETURN e)"
+            + " GROUP BY e." + quote(idField)
+            + ") GROUP BY d";
+        DegreeHistogram histogram = new DegreeHistogram();
+        for (Row row : executeQuery(sql, context)) {
+            histogram.add((Long) row.getField(0, Types.LONG), (Long) row.getField(1, Types.LONG));
+        }
+        return histogram;
+    }
+
+    private List<Row> executeQuery(String sql, QueryContext context) {
+        try {
+            SqlNode query = parser.parseStatement(sql);
+            return new QueryCommand(query).execute(context).getResults();
+        } catch (SqlParseException e) {
+            throw new GeaFlowDSLException("Error in parse statistic query: \n" + sql, e);
+        }
+    }
+
+    private static String ndvColumns(String label, List<TableField> fields) {
+        StringBuilder columns = new StringBuilder();
+        for (TableField field : fields) {
+            columns.append(", COUNT(DISTINCT ").append(label).append('.')
+                .append(quote(field.getName())).append(')');
+        }
+        return columns.toString();
+    }
+
+    private static Map<String, Long> toFieldNdv(Row row, List<TableField> fields) {
+        Map<String, Long> fieldNdv = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            fieldNdv.put(fields.get(i).getName(), (Long) row.getField(i + 1, Types.LONG));
+        }
+        return fieldNdv;
+    }
+
+    private static String quote(String name) {
+        return "`" + name + "`";
+    }
+
+    @Override
+    public SqlNode getSqlNode() {
+        return analyzeGraph;
+    }
+}
@@ -16,6 +16,8 @@ package com.antgroup.geaflow.dsl.runtime.engine;
 
 import com.antgroup.geaflow.api.graph.function.vc.VertexCentricTraversalFunction.TraversalEdgeQuery;
 import com.antgroup.geaflow.api.graph.function.vc.VertexCentricTraversalFunction.TraversalVertexQuery;
+import com.antgroup.geaflow.common.config.keys.DSLConfigKeys;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
 import com.antgroup.geaflow.common.type.IType;
 import com.antgroup.geaflow.dsl.common.data.Row;
 import com.antgroup.geaflow.dsl.common.data.RowVertex;
@@ -30,12 +32,16 @@ import com.antgroup.geaflow.dsl.runtime.traversal.data.CallRequestId;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.CallRequestWithStartVertexId;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.EdgeGroup;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequest;
+import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequestCache;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.IMessage;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.MessageBox;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.MessageType;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.ParameterRequestMessage;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.RequestIsolationMessage;
 import com.antgroup.geaflow.dsl.runtime.traversal.path.ITreePath;
+import com.antgroup.geaflow.metrics.common.MetricConstants;
+import com.antgroup.geaflow.metrics.common.MetricGroupRegistry;
+import com.antgroup.geaflow.metrics.common.api.BlackHoleMetricGroup;
 import com.antgroup.geaflow.metrics.common.api.MetricGroup;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import java.util.HashMap;
@@ -60,6 +66,8 @@ public abstract class AbstractTraversalRuntimeContext implements TraversalRuntim
 
     private ParameterRequest request;
 
+    private ParameterRequestCache requestCache;
+
     protected TraversalVertexQuery<Object, Row> vertexQuery;
 
     protected TraversalEdgeQuery<Object, Row> edgeQuery;
@@ -131,6 +139,21 @@ public abstract class AbstractTraversalRuntimeContext implements TraversalRuntim
         return request;
     }
 
+    @Override
+    public ParameterRequestCache getRequestCache() {
+        if (requestCache == null) {
+            MetricGroup metricGroup;
+            if (getConfig().getBoolean(ExecutionConfigKeys.ENABLE_DETAIL_METRIC)) {
+                metricGroup = MetricGroupRegistry.getInstance().getMetricGroup(MetricConstants.MODULE_DSL);
+            } else {
+                metricGroup = BlackHoleMetricGroup.INSTANCE;
+            }
+            int capacity = getConfig().getInteger(DSLConfigKeys.GEAFLOW_DSL_REQUEST_CACHE_CAPACITY);
+            requestCache = new ParameterRequestCache(capacity, "ParameterRequest", metricGroup);
+        }
+        return requestCache;
+    }
+
     @Override
     public void setMessageBox(MessageBox messageBox) {
         this.messageBox = messageBox;
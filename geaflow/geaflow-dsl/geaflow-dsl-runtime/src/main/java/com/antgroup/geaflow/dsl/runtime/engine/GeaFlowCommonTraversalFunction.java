@@ -19,6 +19,7 @@ import com.antgroup.geaflow.dsl.runtime.traversal.TraversalRuntimeContext;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.BroadcastId;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.InitParameterRequest;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequest;
+import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequestCache;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.TraversalAll;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.MessageBox;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.MessageType;
@@ -66,22 +67,27 @@ public class GeaFlowCommonTraversalFunction {
     }
 
     public void finish(long iterationId) {
+        ParameterRequestCache requestCache = context.getRequestCache();
         if (isTraversalAllWithRequest && initRequests.size() > 0) {
+            for (ITraversalRequest<Object> request : initRequests) {
+                assert Objects.equals(request.getVId(), TraversalAll.INSTANCE);
+                assert request instanceof InitParameterRequest;
+                InitParameterRequest initRequest = (InitParameterRequest) request;
+                requestCache.add(initRequest.getRequestId(), initRequest.getVId(), initRequest.getParameters());
+            }
+            List<ParameterRequest> requests = requestCache.drain();
             Iterator<Object> idIterator = context.loadAllVertex();
             while (idIterator.hasNext()) {
                 Object vertexId = idIterator.next();
                 MessageBox messageBox = MessageType.PARAMETER_REQUEST.createMessageBox();
                 ParameterRequestMessage parameterMessage = new ParameterRequestMessage();
 
-                for (ITraversalRequest<Object> request : initRequests) {
-                    assert Objects.equals(request.getVId(), TraversalAll.INSTANCE);
-                    assert request instanceof InitParameterRequest;
-                    InitParameterRequest initRequest = (InitParameterRequest) request;
+                for (ParameterRequest request : requests) {
                     // convert InitParameterRequest to ParameterRequest because ParameterRequest
                     // can support multi-key request id, however ITraversalRequest can only support
                     // Long type which is not enough for complex query, e.g. sub query request.
-                    ParameterRequest parameterRequest = new ParameterRequest(initRequest.getRequestId(),
-                        vertexId, initRequest.getParameters());
+                    ParameterRequest parameterRequest = new ParameterRequest(request.getRequestId(),
+                        vertexId, request.getParameters(), request.getAliasRequestIds());
                     parameterMessage.addRequest(parameterRequest);
                 }
                 messageBox.addMessage(executeDagGroup.getEntryOpId(), parameterMessage);
@@ -92,22 +98,24 @@ public class GeaFlowCommonTraversalFunction {
             for (ITraversalRequest<Object> request : initRequests) {
                 Object vertexId = request.getVId();
                 if (request instanceof InitParameterRequest) {
-                    InitParameterRequest initRequest = (InitParameterRequest) request;
-                    MessageBox messageBox = MessageType.PARAMETER_REQUEST.createMessageBox();
-                    ParameterRequestMessage parameterMessage = new ParameterRequestMessage();
-
+                    // merge the identical requests and traverse them after all the requests are added.
                     // convert InitParameterRequest to ParameterRequest because ParameterRequest
                     // can support multi-key request id, however ITraversalRequest can only support
                     // Long type which is not enough for complex query, e.g. sub query request.
-                    ParameterRequest parameterRequest = new ParameterRequest(initRequest.getRequestId(),
-                        vertexId, initRequest.getParameters());
-                    parameterMessage.addRequest(parameterRequest);
-                    messageBox.addMessage(executeDagGroup.getEntryOpId(), parameterMessage);
-                    context.setMessageBox(messageBox);
+                    InitParameterRequest initRequest = (InitParameterRequest) request;
+                    requestCache.add(initRequest.getRequestId(), vertexId, initRequest.getParameters());
                 } else {
                     context.setMessageBox(null);
+                    executeDagGroup.execute(vertexId, executeDagGroup.getEntryOpId());
                 }
-                executeDagGroup.execute(vertexId, executeDagGroup.getEntryOpId());
+            }
+            for (ParameterRequest parameterRequest : requestCache.drain()) {
+                MessageBox messageBox = MessageType.PARAMETER_REQUEST.createMessageBox();
+                ParameterRequestMessage parameterMessage = new ParameterRequestMessage();
+                parameterMessage.addRequest(parameterRequest);
+                messageBox.addMessage(executeDagGroup.getEntryOpId(), parameterMessage);
+                context.setMessageBox(messageBox);
+                executeDagGroup.execute(parameterRequest.getVertexId(), executeDagGroup.getEntryOpId());
             }
         }
 
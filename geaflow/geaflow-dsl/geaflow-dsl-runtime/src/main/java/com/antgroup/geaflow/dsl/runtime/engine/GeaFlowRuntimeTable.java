@@ -27,7 +27,9 @@ import com.antgroup.geaflow.api.pdata.PStreamSink;
 import com.antgroup.geaflow.api.pdata.stream.window.PWindowStream;
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.config.keys.DSLConfigKeys;
+import com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys;
 import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.common.type.Types;
 import com.antgroup.geaflow.common.utils.ClassUtil;
 import com.antgroup.geaflow.dsl.common.binary.EncoderFactory;
 import com.antgroup.geaflow.dsl.common.binary.encoder.EdgeEncoder;
@@ -62,18 +64,37 @@ import com.antgroup.geaflow.dsl.runtime.function.table.JoinTableFunction;
 import com.antgroup.geaflow.dsl.runtime.function.table.OrderByFunction;
 import com.antgroup.geaflow.dsl.runtime.function.table.ProjectFunction;
 import com.antgroup.geaflow.dsl.runtime.function.table.WhereFunction;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.ExternalSorter;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.MergeIterator;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.SizeEstimator;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.SortInfo;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.SpillableRun;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.TopNRowComparator;
 import com.antgroup.geaflow.dsl.runtime.plan.PhysicRelNode.PhysicRelNodeName;
 import com.antgroup.geaflow.dsl.schema.GeaFlowGraph;
 import com.antgroup.geaflow.dsl.schema.GeaFlowTable;
 import com.antgroup.geaflow.dsl.util.SqlTypeUtil;
 import com.antgroup.geaflow.pipeline.task.IPipelineTaskContext;
+import com.antgroup.geaflow.state.KeyListState;
+import com.antgroup.geaflow.state.StateFactory;
+import com.antgroup.geaflow.state.descriptor.KeyListStateDescriptor;
+import com.antgroup.geaflow.utils.keygroup.KeyGroup;
+import com.antgroup.geaflow.utils.keygroup.KeyGroupAssignerFactory;
+import com.antgroup.geaflow.utils.keygroup.KeyGroupAssignment;
 import com.google.common.collect.Lists;
+import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import org.apache.calcite.rel.core.JoinRelType;
 
 public class GeaFlowRuntimeTable implements RuntimeTable {
 
@@ -126,7 +147,38 @@ public class GeaFlowRuntimeTable implements RuntimeTable {
 
     @Override
     public RuntimeTable join(RuntimeTable other, JoinTableFunction function) {
-        throw new GeaFlowDSLException("Join has not support yet");
+        String opName = PhysicRelNodeName.JOIN.getName(queryContext.getOpNameCount());
+        PWindowStream<Row> otherStream = other.getPlan();
+        PWindowStream<Row> left = pStream.map(new JoinSideTagFunction(true))
+            .withName(opName + "-left").withParallelism(pStream.getParallelism());
+        PWindowStream<Row> right = otherStream.map(new JoinSideTagFunction(false))
+            .withName(opName + "-right").withParallelism(otherStream.getParallelism());
+
+        PWindowStream<Row> join;
+        if (function.isBroadcast()) {
+            PWindowStream<Row> build = function.isBuildLeft() ? left : right;
+            PWindowStream<Row> probe = function.isBuildLeft() ? right : left;
+            int parallelism = probe.getParallelism();
+            join = probe.union(build.broadcast().withName(opName + "-broadcast")
+                    .withParallelism(build.getParallelism()))
+                .withName(opName + "-union")
+                .withParallelism(parallelism)
+                .flatMap(new TableHashJoinFunction(opName, function))
+                .withName(opName)
+                .withParallelism(parallelism);
+        } else {
+            int parallelism = queryContext.getConfigParallelisms(opName, pStream.getParallelism());
+            join = left.union(right)
+                .withName(opName + "-union")
+                .withParallelism(pStream.getParallelism())
+                .keyBy(new JoinKeySelectorFunction(function))
+                .withName(opName + "-KeyBy")
+                .withParallelism(pStream.getParallelism())
+                .flatMap(new TableHashJoinFunction(opName, function))
+                .withName(opName)
+                .withParallelism(parallelism);
+        }
+        return copyWithSetOptions(join);
     }
 
     @Override
@@ -159,11 +211,21 @@ public class GeaFlowRuntimeTable implements RuntimeTable {
     @Override
     public RuntimeTable orderBy(OrderByFunction function) {
         String opName = PhysicRelNodeName.SORT.getName(queryContext.getOpNameCount());
-        PWindowStream<Row> order = pStream.flatMap(new TableOrderByFunction(function))
-            .withName(opName + "-local").withParallelism(pStream.getParallelism())
-            .flatMap(new TableOrderByFunction(function))
-            .withName(opName + "-global")
-            .withParallelism(1);
+        PWindowStream<Row> order;
+        if (function.getSortInfo().fetch >= 0) {
+            order = pStream.flatMap(new TableOrderByFunction(function, false))
+                .withName(opName + "-local").withParallelism(pStream.getParallelism())
+                .flatMap(new TableOrderByFunction(function, false))
+                .withName(opName + "-global")
+                .withParallelism(1);
+        } else {
+            // sort in parallel, then merge the sorted stream of each task in the global task.
+            order = pStream.flatMap(new TableOrderByFunction(function, true))
+                .withName(opName + "-local").withParallelism(pStream.getParallelism())
+                .flatMap(new TableSortedMergeFunction(function.getSortInfo(), pStream.getParallelism()))
+                .withName(opName + "-merge")
+                .withParallelism(1);
+        }
         return copyWithSetOptions(order);
     }
 
@@ -491,14 +553,219 @@ public class GeaFlowRuntimeTable implements RuntimeTable {
         }
     }
 
+    private static class JoinSideTagFunction implements MapFunction<Row, Row> {
+
+        private final boolean isLeft;
+
+        public JoinSideTagFunction(boolean isLeft) {
+            this.isLeft = isLeft;
+        }
+
+        @Override
+        public Row map(Row value) {
+            return ObjectRow.create(isLeft, value);
+        }
+    }
+
+    private static class JoinKeySelectorFunction implements KeySelector<Row, RowKey> {
+
+        private static final RowKey NULL_KEY = ObjectRowKey.of();
+
+        private final JoinTableFunction joinFunction;
+
+        public JoinKeySelectorFunction(JoinTableFunction joinFunction) {
+            this.joinFunction = joinFunction;
+        }
+
+        @Override
+        public RowKey getKey(Row value) {
+            boolean isLeft = (Boolean) value.getField(0, Types.BOOLEAN);
+            Row row = (Row) value.getField(1, ObjectType.INSTANCE);
+            RowKey key = isLeft ? joinFunction.getLeftKey(row) : joinFunction.getRightKey(row);
+            // rows with null keys never match, send them to a single task.
+            return key == null ? NULL_KEY : key;
+        }
+    }
+
+    /**
+     * Hash join on key partitioned or broadcast inputs. The build rows are kept across windows,
+     * so a dimension table read once still joins the probe rows of later windows. The probe rows
+     * of a window are buffered, probed when the window finishes and then released. For key
+     * partitioned inputs the rows are kept in key list states, so they can spill to rocksdb with
+     * the rocksdb state backend. For broadcast inputs each task receives build rows of all the
+     * keys, which can not be assigned to the key group of the task, so the rows are kept in task
+     * local memory.
+     */
+    private static class TableHashJoinFunction extends RichWindowFunction implements
+        FlatMapFunction<Row, Row> {
+
+        private final String name;
+        private final JoinTableFunction joinFunction;
+        private transient JoinRowBuffer buildBuffer;
+        private transient JoinRowBuffer probeBuffer;
+        private transient Set<RowKey> probeKeys;
+        private Collector<Row> collector;
+
+        public TableHashJoinFunction(String name, JoinTableFunction joinFunction) {
+            this.name = name;
+            this.joinFunction = joinFunction;
+        }
+
+        @Override
+        public void open(RuntimeContext runtimeContext) {
+            joinFunction.open(FunctionContext.of(runtimeContext.getConfiguration()));
+            if (joinFunction.isBroadcast()) {
+                this.buildBuffer = new MemoryJoinRowBuffer();
+                this.probeBuffer = new MemoryJoinRowBuffer();
+            } else {
+                this.buildBuffer = new StateJoinRowBuffer(name + "-build", runtimeContext);
+                this.probeBuffer = new StateJoinRowBuffer(name + "-probe", runtimeContext);
+            }
+            this.probeKeys = new HashSet<>();
+        }
+
+        @Override
+        public void flatMap(Row value, Collector<Row> collector) {
+            this.collector = collector;
+            boolean isLeft = (Boolean) value.getField(0, Types.BOOLEAN);
+            Row row = (Row) value.getField(1, ObjectType.INSTANCE);
+            RowKey key = isLeft ? joinFunction.getLeftKey(row) : joinFunction.getRightKey(row);
+            boolean isBuild = isLeft == joinFunction.isBuildLeft();
+            if (key == null) {
+                if (!isBuild && joinFunction.getJoinType() == JoinRelType.LEFT) {
+                    collector.partition(joinFunction.join(row, null));
+                }
+                return;
+            }
+            if (isBuild) {
+                buildBuffer.add(key, row);
+            } else {
+                probeBuffer.add(key, row);
+                probeKeys.add(key);
+            }
+        }
+
+        @Override
+        public void finish() {
+            boolean buildLeft = joinFunction.isBuildLeft();
+            boolean leftJoin = joinFunction.getJoinType() == JoinRelType.LEFT;
+            for (RowKey key : probeKeys) {
+                List<Row> buildRows = buildBuffer.get(key);
+                for (Row probeRow : probeBuffer.get(key)) {
+                    boolean matched = false;
+                    for (Row buildRow : buildRows) {
+                        Row joinRow = buildLeft ? joinFunction.join(buildRow, probeRow)
+                                                : joinFunction.join(probeRow, buildRow);
+                        if (joinRow != null) {
+                            matched = true;
+                            collector.partition(joinRow);
+                        }
+                    }
+                    // left join always builds on the right side.
+                    if (!matched && leftJoin) {
+                        collector.partition(joinFunction.join(probeRow, null));
+                    }
+                }
+                probeBuffer.remove(key);
+            }
+            probeKeys.clear();
+        }
+
+        @Override
+        public void close() {
+            buildBuffer.close();
+            probeBuffer.close();
+        }
+    }
+
+    private interface JoinRowBuffer {
+
+        void add(RowKey key, Row row);
+
+        List<Row> get(RowKey key);
+
+        void remove(RowKey key);
+
+        void close();
+    }
+
+    private static class StateJoinRowBuffer implements JoinRowBuffer {
+
+        private final KeyListState<RowKey, Row> state;
+
+        public StateJoinRowBuffer(String stateName, RuntimeContext runtimeContext) {
+            KeyListStateDescriptor<RowKey, Row> descriptor = KeyListStateDescriptor.build(stateName,
+                runtimeContext.getConfiguration().getString(FrameworkConfigKeys.SYSTEM_STATE_BACKEND_TYPE));
+            descriptor.withTypeInfo(RowKey.class, Row.class);
+            int taskIndex = runtimeContext.getTaskArgs().getTaskIndex();
+            int parallelism = runtimeContext.getTaskArgs().getParallelism();
+            int maxParallelism = runtimeContext.getTaskArgs().getMaxParallelism();
+            KeyGroup keyGroup = KeyGroupAssignment.computeKeyGroupRangeForOperatorIndex(
+                maxParallelism, parallelism, taskIndex);
+            descriptor.withKeyGroup(keyGroup);
+            descriptor.withKeyGroupAssigner(KeyGroupAssignerFactory.createKeyGroupAssigner(
+                keyGroup, taskIndex, maxParallelism));
+            this.state = StateFactory.buildKeyListState(descriptor, runtimeContext.getConfiguration());
+        }
+
+        @Override
+        public void add(RowKey key, Row row) {
+            state.add(key, row);
+        }
+
+        @Override
+        public List<Row> get(RowKey key) {
+            return state.get(key);
+        }
+
+        @Override
+        public void remove(RowKey key) {
+            state.remove(key);
+        }
+
+        @Override
+        public void close() {
+            state.manage().operate().close();
+        }
+    }
+
+    private static class MemoryJoinRowBuffer implements JoinRowBuffer {
+
+        private final Map<RowKey, List<Row>> rows = new HashMap<>();
+
+        @Override
+        public void add(RowKey key, Row row) {
+            rows.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+
+        @Override
+        public List<Row> get(RowKey key) {
+            return rows.getOrDefault(key, Collections.emptyList());
+        }
+
+        @Override
+        public void remove(RowKey key) {
+            rows.remove(key);
+        }
+
+        @Override
+        public void close() {
+            rows.clear();
+        }
+    }
+
     private static class TableOrderByFunction extends RichWindowFunction implements
         FlatMapFunction<Row, Row> {
 
         private final OrderByFunction orderByFunction;
+        // tag the output with the task index for the downstream merge.
+        private final boolean tagSource;
+        private int taskIndex;
         private Collector<Row> collector;
 
-        public TableOrderByFunction(OrderByFunction orderByFunction) {
+        public TableOrderByFunction(OrderByFunction orderByFunction, boolean tagSource) {
             this.orderByFunction = orderByFunction;
+            this.tagSource = tagSource;
         }
 
         @Override
@@ -506,6 +773,7 @@ public class GeaFlowRuntimeTable implements RuntimeTable {
             FunctionContext context =
                 FunctionContext.of(runtimeContext.getConfiguration());
             orderByFunction.open(context);
+            this.taskIndex = runtimeContext.getTaskArgs().getTaskIndex();
         }
 
         @Override
@@ -519,7 +787,7 @@ public class GeaFlowRuntimeTable implements RuntimeTable {
             Iterable<Row> resultRows = orderByFunction.finish();
             for (Row row : resultRows) {
                 assert collector != null : "Not empty sort encounters collector which is null";
-                collector.partition(row);
+                collector.partition(tagSource ? ObjectRow.create(taskIndex, row) : row);
             }
         }
 
@@ -528,6 +796,119 @@ public class GeaFlowRuntimeTable implements RuntimeTable {
         }
     }
 
+    /**
+     * Merge the sorted streams of the upstream tasks. Rows of each task arrive in order and are
+     * appended to a run of that task. Once every task has a pending row, the smallest head can
+     * not be preceded by any later row, so it is emitted right away and only the rows ahead of
+     * the slowest task are held, which spill to local disk over the spill bytes.
+     */
+    private static class TableSortedMergeFunction extends RichWindowFunction implements
+        FlatMapFunction<Row, Row> {
+
+        private final SortInfo sortInfo;
+        private final int numSources;
+        private transient TopNRowComparator<Row> comparator;
+        private transient SpillableRun<Row>[] runs;
+        private transient SizeEstimator<Row> sizeEstimator;
+        private transient File spillDir;
+        private long spillBytes;
+        // number of the runs which have a pending row.
+        private int pendingRuns;
+        private long bufferRows;
+        private Collector<Row> collector;
+
+        public TableSortedMergeFunction(SortInfo sortInfo, int numSources) {
+            this.sortInfo = sortInfo;
+            this.numSources = numSources;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void open(RuntimeContext runtimeContext) {
+            Configuration config = runtimeContext.getConfiguration();
+            this.comparator = new TopNRowComparator<>(sortInfo);
+            this.runs = new SpillableRun[numSources];
+            this.sizeEstimator = new SizeEstimator<>();
+            this.spillDir = ExternalSorter.getSpillDir(config);
+            this.spillBytes = config.getLong(DSLConfigKeys.GEAFLOW_DSL_SORT_SPILL_BYTES);
+        }
+
+        @Override
+        public void flatMap(Row value, Collector<Row> collector) {
+            this.collector = collector;
+            int source = (Integer) value.getField(0, Types.INTEGER);
+            Row row = (Row) value.getField(1, ObjectType.INSTANCE);
+            SpillableRun<Row> run = runs[source];
+            if (run == null) {
+                run = new SpillableRun<>(ExternalSorter.createSpillFile(spillDir));
+                runs[source] = run;
+            }
+            if (run.isEmpty()) {
+                pendingRuns++;
+            }
+            run.add(row);
+            bufferRows++;
+            sizeEstimator.estimate(row);
+            while (pendingRuns == numSources) {
+                emitMin();
+            }
+            if (bufferRows * sizeEstimator.getAverageSize() >= spillBytes) {
+                for (SpillableRun<Row> pending : runs) {
+                    if (pending != null) {
+                        pending.spill();
+                    }
+                }
+                bufferRows = 0;
+            }
+        }
+
+        private void emitMin() {
+            SpillableRun<Row> min = null;
+            for (SpillableRun<Row> run : runs) {
+                if (run != null && !run.isEmpty()
+                    && (min == null || comparator.compare(run.peek(), min.peek()) < 0)) {
+                    min = run;
+                }
+            }
+            int bufferSize = min.getBufferSize();
+            collector.partition(min.poll());
+            bufferRows -= bufferSize - min.getBufferSize();
+            if (min.isEmpty()) {
+                pendingRuns--;
+            }
+        }
+
+        @Override
+        public void finish() {
+            if (pendingRuns > 0) {
+                List<Iterator<Row>> iterators = new ArrayList<>(pendingRuns);
+                for (SpillableRun<Row> run : runs) {
+                    if (run != null) {
+                        iterators.add(run.iterator());
+                    }
+                }
+                Iterator<Row> merged = new MergeIterator<>(iterators, comparator);
+                while (merged.hasNext()) {
+                    collector.partition(merged.next());
+                }
+            }
+            close();
+        }
+
+        @Override
+        public void close() {
+            if (runs != null) {
+                for (int i = 0; i < runs.length; i++) {
+                    if (runs[i] != null) {
+                        runs[i].close();
+                        runs[i] = null;
+                    }
+                }
+            }
+            pendingRuns = 0;
+            bufferRows = 0;
+        }
+    }
 
     private static class CorrelateFlatMapFunction extends RichFunction implements FlatMapFunction<Row, Row> {
 
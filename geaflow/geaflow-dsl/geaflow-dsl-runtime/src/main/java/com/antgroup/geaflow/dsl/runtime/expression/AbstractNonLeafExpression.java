@@ -49,6 +49,10 @@ public abstract class AbstractNonLeafExpression extends AbstractExpression {
         return inputs;
     }
 
+    public List<Class<?>> getInputTypes() {
+        return inputTypes;
+    }
+
     @Override
     public IType<?> getOutputType() {
         return outputType;
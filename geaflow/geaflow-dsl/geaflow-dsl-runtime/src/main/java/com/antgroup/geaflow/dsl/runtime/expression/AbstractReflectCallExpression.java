@@ -57,6 +57,14 @@ public abstract class AbstractReflectCallExpression extends AbstractNonLeafExpre
         }
     }
 
+    public Class<?> getImplementClass() {
+        return implementClass;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
     private void initMethod() {
         try {
             if (method == null) {
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.expression.codegen;
+
+import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Serializable holder of an expression which is compiled lazily on first evaluation,
+ * so the generated class is only built in the jvm running the function.
+ */
+public class CompiledExpression implements Serializable {
+
+    private final Expression expression;
+
+    private transient ExpressionEvaluator evaluator;
+
+    public CompiledExpression(Expression expression) {
+        this.expression = Objects.requireNonNull(expression);
+    }
+
+    public Object evaluate(Row row) {
+        if (evaluator == null) {
+            evaluator = ExpressionCompiler.compile(expression);
+        }
+        return evaluator.evaluate(row);
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+}
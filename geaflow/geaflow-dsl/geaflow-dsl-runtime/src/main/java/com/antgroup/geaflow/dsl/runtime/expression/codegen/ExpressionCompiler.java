@@ -0,0 +1,290 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.expression.codegen;
+
+import com.antgroup.geaflow.dsl.common.util.FunctionCallUtils;
+import com.antgroup.geaflow.dsl.runtime.expression.AbstractReflectCallExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.field.FieldExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.literal.LiteralExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.AndExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.IsNotNullExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.IsNullExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.NotExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.OrExpression;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import org.codehaus.janino.SimpleCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles an {@link Expression} tree into a janino generated {@link ExpressionEvaluator}.
+ *
+ * <p>Field access, literals, and/or/not, null tests and static builtin calls are generated
+ * as straight-line code calling the matched method directly. Any other node is kept as
+ * an opaque sub expression and interpreted. Literal values, types and opaque nodes are
+ * passed in through a reference array, so the generated source only depends on the shape
+ * of the expression and is used as the key of the class cache.
+ */
+public class ExpressionCompiler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionCompiler.class);
+
+    private static final String CODE_GEN_PACKAGE = "com.antgroup.geaflow.dsl.runtime.expression.codegen";
+    private static final String CLASS_NAME = "GeneratedExpression";
+    private static final int CACHE_SIZE = 1024;
+    private static final Cache<String, Class<?>> CLASS_CACHE =
+        CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private final List<Object> refs = new ArrayList<>();
+    private final StringBuilder body = new StringBuilder();
+    private int varCounter = 0;
+
+    private ExpressionCompiler() {
+    }
+
+    /**
+     * Build the evaluator of the expression. The interpreted expression is returned when the
+     * root node cannot be generated or the compilation fails.
+     */
+    public static ExpressionEvaluator compile(Expression expression) {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        Variable result = compiler.generate(expression);
+        if (result.opaque) {
+            return expression::evaluate;
+        }
+        String source = compiler.buildSource(result);
+        try {
+            Class<?> clazz = CLASS_CACHE.get(source, () -> cook(source));
+            return (ExpressionEvaluator) clazz.getConstructor(Object[].class)
+                .newInstance(new Object[]{compiler.refs.toArray()});
+        } catch (Throwable e) {
+            LOGGER.warn("code gen for expression {} failed, fallback to interpreted mode",
+                expression.showExpression(), e);
+            return expression::evaluate;
+        }
+    }
+
+    static String generateSource(Expression expression) {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        return compiler.buildSource(compiler.generate(expression));
+    }
+
+    private static Class<?> cook(String source) throws Exception {
+        LOGGER.debug("compile expression class:\n{}", source);
+        SimpleCompiler compiler = new SimpleCompiler();
+        compiler.setParentClassLoader(ExpressionCompiler.class.getClassLoader());
+        compiler.cook(source);
+        return compiler.getClassLoader().loadClass(CODE_GEN_PACKAGE + "." + CLASS_NAME);
+    }
+
+    private String buildSource(Variable result) {
+        return "package " + CODE_GEN_PACKAGE + ";\n\n"
+            + "import com.antgroup.geaflow.common.type.IType;\n"
+            + "import com.antgroup.geaflow.dsl.common.data.Row;\n"
+            + "import com.antgroup.geaflow.dsl.common.util.TypeCastUtil;\n"
+            + "import com.antgroup.geaflow.dsl.runtime.expression.Expression;\n\n"
+            + "public final class " + CLASS_NAME + " implements " + ExpressionEvaluator.class.getName() + " {\n\n"
+            + "    private final Object[] refs;\n\n"
+            + "    public " + CLASS_NAME + "(Object[] refs) {\n"
+            + "        this.refs = refs;\n"
+            + "    }\n\n"
+            + "    public Object evaluate(Row row) {\n"
+            + body
+            + "        return " + result.name + ";\n"
+            + "    }\n"
+            + "}\n";
+    }
+
+    private Variable generate(Expression expression) {
+        if (expression.getClass() == LiteralExpression.class) {
+            return generateLiteral((LiteralExpression) expression);
+        }
+        if (expression.getClass() == FieldExpression.class) {
+            return generateField((FieldExpression) expression);
+        }
+        if (expression instanceof AndExpression) {
+            return generateLogic(expression.getInputs(), true);
+        }
+        if (expression instanceof OrExpression) {
+            return generateLogic(expression.getInputs(), false);
+        }
+        if (expression instanceof NotExpression) {
+            Variable input = generate(expression.getInputs().get(0));
+            Variable var = newVariable(Boolean.class);
+            append("final Boolean " + var.name + " = " + input.name + " == null ? null : "
+                + "Boolean.valueOf(!((Boolean) " + input.name + ").booleanValue());");
+            return var;
+        }
+        if (expression instanceof IsNullExpression || expression instanceof IsNotNullExpression) {
+            Variable input = generate(expression.getInputs().get(0));
+            Variable var = newVariable(Boolean.class);
+            String op = expression instanceof IsNullExpression ? " == " : " != ";
+            append("final Boolean " + var.name + " = Boolean.valueOf(" + input.name + op + "null);");
+            return var;
+        }
+        if (expression instanceof AbstractReflectCallExpression) {
+            Method method = findStaticMethod((AbstractReflectCallExpression) expression);
+            if (method != null) {
+                return generateCall(method, expression.getInputs());
+            }
+        }
+        return generateOpaque(expression);
+    }
+
+    private Variable generateLiteral(LiteralExpression literal) {
+        Object value = literal.getValue();
+        Class<?> type = value != null && isAccessible(value.getClass()) ? value.getClass() : Object.class;
+        Variable var = newVariable(type);
+        append("final " + typeName(type) + " " + var.name + " = (" + typeName(type) + ") "
+            + addRef(value) + ";");
+        return var;
+    }
+
+    private Variable generateField(FieldExpression field) {
+        // keep the field untyped, the consumer casts it the same way as the interpreted call.
+        String typeRef = "(IType) " + addRef(field.getOutputType());
+        String input = "row";
+        if (!field.getInputs().isEmpty()) {
+            input = "((Row) " + generate(field.getInputs().get(0)).name + ")";
+        }
+        Variable var = newVariable(Object.class);
+        append("final Object " + var.name + " = " + input + " == null ? null : "
+            + input + ".getField(" + field.getFieldIndex() + ", " + typeRef + ");");
+        return var;
+    }
+
+    /**
+     * Three-valued and/or, evaluated left to right and leaving the block as soon as the
+     * result is decided.
+     */
+    private Variable generateLogic(List<Expression> inputs, boolean isAnd) {
+        Variable var = newVariable(Boolean.class);
+        String shortCut = isAnd ? "Boolean.FALSE" : "Boolean.TRUE";
+        String shortCutTest = isAnd ? "!" : "";
+        append("Boolean " + var.name + " = " + (isAnd ? "Boolean.TRUE" : "Boolean.FALSE") + ";");
+        append("do {");
+        for (Expression input : inputs) {
+            Variable inputVar = generate(input);
+            append("if (" + inputVar.name + " == null) {");
+            append("    " + var.name + " = null;");
+            append("} else if (" + shortCutTest + "((Boolean) " + inputVar.name + ").booleanValue()) {");
+            append("    " + var.name + " = " + shortCut + ";");
+            append("    break;");
+            append("}");
+        }
+        append("} while (false);");
+        return var;
+    }
+
+    private Variable generateCall(Method method, List<Expression> inputs) {
+        Class<?>[] paramTypes = method.getParameterTypes();
+        List<String> args = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            Variable input = generate(inputs.get(i));
+            Class<?> paramType = paramTypes[i];
+            if (paramType.isAssignableFrom(input.type)) {
+                args.add(input.name);
+            } else {
+                args.add("(" + typeName(paramType) + ") TypeCastUtil.cast(" + input.name + ", "
+                    + typeName(paramType) + ".class)");
+            }
+        }
+        Class<?> returnType = method.getReturnType();
+        Variable var = newVariable(returnType);
+        append("final " + typeName(returnType) + " " + var.name + " = "
+            + typeName(method.getDeclaringClass()) + "." + method.getName()
+            + "(" + String.join(", ", args) + ");");
+        return var;
+    }
+
+    private Variable generateOpaque(Expression expression) {
+        Variable var = newVariable(Object.class);
+        var.opaque = true;
+        append("final Object " + var.name + " = ((Expression) " + addRef(expression) + ").evaluate(row);");
+        return var;
+    }
+
+    /**
+     * Find the method the interpreted call would invoke, only plain static methods on
+     * public reference types can be called directly from the generated code.
+     */
+    private static Method findStaticMethod(AbstractReflectCallExpression call) {
+        Method method;
+        try {
+            method = FunctionCallUtils.findMatchMethod(call.getImplementClass(),
+                call.getMethodName(), call.getInputTypes());
+        } catch (Exception e) {
+            return null;
+        }
+        if (!Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers())
+            || method.isVarArgs() || method.getParameterCount() != call.getInputs().size()
+            || !isAccessible(method.getDeclaringClass()) || !isAccessible(method.getReturnType())) {
+            return null;
+        }
+        for (Class<?> paramType : method.getParameterTypes()) {
+            if (!isAccessible(paramType)) {
+                return null;
+            }
+        }
+        return method;
+    }
+
+    private static boolean isAccessible(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || !Modifier.isPublic(type.getModifiers())
+            || type.getCanonicalName() == null) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, ExpressionCompiler.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String typeName(Class<?> type) {
+        return type.getCanonicalName();
+    }
+
+    private String addRef(Object ref) {
+        refs.add(ref);
+        return "refs[" + (refs.size() - 1) + "]";
+    }
+
+    private Variable newVariable(Class<?> type) {
+        return new Variable("v" + varCounter++, type);
+    }
+
+    private void append(String line) {
+        body.append("        ").append(line).append('\n');
+    }
+
+    private static class Variable {
+
+        private final String name;
+        private final Class<?> type;
+        private boolean opaque;
+
+        private Variable(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+}
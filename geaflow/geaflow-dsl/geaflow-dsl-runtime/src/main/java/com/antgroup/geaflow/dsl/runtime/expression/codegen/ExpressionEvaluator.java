@@ -0,0 +1,26 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.expression.codegen;
+
+import com.antgroup.geaflow.dsl.common.data.Row;
+
+/**
+ * Evaluator for a row expression, either generated by {@link ExpressionCompiler}
+ * or falling back to the interpreted expression tree.
+ */
+public interface ExpressionEvaluator {
+
+    Object evaluate(Row row);
+}
@@ -17,6 +17,7 @@ package com.antgroup.geaflow.dsl.runtime.function.graph;
 import com.antgroup.geaflow.dsl.common.data.Row;
 import com.antgroup.geaflow.dsl.common.data.StepRecord;
 import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.codegen.CompiledExpression;
 import com.antgroup.geaflow.dsl.runtime.traversal.TraversalRuntimeContext;
 import com.antgroup.geaflow.dsl.runtime.traversal.collector.StepCollector;
 import java.util.Collections;
@@ -27,8 +28,11 @@ public class StepBoolFunctionImpl implements StepBoolFunction {
 
     private final Expression condition;
 
+    private final CompiledExpression compiledCondition;
+
     public StepBoolFunctionImpl(Expression condition) {
         this.condition = Objects.requireNonNull(condition);
+        this.compiledCondition = new CompiledExpression(condition);
     }
 
     @Override
@@ -43,7 +47,7 @@ public class StepBoolFunctionImpl implements StepBoolFunction {
 
     @Override
     public boolean filter(Row record) {
-        Boolean accept = (Boolean) condition.evaluate(record);
+        Boolean accept = (Boolean) compiledCondition.evaluate(record);
         return accept != null && accept;
     }
 
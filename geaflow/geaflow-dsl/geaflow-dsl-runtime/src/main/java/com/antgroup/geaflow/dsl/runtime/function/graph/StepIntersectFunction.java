@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.graph;
+
+import com.antgroup.geaflow.dsl.common.data.Path;
+import com.antgroup.geaflow.dsl.common.data.RowEdge;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunctionImpl.IntersectEdge;
+import com.antgroup.geaflow.state.pushdown.filter.IFilter;
+import java.util.List;
+
+public interface StepIntersectFunction extends StepFunction {
+
+    /**
+     * The filter to load the adjacency of current vertex for all the intersect edges.
+     */
+    IFilter getEdgesFilter();
+
+    List<IntersectEdge> getIntersectEdges();
+
+    /**
+     * Append the closing edges and their end vertices to the input path.
+     *
+     * @param path The input path ending at current vertex.
+     * @param edges The matched edge of each intersect edge.
+     * @return The joined path.
+     */
+    Path join(Path path, RowEdge[] edges);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.graph;
+
+import com.antgroup.geaflow.common.binary.BinaryString;
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.dsl.common.data.Path;
+import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.dsl.common.data.RowEdge;
+import com.antgroup.geaflow.dsl.common.data.StepRecord;
+import com.antgroup.geaflow.dsl.common.data.impl.DefaultPath;
+import com.antgroup.geaflow.dsl.common.types.EdgeType;
+import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.traversal.TraversalRuntimeContext;
+import com.antgroup.geaflow.dsl.runtime.traversal.collector.StepCollector;
+import com.antgroup.geaflow.dsl.sqlnode.SqlMatchEdge.EdgeDirection;
+import com.antgroup.geaflow.state.pushdown.filter.EmptyFilter;
+import com.antgroup.geaflow.state.pushdown.filter.IFilter;
+import com.antgroup.geaflow.state.pushdown.filter.InEdgeFilter;
+import com.antgroup.geaflow.state.pushdown.filter.OutEdgeFilter;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class StepIntersectFunctionImpl implements StepIntersectFunction {
+
+    private final IType<?>[] inputTypes;
+
+    private final List<IntersectEdge> intersectEdges;
+
+    public StepIntersectFunctionImpl(IType<?>[] inputTypes, List<IntersectEdge> intersectEdges) {
+        this.inputTypes = Objects.requireNonNull(inputTypes);
+        this.intersectEdges = Objects.requireNonNull(intersectEdges);
+        assert !intersectEdges.isEmpty();
+    }
+
+    @Override
+    public IFilter getEdgesFilter() {
+        EdgeDirection loadDirection = intersectEdges.get(0).getLoadDirection();
+        for (IntersectEdge intersectEdge : intersectEdges) {
+            if (intersectEdge.getLoadDirection() != loadDirection) {
+                loadDirection = EdgeDirection.BOTH;
+                break;
+            }
+        }
+        switch (loadDirection) {
+            case OUT:
+                return OutEdgeFilter.instance();
+            case IN:
+                return InEdgeFilter.instance();
+            default:
+                return EmptyFilter.of();
+        }
+    }
+
+    @Override
+    public List<IntersectEdge> getIntersectEdges() {
+        return intersectEdges;
+    }
+
+    @Override
+    public Path join(Path path, RowEdge[] edges) {
+        Row[] joinPath = new Row[inputTypes.length + 3 * intersectEdges.size()];
+        int i;
+        for (i = 0; i < inputTypes.length; i++) {
+            joinPath[i] = path.getField(i, inputTypes[i]);
+        }
+        for (int k = 0; k < intersectEdges.size(); k++) {
+            IntersectEdge intersectEdge = intersectEdges.get(k);
+            joinPath[i++] = joinPath[intersectEdge.getSrcPathIndex()];
+            joinPath[i++] = edges[k];
+            joinPath[i++] = joinPath[intersectEdge.getTargetPathIndex()];
+        }
+        return new DefaultPath(joinPath);
+    }
+
+    @Override
+    public void open(TraversalRuntimeContext context, FunctionSchemas schemas) {
+
+    }
+
+    @Override
+    public void finish(StepCollector<StepRecord> collector) {
+
+    }
+
+    @Override
+    public List<Expression> getExpressions() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public StepFunction copy(List<Expression> expressions) {
+        assert expressions.isEmpty();
+        return new StepIntersectFunctionImpl(inputTypes, intersectEdges);
+    }
+
+    /**
+     * An edge pattern whose both end vertices have been bound in the input path, e.g. the
+     * edge "(a) - (c)" in the triangle "(a) - (b) - (c), (a) - (c)".
+     */
+    public static class IntersectEdge implements Serializable {
+
+        private final String label;
+
+        private final EdgeDirection direction;
+
+        private final Set<BinaryString> edgeTypes;
+
+        private final EdgeType edgeType;
+
+        private final int srcPathIndex;
+
+        private final int targetPathIndex;
+
+        /**
+         * Whether current vertex is the target vertex of the edge pattern, in which case the
+         * edges are loaded in the reverse direction and reversed back before added to the path.
+         */
+        private final boolean reverse;
+
+        public IntersectEdge(String label, EdgeDirection direction, Set<BinaryString> edgeTypes,
+                             EdgeType edgeType, int srcPathIndex, int targetPathIndex,
+                             boolean reverse) {
+            this.label = Objects.requireNonNull(label);
+            this.direction = Objects.requireNonNull(direction);
+            this.edgeTypes = Objects.requireNonNull(edgeTypes);
+            this.edgeType = Objects.requireNonNull(edgeType);
+            this.srcPathIndex = srcPathIndex;
+            this.targetPathIndex = targetPathIndex;
+            this.reverse = reverse;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public EdgeType getEdgeType() {
+            return edgeType;
+        }
+
+        public int getSrcPathIndex() {
+            return srcPathIndex;
+        }
+
+        public int getTargetPathIndex() {
+            return targetPathIndex;
+        }
+
+        /**
+         * The path index of the bound vertex which the adjacency of current vertex is
+         * intersected with.
+         */
+        public int getBoundPathIndex() {
+            return reverse ? srcPathIndex : targetPathIndex;
+        }
+
+        public EdgeDirection getLoadDirection() {
+            return reverse ? direction.reverse() : direction;
+        }
+
+        public boolean accept(RowEdge edge) {
+            EdgeDirection loadDirection = getLoadDirection();
+            if (loadDirection != EdgeDirection.BOTH
+                && !loadDirection.name().equals(edge.getDirection().name())) {
+                return false;
+            }
+            return edgeTypes.isEmpty() || edgeTypes.contains(edge.getBinaryLabel());
+        }
+
+        public RowEdge toPathEdge(RowEdge edge) {
+            return reverse ? edge.identityReverse() : edge;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+}
@@ -15,10 +15,40 @@
 package com.antgroup.geaflow.dsl.runtime.function.table;
 
 import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.dsl.common.data.RowKey;
+import com.antgroup.geaflow.dsl.common.function.FunctionContext;
 import java.io.Serializable;
-import org.apache.calcite.sql.JoinType;
+import org.apache.calcite.rel.core.JoinRelType;
 
 public interface JoinTableFunction extends Serializable {
 
-    Row join(Row left, Row right, JoinType joinType);
+    void open(FunctionContext context);
+
+    /**
+     * Returns the equi-join key of the left row, or null if any key field is null.
+     */
+    RowKey getLeftKey(Row left);
+
+    /**
+     * Returns the equi-join key of the right row, or null if any key field is null.
+     */
+    RowKey getRightKey(Row right);
+
+    /**
+     * Join two rows with the same key, returns null if the non-equi condition rejects them.
+     * A null right row pads the left row with nulls for the left outer join.
+     */
+    Row join(Row left, Row right);
+
+    JoinRelType getJoinType();
+
+    /**
+     * Whether the left input is the build side kept in the hash table.
+     */
+    boolean isBuildLeft();
+
+    /**
+     * Whether the build side is broadcast to all the probe tasks.
+     */
+    boolean isBroadcast();
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.table;
+
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.dsl.common.data.RowKey;
+import com.antgroup.geaflow.dsl.common.data.impl.ObjectRow;
+import com.antgroup.geaflow.dsl.common.data.impl.ObjectRowKey;
+import com.antgroup.geaflow.dsl.common.function.FunctionContext;
+import com.antgroup.geaflow.dsl.common.util.TypeCastUtil;
+import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.codegen.CompiledExpression;
+import java.util.Objects;
+import org.apache.calcite.rel.core.JoinRelType;
+
+public class JoinTableFunctionImpl implements JoinTableFunction {
+
+    private final JoinRelType joinType;
+
+    private final IType<?>[] leftTypes;
+
+    private final IType<?>[] rightTypes;
+
+    private final int[] leftKeyIndices;
+
+    private final int[] rightKeyIndices;
+
+    private final IType<?>[] keyTypes;
+
+    private final Expression condition;
+
+    private final CompiledExpression compiledCondition;
+
+    private final boolean buildLeft;
+
+    private final boolean broadcast;
+
+    public JoinTableFunctionImpl(JoinRelType joinType, IType<?>[] leftTypes, IType<?>[] rightTypes,
+                                 int[] leftKeyIndices, int[] rightKeyIndices, Expression condition,
+                                 boolean buildLeft, boolean broadcast) {
+        assert leftKeyIndices.length == rightKeyIndices.length;
+        this.joinType = Objects.requireNonNull(joinType);
+        this.leftTypes = Objects.requireNonNull(leftTypes);
+        this.rightTypes = Objects.requireNonNull(rightTypes);
+        this.leftKeyIndices = leftKeyIndices;
+        this.rightKeyIndices = rightKeyIndices;
+        this.keyTypes = new IType<?>[leftKeyIndices.length];
+        for (int i = 0; i < keyTypes.length; i++) {
+            keyTypes[i] = leftTypes[leftKeyIndices[i]];
+        }
+        this.condition = condition;
+        this.compiledCondition = condition == null ? null : new CompiledExpression(condition);
+        this.buildLeft = buildLeft;
+        this.broadcast = broadcast;
+    }
+
+    @Override
+    public void open(FunctionContext context) {
+        if (condition != null) {
+            condition.open(context);
+        }
+    }
+
+    @Override
+    public RowKey getLeftKey(Row left) {
+        return getKey(left, leftKeyIndices, leftTypes);
+    }
+
+    @Override
+    public RowKey getRightKey(Row right) {
+        return getKey(right, rightKeyIndices, rightTypes);
+    }
+
+    private RowKey getKey(Row row, int[] keyIndices, IType<?>[] fieldTypes) {
+        Object[] keys = new Object[keyIndices.length];
+        for (int i = 0; i < keys.length; i++) {
+            Object key = row.getField(keyIndices[i], fieldTypes[keyIndices[i]]);
+            if (key == null) {
+                return null;
+            }
+            // align the key type of both sides, e.g. int = bigint.
+            keys[i] = TypeCastUtil.cast(key, keyTypes[i]);
+        }
+        return ObjectRowKey.of(keys);
+    }
+
+    @Override
+    public Row join(Row left, Row right) {
+        Object[] fields = new Object[leftTypes.length + rightTypes.length];
+        for (int i = 0; i < leftTypes.length; i++) {
+            fields[i] = left.getField(i, leftTypes[i]);
+        }
+        if (right != null) {
+            for (int i = 0; i < rightTypes.length; i++) {
+                fields[leftTypes.length + i] = right.getField(i, rightTypes[i]);
+            }
+        }
+        Row joinRow = ObjectRow.create(fields);
+        if (right != null && compiledCondition != null) {
+            Boolean accept = (Boolean) compiledCondition.evaluate(joinRow);
+            if (accept == null || !accept) {
+                return null;
+            }
+        }
+        return joinRow;
+    }
+
+    @Override
+    public JoinRelType getJoinType() {
+        return joinType;
+    }
+
+    @Override
+    public boolean isBuildLeft() {
+        return buildLeft;
+    }
+
+    @Override
+    public boolean isBroadcast() {
+        return broadcast;
+    }
+}
@@ -16,6 +16,7 @@ package com.antgroup.geaflow.dsl.runtime.function.table;
 
 import com.antgroup.geaflow.dsl.common.data.Row;
 import com.antgroup.geaflow.dsl.common.function.FunctionContext;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.SortInfo;
 import java.io.Serializable;
 
 public interface OrderByFunction extends Serializable {
@@ -25,4 +26,6 @@ public interface OrderByFunction extends Serializable {
     void process(Row row);
 
     Iterable<Row> finish();
+
+    SortInfo getSortInfo();
 }
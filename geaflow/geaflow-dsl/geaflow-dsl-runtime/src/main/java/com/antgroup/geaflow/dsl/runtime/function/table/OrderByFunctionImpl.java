@@ -14,12 +14,13 @@
 
 package com.antgroup.geaflow.dsl.runtime.function.table;
 
+import com.antgroup.geaflow.common.config.keys.DSLConfigKeys;
 import com.antgroup.geaflow.dsl.common.data.Row;
 import com.antgroup.geaflow.dsl.common.function.FunctionContext;
+import com.antgroup.geaflow.dsl.runtime.function.table.order.ExternalSorter;
 import com.antgroup.geaflow.dsl.runtime.function.table.order.SortInfo;
 import com.antgroup.geaflow.dsl.runtime.function.table.order.TopNRowComparator;
 import com.google.common.collect.Lists;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.PriorityQueue;
 
@@ -29,7 +30,7 @@ public class OrderByFunctionImpl implements OrderByFunction {
 
     private PriorityQueue<Row> topNQueue;
 
-    private List<Row> allRows;
+    private ExternalSorter<Row> sorter;
 
     private TopNRowComparator<Row> topNRowComparator;
 
@@ -44,7 +45,9 @@ public class OrderByFunctionImpl implements OrderByFunction {
             this.topNQueue = new PriorityQueue<>(
                 sortInfo.fetch, topNRowComparator.getNegativeComparator());
         } else {
-            this.allRows = new ArrayList<>();
+            this.sorter = new ExternalSorter<>(topNRowComparator,
+                context.getConfig().getLong(DSLConfigKeys.GEAFLOW_DSL_SORT_SPILL_BYTES),
+                ExternalSorter.getSpillDir(context.getConfig()));
         }
     }
 
@@ -67,7 +70,7 @@ public class OrderByFunctionImpl implements OrderByFunction {
                 topNQueue.add(row);
             }
         } else {
-            allRows.add(row);
+            sorter.add(row);
         }
     }
 
@@ -79,10 +82,13 @@ public class OrderByFunctionImpl implements OrderByFunction {
             topNQueue.clear();
             return results;
         } else {
-            List<Row> sortedRows = new ArrayList<>(allRows);
-            sortedRows.sort(topNRowComparator);
-            allRows.clear();
-            return sortedRows;
+            // stream from the merge of the sorted runs.
+            return sorter::sortedIterator;
         }
     }
+
+    @Override
+    public SortInfo getSortInfo() {
+        return sortInfo;
+    }
 }
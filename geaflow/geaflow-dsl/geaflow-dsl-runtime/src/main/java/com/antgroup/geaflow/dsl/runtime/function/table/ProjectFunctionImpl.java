@@ -17,14 +17,18 @@ package com.antgroup.geaflow.dsl.runtime.function.table;
 import com.antgroup.geaflow.dsl.common.data.Row;
 import com.antgroup.geaflow.dsl.common.data.impl.ObjectRow;
 import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.codegen.CompiledExpression;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class ProjectFunctionImpl implements ProjectFunction {
 
-    private final List<Expression> projects;
+    private final List<CompiledExpression> projects;
 
     public ProjectFunctionImpl(List<Expression> projects) {
-        this.projects = projects;
+        this.projects = projects.stream()
+            .map(CompiledExpression::new)
+            .collect(Collectors.toList());
     }
 
     @Override
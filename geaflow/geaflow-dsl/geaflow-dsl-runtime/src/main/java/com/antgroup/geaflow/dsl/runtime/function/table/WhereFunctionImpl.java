@@ -16,18 +16,22 @@ package com.antgroup.geaflow.dsl.runtime.function.table;
 
 import com.antgroup.geaflow.dsl.common.data.Row;
 import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.codegen.CompiledExpression;
 
 public class WhereFunctionImpl implements WhereFunction {
 
     private final Expression condition;
 
+    private final CompiledExpression compiledCondition;
+
     public WhereFunctionImpl(Expression condition) {
         this.condition = condition;
+        this.compiledCondition = new CompiledExpression(condition);
     }
 
     @Override
     public boolean filter(Row row) {
-        Boolean accept = (Boolean) condition.evaluate(row);
+        Boolean accept = (Boolean) compiledCondition.evaluate(row);
         return accept != null && accept;
     }
 
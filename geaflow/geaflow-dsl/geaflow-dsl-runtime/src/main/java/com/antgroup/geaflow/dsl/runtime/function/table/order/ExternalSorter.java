@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.table.order;
+
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.JOB_APP_NAME;
+import static com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys.JOB_WORK_PATH;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * External merge sort. Values are buffered in memory until their estimated size reaches the
+ * spill bytes, then the buffer is sorted and written to a local file as a sorted run. The sorted output streams
+ * from a k-way merge of the runs, and the runs are dropped once the output is drained.
+ */
+public class ExternalSorter<T> implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalSorter.class);
+
+    private static final String SPILL_FILE_PREFIX = "sort-run-";
+
+    private static final String SPILL_DIR_NAME = "sort";
+
+    private final Comparator<T> comparator;
+    private final long spillBytes;
+    private final File spillDir;
+    private final List<SpillableRun<T>> runs;
+    private final SizeEstimator<T> sizeEstimator;
+    private List<T> buffer;
+    private long bufferBytes;
+
+    public ExternalSorter(Comparator<T> comparator, long spillBytes, File spillDir) {
+        this.comparator = comparator;
+        this.spillBytes = spillBytes;
+        this.spillDir = spillDir;
+        this.runs = new ArrayList<>();
+        this.sizeEstimator = new SizeEstimator<>();
+        this.buffer = new ArrayList<>();
+    }
+
+    public void add(T value) {
+        buffer.add(value);
+        bufferBytes += sizeEstimator.estimate(value);
+        if (bufferBytes >= spillBytes) {
+            spill();
+        }
+    }
+
+    private void spill() {
+        buffer.sort(comparator);
+        SpillableRun<T> run = new SpillableRun<>(createSpillFile(spillDir));
+        for (T value : buffer) {
+            run.add(value);
+        }
+        run.spill();
+        runs.add(run);
+        LOGGER.info("spill {} sorted values of {} bytes to run {}", buffer.size(), bufferBytes,
+            runs.size());
+        buffer = new ArrayList<>();
+        bufferBytes = 0;
+    }
+
+    /**
+     * Returns the sorted values, the sorter is reset when the iterator is drained.
+     */
+    public Iterator<T> sortedIterator() {
+        buffer.sort(comparator);
+        if (runs.isEmpty()) {
+            List<T> sorted = buffer;
+            buffer = new ArrayList<>();
+            bufferBytes = 0;
+            return sorted.iterator();
+        }
+        List<Iterator<T>> iterators = new ArrayList<>(runs.size() + 1);
+        for (SpillableRun<T> run : runs) {
+            iterators.add(run.iterator());
+        }
+        iterators.add(buffer.iterator());
+        MergeIterator<T> merged = new MergeIterator<>(iterators, comparator);
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                if (merged.hasNext()) {
+                    return true;
+                }
+                close();
+                return false;
+            }
+
+            @Override
+            public T next() {
+                return merged.next();
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        for (SpillableRun<T> run : runs) {
+            run.close();
+        }
+        runs.clear();
+        buffer = new ArrayList<>();
+        bufferBytes = 0;
+    }
+
+    public static File getSpillDir(Configuration config) {
+        return Paths.get(config.getString(JOB_WORK_PATH), config.getString(JOB_APP_NAME),
+            SPILL_DIR_NAME).toFile();
+    }
+
+    public static File createSpillFile(File spillDir) {
+        try {
+            if (!spillDir.exists() && !spillDir.mkdirs() && !spillDir.exists()) {
+                throw new IOException("Cannot create spill dir " + spillDir);
+            }
+            return File.createTempFile(SPILL_FILE_PREFIX, null, spillDir);
+        } catch (IOException e) {
+            throw new GeaFlowDSLException("Error in create spill file under " + spillDir, e);
+        }
+    }
+}
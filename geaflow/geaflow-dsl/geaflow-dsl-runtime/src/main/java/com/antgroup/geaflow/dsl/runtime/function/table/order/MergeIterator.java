@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.table.order;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of sorted iterators.
+ */
+public class MergeIterator<T> implements Iterator<T> {
+
+    private final PriorityQueue<Head<T>> heads;
+
+    public MergeIterator(List<Iterator<T>> iterators, Comparator<T> comparator) {
+        this.heads = new PriorityQueue<>(Math.max(1, iterators.size()),
+            (a, b) -> comparator.compare(a.value, b.value));
+        for (Iterator<T> iterator : iterators) {
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        T value = head.value;
+        if (head.iterator.hasNext()) {
+            head.value = head.iterator.next();
+            heads.add(head);
+        }
+        return value;
+    }
+
+    private static class Head<T> {
+
+        private T value;
+        private final Iterator<T> iterator;
+
+        private Head(T value, Iterator<T> iterator) {
+            this.value = value;
+            this.iterator = iterator;
+        }
+    }
+}
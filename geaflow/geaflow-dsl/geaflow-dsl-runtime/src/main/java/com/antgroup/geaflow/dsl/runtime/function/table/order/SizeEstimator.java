@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.dsl.runtime.function.table.order;
+
+import com.antgroup.geaflow.common.serialize.ISerializer;
+import com.antgroup.geaflow.common.serialize.SerializerFactory;
+
+/**
+ * Estimates the serialized size of values by sampling. One of every sample interval values is
+ * serialized, and the average size of the samples stands for the others.
+ */
+public class SizeEstimator<T> {
+
+    private static final int SAMPLE_INTERVAL = 64;
+
+    private final ISerializer serializer;
+    private long count;
+    private long sampledBytes;
+    private long sampledCount;
+
+    public SizeEstimator() {
+        this.serializer = SerializerFactory.getKryoSerializer();
+    }
+
+    /**
+     * Returns the estimated size of the value.
+     */
+    public long estimate(T value) {
+        if (count++ % SAMPLE_INTERVAL == 0) {
+            sampledBytes += serializer.serialize(value).length;
+            sampledCount++;
+        }
+        return getAverageSize();
+    }
+
+    public long getAverageSize() {
+        return sampledCount == 0 ? 0 : sampledBytes / sampledCount;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.table.order;
+
+import com.antgroup.geaflow.common.serialize.ISerializer;
+import com.antgroup.geaflow.common.serialize.SerializerFactory;
+import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * An ordered sequence of values which is appended in order and can move its in-memory
+ * buffer to a local file. Values are consumed from the head in order, the spilled ones first,
+ * so appending, spilling and consuming can interleave.
+ */
+public class SpillableRun<T> implements Closeable {
+
+    private final ISerializer serializer;
+    private final File file;
+    private ArrayDeque<T> buffer;
+    private DataOutputStream output;
+    private DataInputStream input;
+    private long spilledCount;
+    private long readCount;
+    // the spilled value read ahead by peek.
+    private T spilledHead;
+
+    public SpillableRun(File file) {
+        this.serializer = SerializerFactory.getKryoSerializer();
+        this.file = file;
+        this.buffer = new ArrayDeque<>();
+    }
+
+    public void add(T value) {
+        buffer.add(value);
+    }
+
+    public int getBufferSize() {
+        return buffer.size();
+    }
+
+    public void spill() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        try {
+            if (output == null) {
+                output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            }
+            for (T value : buffer) {
+                byte[] bytes = serializer.serialize(value);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+            // make the spilled values readable while the run is still appended.
+            output.flush();
+        } catch (IOException e) {
+            throw new GeaFlowDSLException("Error in spill to " + file, e);
+        }
+        spilledCount += buffer.size();
+        buffer = new ArrayDeque<>();
+    }
+
+    public boolean isEmpty() {
+        return spilledHead == null && readCount == spilledCount && buffer.isEmpty();
+    }
+
+    /**
+     * Returns the head value without removing it, or null if the run is empty.
+     */
+    public T peek() {
+        if (spilledHead == null && readCount < spilledCount) {
+            spilledHead = readSpilled();
+        }
+        return spilledHead != null ? spilledHead : buffer.peekFirst();
+    }
+
+    /**
+     * Removes and returns the head value, or null if the run is empty.
+     */
+    public T poll() {
+        T value = peek();
+        if (spilledHead != null) {
+            spilledHead = null;
+        } else {
+            buffer.pollFirst();
+        }
+        return value;
+    }
+
+    /**
+     * Returns an iterator which consumes the run from the head.
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                return poll();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T readSpilled() {
+        try {
+            if (input == null) {
+                input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            }
+            byte[] bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            readCount++;
+            return (T) serializer.deserialize(bytes);
+        } catch (IOException e) {
+            throw new GeaFlowDSLException("Error in read " + file, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(output);
+        IOUtils.closeQuietly(input);
+        output = null;
+        input = null;
+        FileUtils.deleteQuietly(file);
+        buffer = new ArrayDeque<>();
+        spilledCount = 0;
+        readCount = 0;
+        spilledHead = null;
+    }
+}
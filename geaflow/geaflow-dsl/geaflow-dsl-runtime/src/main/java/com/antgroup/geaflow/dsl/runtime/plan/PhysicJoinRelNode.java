@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.plan;
+
+import com.antgroup.geaflow.common.config.keys.DSLConfigKeys;
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import com.antgroup.geaflow.dsl.runtime.QueryContext;
+import com.antgroup.geaflow.dsl.runtime.RDataView;
+import com.antgroup.geaflow.dsl.runtime.RDataView.ViewType;
+import com.antgroup.geaflow.dsl.runtime.RuntimeGraph;
+import com.antgroup.geaflow.dsl.runtime.RuntimeTable;
+import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.ExpressionTranslator;
+import com.antgroup.geaflow.dsl.runtime.function.table.JoinTableFunction;
+import com.antgroup.geaflow.dsl.runtime.function.table.JoinTableFunctionImpl;
+import com.antgroup.geaflow.dsl.util.ExpressionUtil;
+import com.antgroup.geaflow.dsl.util.SqlTypeUtil;
+import java.util.Collections;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexNode;
+
+/**
+ * Equi hash join of two tables. The inner join builds on the input with the smaller
+ * estimated row count, while the left join always builds on the right input.
+ */
+public class PhysicJoinRelNode extends Join implements PhysicRelNode<RuntimeTable> {
+
+    public PhysicJoinRelNode(RelOptCluster cluster,
+                             RelTraitSet traitSet,
+                             RelNode left,
+                             RelNode right,
+                             RexNode condition,
+                             JoinRelType joinType) {
+        super(cluster, traitSet, left, right, condition, Collections.emptySet(), joinType);
+    }
+
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner,
+                                      RelMetadataQuery mq) {
+        return super.computeSelfCost(planner, mq);
+    }
+
+    @Override
+    public Join copy(RelTraitSet traitSet, RexNode conditionExpr, RelNode left,
+                     RelNode right, JoinRelType joinType, boolean semiJoinDone) {
+        return new PhysicJoinRelNode(getCluster(), traitSet, left, right, conditionExpr, joinType);
+    }
+
+    @Override
+    public RuntimeTable translate(QueryContext context) {
+        JoinInfo joinInfo = analyzeCondition();
+        if (joinInfo.leftKeys.isEmpty()) {
+            throw new GeaFlowDSLException("Join without equi condition is not supported: " + showSQL());
+        }
+        RexNode remaining = joinInfo.getRemaining(getCluster().getRexBuilder());
+        Expression condition = null;
+        if (!remaining.isAlwaysTrue()) {
+            condition = ExpressionTranslator.of(getRowType()).translate(remaining);
+        }
+
+        RelMetadataQuery mq = getCluster().getMetadataQuery();
+        double leftRowCount = mq.getRowCount(getLeft());
+        double rightRowCount = mq.getRowCount(getRight());
+        boolean buildLeft = joinType == JoinRelType.INNER && leftRowCount < rightRowCount;
+        long broadcastThreshold = getBroadcastThreshold(context);
+        boolean broadcast = (buildLeft ? leftRowCount : rightRowCount) <= broadcastThreshold;
+
+        JoinTableFunction joinFunction = new JoinTableFunctionImpl(joinType,
+            getFieldTypes(getLeft().getRowType().getFieldList()),
+            getFieldTypes(getRight().getRowType().getFieldList()),
+            joinInfo.leftKeys.toIntArray(), joinInfo.rightKeys.toIntArray(),
+            condition, buildLeft, broadcast);
+
+        RuntimeTable leftTable = translateInput(getLeft(), context);
+        RuntimeTable rightTable = translateInput(getRight(), context);
+        return leftTable.join(rightTable, joinFunction);
+    }
+
+    private static long getBroadcastThreshold(QueryContext context) {
+        String key = DSLConfigKeys.GEAFLOW_DSL_JOIN_BROADCAST_THRESHOLD.getKey();
+        if (context.getSetOptions().containsKey(key)) {
+            return Long.parseLong(context.getSetOptions().get(key));
+        }
+        return context.getGlobalConf().getLong(DSLConfigKeys.GEAFLOW_DSL_JOIN_BROADCAST_THRESHOLD);
+    }
+
+    private static RuntimeTable translateInput(RelNode input, QueryContext context) {
+        RDataView dataView = ((PhysicRelNode<?>) input).translate(context);
+        if (dataView.getType() == ViewType.TABLE) {
+            return (RuntimeTable) dataView;
+        } else if (dataView.getType() == ViewType.GRAPH) {
+            return ((RuntimeGraph) dataView).getPathTable();
+        }
+        throw new GeaFlowDSLException("DataView: " + dataView.getType() + " cannot support join");
+    }
+
+    private static IType<?>[] getFieldTypes(List<RelDataTypeField> fields) {
+        IType<?>[] types = new IType<?>[fields.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = SqlTypeUtil.convertType(fields.get(i).getType());
+        }
+        return types;
+    }
+
+    @Override
+    public String showSQL() {
+        return joinType + " JOIN ON " + ExpressionUtil.showExpression(condition, null, getRowType());
+    }
+}
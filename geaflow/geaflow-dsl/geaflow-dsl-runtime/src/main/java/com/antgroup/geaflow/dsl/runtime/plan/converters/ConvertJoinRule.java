@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.plan.converters;
+
+import com.antgroup.geaflow.dsl.runtime.plan.PhysicConvention;
+import com.antgroup.geaflow.dsl.runtime.plan.PhysicJoinRelNode;
+import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.convert.ConverterRule;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+
+public class ConvertJoinRule extends ConverterRule {
+
+    public static final ConverterRule INSTANCE = new ConvertJoinRule();
+
+    private ConvertJoinRule() {
+        super(LogicalJoin.class, Convention.NONE,
+            PhysicConvention.INSTANCE, ConvertJoinRule.class.getSimpleName());
+    }
+
+    @Override
+    public RelNode convert(RelNode rel) {
+        LogicalJoin join = (LogicalJoin) rel;
+        if (join.getJoinType() != JoinRelType.INNER && join.getJoinType() != JoinRelType.LEFT) {
+            return null;
+        }
+        if (join.analyzeCondition().leftKeys.isEmpty()) {
+            return null;
+        }
+        RelTraitSet relTraitSet = join.getTraitSet().replace(PhysicConvention.INSTANCE);
+
+        RelNode convertedLeft = convert(join.getLeft(),
+            join.getLeft().getTraitSet().replace(PhysicConvention.INSTANCE));
+        RelNode convertedRight = convert(join.getRight(),
+            join.getRight().getTraitSet().replace(PhysicConvention.INSTANCE));
+
+        return new PhysicJoinRelNode(join.getCluster(), relTraitSet, convertedLeft,
+            convertedRight, join.getCondition(), join.getJoinType());
+    }
+}
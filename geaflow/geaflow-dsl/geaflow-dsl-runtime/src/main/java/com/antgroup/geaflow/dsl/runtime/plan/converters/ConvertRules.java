@@ -23,6 +23,7 @@ public class ConvertRules {
         ConvertAggregateRule.INSTANCE,
         ConvertCorrelateRule.INSTANCE,
         ConvertFilterRule.INSTANCE,
+        ConvertJoinRule.INSTANCE,
         ConvertTableSortRule.INSTANCE,
         ConvertProjectRule.INSTANCE,
         ConvertTableModifyRule.INSTANCE,
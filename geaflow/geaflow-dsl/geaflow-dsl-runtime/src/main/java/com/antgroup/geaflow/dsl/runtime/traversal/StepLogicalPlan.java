@@ -27,6 +27,7 @@ import com.antgroup.geaflow.dsl.runtime.function.graph.MatchVertexFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.MatchVirtualEdgeFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepAggregateFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepBoolFunction;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepJoinFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepKeyFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepKeyFunctionImpl;
@@ -45,6 +46,7 @@ import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepExchangeOperator;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepFilterOperator;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepGlobalAggregateOperator;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepGlobalSortOperator;
+import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepIntersectOperator;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepJoinOperator;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepLocalAggregateOperator;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepLoopUntilOperator;
@@ -330,6 +332,14 @@ public class StepLogicalPlan implements Serializable {
             ;
     }
 
+    public StepLogicalPlan intersect(StepIntersectFunction function) {
+        StepIntersectOperator operator = new StepIntersectOperator(nextPlanId(), function);
+        return new StepLogicalPlan(this, operator)
+            .withGraphSchema(this.getGraphSchema())
+            .withInputPathSchema(this.getOutputPathSchema())
+            .withOutputType(this.getOutputType());
+    }
+
     public StepLogicalPlan sort(StepSortFunction sortFunction) {
         StepSortOperator localSortOperator = new StepSortOperator(nextPlanId(), sortFunction);
         StepLogicalPlan localSortPlan = new StepLogicalPlan(this, localSortOperator)
@@ -23,6 +23,7 @@ import com.antgroup.geaflow.dsl.calcite.EdgeRecordType;
 import com.antgroup.geaflow.dsl.calcite.PathRecordType;
 import com.antgroup.geaflow.dsl.calcite.VertexRecordType;
 import com.antgroup.geaflow.dsl.common.exception.GeaFlowDSLException;
+import com.antgroup.geaflow.dsl.common.types.EdgeType;
 import com.antgroup.geaflow.dsl.common.types.GraphSchema;
 import com.antgroup.geaflow.dsl.common.types.PathType;
 import com.antgroup.geaflow.dsl.common.types.TableField;
@@ -33,6 +34,7 @@ import com.antgroup.geaflow.dsl.rel.GraphMatch;
 import com.antgroup.geaflow.dsl.rel.PathModify.PathModifyExpression;
 import com.antgroup.geaflow.dsl.rel.PathSort;
 import com.antgroup.geaflow.dsl.rel.match.EdgeMatch;
+import com.antgroup.geaflow.dsl.rel.match.IMatchLabel;
 import com.antgroup.geaflow.dsl.rel.match.IMatchNode;
 import com.antgroup.geaflow.dsl.rel.match.LoopUtilMatch;
 import com.antgroup.geaflow.dsl.rel.match.MatchDistinct;
@@ -41,6 +43,7 @@ import com.antgroup.geaflow.dsl.rel.match.MatchJoin;
 import com.antgroup.geaflow.dsl.rel.match.MatchPathModify;
 import com.antgroup.geaflow.dsl.rel.match.MatchPathSort;
 import com.antgroup.geaflow.dsl.rel.match.MatchUnion;
+import com.antgroup.geaflow.dsl.rel.match.SingleMatchNode;
 import com.antgroup.geaflow.dsl.rel.match.SubQueryStart;
 import com.antgroup.geaflow.dsl.rel.match.VertexMatch;
 import com.antgroup.geaflow.dsl.rel.match.VirtualEdgeMatch;
@@ -56,6 +59,9 @@ import com.antgroup.geaflow.dsl.runtime.function.graph.MatchVirtualEdgeFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.MatchVirtualEdgeFunctionImpl;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepBoolFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepBoolFunctionImpl;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunction;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunctionImpl;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunctionImpl.IntersectEdge;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepJoinFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepJoinFunctionImpl;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepKeyFunction;
@@ -72,12 +78,14 @@ import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepSourceOperator.Co
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepSourceOperator.ParameterStartId;
 import com.antgroup.geaflow.dsl.runtime.traversal.operator.StepSourceOperator.StartId;
 import com.antgroup.geaflow.dsl.runtime.util.FilterPushDownUtil;
+import com.antgroup.geaflow.dsl.util.GQLRelUtil;
 import com.antgroup.geaflow.dsl.util.GQLRexUtil;
 import com.antgroup.geaflow.dsl.util.SqlTypeUtil;
 import com.antgroup.geaflow.state.data.TimeRange;
 import com.antgroup.geaflow.state.pushdown.filter.EdgeTsFilter;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -87,6 +95,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
@@ -277,6 +286,10 @@ public class StepLogicalPlanTranslator {
 
         @Override
         public StepLogicalPlan visitJoin(MatchJoin join) {
+            StepLogicalPlan intersectPlan = translateToIntersect(join);
+            if (intersectPlan != null) {
+                return intersectPlan;
+            }
             JoinInfo joinInfo = join.analyzeCondition();
             PathRecordType leftPathType = ((IMatchNode) join.getLeft()).getPathSchema();
             PathRecordType rightPathType = ((IMatchNode) join.getRight()).getPathSchema();
@@ -321,6 +334,103 @@ public class StepLogicalPlanTranslator {
             return joinPlan;
         }
 
+        /**
+         * Translate the joins which close cycles on the latest vertex of a single path pattern
+         * to an intersection, e.g. "(a) - (b) - (c), (a) - (c)". Each right side of the joins
+         * should be a single edge pattern whose both end vertices have been matched by the left
+         * path pattern. Return null if the joins cannot be translated.
+         */
+        private StepLogicalPlan translateToIntersect(MatchJoin join) {
+            List<MatchJoin> joins = new ArrayList<>();
+            RelNode left = join;
+            while (left instanceof MatchJoin) {
+                joins.add((MatchJoin) left);
+                left = ((MatchJoin) left).getLeft();
+            }
+            if (!(left instanceof SingleMatchNode) || !GQLRelUtil.isAllSingleMatch((IMatchNode) left)) {
+                return null;
+            }
+            SingleMatchNode pathPattern = (SingleMatchNode) left;
+            IMatchLabel latestNode = GQLRelUtil.getLatestMatchNode(pathPattern);
+            if (!(latestNode instanceof VertexMatch)) {
+                return null;
+            }
+            // The inner join closes the cycle first.
+            Collections.reverse(joins);
+            for (MatchJoin closeJoin : joins) {
+                if (!isCloseCycleJoin(closeJoin, pathPattern)) {
+                    return null;
+                }
+            }
+            List<String> leftFields = pathPattern.getPathSchema().getFieldNames();
+            List<IntersectEdge> intersectEdges = new ArrayList<>();
+            for (MatchJoin closeJoin : joins) {
+                VertexMatch targetMatch = (VertexMatch) closeJoin.getRight();
+                EdgeMatch edgeMatch = (EdgeMatch) targetMatch.getInput();
+                VertexMatch srcMatch = (VertexMatch) edgeMatch.getInput();
+
+                Set<BinaryString> edgeTypes = edgeMatch.getTypes().stream()
+                    .map(s -> (BinaryString) BinaryUtil.toBinaryForString(s))
+                    .collect(Collectors.toSet());
+                EdgeType edgeType = (EdgeType) SqlTypeUtil.convertType(edgeMatch.getNodeType());
+                boolean reverse = targetMatch.getLabel().equals(latestNode.getLabel());
+                intersectEdges.add(new IntersectEdge(edgeMatch.getLabel(), edgeMatch.getDirection(),
+                    edgeTypes, edgeType, leftFields.indexOf(srcMatch.getLabel()),
+                    leftFields.indexOf(targetMatch.getLabel()), reverse));
+            }
+            StepLogicalPlan leftPlan = visit(pathPattern);
+            StepIntersectFunction intersectFunction =
+                new StepIntersectFunctionImpl(leftPlan.getOutputPathSchema().getTypes(), intersectEdges);
+            PathType joinOutputPath = (PathType) SqlTypeUtil.convertType(join.getPathSchema());
+            return leftPlan.intersect(intersectFunction)
+                .withOutputPathSchema(joinOutputPath);
+        }
+
+        private boolean isCloseCycleJoin(MatchJoin join, SingleMatchNode pathPattern) {
+            if (join.getJoinType() != JoinRelType.INNER || !(join.getRight() instanceof VertexMatch)) {
+                return false;
+            }
+            VertexMatch targetMatch = (VertexMatch) join.getRight();
+            if (!(targetMatch.getInput() instanceof EdgeMatch)) {
+                return false;
+            }
+            EdgeMatch edgeMatch = (EdgeMatch) targetMatch.getInput();
+            if (!(edgeMatch.getInput() instanceof VertexMatch)
+                || ((VertexMatch) edgeMatch.getInput()).getInput() != null) {
+                return false;
+            }
+            VertexMatch srcMatch = (VertexMatch) edgeMatch.getInput();
+            String latestLabel = GQLRelUtil.getLatestMatchNode(pathPattern).getLabel();
+            if (!srcMatch.getLabel().equals(latestLabel) && !targetMatch.getLabel().equals(latestLabel)) {
+                return false;
+            }
+            // Both the end vertices should have been matched with the same node types.
+            for (VertexMatch vertexMatch : new VertexMatch[]{srcMatch, targetMatch}) {
+                SingleMatchNode boundMatch = pathPattern.find(node -> node instanceof VertexMatch
+                    && ((VertexMatch) node).getLabel().equals(vertexMatch.getLabel()));
+                if (boundMatch == null
+                    || !((VertexMatch) boundMatch).getTypes().equals(vertexMatch.getTypes())
+                    || !boundMatch.getNodeType().equals(vertexMatch.getNodeType())) {
+                    return false;
+                }
+            }
+            // The join condition should only be the equality of the two end vertices.
+            JoinInfo joinInfo = join.analyzeCondition();
+            if (!joinInfo.isEqui() || joinInfo.leftKeys.size() != 2) {
+                return false;
+            }
+            List<String> leftFields = ((IMatchNode) join.getLeft()).getPathSchema().getFieldNames();
+            List<String> rightFields = targetMatch.getPathSchema().getFieldNames();
+            for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+                String rightKey = rightFields.get(joinInfo.rightKeys.get(i));
+                if (!rightKey.equals(leftFields.get(joinInfo.leftKeys.get(i)))
+                    || (!rightKey.equals(srcMatch.getLabel()) && !rightKey.equals(targetMatch.getLabel()))) {
+                    return false;
+                }
+            }
+            return rightFields.size() == 3;
+        }
+
         @Override
         public StepLogicalPlan visitDistinct(MatchDistinct distinct) {
             RelNode input = distinct.getInput(0);
@@ -25,6 +25,7 @@ import com.antgroup.geaflow.dsl.runtime.traversal.data.CallRequestId;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.CallRequestWithStartVertexId;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.EdgeGroup;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequest;
+import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequestCache;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.IMessage;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.MessageBox;
 import com.antgroup.geaflow.dsl.runtime.traversal.message.MessageType;
@@ -57,6 +58,8 @@ public interface TraversalRuntimeContext {
 
     ParameterRequest getRequest();
 
+    ParameterRequestCache getRequestCache();
+
     default Row getParameters() {
         if (getRequest() != null) {
             return getRequest().getParameters();
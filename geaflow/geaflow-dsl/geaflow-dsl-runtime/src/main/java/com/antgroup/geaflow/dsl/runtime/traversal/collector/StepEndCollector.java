@@ -17,6 +17,7 @@ package com.antgroup.geaflow.dsl.runtime.traversal.collector;
 import com.antgroup.geaflow.dsl.common.data.StepRecord;
 import com.antgroup.geaflow.dsl.common.data.StepRecord.StepRecordType;
 import com.antgroup.geaflow.dsl.runtime.traversal.TraversalRuntimeContext;
+import com.antgroup.geaflow.dsl.runtime.traversal.data.ParameterRequest;
 import com.antgroup.geaflow.dsl.runtime.traversal.data.StepRecordWithPath;
 import com.antgroup.geaflow.dsl.runtime.traversal.path.ITreePath;
 import com.antgroup.geaflow.dsl.runtime.traversal.path.ParameterizedTreePath;
@@ -42,9 +43,15 @@ public class StepEndCollector implements StepCollector<StepRecord> {
             for (ITreePath path : recordWithPath.getPaths()) {
                 if (context.getParameters() != null) {
                     // If current is request with parameter, carry the request id and request parameter out.
-                    path = new ParameterizedTreePath(path, context.getRequest().getRequestId(), context.getParameters());
+                    ParameterRequest request = context.getRequest();
+                    context.takePath(new ParameterizedTreePath(path, request.getRequestId(), context.getParameters()));
+                    // The identical requests merged into current request share the same result.
+                    for (Object aliasRequestId : request.getAliasRequestIds()) {
+                        context.takePath(new ParameterizedTreePath(path, aliasRequestId, context.getParameters()));
+                    }
+                } else {
+                    context.takePath(path);
                 }
-                context.takePath(path);
             }
         }
     }
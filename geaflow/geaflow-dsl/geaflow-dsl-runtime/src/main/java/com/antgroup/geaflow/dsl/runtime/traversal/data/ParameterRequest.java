@@ -16,6 +16,8 @@ package com.antgroup.geaflow.dsl.runtime.traversal.data;
 
 import com.antgroup.geaflow.dsl.common.data.Row;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 public class ParameterRequest implements Serializable {
@@ -26,10 +28,21 @@ public class ParameterRequest implements Serializable {
 
     private final Row parameters;
 
+    /**
+     * The ids of the identical requests served by this request, see {@link ParameterRequestCache}.
+     */
+    private final List<Object> aliasRequestIds;
+
     public ParameterRequest(Object requestId, Object vertexId, Row parameters) {
+        this(requestId, vertexId, parameters, Collections.emptyList());
+    }
+
+    public ParameterRequest(Object requestId, Object vertexId, Row parameters,
+                            List<Object> aliasRequestIds) {
         this.requestId = requestId;
         this.vertexId = vertexId;
         this.parameters = parameters;
+        this.aliasRequestIds = Objects.requireNonNull(aliasRequestIds);
     }
 
     public Object getRequestId() {
@@ -44,6 +57,10 @@ public class ParameterRequest implements Serializable {
         return parameters;
     }
 
+    public List<Object> getAliasRequestIds() {
+        return aliasRequestIds;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -67,6 +84,7 @@ public class ParameterRequest implements Serializable {
             + "requestId=" + requestId
             + ", vertexId=" + vertexId
             + ", parameters=" + parameters
+            + ", aliasRequestIds=" + aliasRequestIds
             + '}';
     }
 }
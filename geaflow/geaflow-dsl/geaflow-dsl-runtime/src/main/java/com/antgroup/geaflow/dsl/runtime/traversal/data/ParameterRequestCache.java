@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.traversal.data;
+
+import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.metrics.common.MetricNameFormatter;
+import com.antgroup.geaflow.metrics.common.api.Counter;
+import com.antgroup.geaflow.metrics.common.api.MetricGroup;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Merges the identical parameter requests of one window into a single traversal. The requests
+ * with the same start vertex and parameters are served by the first of them, the others are
+ * carried as its alias request ids and the results are fanned out to them at the end of the
+ * traversal.
+ *
+ * <p>The cache belongs to the traversal runtime context of one query, and it is drained
+ * before the requests of a window are traversed, so a cached request never outlives the graph
+ * version it was issued against and the updates of the next window are always visible to it.
+ * At most capacity distinct requests are kept, the least recently used one is evicted and
+ * traversed on its own with the aliases collected so far.
+ */
+public class ParameterRequestCache {
+
+    private final int capacity;
+
+    private final Map<RequestKey, CachedRequest> cachedRequests;
+
+    private final List<ParameterRequest> evictedRequests = new ArrayList<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public ParameterRequestCache(int capacity, String name, MetricGroup metricGroup) {
+        this.capacity = capacity;
+        this.cachedRequests = new LinkedHashMap<RequestKey, CachedRequest>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RequestKey, CachedRequest> eldest) {
+                if (size() > ParameterRequestCache.this.capacity) {
+                    evictedRequests.add(eldest.getValue().toRequest());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hitCounter = metricGroup.counter(MetricNameFormatter.requestCacheHitName(name));
+        this.missCounter = metricGroup.counter(MetricNameFormatter.requestCacheMissName(name));
+    }
+
+    /**
+     * Add a request to the cache, it is merged into a cached request with the same start vertex
+     * and parameters if there is one.
+     */
+    public void add(Object requestId, Object vertexId, Row parameters) {
+        if (capacity <= 0) {
+            evictedRequests.add(new ParameterRequest(requestId, vertexId, parameters));
+            return;
+        }
+        RequestKey key = new RequestKey(vertexId, parameters);
+        CachedRequest cachedRequest = cachedRequests.get(key);
+        if (cachedRequest != null) {
+            cachedRequest.aliasRequestIds.add(requestId);
+            hitCounter.inc();
+        } else {
+            cachedRequests.put(key, new CachedRequest(requestId, vertexId, parameters));
+            missCounter.inc();
+        }
+    }
+
+    /**
+     * Take all the merged requests to traverse and clear the cache.
+     */
+    public List<ParameterRequest> drain() {
+        List<ParameterRequest> requests = new ArrayList<>(evictedRequests);
+        for (CachedRequest cachedRequest : cachedRequests.values()) {
+            requests.add(cachedRequest.toRequest());
+        }
+        evictedRequests.clear();
+        cachedRequests.clear();
+        return requests;
+    }
+
+    public int size() {
+        return cachedRequests.size();
+    }
+
+    private static class RequestKey {
+
+        private final Object vertexId;
+
+        private final Row parameters;
+
+        public RequestKey(Object vertexId, Row parameters) {
+            this.vertexId = vertexId;
+            this.parameters = parameters;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey)) {
+                return false;
+            }
+            RequestKey that = (RequestKey) o;
+            return Objects.equals(vertexId, that.vertexId)
+                && Objects.equals(parameters, that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(vertexId, parameters);
+        }
+    }
+
+    private static class CachedRequest {
+
+        private final Object requestId;
+
+        private final Object vertexId;
+
+        private final Row parameters;
+
+        private final List<Object> aliasRequestIds = new ArrayList<>();
+
+        public CachedRequest(Object requestId, Object vertexId, Row parameters) {
+            this.requestId = requestId;
+            this.vertexId = vertexId;
+            this.parameters = parameters;
+        }
+
+        public ParameterRequest toRequest() {
+            return new ParameterRequest(requestId, vertexId, parameters, aliasRequestIds);
+        }
+    }
+}
@@ -28,4 +28,9 @@ public class TraversalAll implements Serializable {
     public boolean equals(Object o) {
         return o instanceof TraversalAll;
     }
+
+    @Override
+    public int hashCode() {
+        return TraversalAll.class.getName().hashCode();
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.traversal.operator;
+
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.dsl.common.data.Path;
+import com.antgroup.geaflow.dsl.common.data.RowEdge;
+import com.antgroup.geaflow.dsl.common.data.RowVertex;
+import com.antgroup.geaflow.dsl.common.types.PathType;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunction;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunctionImpl.IntersectEdge;
+import com.antgroup.geaflow.dsl.runtime.traversal.TraversalRuntimeContext;
+import com.antgroup.geaflow.dsl.runtime.traversal.data.EdgeGroup;
+import com.antgroup.geaflow.dsl.runtime.traversal.data.VertexRecord;
+import com.antgroup.geaflow.dsl.runtime.traversal.path.TreePaths;
+import com.antgroup.geaflow.dsl.runtime.util.SchemaUtil;
+import com.antgroup.geaflow.metrics.common.MetricNameFormatter;
+import com.antgroup.geaflow.metrics.common.api.Histogram;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Close the cycles of a path pattern on current vertex. The adjacency of current vertex is
+ * loaded once and indexed by the neighbour id, then each input path is extended by intersecting
+ * the adjacency with all of its bound vertices, so the partial matches which cannot close the
+ * cycles are dropped here without being shuffled to a {@link StepJoinOperator}.
+ */
+public class StepIntersectOperator extends AbstractStepOperator<StepIntersectFunction, VertexRecord,
+    VertexRecord> {
+
+    private IType<?>[] inputPathTypes;
+
+    private Histogram loadEdgeHg;
+    private Histogram loadEdgeRt;
+
+    public StepIntersectOperator(long id, StepIntersectFunction function) {
+        super(id, function);
+    }
+
+    @Override
+    public void open(TraversalRuntimeContext context) {
+        super.open(context);
+        this.inputPathTypes = inputPathSchemas.get(0).getTypes();
+        this.loadEdgeHg = metricGroup.histogram(MetricNameFormatter.loadEdgeCountRtName(getName()));
+        this.loadEdgeRt = metricGroup.histogram(MetricNameFormatter.loadEdgeTimeRtName(getName()));
+    }
+
+    @Override
+    protected void processRecord(VertexRecord record) {
+        long startTs = System.currentTimeMillis();
+        EdgeGroup loadEdges = context.loadEdges(function.getEdgesFilter());
+        loadEdgeRt.update(System.currentTimeMillis() - startTs);
+
+        List<IntersectEdge> intersectEdges = function.getIntersectEdges();
+        // neighbour id -> edges for each intersect edge.
+        List<Map<Object, List<RowEdge>>> adjacencies = new ArrayList<>(intersectEdges.size());
+        for (int i = 0; i < intersectEdges.size(); i++) {
+            adjacencies.add(new HashMap<>());
+        }
+        int numEdge = 0;
+        for (RowEdge edge : loadEdges) {
+            for (int i = 0; i < intersectEdges.size(); i++) {
+                IntersectEdge intersectEdge = intersectEdges.get(i);
+                if (intersectEdge.accept(edge)) {
+                    RowEdge pathEdge = alignToEdgeSchema(intersectEdge.toPathEdge(edge), intersectEdge);
+                    adjacencies.get(i).computeIfAbsent(edge.getTargetId(), k -> new ArrayList<>(1))
+                        .add(pathEdge);
+                }
+            }
+            numEdge++;
+        }
+        loadEdgeHg.update(numEdge);
+        for (Map<Object, List<RowEdge>> adjacency : adjacencies) {
+            if (adjacency.isEmpty()) {
+                return;
+            }
+        }
+        List<Path> joinPaths = new ArrayList<>();
+        RowEdge[] matchEdges = new RowEdge[intersectEdges.size()];
+        for (Path path : record.getTreePath().toList()) {
+            intersect(path, adjacencies, 0, matchEdges, joinPaths);
+        }
+        if (!joinPaths.isEmpty()) {
+            collect(VertexRecord.of(record.getVertex(), TreePaths.createTreePath(joinPaths)));
+        }
+    }
+
+    private void intersect(Path path, List<Map<Object, List<RowEdge>>> adjacencies, int index,
+                           RowEdge[] matchEdges, List<Path> joinPaths) {
+        if (index == adjacencies.size()) {
+            joinPaths.add(function.join(path, matchEdges));
+            return;
+        }
+        int boundPathIndex = function.getIntersectEdges().get(index).getBoundPathIndex();
+        RowVertex boundVertex = (RowVertex) path.getField(boundPathIndex, inputPathTypes[boundPathIndex]);
+        if (boundVertex == null) {
+            return;
+        }
+        List<RowEdge> edges = adjacencies.get(index).get(boundVertex.getId());
+        if (edges == null) {
+            return;
+        }
+        for (RowEdge edge : edges) {
+            matchEdges[index] = edge;
+            intersect(path, adjacencies, index + 1, matchEdges, joinPaths);
+        }
+    }
+
+    private RowEdge alignToEdgeSchema(RowEdge edge, IntersectEdge intersectEdge) {
+        return SchemaUtil.alignToEdgeSchema(edge, getModifyGraphSchema().getEdge(edge.getLabel()),
+            intersectEdge.getEdgeType());
+    }
+
+    @Override
+    protected PathType concatInputPathType() {
+        // The output path is assembled by the function, no need to prune the input path.
+        return null;
+    }
+
+    @Override
+    public StepOperator<VertexRecord, VertexRecord> copyInternal() {
+        return new StepIntersectOperator(id, function);
+    }
+
+    @Override
+    public String toString() {
+        return getName() + " [" + StringUtils.join(function.getIntersectEdges(), ", ") + "]";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.expression.codegen;
+
+import com.antgroup.geaflow.common.type.Types;
+import com.antgroup.geaflow.dsl.common.data.Row;
+import com.antgroup.geaflow.dsl.common.data.impl.ObjectRow;
+import com.antgroup.geaflow.dsl.runtime.expression.Expression;
+import com.antgroup.geaflow.dsl.runtime.expression.binary.PlusExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.field.FieldExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.literal.LiteralExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.AndExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.GTExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.IsNotNullExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.NotExpression;
+import com.antgroup.geaflow.dsl.runtime.expression.logic.OrExpression;
+import com.google.common.collect.Lists;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ExpressionCompilerTest {
+
+    private static Expression buildCondition(long threshold) {
+        Expression plus = new PlusExpression(new FieldExpression(0, Types.LONG),
+            new LiteralExpression(1L, Types.LONG), Types.LONG);
+        Expression gt = new GTExpression(plus, new LiteralExpression(threshold, Types.LONG));
+        Expression notNull = new IsNotNullExpression(new FieldExpression(1, Types.LONG));
+        return new OrExpression(Lists.newArrayList(
+            new AndExpression(Lists.newArrayList(gt, notNull)),
+            new NotExpression(new IsNotNullExpression(new FieldExpression(0, Types.LONG)))));
+    }
+
+    @Test
+    public void testCompileCondition() {
+        Expression condition = buildCondition(10L);
+        ExpressionEvaluator evaluator = ExpressionCompiler.compile(condition);
+        Assert.assertTrue(evaluator.getClass().getName().endsWith("GeneratedExpression"));
+
+        Long[] values = new Long[]{null, 0L, 9L, 10L, 100L};
+        for (Long f0 : values) {
+            for (Long f1 : values) {
+                Row row = ObjectRow.create(f0, f1);
+                Assert.assertEquals(evaluator.evaluate(row), condition.evaluate(row));
+            }
+        }
+    }
+
+    @Test
+    public void testSourceIndependentOfLiteral() {
+        Assert.assertEquals(ExpressionCompiler.generateSource(buildCondition(10L)),
+            ExpressionCompiler.generateSource(buildCondition(20L)));
+        Assert.assertEquals(ExpressionCompiler.compile(buildCondition(10L)).getClass(),
+            ExpressionCompiler.compile(buildCondition(20L)).getClass());
+    }
+
+    @Test
+    public void testCompiledExpression() {
+        CompiledExpression expression = new CompiledExpression(new PlusExpression(
+            new FieldExpression(0, Types.INTEGER), new FieldExpression(1, Types.INTEGER), Types.INTEGER));
+        Assert.assertEquals(expression.evaluate(ObjectRow.create(1, 2)), 3);
+        Assert.assertNull(expression.evaluate(ObjectRow.create(1, null)));
+    }
+}
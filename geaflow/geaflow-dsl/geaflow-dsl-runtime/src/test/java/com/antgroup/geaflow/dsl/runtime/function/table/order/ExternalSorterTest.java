@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.function.table.order;
+
+import com.google.common.collect.Lists;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class ExternalSorterTest {
+
+    private final File spillDir = new File("/tmp/ExternalSorterTest");
+
+    @AfterMethod
+    public void tearDown() {
+        FileUtils.deleteQuietly(spillDir);
+    }
+
+    @Test
+    public void testSortWithSpill() {
+        ExternalSorter<Long> sorter = new ExternalSorter<>(Comparator.naturalOrder(), 1024, spillDir);
+        Random random = new Random(1);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 1050; i++) {
+            long value = random.nextInt(500);
+            sorter.add(value);
+            expected.add(value);
+        }
+        expected.sort(Comparator.naturalOrder());
+        // spilled on the estimated bytes of the buffered values.
+        Assert.assertTrue(spillDir.listFiles().length > 1);
+
+        List<Long> sorted = Lists.newArrayList(sorter.sortedIterator());
+        Assert.assertEquals(sorted, expected);
+        // runs are dropped once the output is drained.
+        Assert.assertEquals(spillDir.listFiles().length, 0);
+
+        sorter.add(2L);
+        sorter.add(1L);
+        Assert.assertEquals(Lists.newArrayList(sorter.sortedIterator()), Lists.newArrayList(1L, 2L));
+    }
+
+    @Test
+    public void testMergeSpillableRuns() {
+        List<SpillableRun<Integer>> runs = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            SpillableRun<Integer> run = new SpillableRun<>(ExternalSorter.createSpillFile(spillDir));
+            for (int i = 0; i < 10; i++) {
+                run.add(i * 3 + r);
+                if (i == 5) {
+                    run.spill();
+                }
+            }
+            runs.add(run);
+        }
+        List<Iterator<Integer>> iterators = new ArrayList<>();
+        for (SpillableRun<Integer> run : runs) {
+            iterators.add(run.iterator());
+        }
+        Iterator<Integer> merged = new MergeIterator<>(iterators, Comparator.naturalOrder());
+        for (int i = 0; i < 30; i++) {
+            Assert.assertEquals(merged.next().intValue(), i);
+        }
+        Assert.assertFalse(merged.hasNext());
+        runs.forEach(SpillableRun::close);
+    }
+
+    @Test
+    public void testConsumeWhileAppend() {
+        SpillableRun<Integer> run = new SpillableRun<>(ExternalSorter.createSpillFile(spillDir));
+        List<Integer> consumed = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            run.add(i);
+            if (i % 7 == 0) {
+                run.spill();
+            }
+            if (i % 2 == 0) {
+                Assert.assertEquals(run.peek(), run.poll());
+                consumed.add(i / 2);
+            }
+        }
+        Assert.assertEquals(run.getBufferSize(), 1);
+        Iterator<Integer> it = run.iterator();
+        while (it.hasNext()) {
+            consumed.add(it.next());
+        }
+        Assert.assertTrue(run.isEmpty());
+        Assert.assertNull(run.poll());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            expected.add(i);
+        }
+        Assert.assertEquals(consumed, expected);
+        run.close();
+    }
+}
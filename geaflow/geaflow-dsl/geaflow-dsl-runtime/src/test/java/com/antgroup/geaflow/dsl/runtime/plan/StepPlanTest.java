@@ -18,6 +18,7 @@ import com.antgroup.geaflow.common.binary.BinaryString;
 import com.antgroup.geaflow.common.type.IType;
 import com.antgroup.geaflow.common.type.Types;
 import com.antgroup.geaflow.dsl.calcite.GraphRecordType;
+import com.antgroup.geaflow.dsl.common.types.EdgeType;
 import com.antgroup.geaflow.dsl.common.types.GraphSchema;
 import com.antgroup.geaflow.dsl.common.types.PathType;
 import com.antgroup.geaflow.dsl.common.types.TableField;
@@ -26,6 +27,8 @@ import com.antgroup.geaflow.dsl.common.types.VoidType;
 import com.antgroup.geaflow.dsl.planner.GQLJavaTypeFactory;
 import com.antgroup.geaflow.dsl.runtime.function.graph.MatchEdgeFunctionImpl;
 import com.antgroup.geaflow.dsl.runtime.function.graph.MatchVertexFunctionImpl;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunctionImpl;
+import com.antgroup.geaflow.dsl.runtime.function.graph.StepIntersectFunctionImpl.IntersectEdge;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepJoinFunctionImpl;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepKeyFunction;
 import com.antgroup.geaflow.dsl.runtime.function.graph.StepKeyFunctionImpl;
@@ -172,6 +175,55 @@ public class StepPlanTest {
         );
     }
 
+    @Test
+    public void testIntersectLogicalPlan() {
+        StepLogicalPlan logicalPlan =
+            StepLogicalPlan.start()
+                    .withInputPathSchema(PathType.EMPTY)
+                    .withOutputPathSchema(PathType.EMPTY)
+                    .withOutputType(VoidType.INSTANCE)
+                    .withGraphSchema(createGraph())
+                .vertexMatch(new MatchVertexFunctionImpl(Sets.newHashSet(BinaryString.fromString(
+                    "person")), "a"))
+                    .withInputPathSchema(PathType.EMPTY)
+                    .withOutputPathSchema(PathType.EMPTY)
+                    .withOutputType(VoidType.INSTANCE)
+                    .withGraphSchema(createGraph())
+                .edgeMatch(new MatchEdgeFunctionImpl(EdgeDirection.OUT, Sets.newHashSet(), "e"))
+                    .withInputPathSchema(PathType.EMPTY)
+                    .withOutputPathSchema(PathType.EMPTY)
+                    .withOutputType(VoidType.INSTANCE)
+                    .withGraphSchema(createGraph())
+                .vertexMatch(new MatchVertexFunctionImpl(Sets.newHashSet(BinaryString.fromString(
+                    "person")), "b"))
+                    .withInputPathSchema(PathType.EMPTY)
+                    .withOutputPathSchema(PathType.EMPTY)
+                    .withOutputType(VoidType.INSTANCE)
+                    .withGraphSchema(createGraph())
+            ;
+        IntersectEdge intersectEdge = new IntersectEdge("f", EdgeDirection.OUT, Sets.newHashSet(),
+            EdgeType.emptyEdge(Types.of("Long")), 0, 2, true);
+        Assert.assertEquals(intersectEdge.getLoadDirection(), EdgeDirection.IN);
+        Assert.assertEquals(intersectEdge.getBoundPathIndex(), 0);
+
+        StepLogicalPlan intersectPlan = logicalPlan.intersect(new StepIntersectFunctionImpl(new IType[]{},
+                Lists.newArrayList(intersectEdge)))
+            .withOutputPathSchema(new PathType());
+        StepLogicalPlanSet logicalPlanSet = new StepLogicalPlanSet(intersectPlan);
+        logicalPlanSet.markChainable();
+        String planDesc = logicalPlanSet.getPlanSetDesc();
+        LOGGER.info("Logical plan:\n{}", planDesc);
+        Assert.assertEquals(planDesc,
+            "digraph G {\n" + "4 -> 5 [label= \"\"]\n" + "3 -> 4 [label= \"\"]\n"
+                + "2 -> 3 [label= \"chain = false\"]\n" + "1 -> 2 [label= \"\"]\n"
+                + "0 -> 1 [label= \"\"]\n"
+                + "5 [label= \"StepEnd-5\"]\n" + "4 [label= \"StepIntersect-4 [f]\"]\n"
+                + "3 [label= \"MatchVertex-3 [b]\"]\n" + "2 [label= \"MatchEdge-2(OUT) [e]\"]\n"
+                + "1 [label= \"MatchVertex-1 [a]\"]\n" + "0 [label= \"StepSource-0()\"]\n"
+                + "}"
+        );
+    }
+
     private GraphSchema createGraph() {
         TableField idField = new TableField("id", Types.of("Long"), false);
         VertexTable vTable = new VertexTable("testV", Collections.singletonList(idField),"id");
@@ -80,4 +80,31 @@ public class GQLJoinTest {
             .execute()
             .checkSinkResult();
     }
+
+    @Test
+    public void testJoin_008() throws Exception {
+        QueryTester
+            .build()
+            .withQueryPath("/query/gql_join_008.sql")
+            .execute()
+            .checkSinkResult();
+    }
+
+    @Test
+    public void testJoin_009() throws Exception {
+        QueryTester
+            .build()
+            .withQueryPath("/query/gql_join_009.sql")
+            .execute()
+            .checkSinkResult();
+    }
+
+    @Test
+    public void testJoin_010() throws Exception {
+        QueryTester
+            .build()
+            .withQueryPath("/query/gql_join_010.sql")
+            .execute()
+            .checkSinkResult();
+    }
 }
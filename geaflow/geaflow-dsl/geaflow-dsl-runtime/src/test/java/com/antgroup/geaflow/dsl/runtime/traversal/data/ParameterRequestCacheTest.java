@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.dsl.runtime.traversal.data;
+
+import com.antgroup.geaflow.dsl.common.data.impl.ObjectRow;
+import com.antgroup.geaflow.metrics.common.api.BlackHoleMetricGroup;
+import com.google.common.collect.Lists;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParameterRequestCacheTest {
+
+    @Test
+    public void testMergeIdenticalRequest() {
+        ParameterRequestCache cache = new ParameterRequestCache(16, "test", BlackHoleMetricGroup.INSTANCE);
+        cache.add(0L, 1L, ObjectRow.create(1L, "r1"));
+        cache.add(1L, 2L, ObjectRow.create(2L, "r2"));
+        cache.add(2L, 1L, ObjectRow.create(1L, "r1"));
+        cache.add(3L, 1L, ObjectRow.create(1L, "r3"));
+        Assert.assertEquals(cache.size(), 3);
+
+        List<ParameterRequest> requests = cache.drain();
+        Assert.assertEquals(requests.size(), 3);
+        Assert.assertEquals(requests.get(0).getRequestId(), 0L);
+        Assert.assertEquals(requests.get(0).getAliasRequestIds(), Lists.newArrayList(2L));
+        Assert.assertTrue(requests.get(1).getAliasRequestIds().isEmpty());
+        Assert.assertTrue(requests.get(2).getAliasRequestIds().isEmpty());
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertTrue(cache.drain().isEmpty());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedRequest() {
+        ParameterRequestCache cache = new ParameterRequestCache(2, "test", BlackHoleMetricGroup.INSTANCE);
+        cache.add(0L, 1L, ObjectRow.create(1L));
+        cache.add(1L, 2L, ObjectRow.create(2L));
+        cache.add(2L, 1L, ObjectRow.create(1L));
+        // request 1 is the least recently used one and is evicted.
+        cache.add(3L, 3L, ObjectRow.create(3L));
+        cache.add(4L, 2L, ObjectRow.create(2L));
+        Assert.assertEquals(cache.size(), 2);
+
+        List<ParameterRequest> requests = cache.drain();
+        Assert.assertEquals(requests.size(), 4);
+        Assert.assertEquals(requests.get(0).getRequestId(), 1L);
+        Assert.assertTrue(requests.get(0).getAliasRequestIds().isEmpty());
+        // request 0 with its alias is evicted by the new request of vertex 2.
+        Assert.assertEquals(requests.get(1).getRequestId(), 0L);
+        Assert.assertEquals(requests.get(1).getAliasRequestIds(), Lists.newArrayList(2L));
+        Assert.assertEquals(requests.get(2).getRequestId(), 3L);
+        Assert.assertEquals(requests.get(3).getRequestId(), 4L);
+    }
+
+    @Test
+    public void testDisableCache() {
+        ParameterRequestCache cache = new ParameterRequestCache(0, "test", BlackHoleMetricGroup.INSTANCE);
+        cache.add(0L, 1L, ObjectRow.create(1L));
+        cache.add(1L, 1L, ObjectRow.create(1L));
+        Assert.assertEquals(cache.drain().size(), 2);
+    }
+}
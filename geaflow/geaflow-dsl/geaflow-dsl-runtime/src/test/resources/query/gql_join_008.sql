@@ -0,0 +1,29 @@
+CREATE TABLE tbl_result (
+  a_id bigint,
+  b_id bigint,
+  c_id bigint,
+  e_src bigint,
+  e_target bigint,
+  weight double
+) WITH (
+	type='file',
+	geaflow.dsl.file.path='${target}'
+);
+
+USE GRAPH modern;
+
+INSERT INTO tbl_result
+SELECT
+	a_id,
+	b_id,
+	c_id,
+	e_src,
+	e_target,
+	weight
+FROM (
+  MATCH (a:person)-[:knows]->(b:person)-[:created]->(c), (a:person)-[e:created]->(c)
+  RETURN a.id as a_id, b.id as b_id, c.id as c_id, e.srcId as e_src,
+    e.targetId as e_target, e.weight as weight
+)
+;
+
@@ -0,0 +1,28 @@
+CREATE TABLE tbl_result (
+  a_id bigint,
+  b_id bigint,
+  c_id bigint,
+  e_weight double,
+  f_weight double
+) WITH (
+	type='file',
+	geaflow.dsl.file.path='${target}'
+);
+
+USE GRAPH modern;
+
+INSERT INTO tbl_result
+SELECT
+	a_id,
+	b_id,
+	c_id,
+	e_weight,
+	f_weight
+FROM (
+  MATCH (a:person)-[:knows]->(b:person)-[:created]->(c),
+        (a:person)-[e:created]->(c),
+        (b:person)-[f:created]->(c)
+  RETURN a.id as a_id, b.id as b_id, c.id as c_id, e.weight as e_weight, f.weight as f_weight
+)
+;
+
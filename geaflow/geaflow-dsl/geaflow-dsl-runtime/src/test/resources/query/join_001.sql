@@ -0,0 +1,35 @@
+CREATE TABLE users (
+	id bigint,
+	name varchar,
+	age int
+) WITH (
+	type='file',
+	geaflow.dsl.file.path = 'resource:///data/users.txt'
+);
+
+CREATE TABLE orders (
+	createTime bigint,
+	productId bigint,
+	orderId bigint,
+	units bigint,
+	user_name VARCHAR
+) WITH (
+	type='file',
+	geaflow.dsl.file.path = 'resource:///data/orders.txt'
+);
+
+CREATE TABLE console (
+	id bigint,
+	name varchar,
+	orderId bigint,
+	units bigint
+) WITH (
+	type='file',
+	geaflow.dsl.file.path=''
+);
+
+INSERT INTO console
+SELECT u.id, u.name, o.orderId, o.units
+FROM users u JOIN orders o ON u.id = o.productId AND o.units > u.age
+ORDER BY o.orderId
+;
@@ -0,0 +1,34 @@
+CREATE TABLE users (
+	id bigint,
+	name varchar,
+	age int
+) WITH (
+	type='file',
+	geaflow.dsl.file.path = 'resource:///data/users.txt'
+);
+
+CREATE TABLE orders (
+	createTime bigint,
+	productId bigint,
+	orderId bigint,
+	units bigint,
+	user_name VARCHAR
+) WITH (
+	type='file',
+	geaflow.dsl.file.path = 'resource:///data/orders.txt',
+	geaflow.dsl.window.size = 4
+);
+
+CREATE TABLE console (
+	orderId bigint,
+	productId bigint,
+	name varchar
+) WITH (
+	type='file',
+	geaflow.dsl.file.path='${target}'
+);
+
+INSERT INTO console
+SELECT o.orderId, o.productId, u.name
+FROM orders o LEFT JOIN users u ON o.productId = u.id
+;
@@ -46,6 +46,9 @@ public class MetricConstants {
     public static final String METRIC_PROCESS_RT = "processRt";
     public static final String METRIC_ITERATION = "iteration";
     public static final String METRIC_ITERATION_MSG_TPS = "iterationMsgTps";
+    public static final String METRIC_INPUT_QUEUE_SIZE = "inputQueueSize";
+    public static final String METRIC_INPUT_QUEUE_BYTES = "inputQueueBytes";
+    public static final String METRIC_INPUT_QUEUE_BLOCKED = "inputQueueBlocked";
 
     /**
      * Dsl metric name.
@@ -66,6 +69,8 @@ public class MetricConstants {
     public static final String METRIC_LOAD_EDGE_COUNT_RT = "loadEdgeCountRt";
     public static final String METRIC_LOAD_EDGE_TIME_RT = "loadEdgeTimeRt";
     public static final String METRIC_LOAD_VERTEX_TIME_RT = "loadVertexTimeRt";
+    public static final String METRIC_REQUEST_CACHE_HIT = "requestCacheHit";
+    public static final String METRIC_REQUEST_CACHE_MISS = "requestCacheMiss";
 
     /**
      * Metric unit.
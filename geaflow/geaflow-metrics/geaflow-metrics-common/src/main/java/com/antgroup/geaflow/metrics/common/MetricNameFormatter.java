@@ -85,6 +85,21 @@ public class MetricNameFormatter {
         return MetricRegistry.name(MetricConstants.METRIC_ITERATION_MSG_TPS, metricName);
     }
 
+    public static String inputQueueSizeMetricName(int workerId) {
+        String metricName = String.format("worker[%d]%s", workerId, MetricConstants.UNIT_N);
+        return MetricRegistry.name(MetricConstants.METRIC_INPUT_QUEUE_SIZE, metricName);
+    }
+
+    public static String inputQueueBytesMetricName(int workerId) {
+        String metricName = String.format("worker[%d]%s", workerId, MetricConstants.UNIT_N);
+        return MetricRegistry.name(MetricConstants.METRIC_INPUT_QUEUE_BYTES, metricName);
+    }
+
+    public static String inputQueueBlockedMetricName(int workerId) {
+        String metricName = String.format("worker[%d]%s", workerId, MetricConstants.UNIT_MS);
+        return MetricRegistry.name(MetricConstants.METRIC_INPUT_QUEUE_BLOCKED, metricName);
+    }
+
     //////////////////////////////
     // Dsl
     //////////////////////////////
@@ -169,4 +184,14 @@ public class MetricNameFormatter {
         return MetricRegistry.name(MetricConstants.METRIC_LOAD_VERTEX_TIME_RT, metricName);
     }
 
+    public static String requestCacheHitName(String name) {
+        String metricName = String.format("%s%s", name, MetricConstants.UNIT_N);
+        return MetricRegistry.name(MetricConstants.METRIC_REQUEST_CACHE_HIT, metricName);
+    }
+
+    public static String requestCacheMissName(String name) {
+        String metricName = String.format("%s%s", name, MetricConstants.UNIT_N);
+        return MetricRegistry.name(MetricConstants.METRIC_REQUEST_CACHE_MISS, metricName);
+    }
+
 }
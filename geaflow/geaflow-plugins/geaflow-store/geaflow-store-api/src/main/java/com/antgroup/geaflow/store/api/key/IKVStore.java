@@ -16,7 +16,20 @@ package com.antgroup.geaflow.store.api.key;
 
 import com.antgroup.geaflow.state.key.KeyValueTrait;
 import com.antgroup.geaflow.store.IBaseStore;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface IKVStore<K, V> extends KeyValueTrait<K, V>, IBaseStore {
 
+    /**
+     * Returns the values associated with the given keys in order, the value of a missing key
+     * is null. Remote stores override it to fetch the keys in one round trip.
+     */
+    default List<V> get(List<K> keys) {
+        List<V> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
 }
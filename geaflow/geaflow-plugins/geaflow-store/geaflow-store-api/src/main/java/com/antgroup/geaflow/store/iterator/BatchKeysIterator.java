@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.iterator;
+
+import com.antgroup.geaflow.state.pushdown.IStatePushDown;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Iterator fetching the keys batch by batch, the fetch function returns the results in the
+ * order of the batch keys and null for the absent ones.
+ */
+public class BatchKeysIterator<K, R> implements Iterator<R> {
+
+    private final List<K> keys;
+    private final int batchSize;
+    private final BiFunction<List<K>, Function<K, IStatePushDown>, List<R>> batchFetchFun;
+    private final Function<K, IStatePushDown> pushdownFun;
+    private int batchEnd;
+    private List<R> batch;
+    private int pos;
+    private R nextValue;
+
+    public BatchKeysIterator(List<K> keys, int batchSize,
+                             BiFunction<List<K>, Function<K, IStatePushDown>, List<R>> batchFetchFun,
+                             IStatePushDown pushdown) {
+        this.keys = keys;
+        this.batchSize = batchSize;
+        this.batchFetchFun = batchFetchFun;
+        this.pushdownFun = KeysIterator.getPushdownFun(pushdown);
+        this.batch = Collections.emptyList();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (nextValue == null) {
+            if (pos < batch.size()) {
+                nextValue = batch.get(pos++);
+            } else if (batchEnd < keys.size()) {
+                int batchStart = batchEnd;
+                batchEnd = Math.min(batchStart + batchSize, keys.size());
+                batch = batchFetchFun.apply(keys.subList(batchStart, batchEnd), pushdownFun);
+                pos = 0;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        R value = nextValue;
+        nextValue = null;
+        return value;
+    }
+}
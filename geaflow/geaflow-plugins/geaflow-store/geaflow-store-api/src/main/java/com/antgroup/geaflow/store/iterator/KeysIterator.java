@@ -26,7 +26,7 @@ public class KeysIterator<K, VV, EV, R> implements Iterator<R> {
 
     private final Iterator<K> iterator;
     private final BiFunction<K, IStatePushDown, R> fetchFun;
-    private Function<K, IStatePushDown> pushdownFun;
+    private final Function<K, IStatePushDown> pushdownFun;
     private R nextValue;
 
     public KeysIterator(List<K> keys,
@@ -34,14 +34,21 @@ public class KeysIterator<K, VV, EV, R> implements Iterator<R> {
         IStatePushDown pushdown) {
         this.fetchFun = fetchFun;
         this.iterator = keys.iterator();
+        this.pushdownFun = getPushdownFun(pushdown);
+    }
+
+    /**
+     * Returns the function to get the pushdown of each key, keyed filters are split into
+     * single filter pushdown.
+     */
+    public static <K> Function<K, IStatePushDown> getPushdownFun(IStatePushDown pushdown) {
         if (pushdown.getFilters() != null) {
             StatePushDown simpleKeyPushDown = StatePushDown.of()
                 .withEdgeLimit(pushdown.getEdgeLimit())
                 .withOrderField(pushdown.getOrderField());
-            this.pushdownFun = k -> simpleKeyPushDown.withFilter(
-                (IFilter) pushdown.getFilters().get(k));
+            return k -> simpleKeyPushDown.withFilter((IFilter) pushdown.getFilters().get(k));
         } else {
-            this.pushdownFun = k -> pushdown;
+            return k -> pushdown;
         }
     }
 
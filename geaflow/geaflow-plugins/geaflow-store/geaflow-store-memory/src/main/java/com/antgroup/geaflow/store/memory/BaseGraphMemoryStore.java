@@ -18,6 +18,9 @@ import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.data.OneDegreeGraph;
+import com.antgroup.geaflow.state.graph.encoder.EdgeAtom;
+import com.antgroup.geaflow.state.iterator.EdgeListCursor;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.iterator.IteratorWithFlatFn;
 import com.antgroup.geaflow.state.iterator.IteratorWithFn;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
@@ -41,9 +44,14 @@ import java.util.function.Function;
 
 public abstract class BaseGraphMemoryStore<K, VV, EV> extends BaseGraphStore implements IGraphStore<K, VV, EV> {
 
+    private EdgeListCursor<K, EV> edgeCursor;
+    // edges of one vertex are kept ordered by this atom, null means insertion order.
+    protected EdgeAtom sortAtom;
+
     @Override
     public void init(StoreContext context) {
         super.init(context);
+        edgeCursor = new EdgeListCursor<>();
     }
 
     protected abstract IVertex<K, VV> getVertex(K sid);
@@ -57,8 +65,10 @@ public abstract class BaseGraphMemoryStore<K, VV, EV> extends BaseGraphStore imp
     protected abstract List<IEdge<K, EV>> getEdges(K sid);
 
     protected List<IEdge<K, EV>> pushdownEdges(List<IEdge<K, EV>> list, IStatePushDown pushdown) {
-        if (pushdown.getOrderField() != null) {
-            list.sort(pushdown.getOrderField().getComparator());
+        EdgeAtom orderField = pushdown.getOrderField();
+        if (orderField != null && orderField != sortAtom) {
+            list = new ArrayList<>(list);
+            list.sort(orderField.getComparator());
         }
         List<IEdge<K, EV>> res = new ArrayList<>(list.size());
         Iterator<IEdge<K, EV>> it = list.iterator();
@@ -78,6 +88,11 @@ public abstract class BaseGraphMemoryStore<K, VV, EV> extends BaseGraphStore imp
         return pushdownEdges(getEdges(sid), pushdown);
     }
 
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        return edgeCursor.reset(sid, getEdges(sid, pushdown));
+    }
+
     @Override
     public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(K sid, IStatePushDown pushdown) {
         IVertex<K, VV> vertex = getVertex(sid, pushdown);
@@ -103,7 +118,7 @@ public abstract class BaseGraphMemoryStore<K, VV, EV> extends BaseGraphStore imp
 
     @Override
     public Iterator<IEdge<K, EV>> getEdgeIterator(IStatePushDown pushdown) {
-        Iterator<List<IEdge<K, EV>>> it = new MemoryEdgeScanPushDownIterator<>(getEdgesIterator(), pushdown);
+        Iterator<List<IEdge<K, EV>>> it = new MemoryEdgeScanPushDownIterator<>(getEdgesIterator(), pushdown, sortAtom);
         return new IteratorWithFlatFn<>(it, List::iterator);
     }
 
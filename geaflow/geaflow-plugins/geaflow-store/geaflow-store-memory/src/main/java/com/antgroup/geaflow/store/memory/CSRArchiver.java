@@ -0,0 +1,158 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.GraphMemoryCSRStore.CSRStore;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshot;
+import com.antgroup.geaflow.store.memory.snapshot.MemoryPersistClient;
+import com.google.common.base.Preconditions;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Archive and recover the csr of a shard, one snapshot file per checkpoint which is also
+ * committed to the remote store if enabled. A csr unchanged since the last archive is linked
+ * to the previous snapshot instead of being written again.
+ */
+public class CSRArchiver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSRArchiver.class);
+
+    private final boolean enable;
+    private final String snapshotDir;
+    private final int keepSnapshotNum;
+    private final MemoryPersistClient persistClient;
+    // snapshot file of the last archived or recovered csr.
+    private File archivedFile;
+    private long archivedChkId;
+
+    public CSRArchiver(StoreContext context) {
+        Configuration config = context.getConfig();
+        boolean remoteEnable = config.getBoolean(MemoryConfigKeys.SNAPSHOT_ENABLE);
+        this.enable = remoteEnable || config.getBoolean(MemoryConfigKeys.CSR_SNAPSHOT_ENABLE);
+        this.persistClient = remoteEnable ? new MemoryPersistClient(context) : null;
+        this.snapshotDir = Paths.get(config.getString(ExecutionConfigKeys.JOB_WORK_PATH),
+            config.getString(ExecutionConfigKeys.JOB_APP_NAME), context.getName(),
+            Integer.toString(context.getShardId()), "csr").toString();
+        this.keepSnapshotNum = config.getInteger(StateConfigKeys.STATE_ARCHIVED_VERSION_NUM);
+        this.archivedFile = null;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    /**
+     * Archive the csr as the snapshot of the checkpoint, changed tells whether the csr is
+     * rebuilt since the last archive or recovery.
+     */
+    public void archive(CSRStore<?, ?, ?> csrStore, long checkpointId, boolean changed) {
+        File file = CSRSnapshot.getFile(snapshotDir, checkpointId);
+        boolean unchanged = !changed && archivedFile != null && archivedFile.exists();
+        try {
+            Files.createDirectories(Paths.get(snapshotDir));
+            if (unchanged) {
+                // csr is unchanged since the last archive, link to the previous snapshot.
+                Files.deleteIfExists(file.toPath());
+                Files.createLink(file.toPath(), archivedFile.toPath());
+            } else {
+                long start = System.currentTimeMillis();
+                File tmpFile = CSRSnapshot.getTmpFile(snapshotDir, checkpointId);
+                csrStore.archive(tmpFile);
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+                LOGGER.info("archive csr snapshot {} size {} cost {}ms", file, file.length(),
+                    System.currentTimeMillis() - start);
+            }
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("archive csr fail"), e);
+        }
+        if (persistClient != null) {
+            // an unchanged csr is committed as an empty snapshot on top of the last one.
+            if (unchanged) {
+                persistClient.commit(checkpointId, archivedChkId, Collections.emptyList());
+            } else {
+                persistClient.commit(checkpointId, -1, Collections.singletonList(
+                    persistClient.submit(() -> {
+                        persistClient.upload(checkpointId, file);
+                        return null;
+                    })));
+            }
+        }
+        archivedFile = file;
+        archivedChkId = checkpointId;
+        CSRSnapshot.clean(snapshotDir, keepSnapshotNum);
+    }
+
+    /**
+     * Replace the csr with the snapshot of the checkpoint.
+     */
+    public void recover(CSRStore<?, ?, ?> csrStore, long checkpointId) {
+        File file = CSRSnapshot.getFile(snapshotDir, checkpointId);
+        long start = System.currentTimeMillis();
+        if (!file.exists() && persistClient != null) {
+            download(checkpointId, file);
+        }
+        if (!file.exists()) {
+            throw new GeaflowRuntimeException(
+                RuntimeErrors.INST.runError("csr snapshot not found " + file));
+        }
+        csrStore.recover(file);
+        archivedFile = file;
+        archivedChkId = checkpointId;
+        LOGGER.info("recover csr snapshot {} cost {}ms", file, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Fetch the csr file from the full snapshot the checkpoint is based on.
+     */
+    private void download(long checkpointId, File file) {
+        long baseChkId = persistClient.getChain(checkpointId).get(0);
+        List<String> fileNames = persistClient.listFiles(baseChkId);
+        Preconditions.checkArgument(fileNames.size() == 1, "csr snapshot %s has files %s",
+            baseChkId, fileNames);
+        try {
+            Files.createDirectories(Paths.get(snapshotDir));
+            File remoteFile = persistClient.download(baseChkId, fileNames.get(0));
+            Files.move(remoteFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("recover csr fail"), e);
+        }
+    }
+
+    /**
+     * Returns the latest archived checkpoint id, 0 if there is none.
+     */
+    public long getLatestCheckpointId() {
+        if (persistClient != null) {
+            return persistClient.getLatestCheckpointId();
+        }
+        List<Long> checkpoints = CSRSnapshot.listCheckpoints(snapshotDir);
+        return checkpoints.isEmpty() ? 0 : checkpoints.get(checkpoints.size() - 1);
+    }
+}
@@ -16,11 +16,16 @@ package com.antgroup.geaflow.store.memory;
 
 import com.antgroup.geaflow.collection.array.PrimitiveArray;
 import com.antgroup.geaflow.collection.array.PrimitiveArrayFactory;
-import com.antgroup.geaflow.collection.map.MapFactory;
 import com.antgroup.geaflow.common.tuple.Tuple;
+import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
+import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.data.OneDegreeGraph;
+import com.antgroup.geaflow.state.graph.encoder.EdgeAtom;
+import com.antgroup.geaflow.state.graph.encoder.GraphKVEncoderFactory;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.iterator.IteratorWithFn;
 import com.antgroup.geaflow.state.iterator.IteratorWithFnThenFilter;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
@@ -28,27 +33,38 @@ import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
 import com.antgroup.geaflow.state.schema.GraphDataSchema;
 import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.csr.dict.IKeyDict;
+import com.antgroup.geaflow.store.memory.csr.dict.KeyDictFactory;
+import com.antgroup.geaflow.store.memory.csr.edge.CSREdgeCursor;
 import com.antgroup.geaflow.store.memory.csr.edge.EdgeArrayFactory;
 import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 import com.antgroup.geaflow.store.memory.csr.vertex.VertexArrayFactory;
 import com.google.common.base.Preconditions;
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.IntStream;
 
 public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV> {
+
     // inner csr store.
     private CSRStore<K, VV, EV> csrStore;
     private boolean isBuilt;
     private List<IVertex<K, VV>> vertexList;
     private List<IEdge<K, EV>> edgesList;
+    // csr is immutable after flush, so an archived csr is never changed.
+    private CSRArchiver archiver;
 
     @Override
     public void init(StoreContext context) {
@@ -57,6 +73,8 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
         vertexList = new ArrayList<>();
         edgesList = new ArrayList<>();
         csrStore = new CSRStore<>(context);
+        sortAtom = GraphKVEncoderFactory.initEdgeOrder(context.getConfig(), context.getGraphSchema());
+        archiver = new CSRArchiver(context);
     }
 
     @Override
@@ -83,6 +101,13 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
         return csrStore.getEdges(sid);
     }
 
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        Preconditions.checkArgument(isBuilt, "flush first.");
+        IEdgeCursor<K, EV> cursor = csrStore.getEdgeCursor(sid, pushdown, sortAtom);
+        return cursor != null ? cursor : super.getEdgeCursor(sid, pushdown);
+    }
+
     @Override
     public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(K sid, IStatePushDown pushdown) {
         int pos = csrStore.getDictId(sid);
@@ -107,12 +132,51 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
 
     @Override
     public void flush() {
+        if (sortAtom != null) {
+            // the scatter keeps the input order of edges of one key, so the edge columns
+            // of every key are laid out by the declared sort atom.
+            this.edgesList.sort(sortAtom.getComparator());
+        }
         this.csrStore.build(vertexList, edgesList);
         this.vertexList = null;
         this.edgesList = null;
         this.isBuilt = true;
     }
 
+    @Override
+    public void archive(long checkpointId) {
+        if (!archiver.isEnable()) {
+            return;
+        }
+        if (!isBuilt) {
+            flush();
+        }
+        archiver.archive(csrStore, checkpointId, false);
+    }
+
+    @Override
+    public void recovery(long checkpointId) {
+        if (!archiver.isEnable()) {
+            return;
+        }
+        archiver.recover(csrStore, checkpointId);
+        vertexList = null;
+        edgesList = null;
+        isBuilt = true;
+    }
+
+    @Override
+    public long recoveryLatest() {
+        if (!archiver.isEnable()) {
+            return 0;
+        }
+        long checkpointId = archiver.getLatestCheckpointId();
+        if (checkpointId > 0) {
+            recovery(checkpointId);
+        }
+        return checkpointId;
+    }
+
     @Override
     public void close() {
 
@@ -147,7 +211,7 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
 
     @Override
     protected Iterator<K> getKeyIterator() {
-        return csrStore.getDict().keySet().iterator();
+        return csrStore.getDict().keyIterator();
     }
 
     @Override
@@ -157,32 +221,39 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
 
     public static class CSRStore<K, VV, EV> {
 
-        public static final int NON_EXIST = -1;
+        public static final int NON_EXIST = IKeyDict.NON_EXIST;
+        private static final int PARALLEL_BUILD_MIN_EDGES = 1 << 16;
+        private final GraphDataSchema graphDataSchema;
         private final Class<K> keyClazz;
+        private final int buildParallelism;
+        private final boolean offHeap;
 
-        private Map<K, Integer> kDict;
+        private IKeyDict<K> kDict;
         private IVertexArray<K, VV> vertexArray;
         private IEdgeArray<K, EV> edgeArray;
         private PrimitiveArray<K> reverse;
+        private CSREdgeCursor<K, EV> edgeCursor;
+        private int edgeNum;
 
         public CSRStore(StoreContext context) {
-            GraphDataSchema graphDataSchema = context.getGraphSchema();
+            this.graphDataSchema = context.getGraphSchema();
             this.keyClazz = graphDataSchema.getKeyType().getTypeClass();
-            kDict = MapFactory.buildMap(keyClazz, Integer.TYPE);
+            this.buildParallelism = context.getConfig().getInteger(MemoryConfigKeys.CSR_BUILD_PARALLELISM);
+            this.offHeap = context.getConfig().getBoolean(MemoryConfigKeys.CSR_OFFHEAP_ENABLE);
+            kDict = KeyDictFactory.getKeyDict(keyClazz);
             vertexArray = VertexArrayFactory.getVertexArray(graphDataSchema);
             edgeArray = EdgeArrayFactory.getEdgeArray(graphDataSchema);
         }
 
         public int getDictIdOrRegister(K id) {
-            int res = kDict.computeIfAbsent(id, k -> kDict.size());
-            return res;
+            return kDict.getOrRegister(id);
         }
 
         public int getDictId(K id) {
-            return kDict.getOrDefault(id, NON_EXIST);
+            return kDict.get(id);
         }
 
-        public Map<K, Integer> getDict() {
+        public IKeyDict<K> getDict() {
             return kDict;
         }
 
@@ -196,48 +267,287 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
             return edgeArray.getRangeEdges(sid, edgePosRange.f0, edgePosRange.f1);
         }
 
+        /**
+         * Returns the reused cursor over the edge columns of the key if the pushdown needs no
+         * more than a direction filter and the order of the sort atom, otherwise null.
+         */
+        public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown, EdgeAtom sortAtom) {
+            if (pushdown.getEdgeLimit() != null || pushdown.getFilters() != null
+                || (pushdown.getOrderField() != null && pushdown.getOrderField() != sortAtom)) {
+                return null;
+            }
+            switch (pushdown.getFilter().getFilterType()) {
+                case EMPTY:
+                    return getEdgeCursor(sid, (EdgeDirection) null);
+                case OUT_EDGE:
+                    return getEdgeCursor(sid, EdgeDirection.OUT);
+                case IN_EDGE:
+                    return getEdgeCursor(sid, EdgeDirection.IN);
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Returns the reused cursor over the edge columns of the key, only edges of the given
+         * direction are visited if direction is not null.
+         */
+        public IEdgeCursor<K, EV> getEdgeCursor(K sid, EdgeDirection direction) {
+            int pos = getDictId(sid);
+            if (pos == NON_EXIST) {
+                return edgeCursor.reset(sid, 0, 0, direction);
+            }
+            int start = pos == 0 ? 0 : vertexArray.getNextPos(pos - 1);
+            return edgeCursor.reset(sid, start, vertexArray.getNextPos(pos), direction);
+        }
+
         public IVertex<K, VV> getVertex(K id) {
             int pos = getDictId(id);
             return pos == NON_EXIST ? null : getVertex(id, pos);
         }
 
-        private IVertex<K, VV> getVertex(K id, int pos) {
+        public IVertex<K, VV> getVertex(K id, int pos) {
             return vertexArray.getVertex(id, pos);
         }
 
+        public K getKey(int pos) {
+            return reverse.get(pos);
+        }
+
+        /**
+         * Two-pass counting sort build. The first pass registers keys and counts the out degree
+         * of each key, the prefix sum of degrees gives the edge range of each key, and the second
+         * pass scatters edges directly into the edge columns, in parallel across edge chunks.
+         */
         public void build(List<IVertex<K, VV>> vertexList, List<IEdge<K, EV>> edgesList) {
-            List<List<IEdge<K, EV>>> edgesListTmp = new ArrayList<>();
+            IVertex<K, VV>[] vertices = new IVertex[vertexList.size()];
             for (IVertex<K, VV> vertex : vertexList) {
-                int dictId = getDictIdOrRegister(vertex.getId());
-                edgesListTmp.add(dictId, new LinkedList<>());
-            }
-            edgesList.forEach(edge -> {
-                int oldSize = kDict.size();
-                int dictId = getDictIdOrRegister(edge.getSrcId());
-                if (dictId > oldSize - 1) { // new register.
-                    vertexList.add(dictId, null);
-                    edgesListTmp.add(dictId, new LinkedList<>());
+                vertices[getDictIdOrRegister(vertex.getId())] = vertex;
+            }
+            int edgesNum = edgesList.size();
+            int[] srcPos = new int[edgesNum];
+            for (int i = 0; i < edgesNum; i++) {
+                srcPos[i] = getDictIdOrRegister(edgesList.get(i).getSrcId());
+            }
+
+            int keyNum = kDict.size();
+            reverse = offHeap ? PrimitiveArrayFactory.getOffHeapArray(this.keyClazz, keyNum)
+                      : PrimitiveArrayFactory.getCustomArray(this.keyClazz, keyNum);
+            Iterator<K> keyIt = kDict.keyIterator();
+            while (keyIt.hasNext()) {
+                K key = keyIt.next();
+                reverse.set(kDict.get(key), key);
+            }
+
+            // offsets[i + 1] - offsets[i] is the out degree of key i.
+            int[] offsets = new int[keyNum + 1];
+            for (int pos : srcPos) {
+                offsets[pos + 1]++;
+            }
+            vertexArray.init(keyNum);
+            for (int i = 0; i < keyNum; i++) {
+                vertexArray.set(i, i < vertices.length ? vertices[i] : null);
+                vertexArray.updateVId2EPos(i, offsets[i + 1]);
+                offsets[i + 1] += offsets[i];
+            }
+
+            edgeArray.init(keyClazz, edgesNum, offHeap);
+            scatterEdges(edgesList, srcPos, offsets);
+            edgeCursor = new CSREdgeCursor<>(edgeArray);
+            edgeNum = edgesNum;
+        }
+
+        /**
+         * Build the csr from the base csr and a delta of new vertices and edges. The columns of
+         * the base are copied position by position instead of being materialized as vertices
+         * and edges. Keys of the base keep their position and new keys are appended. The delta
+         * edges of a key are merged into its base edges by the sort atom, or appended after them
+         * if the atom is null.
+         */
+        public void merge(CSRStore<K, VV, EV> base,
+                          Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> delta,
+                          EdgeAtom sortAtom) {
+            int baseKeyNum = base.kDict.size();
+            for (int i = 0; i < baseKeyNum; i++) {
+                kDict.getOrRegister(base.reverse.get(i));
+            }
+            int edgesNum = base.edgeNum;
+            for (Entry<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> entry : delta.entrySet()) {
+                kDict.getOrRegister(entry.getKey());
+                edgesNum += entry.getValue().f1.size();
+            }
+
+            int keyNum = kDict.size();
+            reverse = offHeap ? PrimitiveArrayFactory.getOffHeapArray(this.keyClazz, keyNum)
+                      : PrimitiveArrayFactory.getCustomArray(this.keyClazz, keyNum);
+            Iterator<K> keyIt = kDict.keyIterator();
+            while (keyIt.hasNext()) {
+                K key = keyIt.next();
+                reverse.set(kDict.get(key), key);
+            }
+
+            vertexArray.init(keyNum);
+            edgeArray.init(keyClazz, edgesNum, offHeap);
+            int edgePos = 0;
+            for (int pos = 0; pos < keyNum; pos++) {
+                Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = delta.get(reverse.get(pos));
+                if (v != null && v.f0 != null) {
+                    vertexArray.set(pos, v.f0);
+                } else if (pos < baseKeyNum) {
+                    vertexArray.copy(base.vertexArray, pos, pos);
+                } else {
+                    vertexArray.set(pos, null);
                 }
-                edgesListTmp.get(dictId).add(edge);
-            });
-            reverse = PrimitiveArrayFactory.getCustomArray(this.keyClazz, kDict.size());
-            for (Entry<K, Integer> entry: kDict.entrySet()) {
-                reverse.set(entry.getValue(), entry.getKey());
-            }
-
-            vertexArray.init(vertexList.size());
-            int edgesNum = edgesListTmp.stream().mapToInt(value -> value != null ? value.size() : 0).sum();
-            edgeArray.init(keyClazz, edgesNum);
-            for (int i = 0; i < vertexList.size(); i++) {
-                vertexArray.set(i, vertexList.get(i));
-                int nextPos;
-                if (edgesListTmp.get(i) != null && !edgesListTmp.get(i).isEmpty()) {
-                    for (IEdge<K, EV> edge : edgesListTmp.get(i)) {
-                        nextPos = vertexArray.getNextPos(i);
-                        edgeArray.set(nextPos, edge);
-                        vertexArray.updateVId2EPos(i);
+                int baseStart = 0;
+                int baseEnd = 0;
+                if (pos < baseKeyNum) {
+                    baseStart = pos == 0 ? 0 : base.vertexArray.getNextPos(pos - 1);
+                    baseEnd = base.vertexArray.getNextPos(pos);
+                }
+                List<IEdge<K, EV>> deltaEdges = v == null ? Collections.emptyList() : v.f1;
+                int start = edgePos;
+                edgePos = mergeEdges(base.edgeArray, baseStart, baseEnd, deltaEdges, sortAtom,
+                    edgePos);
+                vertexArray.updateVId2EPos(pos, edgePos - start);
+            }
+            edgeCursor = new CSREdgeCursor<>(edgeArray);
+            edgeNum = edgesNum;
+        }
+
+        /**
+         * Write the base edges of [start, end) and the delta edges from pos, returns the next
+         * position. Base edges go first on ties, as the stable sort of the flush keeps them.
+         */
+        private int mergeEdges(IEdgeArray<K, EV> baseEdges, int start, int end,
+                               List<IEdge<K, EV>> deltaEdges, EdgeAtom sortAtom, int pos) {
+            int i = start;
+            if (sortAtom != null) {
+                if (deltaEdges.size() > 1) {
+                    deltaEdges = new ArrayList<>(deltaEdges);
+                    deltaEdges.sort(sortAtom.getComparator());
+                }
+                for (IEdge<K, EV> edge : deltaEdges) {
+                    while (i < end && compare(sortAtom, baseEdges, i, edge) <= 0) {
+                        edgeArray.copy(baseEdges, i++, pos++);
                     }
+                    edgeArray.set(pos++, edge);
                 }
+                while (i < end) {
+                    edgeArray.copy(baseEdges, i++, pos++);
+                }
+                return pos;
+            }
+            while (i < end) {
+                edgeArray.copy(baseEdges, i++, pos++);
+            }
+            for (IEdge<K, EV> edge : deltaEdges) {
+                edgeArray.set(pos++, edge);
+            }
+            return pos;
+        }
+
+        /**
+         * Compare the edge at pos of the edge columns with the edge as the comparator of the
+         * sort atom does, without building the column edge.
+         */
+        private static <K, EV> int compare(EdgeAtom sortAtom, IEdgeArray<K, EV> edges, int pos,
+                                           IEdge<K, EV> edge) {
+            switch (sortAtom) {
+                case TIME:
+                    return Long.compare(edges.getTime(pos),
+                        ((IGraphElementWithTimeField) edge).getTime());
+                case DESC_TIME:
+                    return Long.compare(((IGraphElementWithTimeField) edge).getTime(),
+                        edges.getTime(pos));
+                case DIRECTION:
+                    return Integer.compare(edge.getDirect().ordinal(),
+                        edges.getDirection(pos).ordinal());
+                case DST_ID:
+                    return ((Comparable) edges.getDstId(pos)).compareTo(edge.getTargetId());
+                case LABEL:
+                    return edges.getLabel(pos).compareTo(
+                        ((IGraphElementWithLabelField) edge).getLabel());
+                default:
+                    // edges of one key share the src id.
+                    return 0;
+            }
+        }
+
+        public int getEdgeNum() {
+            return edgeNum;
+        }
+
+        /**
+         * Write the csr columns into the snapshot file.
+         */
+        public void archive(File file) {
+            int keyNum = kDict.size();
+            try (CSRSnapshotWriter writer = new CSRSnapshotWriter(file, graphDataSchema)) {
+                writer.writeInt(keyNum);
+                writer.writeInt(edgeNum);
+                writer.writeKeys(reverse, keyNum);
+                vertexArray.write(writer, keyNum);
+                edgeArray.write(writer, edgeNum);
+            }
+        }
+
+        /**
+         * Replace the csr with the snapshot file, the fixed width key and edge topology columns
+         * are mapped in place instead of being loaded into heap.
+         */
+        public void recover(File file) {
+            try (CSRSnapshotReader reader = new CSRSnapshotReader(file, graphDataSchema)) {
+                int keyNum = reader.readInt();
+                edgeNum = reader.readInt();
+                reverse = reader.readKeys(keyNum);
+                kDict = KeyDictFactory.getKeyDict(keyClazz);
+                for (int i = 0; i < keyNum; i++) {
+                    kDict.getOrRegister(reverse.get(i));
+                }
+                vertexArray = VertexArrayFactory.getVertexArray(graphDataSchema);
+                vertexArray.read(reader, keyNum);
+                edgeArray = EdgeArrayFactory.getEdgeArray(graphDataSchema);
+                edgeArray.read(reader, edgeNum);
+                edgeCursor = new CSREdgeCursor<>(edgeArray);
+            }
+        }
+
+        private void scatterEdges(List<IEdge<K, EV>> edgesList, int[] srcPos, int[] offsets) {
+            // turn the key position of each edge into its position in the edge columns, edges
+            // of one key keep their input order.
+            int[] cursor = Arrays.copyOf(offsets, offsets.length - 1);
+            int[] edgePos = srcPos;
+            for (int i = 0; i < edgePos.length; i++) {
+                edgePos[i] = cursor[srcPos[i]]++;
+            }
+            int edgesNum = edgePos.length;
+            if (buildParallelism <= 1 || edgesNum < PARALLEL_BUILD_MIN_EDGES) {
+                scatterEdges(edgesList, edgePos, 0, edgesNum);
+                return;
+            }
+            // split the edges into even chunks, every edge has its own position in the edge
+            // columns so the chunks are written concurrently.
+            int edgesPerTask = (edgesNum + buildParallelism - 1) / buildParallelism;
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(buildParallelism);
+            for (int start = 0; start < edgesNum; start += edgesPerTask) {
+                final int rangeStart = start;
+                final int rangeEnd = Math.min(start + edgesPerTask, edgesNum);
+                tasks.add(ForkJoinTask.adapt(
+                    () -> scatterEdges(edgesList, edgePos, rangeStart, rangeEnd)));
+            }
+            ForkJoinPool pool = new ForkJoinPool(buildParallelism);
+            try {
+                tasks.forEach(pool::execute);
+                tasks.forEach(ForkJoinTask::join);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        private void scatterEdges(List<IEdge<K, EV>> edgesList, int[] edgePos, int start,
+                                  int end) {
+            for (int i = start; i < end; i++) {
+                edgeArray.set(edgePos[i], edgesList.get(i));
             }
         }
 
@@ -245,6 +555,7 @@ public class GraphMemoryCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV,
             kDict = null;
             vertexArray = null;
             edgeArray = null;
+            edgeCursor = null;
         }
     }
 
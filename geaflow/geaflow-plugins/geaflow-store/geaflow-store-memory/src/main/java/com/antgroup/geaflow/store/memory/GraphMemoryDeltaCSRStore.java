@@ -0,0 +1,327 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory;
+
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.tuple.Tuple;
+import com.antgroup.geaflow.common.utils.ExecutorUtil;
+import com.antgroup.geaflow.common.utils.ExecutorUtil.ExceptionHandler;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.state.graph.encoder.GraphKVEncoderFactory;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import com.antgroup.geaflow.state.iterator.IteratorWithFn;
+import com.antgroup.geaflow.state.iterator.IteratorWithFnThenFilter;
+import com.antgroup.geaflow.state.pushdown.IStatePushDown;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.GraphMemoryCSRStore.CSRStore;
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mutable csr graph store. The graph is kept as an immutable {@link CSRStore} base plus a
+ * small per-vertex delta segment receiving new writes. Once the delta exceeds the merge
+ * threshold it is frozen and merged with the base into a new csr in the background, while
+ * new writes go to a fresh delta segment. Edges are ordered by the declared sort atom and
+ * the base csr is archived the same way as {@link GraphMemoryCSRStore}.
+ */
+public class GraphMemoryDeltaCSRStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphMemoryDeltaCSRStore.class);
+    private static final int SLEEP_MILLI_SECOND = 10;
+
+    private int mergeThreshold;
+    private boolean asyncMerge;
+    // immutable view of base csr and the delta segment being merged, swapped atomically.
+    private volatile CSRView<K, VV, EV> view;
+    // delta segment receiving writes.
+    private Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> delta;
+    private int deltaSize;
+    private ExecutorService mergeService;
+    private ExceptionHandler mergeError;
+    private volatile Throwable exp;
+    private CSRArchiver archiver;
+    // whether the base csr is rebuilt since the last archive or recovery.
+    private volatile boolean merged;
+
+    @Override
+    public void init(StoreContext context) {
+        super.init(context);
+        this.mergeThreshold = context.getConfig().getInteger(MemoryConfigKeys.CSR_DELTA_MERGE_THRESHOLD);
+        this.asyncMerge = context.getConfig().getBoolean(MemoryConfigKeys.CSR_DELTA_ASYNC_MERGE_ENABLE);
+        this.sortAtom = GraphKVEncoderFactory.initEdgeOrder(context.getConfig(), context.getGraphSchema());
+        this.archiver = new CSRArchiver(context);
+        this.merged = false;
+        CSRStore<K, VV, EV> base = new CSRStore<>(context);
+        base.build(new ArrayList<>(), new ArrayList<>());
+        this.view = new CSRView<>(base, null);
+        this.delta = new ConcurrentHashMap<>();
+        this.deltaSize = 0;
+        this.exp = null;
+        if (this.mergeService == null) {
+            this.mergeService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new BasicThreadFactory.Builder()
+                .namingPattern("csr-merge-%d").daemon(true).build());
+        }
+        this.mergeError = exception -> {
+            exp = exception;
+            LOGGER.error("csr merge error", exception);
+        };
+    }
+
+    @Override
+    public void addEdge(IEdge<K, EV> edge) {
+        Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = delta.computeIfAbsent(edge.getSrcId(),
+            k -> Tuple.of(null, new ArrayList<>()));
+        v.f1.add(edge);
+        afterWrite();
+    }
+
+    @Override
+    public void addVertex(IVertex<K, VV> vertex) {
+        Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = delta.computeIfAbsent(vertex.getId(),
+            k -> Tuple.of(null, new ArrayList<>()));
+        v.f0 = vertex;
+        afterWrite();
+    }
+
+    private void afterWrite() {
+        deltaSize++;
+        if (deltaSize >= mergeThreshold && view.frozen == null) {
+            merge(asyncMerge);
+        }
+    }
+
+    @Override
+    protected IVertex<K, VV> getVertex(K sid) {
+        exceptionCheck();
+        Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = delta.get(sid);
+        if (v != null && v.f0 != null) {
+            return v.f0;
+        }
+        return view.getVertex(sid);
+    }
+
+    @Override
+    protected List<IEdge<K, EV>> getEdges(K sid) {
+        exceptionCheck();
+        List<IEdge<K, EV>> edges = view.getEdges(sid);
+        Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = delta.get(sid);
+        if (v != null && !v.f1.isEmpty()) {
+            edges.addAll(v.f1);
+        }
+        if (sortAtom != null) {
+            // base edges are a sorted run, only the appended delta edges are merged into it.
+            edges.sort(sortAtom.getComparator());
+        }
+        return edges;
+    }
+
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        exceptionCheck();
+        CSRView<K, VV, EV> current = view;
+        if (!delta.containsKey(sid)
+            && (current.frozen == null || !current.frozen.containsKey(sid))) {
+            IEdgeCursor<K, EV> cursor = current.base.getEdgeCursor(sid, pushdown, sortAtom);
+            if (cursor != null) {
+                return cursor;
+            }
+        }
+        return super.getEdgeCursor(sid, pushdown);
+    }
+
+    @Override
+    public void flush() {
+        exceptionCheck();
+        if (deltaSize >= mergeThreshold && view.frozen == null) {
+            merge(asyncMerge);
+        }
+    }
+
+    @Override
+    public void compact() {
+        waitMergeFinish();
+        if (deltaSize > 0) {
+            merge(false);
+        }
+    }
+
+    private void merge(boolean async) {
+        CSRView<K, VV, EV> current = view;
+        Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> frozen = delta;
+        LOGGER.info("merge csr delta with {} records, async {}", deltaSize, async);
+        this.view = new CSRView<>(current.base, frozen);
+        this.delta = new ConcurrentHashMap<>();
+        this.deltaSize = 0;
+        if (async) {
+            ExecutorUtil.execute(mergeService, () -> doMerge(current.base, frozen), mergeError);
+        } else {
+            doMerge(current.base, frozen);
+        }
+    }
+
+    private void doMerge(CSRStore<K, VV, EV> base,
+                         Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> frozen) {
+        long start = System.currentTimeMillis();
+        CSRStore<K, VV, EV> mergedStore = new CSRStore<>(storeContext);
+        mergedStore.merge(base, frozen, sortAtom);
+        // old base is left to gc, readers may still hold the previous view.
+        this.view = new CSRView<>(mergedStore, null);
+        this.merged = true;
+        LOGGER.info("merge csr finish, key num {}, edge num {}, cost {}ms",
+            mergedStore.getDict().size(), mergedStore.getEdgeNum(),
+            System.currentTimeMillis() - start);
+    }
+
+    private void waitMergeFinish() {
+        ExecutorUtil.spinLockMs(() -> view.frozen == null, this::exceptionCheck, SLEEP_MILLI_SECOND);
+    }
+
+    private void exceptionCheck() {
+        if (exp != null) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError(exp.getMessage()), exp);
+        }
+    }
+
+    @Override
+    protected Iterator<List<IEdge<K, EV>>> getEdgesIterator() {
+        return new IteratorWithFn<>(getKeyIterator(), this::getEdges);
+    }
+
+    @Override
+    protected Iterator<IVertex<K, VV>> getVertexIterator() {
+        return new IteratorWithFnThenFilter<>(getKeyIterator(), this::getVertex, Objects::nonNull);
+    }
+
+    @Override
+    protected Iterator<K> getKeyIterator() {
+        CSRView<K, VV, EV> current = view;
+        Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> active = delta;
+        Iterator<K> baseKeys = new IteratorWithFn<>(
+            IntStream.range(0, current.base.getDict().size()).iterator(), current.base::getKey);
+        Iterator<K> activeKeys = Iterators.filter(active.keySet().iterator(), k -> !current.contains(k));
+        if (current.frozen == null) {
+            return Iterators.concat(baseKeys, activeKeys);
+        }
+        Iterator<K> frozenKeys = Iterators.filter(current.frozen.keySet().iterator(),
+            k -> current.base.getDictId(k) == CSRStore.NON_EXIST);
+        return Iterators.concat(baseKeys, frozenKeys, activeKeys);
+    }
+
+    @Override
+    public void archive(long checkpointId) {
+        if (!archiver.isEnable()) {
+            return;
+        }
+        compact();
+        archiver.archive(view.base, checkpointId, merged);
+        merged = false;
+    }
+
+    @Override
+    public void recovery(long checkpointId) {
+        if (!archiver.isEnable()) {
+            return;
+        }
+        waitMergeFinish();
+        CSRStore<K, VV, EV> base = new CSRStore<>(storeContext);
+        archiver.recover(base, checkpointId);
+        this.view = new CSRView<>(base, null);
+        this.delta = new ConcurrentHashMap<>();
+        this.deltaSize = 0;
+        this.merged = false;
+    }
+
+    @Override
+    public long recoveryLatest() {
+        if (!archiver.isEnable()) {
+            return 0;
+        }
+        long checkpointId = archiver.getLatestCheckpointId();
+        if (checkpointId > 0) {
+            recovery(checkpointId);
+        }
+        return checkpointId;
+    }
+
+    @Override
+    public void close() {
+        ExecutorUtil.shutdown(mergeService);
+        mergeService = null;
+    }
+
+    @Override
+    public void drop() {
+        waitMergeFinish();
+        view.base.drop();
+        delta.clear();
+    }
+
+    private static class CSRView<K, VV, EV> {
+
+        private final CSRStore<K, VV, EV> base;
+        private final Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> frozen;
+
+        private CSRView(CSRStore<K, VV, EV> base,
+                        Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> frozen) {
+            this.base = base;
+            this.frozen = frozen;
+        }
+
+        private boolean contains(K key) {
+            return base.getDictId(key) != CSRStore.NON_EXIST
+                || (frozen != null && frozen.containsKey(key));
+        }
+
+        private IVertex<K, VV> getVertex(K key) {
+            if (frozen != null) {
+                Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = frozen.get(key);
+                if (v != null && v.f0 != null) {
+                    return v.f0;
+                }
+            }
+            return base.getVertex(key);
+        }
+
+        private List<IEdge<K, EV>> getEdges(K key) {
+            int pos = base.getDictId(key);
+            // csr range edges are always a fresh list, safe to append the delta.
+            List<IEdge<K, EV>> edges = pos == CSRStore.NON_EXIST
+                ? new ArrayList<>() : base.getEdges(key, pos);
+            if (frozen != null) {
+                Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = frozen.get(key);
+                if (v != null) {
+                    edges.addAll(v.f1);
+                }
+            }
+            return edges;
+        }
+    }
+}
@@ -14,22 +14,29 @@
 
 package com.antgroup.geaflow.store.memory;
 
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
 import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.state.graph.encoder.GraphKVEncoderFactory;
 import com.antgroup.geaflow.state.iterator.IteratorWithFnThenFilter;
 import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.snapshot.GraphSnapshotSerializer;
+import com.antgroup.geaflow.store.memory.snapshot.MemorySnapshot;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class GraphMemoryStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV> {
 
     protected Map<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> map;
+    private MemorySnapshot<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> snapshot;
+    private Set<K> unsortedKeys;
 
     public GraphMemoryStore() {
     }
@@ -38,6 +45,15 @@ public class GraphMemoryStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV>
     public void init(StoreContext context) {
         super.init(context);
         map = new ConcurrentHashMap<>();
+        unsortedKeys = ConcurrentHashMap.newKeySet();
+        // the graph meta is optional for the plain memory graph, only the edge order needs it.
+        if (!context.getConfig().getString(StateConfigKeys.STATE_KV_ENCODER_EDGE_ORDER).isEmpty()) {
+            sortAtom = GraphKVEncoderFactory.initEdgeOrder(context.getConfig(), context.getGraphSchema());
+        }
+        if (context.getConfig().getBoolean(MemoryConfigKeys.SNAPSHOT_ENABLE)) {
+            snapshot = new MemorySnapshot<>(context, new GraphSnapshotSerializer<>(
+                GraphKVEncoderFactory.build(context.getConfig(), context.getGraphSchema())));
+        }
     }
 
     @Override
@@ -45,7 +61,34 @@ public class GraphMemoryStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV>
         K srcId = edge.getSrcId();
         Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = map.computeIfAbsent(srcId,
             k -> Tuple.of(null, new ArrayList<>()));
+        int size = v.f1.size();
+        if (sortAtom != null && size > 0
+            && sortAtom.getComparator().compare(v.f1.get(size - 1), edge) > 0) {
+            unsortedKeys.add(srcId);
+        }
         v.f1.add(edge);
+        if (snapshot != null) {
+            snapshot.markDirty(srcId);
+        }
+    }
+
+    /**
+     * Edges out of order are appended and the edge list is sorted on the next read, the sort is
+     * stable so equal edges keep their insertion order.
+     */
+    private List<IEdge<K, EV>> sortEdges(K sid, List<IEdge<K, EV>> edges) {
+        if (unsortedKeys.remove(sid)) {
+            edges.sort(sortAtom.getComparator());
+        }
+        return edges;
+    }
+
+    private Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> getSorted(K sid) {
+        Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = map.get(sid);
+        if (v != null) {
+            sortEdges(sid, v.f1);
+        }
+        return v;
     }
 
     @Override
@@ -54,6 +97,9 @@ public class GraphMemoryStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV>
         Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = map.computeIfAbsent(srcId,
             k -> Tuple.of(null, new ArrayList<>()));
         v.f0 = vertex;
+        if (snapshot != null) {
+            snapshot.markDirty(srcId);
+        }
     }
 
     @Override
@@ -65,12 +111,12 @@ public class GraphMemoryStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV>
     @Override
     protected List<IEdge<K, EV>> getEdges(K sid) {
         Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> v = map.get(sid);
-        return v == null ? Collections.EMPTY_LIST : v.f1;
+        return v == null ? Collections.EMPTY_LIST : sortEdges(sid, v.f1);
     }
 
     @Override
     protected Iterator<List<IEdge<K, EV>>> getEdgesIterator() {
-        return map.values().stream().map(c -> c.f1).iterator();
+        return map.entrySet().stream().map(c -> sortEdges(c.getKey(), c.getValue().f1)).iterator();
     }
 
     @Override
@@ -83,6 +129,40 @@ public class GraphMemoryStore<K, VV, EV> extends BaseGraphMemoryStore<K, VV, EV>
         return map.keySet().iterator();
     }
 
+    @Override
+    public void archive(long checkpointId) {
+        if (snapshot != null) {
+            snapshot.archive(checkpointId, map.keySet(), this::getSorted);
+        }
+    }
+
+    @Override
+    public void recovery(long checkpointId) {
+        if (snapshot != null) {
+            map = new ConcurrentHashMap<>();
+            unsortedKeys.clear();
+            snapshot.recovery(checkpointId, (k, v) -> {
+                if (v == null) {
+                    map.remove(k);
+                } else {
+                    map.put(k, v);
+                }
+            });
+        }
+    }
+
+    @Override
+    public long recoveryLatest() {
+        if (snapshot == null) {
+            return super.recoveryLatest();
+        }
+        long chkId = snapshot.getLatestCheckpointId();
+        if (chkId > 0) {
+            recovery(chkId);
+        }
+        return chkId;
+    }
+
     @Override
     public void close() {
 
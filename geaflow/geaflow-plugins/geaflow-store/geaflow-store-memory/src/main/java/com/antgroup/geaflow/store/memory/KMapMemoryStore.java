@@ -14,9 +14,12 @@
 
 package com.antgroup.geaflow.store.memory;
 
+import com.antgroup.geaflow.state.serializer.IKMapSerializer;
 import com.antgroup.geaflow.store.AbstractBaseStore;
 import com.antgroup.geaflow.store.api.key.IKMapStore;
 import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.snapshot.KMapSnapshotSerializer;
+import com.antgroup.geaflow.store.memory.snapshot.MemorySnapshot;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -26,6 +29,7 @@ import java.util.Map;
 public class KMapMemoryStore<K, UK, UV> extends AbstractBaseStore implements IKMapStore<K, UK, UV> {
 
     private Map<K, Map<UK, UV>> memoryStore = new HashMap<>();
+    private MemorySnapshot<K, Map<UK, UV>> snapshot;
 
     @Override
     public Map<UK, UV> get(K key) {
@@ -44,17 +48,20 @@ public class KMapMemoryStore<K, UK, UV> extends AbstractBaseStore implements IKM
     public void add(K key, UK subKey, UV value) {
         Map<UK, UV> map = memoryStore.computeIfAbsent(key, k -> new HashMap<>());
         map.put(subKey, value);
+        markDirty(key);
     }
 
     @Override
     public void add(K key, Map<UK, UV> map) {
         Map<UK, UV> tmp = memoryStore.computeIfAbsent(key, k -> new HashMap<>());
         tmp.putAll(map);
+        markDirty(key);
     }
 
     @Override
     public void remove(K key) {
         this.memoryStore.remove(key);
+        markDirty(key);
     }
 
     @Override
@@ -62,12 +69,55 @@ public class KMapMemoryStore<K, UK, UV> extends AbstractBaseStore implements IKM
         if (memoryStore.containsKey(key)) {
             Map<UK, UV> map = get(key);
             Arrays.stream(subKeys).forEach(map::remove);
+            markDirty(key);
+        }
+    }
+
+    private void markDirty(K key) {
+        if (snapshot != null) {
+            snapshot.markDirty(key);
         }
     }
 
     @Override
     public void init(StoreContext storeContext) {
+        if (storeContext.getConfig().getBoolean(MemoryConfigKeys.SNAPSHOT_ENABLE)) {
+            this.snapshot = new MemorySnapshot<>(storeContext, new KMapSnapshotSerializer<>(
+                (IKMapSerializer<K, UK, UV>) storeContext.getKeySerializer()));
+        }
+    }
+
+    @Override
+    public void archive(long checkpointId) {
+        if (snapshot != null) {
+            snapshot.archive(checkpointId, memoryStore.keySet(), memoryStore::get);
+        }
+    }
+
+    @Override
+    public void recovery(long checkpointId) {
+        if (snapshot != null) {
+            this.memoryStore = new HashMap<>();
+            snapshot.recovery(checkpointId, (k, v) -> {
+                if (v == null) {
+                    this.memoryStore.remove(k);
+                } else {
+                    this.memoryStore.put(k, v);
+                }
+            });
+        }
+    }
 
+    @Override
+    public long recoveryLatest() {
+        if (snapshot == null) {
+            return super.recoveryLatest();
+        }
+        long chkId = snapshot.getLatestCheckpointId();
+        if (chkId > 0) {
+            recovery(chkId);
+        }
+        return chkId;
     }
 
     @Override
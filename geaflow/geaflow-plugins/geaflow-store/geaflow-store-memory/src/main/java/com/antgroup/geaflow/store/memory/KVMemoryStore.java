@@ -14,24 +14,33 @@
 
 package com.antgroup.geaflow.store.memory;
 
+import com.antgroup.geaflow.state.serializer.IKVSerializer;
 import com.antgroup.geaflow.store.AbstractBaseStore;
 import com.antgroup.geaflow.store.api.key.IKVStore;
 import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.snapshot.MemorySnapshot;
 import java.util.HashMap;
 import java.util.Map;
 
 public class KVMemoryStore<K, V> extends AbstractBaseStore implements IKVStore<K, V> {
 
     private Map<K, V> memoryStore = new HashMap<>();
+    private MemorySnapshot<K, V> snapshot;
 
     @Override
     public void put(K key, V value) {
         this.memoryStore.put(key, value);
+        if (snapshot != null) {
+            snapshot.markDirty(key);
+        }
     }
 
     @Override
     public void remove(K key) {
         this.memoryStore.remove(key);
+        if (snapshot != null) {
+            snapshot.markDirty(key);
+        }
     }
 
     @Override
@@ -41,7 +50,43 @@ public class KVMemoryStore<K, V> extends AbstractBaseStore implements IKVStore<K
 
     @Override
     public void init(StoreContext storeContext) {
+        if (storeContext.getConfig().getBoolean(MemoryConfigKeys.SNAPSHOT_ENABLE)) {
+            this.snapshot = new MemorySnapshot<>(storeContext,
+                (IKVSerializer<K, V>) storeContext.getKeySerializer());
+        }
+    }
+
+    @Override
+    public void archive(long checkpointId) {
+        if (snapshot != null) {
+            snapshot.archive(checkpointId, memoryStore.keySet(), memoryStore::get);
+        }
+    }
 
+    @Override
+    public void recovery(long checkpointId) {
+        if (snapshot != null) {
+            this.memoryStore = new HashMap<>();
+            snapshot.recovery(checkpointId, (k, v) -> {
+                if (v == null) {
+                    this.memoryStore.remove(k);
+                } else {
+                    this.memoryStore.put(k, v);
+                }
+            });
+        }
+    }
+
+    @Override
+    public long recoveryLatest() {
+        if (snapshot == null) {
+            return super.recoveryLatest();
+        }
+        long chkId = snapshot.getLatestCheckpointId();
+        if (chkId > 0) {
+            recovery(chkId);
+        }
+        return chkId;
     }
 
     @Override
@@ -23,4 +23,52 @@ public class MemoryConfigKeys {
         .key("geaflow.store.memory.csr.enable")
         .defaultValue(false)
         .description("memory graph layout csr or not, default false");
+
+    public static final ConfigKey CSR_DELTA_ENABLE = ConfigKeys
+        .key("geaflow.store.memory.csr.delta.enable")
+        .defaultValue(false)
+        .description("csr memory graph accepts writes after flush with a delta segment, default false");
+
+    public static final ConfigKey CSR_DELTA_MERGE_THRESHOLD = ConfigKeys
+        .key("geaflow.store.memory.csr.delta.merge.threshold")
+        .defaultValue(100000)
+        .description("record number of the csr delta segment to trigger merge, default 100000");
+
+    public static final ConfigKey CSR_DELTA_ASYNC_MERGE_ENABLE = ConfigKeys
+        .key("geaflow.store.memory.csr.delta.async.merge.enable")
+        .defaultValue(true)
+        .description("merge csr delta segment in background or not, default true");
+
+    public static final ConfigKey CSR_BUILD_PARALLELISM = ConfigKeys
+        .key("geaflow.store.memory.csr.build.parallelism")
+        .defaultValue(1)
+        .description("parallelism to scatter edges when building csr, default 1");
+
+    public static final ConfigKey CSR_OFFHEAP_ENABLE = ConfigKeys
+        .key("geaflow.store.memory.csr.offheap.enable")
+        .defaultValue(false)
+        .description("store csr keys and edge topology outside the java heap, default false");
+
+    public static final ConfigKey CSR_SNAPSHOT_ENABLE = ConfigKeys
+        .key("geaflow.store.memory.csr.snapshot.enable")
+        .defaultValue(false)
+        .description("write csr snapshot file on archive and map it on recovery, default false");
+
+    public static final ConfigKey SNAPSHOT_ENABLE = ConfigKeys
+        .key("geaflow.store.memory.snapshot.enable")
+        .defaultValue(false)
+        .description("persist memory store snapshot to the remote file system on archive, "
+            + "default false");
+
+    public static final ConfigKey SNAPSHOT_KEY_GROUP_NUM = ConfigKeys
+        .key("geaflow.store.memory.snapshot.key.group.num")
+        .defaultValue(8)
+        .description("number of key groups of a memory store snapshot, each one is written and "
+            + "restored by its own task, default 8");
+
+    public static final ConfigKey SNAPSHOT_FULL_INTERVAL = ConfigKeys
+        .key("geaflow.store.memory.snapshot.full.interval")
+        .defaultValue(10)
+        .description("number of incremental snapshots of the dirty keys between two full "
+            + "snapshots, default 10");
 }
@@ -35,7 +35,11 @@ public class MemoryStoreBuilder implements IStoreBuilder {
                 return new GraphMemoryMultiVersionedStore<>();
             case STATIC_GRAPH:
                 boolean csrEnable = config.getBoolean(MemoryConfigKeys.CSR_MEMORY_ENABLE);
-                return csrEnable ? new GraphMemoryCSRStore<>() : new GraphMemoryStore<>();
+                if (csrEnable) {
+                    boolean deltaEnable = config.getBoolean(MemoryConfigKeys.CSR_DELTA_ENABLE);
+                    return deltaEnable ? new GraphMemoryDeltaCSRStore<>() : new GraphMemoryCSRStore<>();
+                }
+                return new GraphMemoryStore<>();
             case KV:
                 return new KVMemoryStore<>();
             case KList:
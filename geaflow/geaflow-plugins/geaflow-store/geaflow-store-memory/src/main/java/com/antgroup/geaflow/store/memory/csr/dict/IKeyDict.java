@@ -0,0 +1,38 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+package com.antgroup.geaflow.store.memory.csr.dict;
+
+import java.util.Iterator;
+
+/**
+ * Dictionary mapping a vertex key to its dense csr position.
+ */
+public interface IKeyDict<K> {
+
+    int NON_EXIST = -1;
+
+    /**
+     * Return the position of the key, registering it with the next position if absent.
+     */
+    int getOrRegister(K key);
+
+    /**
+     * Return the position of the key or {@link #NON_EXIST}.
+     */
+    int get(K key);
+
+    int size();
+
+    Iterator<K> keyIterator();
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+package com.antgroup.geaflow.store.memory.csr.dict;
+
+import com.antgroup.geaflow.store.memory.csr.dict.type.IntKeyDict;
+import com.antgroup.geaflow.store.memory.csr.dict.type.LongKeyDict;
+import com.antgroup.geaflow.store.memory.csr.dict.type.ObjectKeyDict;
+
+public class KeyDictFactory {
+
+    public static <K> IKeyDict<K> getKeyDict(Class<K> keyClazz) {
+        if (keyClazz == Integer.class || keyClazz == Integer.TYPE) {
+            return (IKeyDict<K>) new IntKeyDict();
+        } else if (keyClazz == Long.class || keyClazz == Long.TYPE) {
+            return (IKeyDict<K>) new LongKeyDict();
+        }
+        return new ObjectKeyDict<>(keyClazz);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+package com.antgroup.geaflow.store.memory.csr.dict.type;
+
+import com.antgroup.geaflow.collection.map.MapFactory;
+import com.antgroup.geaflow.store.memory.csr.dict.IKeyDict;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.util.Iterator;
+
+public class IntKeyDict implements IKeyDict<Integer> {
+
+    private final Int2IntOpenHashMap dict;
+
+    public IntKeyDict() {
+        this.dict = (Int2IntOpenHashMap) MapFactory.buildMap(Integer.TYPE, Integer.TYPE);
+        this.dict.defaultReturnValue(NON_EXIST);
+    }
+
+    @Override
+    public int getOrRegister(Integer key) {
+        int k = key;
+        int pos = dict.get(k);
+        if (pos == NON_EXIST) {
+            pos = dict.size();
+            dict.put(k, pos);
+        }
+        return pos;
+    }
+
+    @Override
+    public int get(Integer key) {
+        return dict.get(key.intValue());
+    }
+
+    @Override
+    public int size() {
+        return dict.size();
+    }
+
+    @Override
+    public Iterator<Integer> keyIterator() {
+        return dict.keySet().iterator();
+    }
+}
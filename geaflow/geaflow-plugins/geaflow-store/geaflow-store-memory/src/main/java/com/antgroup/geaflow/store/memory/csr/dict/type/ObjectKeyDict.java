@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+package com.antgroup.geaflow.store.memory.csr.dict.type;
+
+import com.antgroup.geaflow.collection.map.MapFactory;
+import com.antgroup.geaflow.store.memory.csr.dict.IKeyDict;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Iterator;
+
+public class ObjectKeyDict<K> implements IKeyDict<K> {
+
+    private final Object2IntOpenHashMap<K> dict;
+
+    public ObjectKeyDict(Class<K> keyClazz) {
+        this.dict = (Object2IntOpenHashMap<K>) MapFactory.buildMap(keyClazz, Integer.TYPE);
+        this.dict.defaultReturnValue(NON_EXIST);
+    }
+
+    @Override
+    public int getOrRegister(K key) {
+        int pos = dict.getInt(key);
+        if (pos == NON_EXIST) {
+            pos = dict.size();
+            dict.put(key, pos);
+        }
+        return pos;
+    }
+
+    @Override
+    public int get(K key) {
+        return dict.getInt(key);
+    }
+
+    @Override
+    public int size() {
+        return dict.size();
+    }
+
+    @Override
+    public Iterator<K> keyIterator() {
+        return dict.keySet().iterator();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.memory.csr.edge;
+
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import java.util.NoSuchElementException;
+
+/**
+ * Edge cursor reading the edge columns of a csr range in place, no edge object is created.
+ */
+public class CSREdgeCursor<K, EV> implements IEdgeCursor<K, EV> {
+
+    private final IEdgeArray<K, EV> edgeArray;
+    private K srcId;
+    private EdgeDirection direction;
+    private int next;
+    private int end;
+    private int current;
+
+    public CSREdgeCursor(IEdgeArray<K, EV> edgeArray) {
+        this.edgeArray = edgeArray;
+    }
+
+    /**
+     * Reset the cursor to the edge range [start, end), only edges of the given direction are
+     * visited if direction is not null.
+     */
+    public CSREdgeCursor<K, EV> reset(K srcId, int start, int end, EdgeDirection direction) {
+        this.srcId = srcId;
+        this.next = start;
+        this.end = end;
+        this.direction = direction;
+        this.current = -1;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (direction != null) {
+            while (next < end && edgeArray.getDirection(next) != direction) {
+                next++;
+            }
+        }
+        return next < end;
+    }
+
+    @Override
+    public K nextTargetId() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        current = next++;
+        return edgeArray.getDstId(current);
+    }
+
+    @Override
+    public K srcId() {
+        return srcId;
+    }
+
+    @Override
+    public EdgeDirection direction() {
+        return edgeArray.getDirection(current);
+    }
+
+    @Override
+    public String label() {
+        return edgeArray.getLabel(current);
+    }
+
+    @Override
+    public long ts() {
+        return edgeArray.getTime(current);
+    }
+
+    @Override
+    public EV value() {
+        return edgeArray.getValue(current);
+    }
+}
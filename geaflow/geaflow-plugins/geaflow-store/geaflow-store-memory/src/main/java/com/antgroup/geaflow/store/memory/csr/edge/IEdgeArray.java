@@ -14,16 +14,44 @@
 
 package com.antgroup.geaflow.store.memory.csr.edge;
 
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 import java.util.List;
 
 public interface IEdgeArray<K, EV> {
 
-    void init(Class<K> keyType, int capacity);
+    void init(Class<K> keyType, int capacity, boolean offHeap);
 
     void set(int pos, IEdge<K, EV> edge);
 
+    /**
+     * Copy the edge at srcPos of an edge array of the same type into pos.
+     */
+    void copy(IEdgeArray<K, EV> src, int srcPos, int pos);
+
     List<IEdge<K, EV>> getRangeEdges(K sid, int start, int end);
 
+    K getDstId(int pos);
+
+    EdgeDirection getDirection(int pos);
+
+    String getLabel(int pos);
+
+    long getTime(int pos);
+
+    EV getValue(int pos);
+
+    /**
+     * Write the edge columns of [0, size) into the snapshot.
+     */
+    void write(CSRSnapshotWriter writer, int size);
+
+    /**
+     * Read the edge columns from the snapshot, which replaces the current columns.
+     */
+    void read(CSRSnapshotReader reader, int size);
+
     void drop();
 }
@@ -20,17 +20,26 @@ import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.edge.impl.IDEdge;
 import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 import java.util.ArrayList;
 import java.util.List;
 
 public class IDEdgeArray<K> implements IEdgeArray<K, Object> {
 
+    private static final EdgeDirection[] DIRECTIONS = EdgeDirection.values();
+
     private PrimitiveArray<K> dstIds;
     private PrimitiveArray<Byte> directions;
 
-    public void init(Class<K> keyType, int capacity) {
-        dstIds = PrimitiveArrayFactory.getCustomArray(keyType, capacity);
-        directions = PrimitiveArrayFactory.getCustomArray(Byte.class, capacity);
+    public void init(Class<K> keyType, int capacity, boolean offHeap) {
+        if (offHeap) {
+            dstIds = PrimitiveArrayFactory.getOffHeapArray(keyType, capacity);
+            directions = PrimitiveArrayFactory.getOffHeapArray(Byte.class, capacity);
+        } else {
+            dstIds = PrimitiveArrayFactory.getCustomArray(keyType, capacity);
+            directions = PrimitiveArrayFactory.getCustomArray(Byte.class, capacity);
+        }
     }
 
     @Override
@@ -46,12 +55,41 @@ public class IDEdgeArray<K> implements IEdgeArray<K, Object> {
         return new IDEdge<>(sid, getDstId(pos), getDirection(pos));
     }
 
-    protected K getDstId(int pos) {
+    @Override
+    public K getDstId(int pos) {
         return dstIds.get(pos);
     }
 
-    protected EdgeDirection getDirection(int pos) {
-        return EdgeDirection.values()[directions.get(pos)];
+    @Override
+    public EdgeDirection getDirection(int pos) {
+        return DIRECTIONS[directions.get(pos)];
+    }
+
+    @Override
+    public String getLabel(int pos) {
+        return null;
+    }
+
+    @Override
+    public long getTime(int pos) {
+        return 0;
+    }
+
+    @Override
+    public Object getValue(int pos) {
+        return null;
+    }
+
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        writer.writeKeys(dstIds, size);
+        writer.writeBytes(directions, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        dstIds = reader.readKeys(size);
+        directions = reader.readBytes(size);
     }
 
     @Override
@@ -60,6 +98,13 @@ public class IDEdgeArray<K> implements IEdgeArray<K, Object> {
         directions = null;
     }
 
+    @Override
+    public void copy(IEdgeArray<K, Object> src, int srcPos, int pos) {
+        IDEdgeArray<K> other = (IDEdgeArray<K>) src;
+        dstIds.set(pos, other.dstIds.get(srcPos));
+        directions.set(pos, other.directions.get(srcPos));
+    }
+
     @Override
     public void set(int pos, IEdge<K, Object> edge) {
         dstIds.set(pos, edge.getTargetId());
@@ -18,14 +18,17 @@ import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
 import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.edge.impl.IDLabelTimeEdge;
+import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 
 public class IDLabelTimeEdgeArray<K> extends IDEdgeArray<K> {
 
     private String[] labels;
     private long[] times;
 
-    public void init(Class<K> keyType, int capacity) {
-        super.init(keyType, capacity);
+    public void init(Class<K> keyType, int capacity, boolean offHeap) {
+        super.init(keyType, capacity, offHeap);
         labels = new String[capacity];
         times = new long[capacity];
     }
@@ -36,6 +39,30 @@ public class IDLabelTimeEdgeArray<K> extends IDEdgeArray<K> {
             labels[pos], times[pos]);
     }
 
+    @Override
+    public String getLabel(int pos) {
+        return labels[pos];
+    }
+
+    @Override
+    public long getTime(int pos) {
+        return times[pos];
+    }
+
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeStrings(labels, size);
+        writer.writeLongs(times, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        labels = reader.readStrings(size);
+        times = reader.readLongs(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
@@ -43,6 +70,14 @@ public class IDLabelTimeEdgeArray<K> extends IDEdgeArray<K> {
         times = null;
     }
 
+    @Override
+    public void copy(IEdgeArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        IDLabelTimeEdgeArray<K> other = (IDLabelTimeEdgeArray<K>) src;
+        labels[pos] = other.labels[srcPos];
+        times[pos] = other.times[srcPos];
+    }
+
     @Override
     public void set(int pos, IEdge<K, Object> edge) {
         super.set(pos, edge);
@@ -17,13 +17,16 @@ package com.antgroup.geaflow.store.memory.csr.edge.type;
 import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.edge.impl.IDTimeEdge;
+import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 
 public class IDTimeEdgeArray<K> extends IDEdgeArray<K> {
 
     private long[] times;
 
-    public void init(Class<K> keyType, int capacity) {
-        super.init(keyType, capacity);
+    public void init(Class<K> keyType, int capacity, boolean offHeap) {
+        super.init(keyType, capacity, offHeap);
         times = new long[capacity];
     }
 
@@ -32,12 +35,36 @@ public class IDTimeEdgeArray<K> extends IDEdgeArray<K> {
         return new IDTimeEdge<>(sid, getDstId(pos), getDirection(pos), times[pos]);
     }
 
+    @Override
+    public long getTime(int pos) {
+        return times[pos];
+    }
+
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeLongs(times, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        times = reader.readLongs(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
         times = null;
     }
 
+    @Override
+    public void copy(IEdgeArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        IDTimeEdgeArray<K> other = (IDTimeEdgeArray<K>) src;
+        times[pos] = other.times[srcPos];
+    }
+
     @Override
     public void set(int pos, IEdge<K, Object> edge) {
         super.set(pos, edge);
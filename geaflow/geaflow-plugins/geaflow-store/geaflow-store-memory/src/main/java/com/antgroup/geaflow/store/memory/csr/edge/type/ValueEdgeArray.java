@@ -16,13 +16,16 @@ package com.antgroup.geaflow.store.memory.csr.edge.type;
 
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 
 public class ValueEdgeArray<K> extends IDEdgeArray<K> {
 
     private Object[] values;
 
-    public void init(Class<K> keyType, int capacity) {
-        super.init(keyType, capacity);
+    public void init(Class<K> keyType, int capacity, boolean offHeap) {
+        super.init(keyType, capacity, offHeap);
         values = new Object[capacity];
     }
 
@@ -30,16 +33,36 @@ public class ValueEdgeArray<K> extends IDEdgeArray<K> {
         return new ValueEdge<>(sid, getDstId(pos), getValue(pos), getDirection(pos));
     }
 
-    protected Object getValue(int pos) {
+    @Override
+    public Object getValue(int pos) {
         return values[pos];
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeEdgeValues(values, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        values = reader.readEdgeValues(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
         values = null;
     }
 
+    @Override
+    public void copy(IEdgeArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        ValueEdgeArray<K> other = (ValueEdgeArray<K>) src;
+        values[pos] = other.values[srcPos];
+    }
+
     @Override
     public void set(int pos, IEdge<K, Object> edge) {
         super.set(pos, edge);
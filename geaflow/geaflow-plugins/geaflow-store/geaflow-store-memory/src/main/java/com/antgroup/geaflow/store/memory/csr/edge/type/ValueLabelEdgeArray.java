@@ -17,13 +17,16 @@ package com.antgroup.geaflow.store.memory.csr.edge.type;
 import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.edge.impl.ValueLabelEdge;
+import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 
 public class ValueLabelEdgeArray<K> extends ValueEdgeArray<K> {
 
     private String[] labels;
 
-    public void init(Class<K> keyType, int capacity) {
-        super.init(keyType, capacity);
+    public void init(Class<K> keyType, int capacity, boolean offHeap) {
+        super.init(keyType, capacity, offHeap);
         labels = new String[capacity];
     }
 
@@ -33,12 +36,36 @@ public class ValueLabelEdgeArray<K> extends ValueEdgeArray<K> {
             getDirection(pos), labels[pos]);
     }
 
+    @Override
+    public String getLabel(int pos) {
+        return labels[pos];
+    }
+
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeStrings(labels, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        labels = reader.readStrings(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
         labels = null;
     }
 
+    @Override
+    public void copy(IEdgeArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        ValueLabelEdgeArray<K> other = (ValueLabelEdgeArray<K>) src;
+        labels[pos] = other.labels[srcPos];
+    }
+
     @Override
     public void set(int pos, IEdge<K, Object> edge) {
         super.set(pos, edge);
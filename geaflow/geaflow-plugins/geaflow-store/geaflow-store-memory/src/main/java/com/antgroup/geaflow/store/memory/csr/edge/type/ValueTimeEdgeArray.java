@@ -17,13 +17,16 @@ package com.antgroup.geaflow.store.memory.csr.edge.type;
 import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.edge.impl.ValueTimeEdge;
+import com.antgroup.geaflow.store.memory.csr.edge.IEdgeArray;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 
 public class ValueTimeEdgeArray<K> extends ValueEdgeArray<K> {
 
     private long[] times;
 
-    public void init(Class<K> keyType, int capacity) {
-        super.init(keyType, capacity);
+    public void init(Class<K> keyType, int capacity, boolean offHeap) {
+        super.init(keyType, capacity, offHeap);
         times = new long[capacity];
     }
 
@@ -33,12 +36,36 @@ public class ValueTimeEdgeArray<K> extends ValueEdgeArray<K> {
             getDirection(pos), times[pos]);
     }
 
+    @Override
+    public long getTime(int pos) {
+        return times[pos];
+    }
+
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeLongs(times, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        times = reader.readLongs(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
         times = null;
     }
 
+    @Override
+    public void copy(IEdgeArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        ValueTimeEdgeArray<K> other = (ValueTimeEdgeArray<K>) src;
+        times[pos] = other.times[srcPos];
+    }
+
     @Override
     public void set(int pos, IEdge<K, Object> edge) {
         super.set(pos, edge);
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.memory.csr.snapshot;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Versioned on disk format of the csr store, one file per checkpoint named by the checkpoint id.
+ * The file starts with the magic number, the format version and the key class name, followed
+ * by the length prefixed columns.
+ */
+public class CSRSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CSRSnapshot.class);
+
+    public static final int MAGIC = 0x47435352;
+    public static final int FORMAT_VERSION = 1;
+    public static final int NULL_LENGTH = -1;
+    private static final String SUFFIX = ".csr";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    public static File getFile(String dir, long checkpointId) {
+        return new File(dir, checkpointId + SUFFIX);
+    }
+
+    public static File getTmpFile(String dir, long checkpointId) {
+        return new File(dir, checkpointId + SUFFIX + TMP_SUFFIX);
+    }
+
+    /**
+     * Returns the checkpoint ids of the snapshots in the dir in ascending order.
+     */
+    public static List<Long> listCheckpoints(String dir) {
+        File[] files = new File(dir).listFiles((d, name) -> name.endsWith(SUFFIX));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(files)
+            .map(f -> f.getName().substring(0, f.getName().length() - SUFFIX.length()))
+            .filter(name -> name.chars().allMatch(Character::isDigit) && !name.isEmpty())
+            .map(Long::parseLong)
+            .sorted(Comparator.naturalOrder())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Delete the snapshots except the latest keepNum ones.
+     */
+    public static void clean(String dir, int keepNum) {
+        List<Long> checkpoints = listCheckpoints(dir);
+        for (int i = 0; i < checkpoints.size() - keepNum; i++) {
+            File file = getFile(dir, checkpoints.get(i));
+            if (!file.delete()) {
+                LOGGER.warn("delete csr snapshot {} fail", file);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.memory.csr.snapshot;
+
+import com.antgroup.geaflow.collection.array.PrimitiveArray;
+import com.antgroup.geaflow.collection.array.PrimitiveArrayFactory;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.function.Function;
+
+/**
+ * Reads the csr columns of a snapshot file in the order they are written. Fixed width key
+ * and byte columns are mapped as read only off heap arrays, other columns are read to heap.
+ */
+public class CSRSnapshotReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final GraphDataSchema graphDataSchema;
+    private final Class<?> keyClazz;
+    private final FileChannel channel;
+    private long position;
+
+    public CSRSnapshotReader(File file, GraphDataSchema graphDataSchema) {
+        this.graphDataSchema = graphDataSchema;
+        this.keyClazz = graphDataSchema.getKeyType().getTypeClass();
+        try {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            // unbuffered, so the channel position stays at the end of the header.
+            DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+            int magic = in.readInt();
+            int version = in.readInt();
+            String keyClassName = in.readUTF();
+            if (magic != CSRSnapshot.MAGIC || version != CSRSnapshot.FORMAT_VERSION) {
+                throw new GeaflowRuntimeException(RuntimeErrors.INST.runError(
+                    String.format("invalid csr snapshot %s, magic %s version %s", file, magic, version)));
+            }
+            if (!keyClazz.getName().equals(keyClassName)) {
+                throw new GeaflowRuntimeException(RuntimeErrors.INST.runError(
+                    String.format("csr snapshot key type %s not match %s", keyClassName, keyClazz)));
+            }
+            this.position = channel.position();
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("open csr snapshot fail"), e);
+        }
+    }
+
+    public int readInt() {
+        return readColumn(DataInputStream::readInt);
+    }
+
+    public <K> PrimitiveArray<K> readKeys(int size) {
+        if (PrimitiveArrayFactory.isFixedWidth(keyClazz)) {
+            return mapFixed(keyClazz, size);
+        }
+        IType<K> keyType = graphDataSchema.getKeyType();
+        Object[] keys = readObjects(size, keyType::deserialize);
+        PrimitiveArray<K> array = PrimitiveArrayFactory.getCustomArray(keyClazz, size);
+        for (int i = 0; i < size; i++) {
+            array.set(i, (K) keys[i]);
+        }
+        return array;
+    }
+
+    public PrimitiveArray<Byte> readBytes(int size) {
+        return mapFixed(Byte.class, size);
+    }
+
+    public int[] readInts(int size) {
+        return readColumn(in -> {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = in.readInt();
+            }
+            return values;
+        });
+    }
+
+    public long[] readLongs(int size) {
+        return readColumn(in -> {
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = in.readLong();
+            }
+            return values;
+        });
+    }
+
+    public BitSet readBitSet() {
+        return readColumn(in -> {
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            return BitSet.valueOf(words);
+        });
+    }
+
+    public String[] readStrings(int size) {
+        Object[] values = readObjects(size, bytes -> new String(bytes, StandardCharsets.UTF_8).intern());
+        String[] strings = new String[size];
+        System.arraycopy(values, 0, strings, 0, size);
+        return strings;
+    }
+
+    public Object[] readVertexValues(int size) {
+        return readObjects(size, graphDataSchema.getVertexPropertyDeFun());
+    }
+
+    public Object[] readEdgeValues(int size) {
+        return readObjects(size, graphDataSchema.getEdgePropertyDeFun());
+    }
+
+    private <T> PrimitiveArray<T> mapFixed(Class<?> clazz, int size) {
+        try {
+            long length = readLength();
+            long expected = (long) size * PrimitiveArrayFactory.getElementSize(clazz);
+            if (length != expected) {
+                throw new GeaflowRuntimeException(RuntimeErrors.INST.runError(
+                    String.format("csr snapshot column length %s not match %s", length, expected)));
+            }
+            PrimitiveArray<T> array = PrimitiveArrayFactory.mapOffHeapArray(clazz, channel,
+                position + Long.BYTES, size);
+            position += Long.BYTES + length;
+            return array;
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("read csr snapshot fail"), e);
+        }
+    }
+
+    private Object[] readObjects(int size, Function<byte[], ?> deserializer) {
+        return readColumn(in -> {
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                int length = in.readInt();
+                if (length != CSRSnapshot.NULL_LENGTH) {
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    values[i] = deserializer.apply(bytes);
+                }
+            }
+            return values;
+        });
+    }
+
+    private <T> T readColumn(ColumnReader<T> reader) {
+        try {
+            long length = readLength();
+            channel.position(position + Long.BYTES);
+            // the stream is not closed, which would close the channel.
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE));
+            T value = reader.read(in);
+            position += Long.BYTES + length;
+            return value;
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("read csr snapshot fail"), e);
+        }
+    }
+
+    private long readLength() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new GeaflowRuntimeException(
+                    RuntimeErrors.INST.runError("unexpected end of csr snapshot"));
+            }
+        }
+        return buffer.getLong(0);
+    }
+
+    @Override
+    public void close() {
+        try {
+            // mapped columns stay valid after the channel is closed.
+            channel.close();
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("close csr snapshot fail"), e);
+        }
+    }
+
+    private interface ColumnReader<T> {
+
+        T read(DataInputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.memory.csr.snapshot;
+
+import com.antgroup.geaflow.collection.array.PrimitiveArray;
+import com.antgroup.geaflow.collection.array.PrimitiveArrayFactory;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Writes the csr columns into a snapshot file. Each column is prefixed with its byte length,
+ * fixed width columns are written raw so that they can be mapped in place when recovering.
+ */
+public class CSRSnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final GraphDataSchema graphDataSchema;
+    private final Class<?> keyClazz;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+
+    public CSRSnapshotWriter(File file, GraphDataSchema graphDataSchema) {
+        this.graphDataSchema = graphDataSchema;
+        this.keyClazz = graphDataSchema.getKeyType().getTypeClass();
+        try {
+            FileOutputStream fileOut = new FileOutputStream(file);
+            this.channel = fileOut.getChannel();
+            this.out = new DataOutputStream(new BufferedOutputStream(fileOut, BUFFER_SIZE));
+            out.writeInt(CSRSnapshot.MAGIC);
+            out.writeInt(CSRSnapshot.FORMAT_VERSION);
+            out.writeUTF(keyClazz.getName());
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("open csr snapshot fail"), e);
+        }
+    }
+
+    public void writeInt(int value) {
+        writeColumn(() -> out.writeInt(value));
+    }
+
+    public <K> void writeKeys(PrimitiveArray<K> keys, int size) {
+        if (PrimitiveArrayFactory.isFixedWidth(keyClazz)) {
+            writeFixed(keys, keyClazz, size);
+        } else {
+            IType<K> keyType = graphDataSchema.getKeyType();
+            writeObjects(keys::get, size, keyType::serialize);
+        }
+    }
+
+    public void writeBytes(PrimitiveArray<Byte> values, int size) {
+        writeFixed(values, Byte.class, size);
+    }
+
+    public void writeInts(int[] values, int size) {
+        writeColumn(() -> {
+            for (int i = 0; i < size; i++) {
+                out.writeInt(values[i]);
+            }
+        });
+    }
+
+    public void writeLongs(long[] values, int size) {
+        writeColumn(() -> {
+            for (int i = 0; i < size; i++) {
+                out.writeLong(values[i]);
+            }
+        });
+    }
+
+    public void writeBitSet(BitSet bitSet) {
+        long[] words = bitSet.toLongArray();
+        writeColumn(() -> {
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        });
+    }
+
+    public void writeStrings(String[] values, int size) {
+        writeObjects(i -> values[i], size, s -> s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeVertexValues(Object[] values, int size) {
+        writeObjects(i -> values[i], size, graphDataSchema.getVertexPropertySerFun());
+    }
+
+    public void writeEdgeValues(Object[] values, int size) {
+        writeObjects(i -> values[i], size, graphDataSchema.getEdgePropertySerFun());
+    }
+
+    private void writeFixed(PrimitiveArray<?> array, Class<?> clazz, int size) {
+        writeColumn(() -> {
+            for (int i = 0; i < size; i++) {
+                Object value = array.get(i);
+                if (clazz == Integer.class || clazz == Integer.TYPE) {
+                    out.writeInt((Integer) value);
+                } else if (clazz == Long.class || clazz == Long.TYPE) {
+                    out.writeLong((Long) value);
+                } else if (clazz == Byte.class || clazz == Byte.TYPE) {
+                    out.writeByte((Byte) value);
+                } else if (clazz == Short.class || clazz == Short.TYPE) {
+                    out.writeShort((Short) value);
+                } else if (clazz == Float.class || clazz == Float.TYPE) {
+                    out.writeFloat((Float) value);
+                } else {
+                    out.writeDouble((Double) value);
+                }
+            }
+        });
+    }
+
+    private <T> void writeObjects(IntFunction<T> getter, int size, Function<T, byte[]> serializer) {
+        writeColumn(() -> {
+            for (int i = 0; i < size; i++) {
+                T value = getter.apply(i);
+                if (value == null) {
+                    out.writeInt(CSRSnapshot.NULL_LENGTH);
+                } else {
+                    byte[] bytes = serializer.apply(value);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+            }
+        });
+    }
+
+    private void writeColumn(ColumnWriter writer) {
+        try {
+            out.flush();
+            long start = channel.position();
+            out.writeLong(0);
+            writer.write();
+            out.flush();
+            // fill in the column length.
+            ByteBuffer length = ByteBuffer.allocate(Long.BYTES);
+            length.putLong(0, channel.position() - start - Long.BYTES);
+            channel.write(length, start);
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("write csr snapshot fail"), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            out.flush();
+            channel.force(true);
+            out.close();
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("close csr snapshot fail"), e);
+        }
+    }
+
+    private interface ColumnWriter {
+
+        void write() throws IOException;
+    }
+}
@@ -16,6 +16,8 @@ package com.antgroup.geaflow.store.memory.csr.vertex;
 
 import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 
 public interface IVertexArray<K, VV> {
 
@@ -23,13 +25,31 @@ public interface IVertexArray<K, VV> {
 
     void set(int pos, IVertex<K, VV> vertex);
 
+    /**
+     * Copy the vertex at srcPos of a vertex array of the same type into pos, the edge range
+     * of pos is started as set does.
+     */
+    void copy(IVertexArray<K, VV> src, int srcPos, int pos);
+
     void updateVId2EPos(int pos);
 
+    void updateVId2EPos(int pos, int degree);
+
     int getNextPos(int pos);
 
     Tuple<Integer, Integer> getEdgePosRange(int pos);
 
     IVertex<K, VV> getVertex(K key, int pos);
 
+    /**
+     * Write the vertex columns of [0, size) into the snapshot.
+     */
+    void write(CSRSnapshotWriter writer, int size);
+
+    /**
+     * Read the vertex columns from the snapshot, which replaces the current columns.
+     */
+    void read(CSRSnapshotReader reader, int size);
+
     void drop();
 }
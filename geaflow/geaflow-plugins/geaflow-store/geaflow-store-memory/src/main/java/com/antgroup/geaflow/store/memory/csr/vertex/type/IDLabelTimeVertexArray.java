@@ -18,6 +18,9 @@ import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
 import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.IDLabelTimeVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
+import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 
 public class IDLabelTimeVertexArray<K> extends IDVertexArray<K> {
 
@@ -35,6 +38,14 @@ public class IDLabelTimeVertexArray<K> extends IDVertexArray<K> {
         return containsVertex(pos) ? new IDLabelTimeVertex<>(key, labels[pos], times[pos]) : null;
     }
 
+    @Override
+    public void copy(IVertexArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        IDLabelTimeVertexArray<K> other = (IDLabelTimeVertexArray<K>) src;
+        labels[pos] = other.labels[srcPos];
+        times[pos] = other.times[srcPos];
+    }
+
     @Override
     public void set(int pos, IVertex<K, Object> vertex) {
         super.set(pos, vertex);
@@ -44,6 +55,20 @@ public class IDLabelTimeVertexArray<K> extends IDVertexArray<K> {
         }
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeStrings(labels, size);
+        writer.writeLongs(times, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        labels = reader.readStrings(size);
+        times = reader.readLongs(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
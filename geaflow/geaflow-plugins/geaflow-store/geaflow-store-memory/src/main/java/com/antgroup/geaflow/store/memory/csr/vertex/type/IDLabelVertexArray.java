@@ -17,6 +17,9 @@ package com.antgroup.geaflow.store.memory.csr.vertex.type;
 import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.IDLabelVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
+import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 
 public class IDLabelVertexArray<K> extends IDVertexArray<K> {
 
@@ -32,6 +35,13 @@ public class IDLabelVertexArray<K> extends IDVertexArray<K> {
         return containsVertex(pos) ? new IDLabelVertex<>(key, labels[pos]) : null;
     }
 
+    @Override
+    public void copy(IVertexArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        IDLabelVertexArray<K> other = (IDLabelVertexArray<K>) src;
+        labels[pos] = other.labels[srcPos];
+    }
+
     @Override
     public void set(int pos, IVertex<K, Object> vertex) {
         super.set(pos, vertex);
@@ -40,6 +50,18 @@ public class IDLabelVertexArray<K> extends IDVertexArray<K> {
         }
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeStrings(labels, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        labels = reader.readStrings(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
@@ -17,6 +17,8 @@ package com.antgroup.geaflow.store.memory.csr.vertex.type;
 import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.IDVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
 import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 import java.util.BitSet;
 
@@ -48,6 +50,18 @@ public class IDVertexArray<K> implements IVertexArray<K, Object> {
         return !nullVertexBitSet.get(pos);
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        writer.writeInts(vId2EPos, size + 1);
+        writer.writeBitSet(nullVertexBitSet);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        vId2EPos = reader.readInts(size + 1);
+        nullVertexBitSet = reader.readBitSet();
+    }
+
     @Override
     public void drop() {
         vId2EPos = null;
@@ -61,6 +75,15 @@ public class IDVertexArray<K> implements IVertexArray<K, Object> {
         vId2EPos[pos + 1] = vId2EPos[pos];
     }
 
+    @Override
+    public void copy(IVertexArray<K, Object> src, int srcPos, int pos) {
+        IDVertexArray<K> other = (IDVertexArray<K>) src;
+        if (!other.containsVertex(srcPos)) {
+            nullVertexBitSet.set(pos);
+        }
+        vId2EPos[pos + 1] = vId2EPos[pos];
+    }
+
     @Override
     public int getNextPos(int pos) {
         return vId2EPos[pos + 1];
@@ -71,4 +94,9 @@ public class IDVertexArray<K> implements IVertexArray<K, Object> {
         vId2EPos[pos + 1] =  vId2EPos[pos + 1] + 1;
     }
 
+    @Override
+    public void updateVId2EPos(int pos, int degree) {
+        vId2EPos[pos + 1] = vId2EPos[pos + 1] + degree;
+    }
+
 }
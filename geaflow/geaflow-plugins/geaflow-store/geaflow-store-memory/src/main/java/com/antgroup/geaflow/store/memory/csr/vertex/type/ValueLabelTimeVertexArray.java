@@ -18,6 +18,9 @@ import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
 import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.ValueLabelTimeVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
+import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 
 public class ValueLabelTimeVertexArray<K> extends ValueVertexArray<K> {
 
@@ -36,6 +39,14 @@ public class ValueLabelTimeVertexArray<K> extends ValueVertexArray<K> {
                ? new ValueLabelTimeVertex<>(key, getValue(pos), labels[pos], times[pos]) : null;
     }
 
+    @Override
+    public void copy(IVertexArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        ValueLabelTimeVertexArray<K> other = (ValueLabelTimeVertexArray<K>) src;
+        labels[pos] = other.labels[srcPos];
+        times[pos] = other.times[srcPos];
+    }
+
     @Override
     public void set(int pos, IVertex<K, Object> vertex) {
         super.set(pos, vertex);
@@ -45,6 +56,20 @@ public class ValueLabelTimeVertexArray<K> extends ValueVertexArray<K> {
         }
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeStrings(labels, size);
+        writer.writeLongs(times, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        labels = reader.readStrings(size);
+        times = reader.readLongs(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
@@ -17,6 +17,9 @@ package com.antgroup.geaflow.store.memory.csr.vertex.type;
 import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.ValueTimeVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
+import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 
 public class ValueTimeVertexArray<K> extends ValueVertexArray<K> {
 
@@ -32,6 +35,13 @@ public class ValueTimeVertexArray<K> extends ValueVertexArray<K> {
         return containsVertex(pos) ? new ValueTimeVertex<>(key, getValue(pos), times[pos]) : null;
     }
 
+    @Override
+    public void copy(IVertexArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        ValueTimeVertexArray<K> other = (ValueTimeVertexArray<K>) src;
+        times[pos] = other.times[srcPos];
+    }
+
     @Override
     public void set(int pos, IVertex<K, Object> vertex) {
         super.set(pos, vertex);
@@ -40,6 +50,18 @@ public class ValueTimeVertexArray<K> extends ValueVertexArray<K> {
         }
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeLongs(times, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        times = reader.readLongs(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
@@ -16,6 +16,9 @@ package com.antgroup.geaflow.store.memory.csr.vertex.type;
 
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotReader;
+import com.antgroup.geaflow.store.memory.csr.snapshot.CSRSnapshotWriter;
+import com.antgroup.geaflow.store.memory.csr.vertex.IVertexArray;
 
 public class ValueVertexArray<K> extends IDVertexArray<K> {
 
@@ -35,12 +38,31 @@ public class ValueVertexArray<K> extends IDVertexArray<K> {
         return values[pos];
     }
 
+    @Override
+    public void write(CSRSnapshotWriter writer, int size) {
+        super.write(writer, size);
+        writer.writeVertexValues(values, size);
+    }
+
+    @Override
+    public void read(CSRSnapshotReader reader, int size) {
+        super.read(reader, size);
+        values = reader.readVertexValues(size);
+    }
+
     @Override
     public void drop() {
         super.drop();
         values = null;
     }
 
+    @Override
+    public void copy(IVertexArray<K, Object> src, int srcPos, int pos) {
+        super.copy(src, srcPos, pos);
+        ValueVertexArray<K> other = (ValueVertexArray<K>) src;
+        values[pos] = other.values[srcPos];
+    }
+
     @Override
     public void set(int pos, IVertex<K, Object> vertex) {
         super.set(pos, vertex);
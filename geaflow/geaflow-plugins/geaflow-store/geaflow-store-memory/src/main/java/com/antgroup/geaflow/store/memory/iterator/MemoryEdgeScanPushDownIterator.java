@@ -15,6 +15,7 @@
 package com.antgroup.geaflow.store.memory.iterator;
 
 import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.state.graph.encoder.EdgeAtom;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
@@ -36,17 +37,31 @@ public class MemoryEdgeScanPushDownIterator<K, VV, EV> implements Iterator<List<
     public MemoryEdgeScanPushDownIterator(
         Iterator<List<IEdge<K, EV>>> iterator,
         IStatePushDown pushdown) {
+        this(iterator, pushdown, null);
+    }
+
+    /**
+     * Edges of one key are already ordered by the sort atom, the sort is skipped if the
+     * order field of the pushdown is the same.
+     */
+    public MemoryEdgeScanPushDownIterator(
+        Iterator<List<IEdge<K, EV>>> iterator,
+        IStatePushDown pushdown,
+        EdgeAtom sortAtom) {
         this.filter = (IGraphFilter) pushdown.getFilter();
         this.edgeLimit = pushdown.getEdgeLimit();
-        this.edgeComparator = pushdown.getOrderField() == null ? null : pushdown.getOrderField().getComparator();
+        EdgeAtom orderField = pushdown.getOrderField();
+        this.edgeComparator = orderField == null || orderField == sortAtom
+            ? null : orderField.getComparator();
         this.iterator = iterator;
     }
 
     @Override
     public boolean hasNext() {
         if (iterator.hasNext()) {
-            List<IEdge<K, EV>> list = Lists.newArrayList(iterator.next());
+            List<IEdge<K, EV>> list = iterator.next();
             if (this.edgeComparator != null) {
+                list = Lists.newArrayList(list);
                 list.sort(this.edgeComparator);
             }
             List<IEdge<K, EV>> res = new ArrayList<>(list.size());
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory.snapshot;
+
+import com.antgroup.geaflow.common.tuple.Tuple;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.state.graph.encoder.IGraphKVEncoder;
+import com.antgroup.geaflow.state.serializer.IKVSerializer;
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes the vertex and the out edges of a key as one snapshot value with the kv encoders
+ * of the graph schema.
+ */
+public class GraphSnapshotSerializer<K, VV, EV> implements
+    IKVSerializer<K, Tuple<IVertex<K, VV>, List<IEdge<K, EV>>>> {
+
+    private static final int NULL_LENGTH = -1;
+
+    private final IGraphKVEncoder<K, VV, EV> encoder;
+
+    public GraphSnapshotSerializer(IGraphKVEncoder<K, VV, EV> encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public byte[] serializeKey(K key) {
+        return encoder.getKeyType().serialize(key);
+    }
+
+    @Override
+    public K deserializeKey(byte[] array) {
+        return encoder.getKeyType().deserialize(array);
+    }
+
+    @Override
+    public byte[] serializeValue(Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> value) {
+        ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        if (value.f0 == null) {
+            out.writeInt(NULL_LENGTH);
+        } else {
+            write(out, encoder.getVertexEncoder().format(value.f0));
+        }
+        out.writeInt(value.f1.size());
+        for (IEdge<K, EV> edge : value.f1) {
+            write(out, encoder.getEdgeEncoder().format(edge));
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Tuple<IVertex<K, VV>, List<IEdge<K, EV>>> deserializeValue(byte[] valueArray) {
+        ByteArrayDataInput in = ByteStreams.newDataInput(valueArray);
+        IVertex<K, VV> vertex = null;
+        int keyLength = in.readInt();
+        if (keyLength != NULL_LENGTH) {
+            Tuple<byte[], byte[]> kv = read(in, keyLength);
+            vertex = encoder.getVertexEncoder().getVertex(kv.f0, kv.f1);
+        }
+        int edgeNum = in.readInt();
+        List<IEdge<K, EV>> edges = new ArrayList<>(edgeNum);
+        for (int i = 0; i < edgeNum; i++) {
+            Tuple<byte[], byte[]> kv = read(in, in.readInt());
+            edges.add(encoder.getEdgeEncoder().getEdge(kv.f0, kv.f1));
+        }
+        return Tuple.of(vertex, edges);
+    }
+
+    private static void write(ByteArrayDataOutput out, Tuple<byte[], byte[]> kv) {
+        out.writeInt(kv.f0.length);
+        out.write(kv.f0);
+        out.writeInt(kv.f1.length);
+        out.write(kv.f1);
+    }
+
+    private static Tuple<byte[], byte[]> read(ByteArrayDataInput in, int keyLength) {
+        byte[] key = new byte[keyLength];
+        in.readFully(key);
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return Tuple.of(key, value);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory.snapshot;
+
+import com.antgroup.geaflow.state.serializer.IKMapSerializer;
+import com.antgroup.geaflow.state.serializer.IKVSerializer;
+import com.google.common.io.ByteArrayDataInput;
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Serializes the whole sub map of a key as one snapshot value.
+ */
+public class KMapSnapshotSerializer<K, UK, UV> implements IKVSerializer<K, Map<UK, UV>> {
+
+    private final IKMapSerializer<K, UK, UV> serializer;
+
+    public KMapSnapshotSerializer(IKMapSerializer<K, UK, UV> serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public byte[] serializeKey(K key) {
+        return serializer.serializeKey(key);
+    }
+
+    @Override
+    public K deserializeKey(byte[] array) {
+        return serializer.deserializeKey(array);
+    }
+
+    @Override
+    public byte[] serializeValue(Map<UK, UV> value) {
+        ByteArrayDataOutput out = ByteStreams.newDataOutput();
+        out.writeInt(value.size());
+        for (Entry<UK, UV> entry : value.entrySet()) {
+            byte[] uk = serializer.serializeUK(entry.getKey());
+            byte[] uv = serializer.serializeUV(entry.getValue());
+            out.writeInt(uk.length);
+            out.write(uk);
+            out.writeInt(uv.length);
+            out.write(uv);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Map<UK, UV> deserializeValue(byte[] valueArray) {
+        ByteArrayDataInput in = ByteStreams.newDataInput(valueArray);
+        int size = in.readInt();
+        Map<UK, UV> map = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            byte[] uk = new byte[in.readInt()];
+            in.readFully(uk);
+            byte[] uv = new byte[in.readInt()];
+            in.readFully(uv);
+            map.put(serializer.deserializeUK(uk), serializer.deserializeUV(uv));
+        }
+        return map;
+    }
+}
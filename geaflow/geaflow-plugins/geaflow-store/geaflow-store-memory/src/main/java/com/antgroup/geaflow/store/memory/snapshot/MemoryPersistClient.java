@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory.snapshot;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys;
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.thread.Executors;
+import com.antgroup.geaflow.file.FileConfigKeys;
+import com.antgroup.geaflow.file.IPersistentIO;
+import com.antgroup.geaflow.file.PersistentIOBuilder;
+import com.antgroup.geaflow.store.context.StoreContext;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.DiscardOldestPolicy;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.hadoop.fs.Path;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the snapshot files of a memory store shard through {@link IPersistentIO}. Every
+ * checkpoint is a remote directory holding the data files, a manifest naming the parent
+ * checkpoint the snapshot is incremental on, or -1 for a full one, and a commit tag.
+ */
+public class MemoryPersistClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryPersistClient.class);
+
+    private static final String SNAPSHOT = "snapshot";
+    private static final char FILE_DOT = '.';
+    private static final String MANIFEST = "MANIFEST";
+    private static final String COMMIT_TAG_FILE = "_commit";
+
+    private final IPersistentIO persistIO;
+    private final String remotePath;
+    private final String localPath;
+    private final long keepChkNum;
+    private final ExecutorService persistService;
+    private final ExecutorService backgroundDeleteService = new ThreadPoolExecutor(
+        1, 1, 300L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1),
+        new BasicThreadFactory.Builder().namingPattern("memoryDeletes-%d").daemon(true).build(),
+        new DiscardOldestPolicy());
+
+    public MemoryPersistClient(StoreContext storeContext) {
+        Configuration config = storeContext.getConfig();
+        String jobName = config.getString(ExecutionConfigKeys.JOB_APP_NAME);
+        String shardId = Integer.toString(storeContext.getShardId());
+        this.persistIO = PersistentIOBuilder.build(config);
+        this.remotePath = Paths.get(config.getString(FileConfigKeys.ROOT), jobName,
+            storeContext.getName(), shardId).toString();
+        this.localPath = Paths.get(config.getString(ExecutionConfigKeys.JOB_WORK_PATH), jobName,
+            storeContext.getName(), shardId, SNAPSHOT).toString();
+        long chkRate = config.getLong(FrameworkConfigKeys.BATCH_NUMBER_PER_CHECKPOINT);
+        this.keepChkNum =
+            Math.max(config.getInteger(StateConfigKeys.STATE_ARCHIVED_VERSION_NUM), chkRate * 2);
+        int persistThreadNum = config.getInteger(FileConfigKeys.PERSISTENT_THREAD_SIZE);
+        this.persistService = Executors.getExecutorService(1, persistThreadNum, "memory-persist-%d");
+    }
+
+    /**
+     * Returns the local directory to write the snapshot files of the checkpoint.
+     */
+    public File getLocalDir(long chkId) {
+        File dir = new File(localPath, Long.toString(chkId));
+        try {
+            FileUtils.forceMkdir(dir);
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("mkdir fail " + dir), e);
+        }
+        return dir;
+    }
+
+    public <T> Future<T> submit(Callable<T> callable) {
+        return persistService.submit(callable);
+    }
+
+    /**
+     * Copy the local file into the remote directory of the checkpoint.
+     */
+    public void upload(long chkId, File file) throws IOException {
+        persistIO.copyFromLocalFile(new Path(file.getAbsolutePath()),
+            new Path(getChkPath(chkId), file.getName()));
+    }
+
+    /**
+     * Copy the remote file of the checkpoint into the local directory.
+     */
+    public File download(long chkId, String fileName) throws IOException {
+        File file = new File(getLocalDir(chkId), fileName);
+        FileUtils.deleteQuietly(file);
+        persistIO.copyToLocalFile(new Path(getChkPath(chkId), fileName),
+            new Path(file.getAbsolutePath()));
+        return file;
+    }
+
+    /**
+     * Wait for the uploads, then write the manifest and the commit tag of the checkpoint.
+     */
+    public void commit(long chkId, long parentChkId, List<? extends Future<?>> uploads) {
+        long start = System.currentTimeMillis();
+        try {
+            for (Future<?> upload : uploads) {
+                upload.get();
+            }
+            File manifest = new File(getLocalDir(chkId), MANIFEST);
+            FileUtils.write(manifest, Long.toString(parentChkId), StandardCharsets.UTF_8);
+            upload(chkId, manifest);
+            persistIO.createNewFile(new Path(getChkPath(chkId), COMMIT_TAG_FILE));
+        } catch (Exception e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("archive fail"), e);
+        }
+        FileUtils.deleteQuietly(new File(localPath, Long.toString(chkId)));
+        LOGGER.info("{} commit snapshot {} parent {} cost {}ms", persistIO.getPersistentType(),
+            getChkPath(chkId), parentChkId, System.currentTimeMillis() - start);
+        backgroundDeleteService.execute(this::cleanEarlyChk);
+    }
+
+    /**
+     * Returns the latest committed checkpoint, or -1 if none.
+     */
+    public long getLatestCheckpointId() {
+        List<Long> chkIds = listCheckpoints();
+        return chkIds.isEmpty() ? -1 : chkIds.get(chkIds.size() - 1);
+    }
+
+    /**
+     * Returns the checkpoints to load in order to restore the checkpoint, from the full one.
+     */
+    public List<Long> getChain(long chkId) {
+        List<Long> chain = new ArrayList<>();
+        try {
+            for (long id = chkId; id >= 0; id = getParent(id)) {
+                if (!persistIO.exists(new Path(getChkPath(id), COMMIT_TAG_FILE))) {
+                    throw new GeaflowRuntimeException(RuntimeErrors.INST.runError(
+                        "snapshot not committed " + getChkPath(id)));
+                }
+                chain.add(id);
+            }
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("recover fail"), e);
+        }
+        Collections.reverse(chain);
+        return chain;
+    }
+
+    /**
+     * Returns the data files of the checkpoint.
+     */
+    public List<String> listFiles(long chkId) {
+        try {
+            return persistIO.listFile(new Path(getChkPath(chkId))).stream()
+                .filter(name -> !name.equals(MANIFEST) && !name.equals(COMMIT_TAG_FILE))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("recover fail"), e);
+        }
+    }
+
+    private long getParent(long chkId) throws IOException {
+        try (InputStream in = persistIO.open(new Path(getChkPath(chkId), MANIFEST))) {
+            return Long.parseLong(IOUtils.toString(in, StandardCharsets.UTF_8).trim());
+        }
+    }
+
+    private List<Long> listCheckpoints() {
+        try {
+            Path path = new Path(remotePath);
+            if (!persistIO.exists(path)) {
+                return Collections.emptyList();
+            }
+            List<Long> chkIds = new ArrayList<>();
+            for (String name : persistIO.listFile(path)) {
+                if (name.startsWith(SNAPSHOT + FILE_DOT)) {
+                    long chkId = Long.parseLong(name.substring(SNAPSHOT.length() + 1));
+                    if (persistIO.exists(new Path(getChkPath(chkId), COMMIT_TAG_FILE))) {
+                        chkIds.add(chkId);
+                    }
+                }
+            }
+            Collections.sort(chkIds);
+            return chkIds;
+        } catch (IOException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("list snapshot fail"), e);
+        }
+    }
+
+    /**
+     * Delete the checkpoints older than the full snapshot the kept checkpoints depend on.
+     */
+    private void cleanEarlyChk() {
+        try {
+            List<Long> chkIds = listCheckpoints();
+            if (chkIds.size() <= keepChkNum) {
+                return;
+            }
+            long oldestKept = chkIds.get(chkIds.size() - (int) keepChkNum);
+            long base = getChain(oldestKept).get(0);
+            for (String name : persistIO.listFile(new Path(remotePath))) {
+                if (name.startsWith(SNAPSHOT + FILE_DOT)
+                    && Long.parseLong(name.substring(SNAPSHOT.length() + 1)) < base) {
+                    persistIO.delete(new Path(remotePath, name), true);
+                    LOGGER.info("delete early snapshot {}", name);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.warn("clean early snapshot of {} fail and ignore", remotePath, e);
+        }
+    }
+
+    private String getChkPath(long chkId) {
+        return Paths.get(remotePath, SNAPSHOT + FILE_DOT + chkId).toString();
+    }
+}
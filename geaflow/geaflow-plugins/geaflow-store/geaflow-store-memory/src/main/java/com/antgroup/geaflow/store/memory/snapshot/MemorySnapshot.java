@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory.snapshot;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.tuple.Tuple;
+import com.antgroup.geaflow.state.serializer.IKVSerializer;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.MemoryConfigKeys;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keyed snapshot of a memory store. A checkpoint writes either all the keys or only the keys
+ * changed since the last checkpoint, hashed into key groups which are serialized and uploaded by
+ * parallel tasks. Each key group file is a sequence of length prefixed key and value records,
+ * where a null value records a removed key. Recovery loads the last full snapshot and replays
+ * the incremental ones after it, each key group decoded by its own task.
+ */
+public class MemorySnapshot<K, V> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemorySnapshot.class);
+
+    private static final String FILE_SUFFIX = ".snap";
+    private static final int NULL_LENGTH = -1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final IKVSerializer<K, V> serializer;
+    private final MemoryPersistClient persistClient;
+    private final int keyGroupNum;
+    private final int fullInterval;
+    private final Set<K> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private long lastChkId = -1;
+    private int incrementalNum;
+
+    public MemorySnapshot(StoreContext storeContext, IKVSerializer<K, V> serializer) {
+        Configuration config = storeContext.getConfig();
+        this.serializer = serializer;
+        this.persistClient = new MemoryPersistClient(storeContext);
+        this.keyGroupNum = config.getInteger(MemoryConfigKeys.SNAPSHOT_KEY_GROUP_NUM);
+        this.fullInterval = config.getInteger(MemoryConfigKeys.SNAPSHOT_FULL_INTERVAL);
+    }
+
+    public void markDirty(K key) {
+        dirtyKeys.add(key);
+    }
+
+    /**
+     * Snapshot the store, the getter returns the current value of a key or null if removed.
+     */
+    public void archive(long chkId, Collection<K> allKeys, Function<K, V> getter) {
+        long start = System.currentTimeMillis();
+        boolean isFull = lastChkId < 0 || incrementalNum >= fullInterval;
+        Collection<K> keys = isFull ? allKeys : dirtyKeys;
+        List<List<K>> keyGroups = new ArrayList<>(keyGroupNum);
+        for (int i = 0; i < keyGroupNum; i++) {
+            keyGroups.add(new ArrayList<>());
+        }
+        for (K key : keys) {
+            keyGroups.get((key.hashCode() & Integer.MAX_VALUE) % keyGroupNum).add(key);
+        }
+
+        File dir = persistClient.getLocalDir(chkId);
+        List<Future<?>> uploads = new ArrayList<>(keyGroupNum);
+        for (int i = 0; i < keyGroupNum; i++) {
+            List<K> keyGroup = keyGroups.get(i);
+            if (keyGroup.isEmpty()) {
+                continue;
+            }
+            File file = new File(dir, i + FILE_SUFFIX);
+            uploads.add(persistClient.submit(() -> {
+                write(file, keyGroup, getter);
+                persistClient.upload(chkId, file);
+                FileUtils.deleteQuietly(file);
+                return null;
+            }));
+        }
+        persistClient.commit(chkId, isFull ? -1 : lastChkId, uploads);
+        LOGGER.info("archive {} snapshot {} with {} keys cost {}ms", isFull ? "full" : "incremental",
+            chkId, keys.size(), System.currentTimeMillis() - start);
+
+        dirtyKeys.clear();
+        lastChkId = chkId;
+        incrementalNum = isFull ? 0 : incrementalNum + 1;
+    }
+
+    /**
+     * Restore the snapshot into the cleared store, the setter removes the key on a null value.
+     */
+    public void recovery(long chkId, BiConsumer<K, V> setter) {
+        long start = System.currentTimeMillis();
+        List<Long> chain = persistClient.getChain(chkId);
+        try {
+            for (long id : chain) {
+                List<Future<List<Tuple<K, V>>>> futures = new ArrayList<>();
+                for (String fileName : persistClient.listFiles(id)) {
+                    futures.add(persistClient.submit(() -> {
+                        File file = persistClient.download(id, fileName);
+                        List<Tuple<K, V>> entries = read(file);
+                        FileUtils.deleteQuietly(file);
+                        return entries;
+                    }));
+                }
+                for (Future<List<Tuple<K, V>>> future : futures) {
+                    for (Tuple<K, V> entry : future.get()) {
+                        setter.accept(entry.f0, entry.f1);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("recover fail"), e);
+        }
+        LOGGER.info("recover snapshot {} from {} cost {}ms", chkId, chain,
+            System.currentTimeMillis() - start);
+
+        dirtyKeys.clear();
+        lastChkId = chkId;
+        incrementalNum = chain.size() - 1;
+    }
+
+    public long getLatestCheckpointId() {
+        return persistClient.getLatestCheckpointId();
+    }
+
+    private void write(File file, List<K> keys, Function<K, V> getter) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            for (K key : keys) {
+                byte[] keyBytes = serializer.serializeKey(key);
+                out.writeInt(keyBytes.length);
+                out.write(keyBytes);
+                V value = getter.apply(key);
+                if (value == null) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    byte[] valueBytes = serializer.serializeValue(value);
+                    out.writeInt(valueBytes.length);
+                    out.write(valueBytes);
+                }
+            }
+        }
+    }
+
+    private List<Tuple<K, V>> read(File file) throws IOException {
+        List<Tuple<K, V>> entries = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+            new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            while (true) {
+                int keyLength;
+                try {
+                    keyLength = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                byte[] keyBytes = new byte[keyLength];
+                in.readFully(keyBytes);
+                int valueLength = in.readInt();
+                V value = null;
+                if (valueLength != NULL_LENGTH) {
+                    byte[] valueBytes = new byte[valueLength];
+                    in.readFully(valueBytes);
+                    value = serializer.deserializeValue(valueBytes);
+                }
+                entries.add(Tuple.of(serializer.deserializeKey(keyBytes), value));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.model.graph.edge.impl.IDEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.property.EmptyProperty;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.model.graph.vertex.impl.IDVertex;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.GraphMemoryCSRStore.CSRStore;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the csr build with the map based graph store on the same random graph.
+ */
+@Fork(1)
+@Threads(1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 5, time = 1)
+@Warmup(iterations = 3, time = 1)
+@State(Scope.Benchmark)
+public class CSRBuildJMH {
+
+    private static final int VERTEX_NUM = 1000000;
+    private static final int EDGE_NUM = 10000000;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    List<IVertex<Integer, Object>> vertexList;
+    List<IEdge<Integer, Object>> edgeList;
+    StoreContext storeContext;
+
+    @Setup
+    public void setUp() {
+        Configuration config = new Configuration(ImmutableMap.of(
+            MemoryConfigKeys.CSR_BUILD_PARALLELISM.getKey(), String.valueOf(parallelism)));
+        storeContext = new StoreContext("test").withConfig(config).withDataSchema(
+            new GraphDataSchema(new GraphMeta(
+                new GraphMetaType(IntegerType.INSTANCE, IDVertex.class, IDVertex::new, EmptyProperty.class,
+                    IDEdge.class, IDEdge::new, EmptyProperty.class))));
+        Random random = new Random(0);
+        vertexList = new ArrayList<>(VERTEX_NUM);
+        for (int i = 0; i < VERTEX_NUM; i++) {
+            vertexList.add(new IDVertex<>(i));
+        }
+        edgeList = new ArrayList<>(EDGE_NUM);
+        for (int i = 0; i < EDGE_NUM; i++) {
+            IDEdge<Integer> edge = new IDEdge<>(random.nextInt(VERTEX_NUM), random.nextInt(VERTEX_NUM));
+            edge.setDirect(EdgeDirection.OUT);
+            edgeList.add(edge);
+        }
+    }
+
+    @Benchmark
+    public CSRStore<Integer, Object, Object> csrBuild() {
+        CSRStore<Integer, Object, Object> csrStore = new CSRStore<>(storeContext);
+        csrStore.build(vertexList, edgeList);
+        return csrStore;
+    }
+
+    @Benchmark
+    public GraphMemoryStore<Integer, Object, Object> mapBuild() {
+        GraphMemoryStore<Integer, Object, Object> store = new GraphMemoryStore<>();
+        store.init(storeContext);
+        vertexList.forEach(store::addVertex);
+        edgeList.forEach(store::addEdge);
+        return store;
+    }
+}
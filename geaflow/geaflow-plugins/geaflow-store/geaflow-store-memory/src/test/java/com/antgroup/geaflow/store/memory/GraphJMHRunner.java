@@ -29,6 +29,7 @@ public class GraphJMHRunner {
             .include(IntMapGraphJMH.class.getSimpleName())
             .include(StringCSRMapGraphJMH.class.getSimpleName())
             .include(IntCSRMapGraphJMH.class.getSimpleName())
+            .include(CSRBuildJMH.class.getSimpleName())
             .build();
         new Runner(opt).run();
     }
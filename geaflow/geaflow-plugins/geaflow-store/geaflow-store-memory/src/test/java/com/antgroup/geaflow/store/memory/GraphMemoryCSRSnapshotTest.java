@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.memory;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.type.IType;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.common.type.primitive.StringType;
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.model.graph.edge.impl.IDEdge;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueLabelTimeEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.property.EmptyProperty;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.model.graph.vertex.impl.IDVertex;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueLabelTimeVertex;
+import com.antgroup.geaflow.state.DataModel;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import com.antgroup.geaflow.state.pushdown.StatePushDown;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import com.antgroup.geaflow.store.api.graph.IGraphStore;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.google.common.collect.Iterators;
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class GraphMemoryCSRSnapshotTest {
+
+    private static final String WORK_PATH = "/tmp/GraphMemoryCSRSnapshotTest";
+
+    @AfterMethod
+    public void tearUp() {
+        FileUtils.deleteQuietly(new File(WORK_PATH));
+    }
+
+    private <K> IGraphStore<K, Object, Object> buildStore(GraphMetaType<K, ?, ?, ?, ?> metaType,
+                                                          boolean offHeap) {
+        Map<String, String> config = new HashMap<>();
+        config.put(MemoryConfigKeys.CSR_MEMORY_ENABLE.getKey(), "true");
+        config.put(MemoryConfigKeys.CSR_SNAPSHOT_ENABLE.getKey(), "true");
+        config.put(MemoryConfigKeys.CSR_OFFHEAP_ENABLE.getKey(), String.valueOf(offHeap));
+        config.put(ExecutionConfigKeys.JOB_WORK_PATH.getKey(), WORK_PATH);
+        config.put(ExecutionConfigKeys.JOB_APP_NAME.getKey(), "GraphMemoryCSRSnapshotTest");
+        Configuration configuration = new Configuration(config);
+        IGraphStore<K, Object, Object> store = (IGraphStore<K, Object, Object>) new MemoryStoreBuilder()
+            .getStore(DataModel.STATIC_GRAPH, configuration);
+        StoreContext storeContext = new StoreContext("test").withConfig(configuration)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(metaType)));
+        store.init(storeContext);
+        return store;
+    }
+
+    @Test
+    public void testIdGraph() {
+        for (boolean offHeap : new boolean[]{true, false}) {
+            GraphMetaType<Integer, ?, ?, ?, ?> metaType = new GraphMetaType<>(IntegerType.INSTANCE,
+                IDVertex.class, EmptyProperty.class, IDEdge.class, EmptyProperty.class);
+            IGraphStore<Integer, Object, Object> store = buildStore(metaType, offHeap);
+            for (int i = 0; i < 1000; i++) {
+                store.addVertex(new IDVertex<>(i));
+                store.addEdge(new IDEdge<>(i, i + 1));
+                store.addEdge(new IDEdge<>(i, i + 2, EdgeDirection.IN));
+            }
+            store.archive(1);
+            checkRecover(store, buildStore(metaType, offHeap), i -> i, 1);
+            tearUp();
+        }
+    }
+
+    @Test
+    public void testValueGraph() {
+        for (IType<?> keyType : new IType[]{IntegerType.INSTANCE, StringType.INSTANCE}) {
+            for (boolean offHeap : new boolean[]{true, false}) {
+                Function<Integer, Object> keyFun = keyType == IntegerType.INSTANCE
+                    ? i -> i : String::valueOf;
+                GraphMetaType<Object, ?, ?, ?, ?> metaType = new GraphMetaType<>(
+                    (IType<Object>) keyType, ValueLabelTimeVertex.class, Integer.class,
+                    ValueLabelTimeEdge.class, Integer.class);
+                IGraphStore<Object, Object, Object> store = buildStore(metaType, offHeap);
+                for (int i = 0; i < 1000; i++) {
+                    store.addVertex(new ValueLabelTimeVertex<>(keyFun.apply(i), i, "v" + i % 3, i));
+                    store.addEdge(new ValueLabelTimeEdge<>(keyFun.apply(i), keyFun.apply(i + 1),
+                        i, "e" + i % 3, i));
+                }
+                store.archive(1);
+                store.archive(2);
+                checkRecover(store, buildStore(metaType, offHeap), keyFun, 2);
+                tearUp();
+            }
+        }
+    }
+
+    private <K> void checkRecover(IGraphStore<K, Object, Object> expect,
+                                  IGraphStore<K, Object, Object> store,
+                                  Function<Integer, K> keyFun, long checkpointId) {
+        Assert.assertEquals(store.recoveryLatest(), checkpointId);
+        Assert.assertEquals(Iterators.size(store.getVertexIterator(StatePushDown.of())), 1000);
+        for (int i = 0; i < 1000; i++) {
+            K key = keyFun.apply(i);
+            IVertex<K, Object> vertex = store.getVertex(key, StatePushDown.of());
+            Assert.assertEquals(vertex, expect.getVertex(key, StatePushDown.of()));
+            List<IEdge<K, Object>> edges = store.getEdges(key, StatePushDown.of());
+            Assert.assertEquals(edges, expect.getEdges(key, StatePushDown.of()));
+
+            IEdgeCursor<K, Object> cursor = store.getEdgeCursor(key, StatePushDown.of());
+            int num = 0;
+            while (cursor.hasNext()) {
+                Assert.assertEquals(cursor.nextTargetId(), edges.get(num).getTargetId());
+                Assert.assertEquals(cursor.direction(), edges.get(num).getDirect());
+                num++;
+            }
+            Assert.assertEquals(num, edges.size());
+        }
+        store.close();
+        expect.close();
+    }
+}
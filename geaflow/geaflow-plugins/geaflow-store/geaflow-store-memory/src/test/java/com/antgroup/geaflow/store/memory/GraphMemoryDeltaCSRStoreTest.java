@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueTimeEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
+import com.antgroup.geaflow.state.DataModel;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import com.antgroup.geaflow.state.pushdown.StatePushDown;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import com.antgroup.geaflow.store.api.graph.IGraphStore;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.google.common.collect.Iterators;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class GraphMemoryDeltaCSRStoreTest {
+
+    private static final String WORK_PATH = "/tmp/GraphMemoryDeltaCSRStoreTest";
+
+    @AfterMethod
+    public void tearUp() {
+        FileUtils.deleteQuietly(new File(WORK_PATH));
+    }
+
+    private IGraphStore<Integer, Integer, Integer> buildStore(boolean async, Class<?> edgeClass,
+                                                              Map<String, String> extraConfig) {
+        Map<String, String> config = new HashMap<>(extraConfig);
+        config.put(MemoryConfigKeys.CSR_MEMORY_ENABLE.getKey(), "true");
+        config.put(MemoryConfigKeys.CSR_DELTA_ENABLE.getKey(), "true");
+        config.put(MemoryConfigKeys.CSR_DELTA_MERGE_THRESHOLD.getKey(), "100");
+        config.put(MemoryConfigKeys.CSR_DELTA_ASYNC_MERGE_ENABLE.getKey(), String.valueOf(async));
+        Configuration configuration = new Configuration(config);
+        IGraphStore<Integer, Integer, Integer> store =
+            (IGraphStore<Integer, Integer, Integer>) new MemoryStoreBuilder()
+                .getStore(DataModel.STATIC_GRAPH, configuration);
+        Assert.assertTrue(store instanceof GraphMemoryDeltaCSRStore);
+        StoreContext storeContext = new StoreContext("test").withConfig(configuration)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(
+                new GraphMetaType<>(IntegerType.INSTANCE, ValueVertex.class, Integer.class,
+                    edgeClass, Integer.class))));
+        store.init(storeContext);
+        return store;
+    }
+
+    @Test
+    public void testAddAfterFlushWithSyncMerge() {
+        checkAddAfterFlush(buildStore(false, ValueEdge.class, Collections.emptyMap()));
+    }
+
+    @Test
+    public void testAddAfterFlushWithAsyncMerge() {
+        checkAddAfterFlush(buildStore(true, ValueEdge.class, Collections.emptyMap()));
+    }
+
+    private void checkAddAfterFlush(IGraphStore<Integer, Integer, Integer> store) {
+        for (int i = 0; i < 1000; i++) {
+            store.addVertex(new ValueVertex<>(i, i));
+            store.addEdge(new ValueEdge<>(i, i + 1, i));
+        }
+        store.flush();
+
+        for (int i = 0; i < 1000; i++) {
+            store.addVertex(new ValueVertex<>(i, -i));
+            store.addEdge(new ValueEdge<>(i, i + 2, i));
+        }
+        store.addVertex(new ValueVertex<>(2000, 2000));
+        store.flush();
+
+        Assert.assertEquals(store.getVertex(10, StatePushDown.of()).getValue().intValue(), -10);
+        List<IEdge<Integer, Integer>> edges = store.getEdges(10, StatePushDown.of());
+        Assert.assertEquals(edges.size(), 2);
+        Assert.assertEquals(Iterators.size(store.getVertexIterator(StatePushDown.of())), 1001);
+        Assert.assertEquals(Iterators.size(store.getEdgeIterator(StatePushDown.of())), 2000);
+
+        store.compact();
+        edges = store.getEdges(10, StatePushDown.of());
+        Assert.assertEquals(edges.size(), 2);
+        Assert.assertEquals(edges.get(0).getTargetId().intValue(), 11);
+        Assert.assertEquals(edges.get(1).getTargetId().intValue(), 12);
+        Assert.assertEquals(store.getVertex(10, StatePushDown.of()).getValue().intValue(), -10);
+        Assert.assertEquals(store.getVertex(2000, StatePushDown.of()).getValue().intValue(), 2000);
+        Assert.assertEquals(Iterators.size(store.getVertexIterator(StatePushDown.of())), 1001);
+        Assert.assertEquals(Iterators.size(store.getOneDegreeGraphIterator(StatePushDown.of())), 1001);
+        store.close();
+    }
+
+    @Test
+    public void testMergeKeepsEdgeOrder() {
+        Map<String, String> config = new HashMap<>();
+        config.put(StateConfigKeys.STATE_KV_ENCODER_EDGE_ORDER.getKey(),
+            "SRC_ID, DESC_TIME, DIRECTION, DST_ID");
+        IGraphStore<Integer, Integer, Integer> store = buildStore(false, ValueTimeEdge.class, config);
+        List<Integer> times = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            times.add(i);
+        }
+        Collections.shuffle(times, new Random(7));
+        // every 100 edges trigger a merge of the delta into the sorted base.
+        for (int time : times) {
+            store.addEdge(new ValueTimeEdge<>(1, time, time, time));
+            store.flush();
+        }
+        checkDescTime(store, 500);
+        store.compact();
+        checkDescTime(store, 500);
+
+        IEdgeCursor<Integer, Integer> cursor = store.getEdgeCursor(1, StatePushDown.of());
+        long last = Long.MAX_VALUE;
+        int count = 0;
+        while (cursor.hasNext()) {
+            cursor.nextTargetId();
+            Assert.assertTrue(cursor.ts() < last);
+            last = cursor.ts();
+            count++;
+        }
+        Assert.assertEquals(count, 500);
+        store.close();
+    }
+
+    private void checkDescTime(IGraphStore<Integer, Integer, Integer> store, int num) {
+        List<IEdge<Integer, Integer>> edges = store.getEdges(1, StatePushDown.of());
+        Assert.assertEquals(edges.size(), num);
+        for (int i = 0; i < num; i++) {
+            Assert.assertEquals(((ValueTimeEdge) edges.get(i)).getTime(), num - 1L - i);
+        }
+    }
+
+    @Test
+    public void testArchiveAndRecover() {
+        Map<String, String> config = new HashMap<>();
+        config.put(MemoryConfigKeys.CSR_SNAPSHOT_ENABLE.getKey(), "true");
+        config.put(ExecutionConfigKeys.JOB_WORK_PATH.getKey(), WORK_PATH);
+        config.put(ExecutionConfigKeys.JOB_APP_NAME.getKey(), "GraphMemoryDeltaCSRStoreTest");
+        config.put(StateConfigKeys.STATE_ARCHIVED_VERSION_NUM.getKey(), "3");
+        IGraphStore<Integer, Integer, Integer> store = buildStore(false, ValueEdge.class, config);
+        for (int i = 0; i < 1000; i++) {
+            store.addVertex(new ValueVertex<>(i, i));
+            store.addEdge(new ValueEdge<>(i, i + 1, i));
+        }
+        store.archive(1);
+        for (int i = 0; i < 50; i++) {
+            store.addEdge(new ValueEdge<>(i, i + 2, i));
+        }
+        // the delta below the merge threshold is merged by the archive.
+        store.archive(2);
+        store.archive(3);
+        store.close();
+
+        IGraphStore<Integer, Integer, Integer> recovered = buildStore(false, ValueEdge.class, config);
+        Assert.assertEquals(recovered.recoveryLatest(), 3);
+        Assert.assertEquals(Iterators.size(recovered.getVertexIterator(StatePushDown.of())), 1000);
+        Assert.assertEquals(Iterators.size(recovered.getEdgeIterator(StatePushDown.of())), 1050);
+        Assert.assertEquals(recovered.getEdges(10, StatePushDown.of()).size(), 2);
+        Assert.assertEquals(recovered.getEdges(100, StatePushDown.of()).size(), 1);
+
+        recovered.recovery(1);
+        Assert.assertEquals(Iterators.size(recovered.getEdgeIterator(StatePushDown.of())), 1000);
+        recovered.addEdge(new ValueEdge<>(5000, 1, 1));
+        recovered.compact();
+        Assert.assertEquals(recovered.getEdges(5000, StatePushDown.of()).size(), 1);
+        Assert.assertEquals(recovered.getVertex(10, StatePushDown.of()).getValue().intValue(), 10);
+        recovered.close();
+    }
+}
@@ -15,6 +15,7 @@
 package com.antgroup.geaflow.store.memory;
 
 import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
 import com.antgroup.geaflow.common.type.primitive.IntegerType;
 import com.antgroup.geaflow.common.type.primitive.StringType;
 import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
@@ -42,18 +43,25 @@ import com.antgroup.geaflow.model.graph.vertex.impl.ValueTimeVertex;
 import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
 import com.antgroup.geaflow.state.DataModel;
 import com.antgroup.geaflow.state.data.OneDegreeGraph;
+import com.antgroup.geaflow.state.graph.encoder.EdgeAtom;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.StatePushDown;
 import com.antgroup.geaflow.state.pushdown.filter.IVertexFilter;
+import com.antgroup.geaflow.state.pushdown.filter.OutEdgeFilter;
 import com.antgroup.geaflow.state.pushdown.filter.VertexMustContainFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
+import com.antgroup.geaflow.state.pushdown.limit.SingleEdgeLimit;
 import com.antgroup.geaflow.state.schema.GraphDataSchema;
 import com.antgroup.geaflow.store.api.graph.IGraphStore;
 import com.antgroup.geaflow.store.context.StoreContext;
+import com.antgroup.geaflow.store.memory.GraphMemoryCSRStore.CSRStore;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -215,6 +223,47 @@ public class GraphMemoryStoreTest {
         Assert.assertFalse(vIt.hasNext());
     }
 
+    @Test
+    public void testEdgeCursor() {
+        IGraphStore<Integer, Integer, Integer> store =
+            (IGraphStore<Integer, Integer, Integer>) builder.getStore(DataModel.STATIC_GRAPH, config);
+        StoreContext storeContext =
+            new StoreContext("test")
+                .withConfig(new Configuration())
+                .withDataSchema(new GraphDataSchema(new GraphMeta(
+                new GraphMetaType<>(IntegerType.INSTANCE, ValueVertex.class, Integer.class,
+                    ValueEdge.class, Integer.class))));
+        store.init(storeContext);
+
+        for (int i = 0; i < 10; i++) {
+            store.addEdge(new ValueEdge<>(1, i, i, i % 2 == 0 ? EdgeDirection.OUT : EdgeDirection.IN));
+        }
+        store.addEdge(new ValueEdge<>(2, 1, 1));
+        store.flush();
+
+        IEdgeCursor<Integer, Integer> cursor = store.getEdgeCursor(1, StatePushDown.of());
+        int count = 0;
+        while (cursor.hasNext()) {
+            int targetId = cursor.nextTargetId();
+            Assert.assertEquals(cursor.srcId().intValue(), 1);
+            Assert.assertEquals(cursor.value().intValue(), targetId);
+            count++;
+        }
+        Assert.assertEquals(count, 10);
+
+        cursor = store.getEdgeCursor(1, StatePushDown.of().withFilter(
+            GraphFilter.of(OutEdgeFilter.instance())));
+        count = 0;
+        while (cursor.hasNext()) {
+            Assert.assertEquals(cursor.nextTargetId() % 2, 0);
+            Assert.assertEquals(cursor.direction(), EdgeDirection.OUT);
+            count++;
+        }
+        Assert.assertEquals(count, 5);
+
+        Assert.assertFalse(store.getEdgeCursor(0, StatePushDown.of()).hasNext());
+    }
+
     private IVertex getVertex(GraphMeta graphMeta) {
         GraphElementFlag flag = GraphElementFlag.build(graphMeta.getVertexMeta().getGraphElementClass());
         boolean noProperty = graphMeta.getVertexMeta().getPropertyClass() == EmptyProperty.class;
@@ -262,6 +311,112 @@ public class GraphMemoryStoreTest {
         return edge;
     }
 
+    @Test
+    public void testEdgeOrder() {
+        IGraphStore<Integer, Integer, Integer> store =
+            (IGraphStore<Integer, Integer, Integer>) builder.getStore(DataModel.STATIC_GRAPH, config);
+        Configuration storeConfig = new Configuration(ImmutableMap.of(
+            StateConfigKeys.STATE_KV_ENCODER_EDGE_ORDER.getKey(), "SRC_ID, DESC_TIME, DIRECTION, DST_ID"));
+        StoreContext storeContext = new StoreContext("test")
+            .withConfig(storeConfig)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(
+                new GraphMetaType<>(IntegerType.INSTANCE, ValueVertex.class, Integer.class,
+                    ValueTimeEdge.class, Integer.class))));
+        store.init(storeContext);
+
+        List<Integer> times = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            times.add(i);
+        }
+        Collections.shuffle(times, new Random(7));
+        for (int time : times) {
+            store.addEdge(new ValueTimeEdge<>(1, time, time, time));
+        }
+        store.flush();
+
+        List<IEdge<Integer, Integer>> list = store.getEdges(1, StatePushDown.of()
+            .withOrderField(EdgeAtom.DESC_TIME)
+            .withEdgeLimit(new SingleEdgeLimit(3, 3)));
+        Assert.assertEquals(list.size(), 3);
+        for (int i = 0; i < list.size(); i++) {
+            Assert.assertEquals(((ValueTimeEdge) list.get(i)).getTime(), 99L - i);
+        }
+
+        IEdgeCursor<Integer, Integer> cursor = store.getEdgeCursor(1,
+            StatePushDown.of().withOrderField(EdgeAtom.DESC_TIME));
+        long last = Long.MAX_VALUE;
+        int count = 0;
+        while (cursor.hasNext()) {
+            cursor.nextTargetId();
+            long time = cursor.ts();
+            Assert.assertTrue(time < last);
+            last = time;
+            count++;
+        }
+        Assert.assertEquals(count, 100);
+
+        list = store.getEdges(1, StatePushDown.of().withOrderField(EdgeAtom.TIME)
+            .withEdgeLimit(new SingleEdgeLimit(2, 2)));
+        Assert.assertEquals(((ValueTimeEdge) list.get(0)).getTime(), 0L);
+        Assert.assertEquals(((ValueTimeEdge) list.get(1)).getTime(), 1L);
+        // the stored order is not changed by a pushdown with another order.
+        list = store.getEdges(1, StatePushDown.of());
+        Assert.assertEquals(((ValueTimeEdge) list.get(0)).getTime(), 99L);
+
+        // edges added after a read are sorted again on the next read.
+        store.addEdge(new ValueTimeEdge<>(1, 100, 100, 100));
+        store.addEdge(new ValueTimeEdge<>(1, 50, 50, 50));
+        list = store.getEdges(1, StatePushDown.of());
+        Assert.assertEquals(list.size(), 102);
+        Assert.assertEquals(((ValueTimeEdge) list.get(0)).getTime(), 100L);
+        for (int i = 1; i < list.size(); i++) {
+            Assert.assertTrue(((ValueTimeEdge) list.get(i - 1)).getTime()
+                >= ((ValueTimeEdge) list.get(i)).getTime());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEdgeOrderWithoutSortAtom() {
+        IGraphStore<Integer, Integer, Integer> store =
+            (IGraphStore<Integer, Integer, Integer>) builder.getStore(DataModel.STATIC_GRAPH, config);
+        Configuration storeConfig = new Configuration(ImmutableMap.of(
+            StateConfigKeys.STATE_KV_ENCODER_EDGE_ORDER.getKey(), "SRC_ID"));
+        store.init(new StoreContext("test")
+            .withConfig(storeConfig)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(
+                new GraphMetaType<>(IntegerType.INSTANCE, ValueVertex.class, Integer.class,
+                    ValueTimeEdge.class, Integer.class)))));
+    }
+
+    @Test
+    public void testParallelCSRBuild() {
+        StoreContext storeContext = new StoreContext("test")
+            .withConfig(new Configuration(ImmutableMap.of(
+                MemoryConfigKeys.CSR_BUILD_PARALLELISM.getKey(), "4")))
+            .withDataSchema(new GraphDataSchema(new GraphMeta(
+                new GraphMetaType(IntegerType.INSTANCE, IDVertex.class, IDVertex::new,
+                    EmptyProperty.class, IDEdge.class, IDEdge::new, EmptyProperty.class))));
+        int keyNum = 1000;
+        Random random = new Random(0);
+        List<IEdge<Integer, Object>> edgeList = new ArrayList<>();
+        Map<Integer, List<Integer>> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            int src = random.nextInt(keyNum);
+            edgeList.add(new IDEdge<>(src, i));
+            expected.computeIfAbsent(src, k -> new ArrayList<>()).add(i);
+        }
+        CSRStore<Integer, Object, Object> csrStore = new CSRStore<>(storeContext);
+        csrStore.build(new ArrayList<>(), edgeList);
+        Assert.assertEquals(csrStore.getEdgeNum(), edgeList.size());
+        for (Map.Entry<Integer, List<Integer>> entry : expected.entrySet()) {
+            List<Integer> targetIds = new ArrayList<>();
+            for (IEdge<Integer, Object> edge : csrStore.getEdges(entry.getKey())) {
+                targetIds.add(edge.getTargetId());
+            }
+            Assert.assertEquals(targetIds, entry.getValue());
+        }
+    }
+
     @Test
     public void testDifferentType() {
         IGraphStore<Integer, Integer, Integer> store =
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.memory;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.file.FileConfigKeys;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
+import com.antgroup.geaflow.state.DataModel;
+import com.antgroup.geaflow.state.pushdown.StatePushDown;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import com.antgroup.geaflow.state.serializer.DefaultKMapSerializer;
+import com.antgroup.geaflow.state.serializer.DefaultKVSerializer;
+import com.antgroup.geaflow.store.api.graph.IGraphStore;
+import com.antgroup.geaflow.store.api.key.IKMapStore;
+import com.antgroup.geaflow.store.api.key.IKVStore;
+import com.antgroup.geaflow.store.context.StoreContext;
+import com.google.common.collect.Iterators;
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class MemoryStoreSnapshotTest {
+
+    private static final String WORK_PATH = "/tmp/MemoryStoreSnapshotTest";
+
+    @AfterMethod
+    public void tearUp() {
+        FileUtils.deleteQuietly(new File(WORK_PATH));
+    }
+
+    private Configuration getConfig(boolean csrEnable) {
+        Map<String, String> config = new HashMap<>();
+        config.put(MemoryConfigKeys.SNAPSHOT_ENABLE.getKey(), "true");
+        config.put(MemoryConfigKeys.SNAPSHOT_KEY_GROUP_NUM.getKey(), "4");
+        config.put(MemoryConfigKeys.SNAPSHOT_FULL_INTERVAL.getKey(), "2");
+        config.put(MemoryConfigKeys.CSR_MEMORY_ENABLE.getKey(), String.valueOf(csrEnable));
+        config.put(ExecutionConfigKeys.JOB_WORK_PATH.getKey(), Paths.get(WORK_PATH, "local").toString());
+        config.put(ExecutionConfigKeys.JOB_APP_NAME.getKey(), "MemoryStoreSnapshotTest");
+        config.put(FileConfigKeys.PERSISTENT_TYPE.getKey(), "LOCAL");
+        config.put(FileConfigKeys.ROOT.getKey(), Paths.get(WORK_PATH, "remote").toString());
+        return new Configuration(config);
+    }
+
+    private IKVStore<String, String> buildKVStore() {
+        Configuration configuration = getConfig(false);
+        IKVStore<String, String> kvStore = (IKVStore<String, String>) new MemoryStoreBuilder()
+            .getStore(DataModel.KV, configuration);
+        kvStore.init(new StoreContext("kv").withConfig(configuration)
+            .withKeySerializer(new DefaultKVSerializer<>(String.class, String.class)));
+        return kvStore;
+    }
+
+    @Test
+    public void testKV() {
+        IKVStore<String, String> kvStore = buildKVStore();
+        for (int i = 0; i < 100; i++) {
+            kvStore.put("k" + i, "v" + i);
+        }
+        kvStore.archive(1);
+        kvStore.put("k1", "new");
+        kvStore.remove("k2");
+        kvStore.archive(2);
+        kvStore.put("k3", "new");
+        kvStore.archive(3);
+        kvStore.put("k4", "new");
+        // full snapshot again after two incremental ones.
+        kvStore.archive(4);
+
+        IKVStore<String, String> recovered = buildKVStore();
+        Assert.assertEquals(recovered.recoveryLatest(), 4);
+        Assert.assertEquals(recovered.get("k0"), "v0");
+        Assert.assertEquals(recovered.get("k1"), "new");
+        Assert.assertNull(recovered.get("k2"));
+        Assert.assertEquals(recovered.get("k3"), "new");
+        Assert.assertEquals(recovered.get("k4"), "new");
+        Assert.assertEquals(recovered.get("k99"), "v99");
+
+        recovered.drop();
+        recovered.recovery(2);
+        Assert.assertEquals(recovered.get("k1"), "new");
+        Assert.assertNull(recovered.get("k2"));
+        Assert.assertEquals(recovered.get("k3"), "v3");
+        Assert.assertEquals(recovered.get("k4"), "v4");
+    }
+
+    private IKMapStore<String, String, String> buildKMapStore() {
+        Configuration configuration = getConfig(false);
+        IKMapStore<String, String, String> kMapStore = (IKMapStore<String, String, String>)
+            new MemoryStoreBuilder().getStore(DataModel.KMap, configuration);
+        kMapStore.init(new StoreContext("kmap").withConfig(configuration).withKeySerializer(
+            new DefaultKMapSerializer<>(String.class, String.class, String.class)));
+        return kMapStore;
+    }
+
+    @Test
+    public void testKMap() {
+        IKMapStore<String, String, String> kMapStore = buildKMapStore();
+        kMapStore.add("hw", "hello", "world");
+        kMapStore.add("hw", "foo", "bar");
+        kMapStore.add("removed", "foo", "bar");
+        kMapStore.archive(1);
+        kMapStore.remove("hw", "foo");
+        kMapStore.remove("removed");
+        kMapStore.archive(2);
+
+        IKMapStore<String, String, String> recovered = buildKMapStore();
+        Assert.assertEquals(recovered.recoveryLatest(), 2);
+        Assert.assertEquals(recovered.get("hw").size(), 1);
+        Assert.assertEquals(recovered.get("hw").get("hello"), "world");
+        Assert.assertEquals(recovered.get("removed").size(), 0);
+    }
+
+    private IGraphStore<Integer, Integer, Integer> buildGraphStore(boolean csrEnable) {
+        Configuration configuration = getConfig(csrEnable);
+        IGraphStore<Integer, Integer, Integer> store = (IGraphStore<Integer, Integer, Integer>)
+            new MemoryStoreBuilder().getStore(DataModel.STATIC_GRAPH, configuration);
+        store.init(new StoreContext("graph").withConfig(configuration)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(new GraphMetaType<>(
+                IntegerType.INSTANCE, ValueVertex.class, Integer.class, ValueEdge.class,
+                Integer.class)))));
+        return store;
+    }
+
+    @Test
+    public void testGraph() {
+        IGraphStore<Integer, Integer, Integer> store = buildGraphStore(false);
+        for (int i = 0; i < 100; i++) {
+            store.addVertex(new ValueVertex<>(i, i));
+            store.addEdge(new ValueEdge<>(i, i + 1, i));
+        }
+        store.archive(1);
+        store.addEdge(new ValueEdge<>(1, 3, 1));
+        store.addVertex(new ValueVertex<>(100, 100));
+        store.archive(2);
+
+        IGraphStore<Integer, Integer, Integer> recovered = buildGraphStore(false);
+        Assert.assertEquals(recovered.recoveryLatest(), 2);
+        Assert.assertEquals(Iterators.size(recovered.getVertexIterator(StatePushDown.of())), 101);
+        Assert.assertEquals(recovered.getEdges(1, StatePushDown.of()).size(), 2);
+        Assert.assertEquals(recovered.getEdges(2, StatePushDown.of()).size(), 1);
+        Assert.assertEquals(recovered.getVertex(50, StatePushDown.of()).getValue(), 50);
+    }
+
+    @Test
+    public void testCSRGraph() {
+        IGraphStore<Integer, Integer, Integer> store = buildGraphStore(true);
+        for (int i = 0; i < 100; i++) {
+            store.addVertex(new ValueVertex<>(i, i));
+            store.addEdge(new ValueEdge<>(i, i + 1, i));
+        }
+        store.archive(1);
+        store.archive(2);
+        // lose the local csr files, recover from the remote snapshot.
+        FileUtils.deleteQuietly(new File(WORK_PATH, "local"));
+
+        IGraphStore<Integer, Integer, Integer> recovered = buildGraphStore(true);
+        Assert.assertEquals(recovered.recoveryLatest(), 2);
+        Assert.assertEquals(Iterators.size(recovered.getVertexIterator(StatePushDown.of())), 100);
+        Assert.assertEquals(recovered.getEdges(1, StatePushDown.of()).size(), 1);
+    }
+}
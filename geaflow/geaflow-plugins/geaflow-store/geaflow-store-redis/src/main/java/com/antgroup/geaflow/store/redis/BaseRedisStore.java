@@ -14,13 +14,22 @@
 
 package com.antgroup.geaflow.store.redis;
 
+import com.antgroup.geaflow.common.utils.RetryCommand;
 import com.antgroup.geaflow.store.AbstractBaseStore;
 import com.antgroup.geaflow.store.IBaseStore;
 import com.antgroup.geaflow.store.context.StoreContext;
 import com.google.common.primitives.Bytes;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
 
 public abstract class BaseRedisStore extends AbstractBaseStore implements IBaseStore {
 
@@ -30,10 +39,19 @@ public abstract class BaseRedisStore extends AbstractBaseStore implements IBaseS
     protected byte[] prefix;
     protected int retryTimes;
     protected int retryIntervalMs;
+    protected int writeBufferSize;
+
+    /**
+     * Guards the buffered writes, which are flushed with one pipeline.
+     */
+    protected final Object bufferLock = new Object();
+    private final List<Consumer<Pipeline>> bufferedCommands = new ArrayList<>();
+    private final Set<ByteBuffer> bufferedKeys = new HashSet<>();
 
     public void init(StoreContext storeContext) {
         this.retryTimes = storeContext.getConfig().getInteger(RedisConfigKeys.REDIS_RETRY_TIMES);
         this.retryIntervalMs = storeContext.getConfig().getInteger(RedisConfigKeys.REDIS_RETRY_INTERVAL_MS);
+        this.writeBufferSize = storeContext.getConfig().getInteger(RedisConfigKeys.REDIS_WRITE_BUFFER_SIZE);
         String host = storeContext.getConfig().getString(RedisConfigKeys.REDIS_HOST);
         int port = storeContext.getConfig().getInteger(RedisConfigKeys.REDIS_PORT);
         LOGGER.info("redis connect {}:{}", host, port);
@@ -46,8 +64,80 @@ public abstract class BaseRedisStore extends AbstractBaseStore implements IBaseS
         return Bytes.concat(prefix, key);
     }
 
+    protected boolean isWriteBuffered() {
+        return writeBufferSize > 0;
+    }
+
+    /**
+     * Buffer a write command of the redis key, the buffer is flushed when it is full.
+     */
+    protected void bufferCommand(byte[] redisKey, Consumer<Pipeline> command) {
+        synchronized (bufferLock) {
+            bufferedCommands.add(command);
+            bufferedKeys.add(ByteBuffer.wrap(redisKey));
+            if (bufferedCommands.size() >= writeBufferSize) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Flush the buffer if the redis key has buffered writes, so that the read sees them.
+     */
+    protected void flushIfBuffered(byte[] redisKey) {
+        if (!isWriteBuffered()) {
+            return;
+        }
+        synchronized (bufferLock) {
+            if (bufferedKeys.contains(ByteBuffer.wrap(redisKey))) {
+                flush();
+            }
+        }
+    }
+
+    protected int getBufferedSize() {
+        return bufferedCommands.size();
+    }
+
+    protected void writeBuffer(Pipeline pipeline) {
+        for (Consumer<Pipeline> command : bufferedCommands) {
+            command.accept(pipeline);
+        }
+    }
+
+    protected void clearBuffer() {
+        bufferedCommands.clear();
+        bufferedKeys.clear();
+    }
+
+    @Override
+    public void flush() {
+        synchronized (bufferLock) {
+            int size = getBufferedSize();
+            if (size == 0) {
+                return;
+            }
+            RetryCommand.run(() -> {
+                try (Jedis jedis = jedisPool.getResource()) {
+                    Pipeline pipeline = jedis.pipelined();
+                    writeBuffer(pipeline);
+                    pipeline.sync();
+                }
+                return null;
+            }, retryTimes, retryIntervalMs);
+            clearBuffer();
+            LOGGER.debug("flush {} buffered writes", size);
+        }
+    }
+
+    @Override
+    public void archive(long checkpointId) {
+        flush();
+    }
+
     @Override
     public void close() {
+        flush();
         this.jedisPool.close();
     }
 
@@ -41,6 +41,10 @@ public class KListRedisStore<K, V> extends BaseRedisStore implements IKListStore
         byte[] redisKey = getRedisKey(keyArray);
         byte[][] bValues = Arrays.stream(values).map(this.kvSerializer::serializeValue).toArray(byte[][]::new);
 
+        if (isWriteBuffered()) {
+            bufferCommand(redisKey, pipeline -> pipeline.lpush(redisKey, bValues));
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.lpush(redisKey, bValues);
@@ -53,6 +57,7 @@ public class KListRedisStore<K, V> extends BaseRedisStore implements IKListStore
     public List<V> get(K key) {
         byte[] keyArray = this.kvSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
+        flushIfBuffered(redisKey);
 
         List<byte[]> valueArray = RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
@@ -69,6 +74,10 @@ public class KListRedisStore<K, V> extends BaseRedisStore implements IKListStore
         byte[] keyArray = this.kvSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
 
+        if (isWriteBuffered()) {
+            bufferCommand(redisKey, pipeline -> pipeline.del(redisKey));
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.del(redisKey);
@@ -49,6 +49,10 @@ public class KMapRedisStore<K, UK, UV> extends BaseRedisStore implements IKMapSt
         byte[] keyArray = this.kMapSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
 
+        if (isWriteBuffered()) {
+            bufferCommand(redisKey, pipeline -> pipeline.hset(redisKey, newMap));
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.hset(redisKey, newMap);
@@ -64,6 +68,10 @@ public class KMapRedisStore<K, UK, UV> extends BaseRedisStore implements IKMapSt
         byte[] keyArray = this.kMapSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
 
+        if (isWriteBuffered()) {
+            bufferCommand(redisKey, pipeline -> pipeline.hset(redisKey, ukArray, uvArray));
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.hset(redisKey, ukArray, uvArray);
@@ -76,6 +84,7 @@ public class KMapRedisStore<K, UK, UV> extends BaseRedisStore implements IKMapSt
     public Map<UK, UV> get(K key) {
         byte[] keyArray = this.kMapSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
+        flushIfBuffered(redisKey);
 
         Map<byte[], byte[]> map = RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
@@ -96,6 +105,7 @@ public class KMapRedisStore<K, UK, UV> extends BaseRedisStore implements IKMapSt
         byte[] keyArray = this.kMapSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
         byte[][] ukArray = Arrays.stream(uks).map(this.kMapSerializer::serializeUK).toArray(byte[][]::new);
+        flushIfBuffered(redisKey);
 
         List<byte[]> uvArray = RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
@@ -111,6 +121,10 @@ public class KMapRedisStore<K, UK, UV> extends BaseRedisStore implements IKMapSt
         byte[] keyArray = this.kMapSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
 
+        if (isWriteBuffered()) {
+            bufferCommand(redisKey, pipeline -> pipeline.del(redisKey));
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.del(redisKey);
@@ -125,6 +139,10 @@ public class KMapRedisStore<K, UK, UV> extends BaseRedisStore implements IKMapSt
         byte[] redisKey = getRedisKey(keyArray);
         byte[][] ukArray = Arrays.stream(uks).map(this.kMapSerializer::serializeUK).toArray(byte[][]::new);
 
+        if (isWriteBuffered()) {
+            bufferCommand(redisKey, pipeline -> pipeline.hdel(redisKey, ukArray));
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.hdel(redisKey, ukArray);
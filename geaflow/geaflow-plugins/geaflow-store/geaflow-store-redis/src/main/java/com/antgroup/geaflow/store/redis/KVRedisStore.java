@@ -19,12 +19,24 @@ import com.antgroup.geaflow.state.serializer.IKVSerializer;
 import com.antgroup.geaflow.store.api.key.IKVStore;
 import com.antgroup.geaflow.store.context.StoreContext;
 import com.google.common.base.Preconditions;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
 public class KVRedisStore<K, V> extends BaseRedisStore implements IKVStore<K, V> {
 
     private IKVSerializer<K, V> kvSerializer;
 
+    /**
+     * The latest buffered value of each redis key, a null value means the key is removed.
+     */
+    private final Map<ByteBuffer, byte[]> bufferedValues = new LinkedHashMap<>();
+
     @Override
     public void init(StoreContext storeContext) {
         super.init(storeContext);
@@ -37,6 +49,10 @@ public class KVRedisStore<K, V> extends BaseRedisStore implements IKVStore<K, V>
         byte[] keyArray = this.kvSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
         byte[] valueArray = this.kvSerializer.serializeValue(value);
+        if (isWriteBuffered()) {
+            bufferValue(redisKey, valueArray);
+            return;
+        }
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 jedis.set(redisKey, valueArray);
@@ -50,22 +66,64 @@ public class KVRedisStore<K, V> extends BaseRedisStore implements IKVStore<K, V>
     public V get(K key) {
         byte[] keyArray = this.kvSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
+        if (isWriteBuffered()) {
+            synchronized (bufferLock) {
+                ByteBuffer bufferKey = ByteBuffer.wrap(redisKey);
+                if (bufferedValues.containsKey(bufferKey)) {
+                    return deserializeValue(bufferedValues.get(bufferKey));
+                }
+            }
+        }
         byte[] valueArray = RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
                 return jedis.get(redisKey);
             }
         }, retryTimes, retryIntervalMs);
 
-        if (valueArray == null) {
-            return null;
+        return deserializeValue(valueArray);
+    }
+
+    @Override
+    public List<V> get(List<K> keys) {
+        List<V> values = new ArrayList<>(keys.size());
+        List<Integer> missIndices = new ArrayList<>();
+        List<byte[]> missKeys = new ArrayList<>();
+        synchronized (bufferLock) {
+            for (K key : keys) {
+                byte[] redisKey = getRedisKey(this.kvSerializer.serializeKey(key));
+                ByteBuffer bufferKey = ByteBuffer.wrap(redisKey);
+                if (bufferedValues.containsKey(bufferKey)) {
+                    values.add(deserializeValue(bufferedValues.get(bufferKey)));
+                } else {
+                    missIndices.add(values.size());
+                    missKeys.add(redisKey);
+                    values.add(null);
+                }
+            }
         }
-        return this.kvSerializer.deserializeValue(valueArray);
+        if (missKeys.isEmpty()) {
+            return values;
+        }
+        byte[][] redisKeys = missKeys.toArray(new byte[0][]);
+        List<byte[]> valueArrays = RetryCommand.run(() -> {
+            try (Jedis jedis = jedisPool.getResource()) {
+                return jedis.mget(redisKeys);
+            }
+        }, retryTimes, retryIntervalMs);
+        for (int i = 0; i < missIndices.size(); i++) {
+            values.set(missIndices.get(i), deserializeValue(valueArrays.get(i)));
+        }
+        return values;
     }
 
     @Override
     public void remove(K key) {
         byte[] keyArray = this.kvSerializer.serializeKey(key);
         byte[] redisKey = getRedisKey(keyArray);
+        if (isWriteBuffered()) {
+            bufferValue(redisKey, null);
+            return;
+        }
 
         RetryCommand.run(() -> {
             try (Jedis jedis = jedisPool.getResource()) {
@@ -74,4 +132,42 @@ public class KVRedisStore<K, V> extends BaseRedisStore implements IKVStore<K, V>
             return null;
         }, retryTimes, retryIntervalMs);
     }
+
+    private V deserializeValue(byte[] valueArray) {
+        if (valueArray == null) {
+            return null;
+        }
+        return this.kvSerializer.deserializeValue(valueArray);
+    }
+
+    private void bufferValue(byte[] redisKey, byte[] valueArray) {
+        synchronized (bufferLock) {
+            bufferedValues.put(ByteBuffer.wrap(redisKey), valueArray);
+            if (bufferedValues.size() >= writeBufferSize) {
+                flush();
+            }
+        }
+    }
+
+    @Override
+    protected int getBufferedSize() {
+        return bufferedValues.size();
+    }
+
+    @Override
+    protected void writeBuffer(Pipeline pipeline) {
+        for (Entry<ByteBuffer, byte[]> entry : bufferedValues.entrySet()) {
+            byte[] redisKey = entry.getKey().array();
+            if (entry.getValue() == null) {
+                pipeline.del(redisKey);
+            } else {
+                pipeline.set(redisKey, entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    protected void clearBuffer() {
+        bufferedValues.clear();
+    }
 }
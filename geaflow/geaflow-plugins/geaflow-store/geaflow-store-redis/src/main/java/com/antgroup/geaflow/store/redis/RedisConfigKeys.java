@@ -48,4 +48,10 @@ public class RedisConfigKeys {
         .defaultValue(5000)
         .description("redis connect timeout in ms");
 
+    public static final ConfigKey REDIS_WRITE_BUFFER_SIZE = ConfigKeys
+        .key("geaflow.store.redis.write.buffer.size")
+        .defaultValue(0)
+        .description("the max number of buffered writes flushed by pipeline, "
+            + "0 means writing through for each operation");
+
 }
@@ -150,6 +150,86 @@ public class RedisStoreBuilderTest {
         Assert.assertNull(kvStore.get("foo"));
     }
 
+    @Test
+    public void testBufferedKV() {
+        IStoreBuilder builder = StoreBuilderFactory.build(StoreType.REDIS.name());
+        IKVStore<String, String> kvStore =
+            (IKVStore<String, String>) builder.getStore(DataModel.KV, new Configuration());
+
+        Configuration configuration = new Configuration();
+        configuration.put(RedisConfigKeys.REDIS_HOST, redisServer.getHost());
+        configuration.put(RedisConfigKeys.REDIS_PORT, String.valueOf(redisServer.getBindPort()));
+        configuration.put(RedisConfigKeys.REDIS_WRITE_BUFFER_SIZE, "100");
+        StoreContext storeContext = new StoreContext("redis_buffer").withConfig(configuration);
+        storeContext.withKeySerializer(new DefaultKVSerializer<>(String.class, String.class));
+        kvStore.init(storeContext);
+
+        IKVStore<String, String> readStore =
+            (IKVStore<String, String>) builder.getStore(DataModel.KV, new Configuration());
+        Configuration readConfig = new Configuration();
+        readConfig.put(RedisConfigKeys.REDIS_HOST, redisServer.getHost());
+        readConfig.put(RedisConfigKeys.REDIS_PORT, String.valueOf(redisServer.getBindPort()));
+        StoreContext readContext = new StoreContext("redis_buffer").withConfig(readConfig);
+        readContext.withKeySerializer(new DefaultKVSerializer<>(String.class, String.class));
+        readStore.init(readContext);
+
+        kvStore.put("hello", "world");
+        kvStore.put("foo", "bar");
+        kvStore.remove("foo");
+        // The writes are visible to the writer before being flushed.
+        Assert.assertEquals(kvStore.get("hello"), "world");
+        Assert.assertNull(kvStore.get("foo"));
+        Assert.assertNull(readStore.get("hello"));
+
+        kvStore.flush();
+        Assert.assertEquals(readStore.get("hello"), "world");
+        Assert.assertNull(readStore.get("foo"));
+
+        for (int i = 0; i < 250; i++) {
+            kvStore.put("key" + i, "value" + i);
+        }
+        // The full buffer has been flushed.
+        Assert.assertEquals(readStore.get("key0"), "value0");
+        List<String> keys = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 250; i += 10) {
+            keys.add("key" + i);
+            expected.add("value" + i);
+        }
+        keys.add("not_exist");
+        expected.add(null);
+        Assert.assertEquals(kvStore.get(keys), expected);
+        kvStore.archive(1);
+        Assert.assertEquals(readStore.get(keys), expected);
+        kvStore.close();
+        readStore.close();
+    }
+
+    @Test
+    public void testBufferedKMap() {
+        IStoreBuilder builder = StoreBuilderFactory.build(StoreType.REDIS.name());
+        IKMapStore<String, String, String> kMapStore =
+            (IKMapStore<String, String, String>) builder.getStore(DataModel.KMap, new Configuration());
+
+        Configuration configuration = new Configuration();
+        configuration.put(RedisConfigKeys.REDIS_HOST, redisServer.getHost());
+        configuration.put(RedisConfigKeys.REDIS_PORT, String.valueOf(redisServer.getBindPort()));
+        configuration.put(RedisConfigKeys.REDIS_WRITE_BUFFER_SIZE, "100");
+        StoreContext storeContext = new StoreContext("redis_buffer").withConfig(configuration);
+        storeContext.withKeySerializer(new DefaultKMapSerializer<>(String.class, String.class,
+            String.class));
+        kMapStore.init(storeContext);
+
+        kMapStore.add("hw", "hello", "world");
+        kMapStore.add("hw", "foo", "bar");
+        kMapStore.remove("hw", "foo");
+        Assert.assertEquals(kMapStore.get("hw").size(), 1);
+        Assert.assertEquals(kMapStore.get("hw", "hello"), Arrays.asList("world"));
+        kMapStore.remove("hw");
+        Assert.assertEquals(kMapStore.get("hw").size(), 0);
+        kMapStore.close();
+    }
+
     @Test
     public void testKMap() {
         IStoreBuilder builder = StoreBuilderFactory.build(StoreType.REDIS.name());
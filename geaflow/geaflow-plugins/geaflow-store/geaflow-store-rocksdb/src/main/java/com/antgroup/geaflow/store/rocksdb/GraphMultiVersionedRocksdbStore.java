@@ -15,6 +15,7 @@
 package com.antgroup.geaflow.store.rocksdb;
 
 import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.EDGE_CF;
+import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.META_CF;
 import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.VERTEX_CF;
 import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.VERTEX_INDEX_CF;
 
@@ -50,7 +51,7 @@ public class GraphMultiVersionedRocksdbStore<K, VV, EV> extends BaseRocksdbGraph
 
     @Override
     protected List<String> getCfList() {
-        return Arrays.asList(VERTEX_CF, EDGE_CF, VERTEX_INDEX_CF);
+        return Arrays.asList(VERTEX_CF, EDGE_CF, VERTEX_INDEX_CF, META_CF);
     }
 
     @Override
@@ -63,6 +64,16 @@ public class GraphMultiVersionedRocksdbStore<K, VV, EV> extends BaseRocksdbGraph
         this.proxy.addVertex(version, vertex);
     }
 
+    @Override
+    public void deleteEdge(long version, IEdge<K, EV> edge) {
+        this.proxy.deleteEdge(version, edge);
+    }
+
+    @Override
+    public void deleteVertex(long version, K id) {
+        this.proxy.deleteVertex(version, id);
+    }
+
     @Override
     public IVertex<K, VV> getVertex(long sliceId, K sid, IStatePushDown pushdown) {
         return this.proxy.getVertex(sliceId, sid, pushdown);
@@ -146,6 +157,18 @@ public class GraphMultiVersionedRocksdbStore<K, VV, EV> extends BaseRocksdbGraph
         super.flush();
     }
 
+    @Override
+    public void compact() {
+        proxy.compact();
+        super.compact();
+    }
+
+    @Override
+    public void recovery(long version) {
+        super.recovery(version);
+        proxy.recover();
+    }
+
     @Override
     public void close() {
         proxy.close();
@@ -24,6 +24,7 @@ import com.antgroup.geaflow.state.data.OneDegreeGraph;
 import com.antgroup.geaflow.state.graph.encoder.EdgeAtom;
 import com.antgroup.geaflow.state.graph.encoder.GraphKVEncoderFactory;
 import com.antgroup.geaflow.state.graph.encoder.IGraphKVEncoder;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import com.antgroup.geaflow.store.api.graph.IGraphStore;
 import com.antgroup.geaflow.store.context.StoreContext;
@@ -76,6 +77,12 @@ public class GraphRocksdbStore<K, VV, EV> extends BaseRocksdbGraphStore
         return proxy.getEdges(sid, pushdown);
     }
 
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        checkOrderField(pushdown.getOrderField());
+        return proxy.getEdgeCursor(sid, pushdown);
+    }
+
     @Override
     public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(K sid, IStatePushDown pushdown) {
         checkOrderField(pushdown.getOrderField());
@@ -20,9 +20,13 @@ import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
 import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.store.rocksdb.options.IRocksDBOptions;
+import com.google.common.primitives.UnsignedBytes;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -182,6 +186,36 @@ public class RocksdbClient {
         }
     }
 
+    /**
+     * Batch get the keys with one multiGet call, the keys are looked up in sorted order and
+     * the values are returned in the order of the input keys.
+     */
+    public List<byte[]> multiGet(String cf, List<byte[]> keys) {
+        int size = keys.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Comparator<byte[]> comparator = UnsignedBytes.lexicographicalComparator();
+        Arrays.sort(order, (a, b) -> comparator.compare(keys.get(a), keys.get(b)));
+        List<byte[]> sortedKeys = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sortedKeys.add(keys.get(order[i]));
+        }
+        List<byte[]> sortedValues;
+        try {
+            sortedValues = this.rocksdb.multiGetAsList(
+                Collections.nCopies(size, handleMap.get(cf)), sortedKeys);
+        } catch (RocksDBException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("rocksdb multi get error"), e);
+        }
+        byte[][] values = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            values[order[i]] = sortedValues.get(i);
+        }
+        return Arrays.asList(values);
+    }
+
     public void delete(String cf, byte[] key) {
         try {
             this.rocksdb.delete(handleMap.get(cf), key);
@@ -26,6 +26,7 @@ public class RocksdbConfigKeys {
     public static final String VERTEX_CF = "default";
     public static final String EDGE_CF = "e";
     public static final String VERTEX_INDEX_CF = "v_index";
+    public static final String META_CF = "meta";
     public static final char   FILE_DOT = '.';
 
     public static String getChkPath(String path, long checkpointId) {
@@ -86,6 +87,29 @@ public class RocksdbConfigKeys {
         .defaultValue(10 * 365 * 24 * 3600)   // 10 years.
         .description("rocksdb default ttl, default never ttl");
 
+    public static final ConfigKey ROCKSDB_MULTI_GET_BATCH_SIZE = ConfigKeys
+        .key("geaflow.store.rocksdb.multi.get.batch.size")
+        .defaultValue(256)
+        .description("rocksdb multi get batch size of keyed queries, default 256");
+
+    public static final ConfigKey ROCKSDB_MULTI_VERSION_DELTA_ENABLE = ConfigKeys
+        .key("geaflow.store.rocksdb.multi.version.delta.enable")
+        .defaultValue(false)
+        .description("rocksdb multi-version graph stores every record keyed by id and inverted "
+            + "version and reads the latest one as of the queried version, default false");
+
+    public static final ConfigKey ROCKSDB_MULTI_VERSION_RETENTION = ConfigKeys
+        .key("geaflow.store.rocksdb.multi.version.retention")
+        .defaultValue(-1L)
+        .description("rocksdb delta multi-version graph keeps the versions within the retention "
+            + "behind the max written version on compaction, default -1 keeps all versions");
+
+    public static final ConfigKey ROCKSDB_MULTI_VERSION_COMPACT_BATCH_SIZE = ConfigKeys
+        .key("geaflow.store.rocksdb.multi.version.compact.batch.size")
+        .defaultValue(10000)
+        .description("rocksdb delta multi-version graph writes the deletes of a compaction in "
+            + "batches of the size, default 10000");
+
     public static final ConfigKey ROCKSDB_PERSISTENT_CLEAN_THREAD_SIZE = ConfigKeys
         .key("geaflow.store.rocksdb.persistent.clean.thread.size")
         .defaultValue(4)
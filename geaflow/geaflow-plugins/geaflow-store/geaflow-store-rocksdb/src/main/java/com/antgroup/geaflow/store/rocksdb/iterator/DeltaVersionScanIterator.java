@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.rocksdb.iterator;
+
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
+import com.antgroup.geaflow.common.tuple.Tuple;
+import com.google.common.primitives.Longs;
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Scan iterator over the delta multi-version layout, where every record key is the data key
+ * followed by the delimiter and the inverted version, and every value starts with a flag byte
+ * telling a put from a tombstone. For each data key it yields the newest record not newer than
+ * the read version, with the version suffix and the flag stripped; tombstoned keys are skipped.
+ */
+public class DeltaVersionScanIterator implements Iterator<Tuple<byte[], byte[]>>, Closeable {
+
+    public static final byte PUT_FLAG = 0;
+    public static final byte TOMBSTONE_FLAG = 1;
+    public static final int VERSION_SUFFIX_SIZE = StateConfigKeys.DELIMITER.length + Long.BYTES;
+
+    private final RocksdbIterator iterator;
+    private final long version;
+    private Tuple<byte[], byte[]> pending;
+    private Tuple<byte[], byte[]> nextValue;
+
+    public DeltaVersionScanIterator(RocksdbIterator iterator, long version) {
+        this.iterator = iterator;
+        this.version = version;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextValue != null) {
+            return true;
+        }
+        while (pending != null || iterator.hasNext()) {
+            Tuple<byte[], byte[]> pair = pending != null ? pending : iterator.next();
+            pending = null;
+            byte[] key = getDataKey(pair.f0);
+            Tuple<byte[], byte[]> visible = getVersion(pair.f0) <= version ? pair : null;
+            // Records of the same key are contiguous and ordered from the newest version.
+            while (iterator.hasNext()) {
+                Tuple<byte[], byte[]> other = iterator.next();
+                if (!isSameKey(other.f0, key)) {
+                    pending = other;
+                    break;
+                }
+                if (visible == null && getVersion(other.f0) <= version) {
+                    visible = other;
+                }
+            }
+            if (visible != null && !isTombstone(visible.f1)) {
+                nextValue = Tuple.of(key, getPayload(visible.f1));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Tuple<byte[], byte[]> next() {
+        Tuple<byte[], byte[]> res = nextValue;
+        nextValue = null;
+        return res;
+    }
+
+    @Override
+    public void close() {
+        iterator.close();
+    }
+
+    public static byte[] getDataKey(byte[] key) {
+        return Arrays.copyOf(key, key.length - VERSION_SUFFIX_SIZE);
+    }
+
+    public static long getVersion(byte[] key) {
+        return Long.MAX_VALUE - Longs.fromByteArray(
+            Arrays.copyOfRange(key, key.length - Long.BYTES, key.length));
+    }
+
+    public static boolean isTombstone(byte[] value) {
+        return value[0] == TOMBSTONE_FLAG;
+    }
+
+    public static byte[] getPayload(byte[] value) {
+        return Arrays.copyOfRange(value, 1, value.length);
+    }
+
+    public static boolean isSameKey(byte[] versionedKey, byte[] key) {
+        if (versionedKey.length != key.length + VERSION_SUFFIX_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (versionedKey[i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
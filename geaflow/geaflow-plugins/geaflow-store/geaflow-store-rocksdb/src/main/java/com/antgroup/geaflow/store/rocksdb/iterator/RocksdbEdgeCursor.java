@@ -0,0 +1,136 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.rocksdb.iterator;
+
+import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
+import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.state.graph.encoder.IEdgeKVEncoder;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
+import com.antgroup.geaflow.utils.ByteUtils;
+import java.io.Closeable;
+import java.util.NoSuchElementException;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Edge cursor over the rocksdb edge column family. The key fields are decoded into one
+ * reused edge and the value is only decoded on demand, so it must be read before the
+ * next {@link #hasNext()} call.
+ */
+public class RocksdbEdgeCursor<K, EV> implements IEdgeCursor<K, EV>, Closeable {
+
+    private final IEdgeKVEncoder<K, EV> edgeEncoder;
+    private RocksIterator rocksIt;
+    private byte[] prefix;
+    private IGraphFilter filter;
+    private K srcId;
+    private IEdge<K, EV> edge;
+    // iterator is positioned at a matched edge not returned yet.
+    private boolean ready;
+    // iterator is positioned at the returned edge.
+    private boolean returned;
+
+    public RocksdbEdgeCursor(IEdgeKVEncoder<K, EV> edgeEncoder) {
+        this.edgeEncoder = edgeEncoder;
+    }
+
+    public RocksdbEdgeCursor<K, EV> reset(RocksIterator iterator, K srcId, IGraphFilter filter) {
+        close();
+        this.rocksIt = iterator;
+        this.srcId = srcId;
+        this.filter = filter;
+        this.prefix = edgeEncoder.getScanBytes(srcId);
+        this.ready = false;
+        this.returned = false;
+        this.rocksIt.seek(prefix);
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (ready) {
+            return true;
+        }
+        if (rocksIt == null) {
+            return false;
+        }
+        if (returned) {
+            rocksIt.next();
+            returned = false;
+        }
+        while (rocksIt.isValid()) {
+            byte[] key = rocksIt.key();
+            if (!ByteUtils.isStartsWith(key, prefix)) {
+                break;
+            }
+            edge = edgeEncoder.getEdgeKey(key, edge);
+            if (filter.filterEdge(edge)) {
+                ready = true;
+                return true;
+            }
+            rocksIt.next();
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public K nextTargetId() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        returned = true;
+        return edge.getTargetId();
+    }
+
+    @Override
+    public K srcId() {
+        return srcId;
+    }
+
+    @Override
+    public EdgeDirection direction() {
+        return edge.getDirect();
+    }
+
+    @Override
+    public String label() {
+        return edge instanceof IGraphElementWithLabelField
+               ? ((IGraphElementWithLabelField) edge).getLabel() : null;
+    }
+
+    @Override
+    public long ts() {
+        return edge instanceof IGraphElementWithTimeField
+               ? ((IGraphElementWithTimeField) edge).getTime() : 0L;
+    }
+
+    @Override
+    public EV value() {
+        return edgeEncoder.getEdgeValue(rocksIt.value());
+    }
+
+    @Override
+    public void close() {
+        if (rocksIt != null) {
+            rocksIt.close();
+            rocksIt = null;
+        }
+    }
+}
@@ -38,6 +38,12 @@ public class RocksdbIterator implements Iterator<Tuple<byte[], byte[]>>, Closeab
         this.rocksIt.seek(prefix);
     }
 
+    public RocksdbIterator(RocksIterator iterator, byte[] prefix, byte[] start) {
+        this.rocksIt = iterator;
+        this.prefix = prefix;
+        this.rocksIt.seek(start);
+    }
+
     private boolean isValid(byte[] key) {
         return prefix == null || ByteUtils.isStartsWith(key, prefix);
     }
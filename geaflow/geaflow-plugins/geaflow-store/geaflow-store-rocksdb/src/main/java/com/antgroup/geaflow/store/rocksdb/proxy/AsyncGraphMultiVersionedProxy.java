@@ -31,10 +31,13 @@ import com.antgroup.geaflow.store.data.AsyncFlushMultiVersionedBuffer;
 import com.antgroup.geaflow.store.data.GraphWriteMultiVersionedBuffer;
 import com.antgroup.geaflow.store.rocksdb.RocksdbClient;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.WriteBatch;
 
@@ -105,6 +108,33 @@ public class AsyncGraphMultiVersionedProxy<K, VV, EV> extends SyncGraphMultiVers
         return super.getVertex(version, sid, pushdown);
     }
 
+    @Override
+    protected List<IVertex<K, VV>> getVertices(List<Long> versions, List<K> keys,
+                                               Function<K, IStatePushDown> pushdownFun) {
+        List<IVertex<K, VV>> vertices = new ArrayList<>(keys.size());
+        List<Long> unBufferedVersions = new ArrayList<>();
+        List<K> unBufferedKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            IVertex<K, VV> vertex = this.flushBuffer.readBufferedVertex(versions.get(i), keys.get(i));
+            if (vertex == null) {
+                unBufferedVersions.add(versions.get(i));
+                unBufferedKeys.add(keys.get(i));
+            }
+            vertices.add(vertex);
+        }
+        Iterator<IVertex<K, VV>> stored = unBufferedKeys.isEmpty() ? Collections.emptyIterator()
+            : super.getVertices(unBufferedVersions, unBufferedKeys, pushdownFun).iterator();
+        for (int i = 0; i < keys.size(); i++) {
+            IVertex<K, VV> vertex = vertices.get(i);
+            if (vertex == null) {
+                vertices.set(i, stored.next());
+            } else if (!((IGraphFilter) pushdownFun.apply(keys.get(i)).getFilter()).filterVertex(vertex)) {
+                vertices.set(i, null);
+            }
+        }
+        return vertices;
+    }
+
     @Override
     public List<IEdge<K, EV>> getEdges(long version, K sid, IStatePushDown pushdown) {
         List<IEdge<K, EV>> list = this.flushBuffer.readBufferedEdges(version, sid);
@@ -23,6 +23,7 @@ import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.graph.encoder.IGraphKVEncoder;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
@@ -31,8 +32,11 @@ import com.antgroup.geaflow.store.data.GraphWriteBuffer;
 import com.antgroup.geaflow.store.rocksdb.RocksdbClient;
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class AsyncGraphRocksdbProxy<K, VV, EV> extends SyncGraphRocksdbProxy<K, VV, EV> {
@@ -81,6 +85,30 @@ public class AsyncGraphRocksdbProxy<K, VV, EV> extends SyncGraphRocksdbProxy<K,
         return super.getVertex(sid, pushdown);
     }
 
+    @Override
+    protected List<IVertex<K, VV>> getVertices(List<K> keys, Function<K, IStatePushDown> pushdownFun) {
+        List<IVertex<K, VV>> vertices = new ArrayList<>(keys.size());
+        List<K> unBufferedKeys = new ArrayList<>();
+        for (K key : keys) {
+            IVertex<K, VV> vertex = this.flushBuffer.readBufferedVertex(key);
+            if (vertex == null) {
+                unBufferedKeys.add(key);
+            }
+            vertices.add(vertex);
+        }
+        Iterator<IVertex<K, VV>> stored = unBufferedKeys.isEmpty()
+            ? Collections.emptyIterator() : super.getVertices(unBufferedKeys, pushdownFun).iterator();
+        for (int i = 0; i < keys.size(); i++) {
+            IVertex<K, VV> vertex = vertices.get(i);
+            if (vertex == null) {
+                vertices.set(i, stored.next());
+            } else if (!((IGraphFilter) pushdownFun.apply(keys.get(i)).getFilter()).filterVertex(vertex)) {
+                vertices.set(i, null);
+            }
+        }
+        return vertices;
+    }
+
     @Override
     public List<IEdge<K, EV>> getEdges(K sid, IStatePushDown pushdown) {
         List<IEdge<K, EV>> list = this.flushBuffer.readBufferedEdges(sid);
@@ -95,6 +123,48 @@ public class AsyncGraphRocksdbProxy<K, VV, EV> extends SyncGraphRocksdbProxy<K,
         return new ArrayList<>(set);
     }
 
+    @Override
+    protected List<List<IEdge<K, EV>>> getEdges(List<K> keys, List<IGraphFilter> filters) {
+        List<LinkedHashSet<IEdge<K, EV>>> sets = new ArrayList<>(keys.size());
+        List<K> scanKeys = new ArrayList<>(keys.size());
+        List<IGraphFilter> scanFilters = new ArrayList<>(keys.size());
+        boolean[] needScan = new boolean[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            K key = keys.get(i);
+            IGraphFilter filter = filters.get(i);
+            LinkedHashSet<IEdge<K, EV>> set = new LinkedHashSet<>();
+            Lists.reverse(this.flushBuffer.readBufferedEdges(key)).stream()
+                .filter(filter::filterEdge).forEach(set::add);
+            sets.add(set);
+            if (!filter.dropAllRemaining()) {
+                needScan[i] = true;
+                scanKeys.add(key);
+                scanFilters.add(filter);
+            }
+        }
+
+        List<List<IEdge<K, EV>>> scanned = super.getEdges(scanKeys, scanFilters);
+        List<List<IEdge<K, EV>>> edges = new ArrayList<>(keys.size());
+        int scanIndex = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            LinkedHashSet<IEdge<K, EV>> set = sets.get(i);
+            if (needScan[i]) {
+                set.addAll(scanned.get(scanIndex++));
+            }
+            edges.add(new ArrayList<>(set));
+        }
+        return edges;
+    }
+
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        // edges still in the write buffer are merged on the list path.
+        if (this.flushBuffer.readBufferedEdges(sid).isEmpty()) {
+            return super.getEdgeCursor(sid, pushdown);
+        }
+        return listCursor.reset(sid, getEdges(sid, pushdown));
+    }
+
     @Override
     public void flush() {
         flushBuffer.flush();
@@ -103,5 +173,6 @@ public class AsyncGraphRocksdbProxy<K, VV, EV> extends SyncGraphRocksdbProxy<K,
     @Override
     public void close() {
         flushBuffer.close();
+        super.close();
     }
 }
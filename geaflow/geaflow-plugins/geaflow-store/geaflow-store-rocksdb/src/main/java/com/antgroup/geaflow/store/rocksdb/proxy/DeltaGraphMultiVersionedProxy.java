@@ -0,0 +1,405 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.store.rocksdb.proxy;
+
+import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.EDGE_CF;
+import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.META_CF;
+import static com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys.VERTEX_CF;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.PUT_FLAG;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.TOMBSTONE_FLAG;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.getDataKey;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.getPayload;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.getVersion;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.isSameKey;
+import static com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator.isTombstone;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
+import com.antgroup.geaflow.common.tuple.Tuple;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.state.data.DataType;
+import com.antgroup.geaflow.state.data.OneDegreeGraph;
+import com.antgroup.geaflow.state.graph.encoder.IEdgeKVEncoder;
+import com.antgroup.geaflow.state.graph.encoder.IGraphKVEncoder;
+import com.antgroup.geaflow.state.graph.encoder.IVertexKVEncoder;
+import com.antgroup.geaflow.state.iterator.IteratorWithFlatFn;
+import com.antgroup.geaflow.state.iterator.IteratorWithFnThenFilter;
+import com.antgroup.geaflow.state.pushdown.IStatePushDown;
+import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
+import com.antgroup.geaflow.store.iterator.KeysIterator;
+import com.antgroup.geaflow.store.rocksdb.RocksdbClient;
+import com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys;
+import com.antgroup.geaflow.store.rocksdb.iterator.DeltaVersionScanIterator;
+import com.antgroup.geaflow.store.rocksdb.iterator.EdgeScanIterator;
+import com.antgroup.geaflow.store.rocksdb.iterator.OneDegreeGraphScanIterator;
+import com.antgroup.geaflow.store.rocksdb.iterator.RocksdbIterator;
+import com.antgroup.geaflow.store.rocksdb.iterator.VertexScanIterator;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Longs;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi-version graph proxy storing every vertex and edge record under its key followed by the
+ * inverted version, so the versions of one key are adjacent and ordered from the newest. A write
+ * only stores the record of its own version, a read of a version seeks to the key with that
+ * version and takes the first record found, which is the latest one as of the version. Deletes
+ * write tombstones, and the versions behind the retention are dropped on compaction. The max
+ * written version which the retention is counted from is kept in the meta column family on
+ * flush, so it survives a recovery.
+ */
+public class DeltaGraphMultiVersionedProxy<K, VV, EV> implements
+    IGraphMultiVersionedRocksdbProxy<K, VV, EV> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeltaGraphMultiVersionedProxy.class);
+
+    private static final byte[] TOMBSTONE = new byte[]{TOMBSTONE_FLAG};
+    private static final byte[] MAX_VERSION_KEY = "max_version".getBytes();
+
+    protected final Configuration config;
+    protected RocksdbClient rocksdbClient;
+    protected IGraphKVEncoder<K, VV, EV> encoder;
+    protected IEdgeKVEncoder<K, EV> edgeEncoder;
+    protected IVertexKVEncoder<K, VV> vertexEncoder;
+    private final long retention;
+    private final int compactBatchSize;
+    private long maxVersion = -1;
+    private long flushedMaxVersion = -1;
+
+    public DeltaGraphMultiVersionedProxy(RocksdbClient rocksdbClient,
+                                         IGraphKVEncoder<K, VV, EV> encoder,
+                                         Configuration config) {
+        this.encoder = encoder;
+        this.rocksdbClient = rocksdbClient;
+        this.vertexEncoder = encoder.getVertexEncoder();
+        this.edgeEncoder = encoder.getEdgeEncoder();
+        this.config = config;
+        this.retention = config.getLong(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_RETENTION);
+        this.compactBatchSize = config.getInteger(
+            RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_COMPACT_BATCH_SIZE);
+        recover();
+    }
+
+    @Override
+    public void addVertex(long version, IVertex<K, VV> vertex) {
+        Tuple<byte[], byte[]> tuple = vertexEncoder.format(vertex);
+        write(VERTEX_CF, version, tuple.f0, Bytes.concat(new byte[]{PUT_FLAG}, tuple.f1));
+    }
+
+    @Override
+    public void addEdge(long version, IEdge<K, EV> edge) {
+        Tuple<byte[], byte[]> tuple = edgeEncoder.format(edge);
+        write(EDGE_CF, version, tuple.f0, Bytes.concat(new byte[]{PUT_FLAG}, tuple.f1));
+    }
+
+    @Override
+    public void deleteVertex(long version, K id) {
+        write(VERTEX_CF, version, encoder.getKeyType().serialize(id), TOMBSTONE);
+    }
+
+    @Override
+    public void deleteEdge(long version, IEdge<K, EV> edge) {
+        write(EDGE_CF, version, edgeEncoder.format(edge).f0, TOMBSTONE);
+    }
+
+    private void write(String cf, long version, byte[] key, byte[] value) {
+        this.rocksdbClient.write(cf, concat(key, version), value);
+        this.maxVersion = Math.max(this.maxVersion, version);
+    }
+
+    @Override
+    public IVertex<K, VV> getVertex(long version, K sid, IStatePushDown pushdown) {
+        byte[] key = encoder.getKeyType().serialize(sid);
+        byte[] value = seekForPrev(VERTEX_CF, key, version);
+        if (value != null && !isTombstone(value)) {
+            IVertex<K, VV> vertex = vertexEncoder.getVertex(key, getPayload(value));
+            if (pushdown == null || ((IGraphFilter) pushdown.getFilter()).filterVertex(vertex)) {
+                return vertex;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the latest record of the key as of the version, or null if none.
+     */
+    private byte[] seekForPrev(String cf, byte[] key, long version) {
+        byte[] prefix = Bytes.concat(key, StateConfigKeys.DELIMITER);
+        try (RocksdbIterator it = new RocksdbIterator(this.rocksdbClient.getIterator(cf), prefix,
+            concat(key, version))) {
+            while (it.hasNext()) {
+                Tuple<byte[], byte[]> pair = it.next();
+                // Skip the longer keys sharing the prefix.
+                if (isSameKey(pair.f0, key)) {
+                    return pair.f1;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<IEdge<K, EV>> getEdges(long version, K sid, IStatePushDown pushdown) {
+        List<IEdge<K, EV>> list = new ArrayList<>();
+        IGraphFilter filter = (IGraphFilter) pushdown.getFilter();
+        try (DeltaVersionScanIterator it = new DeltaVersionScanIterator(new RocksdbIterator(
+            this.rocksdbClient.getIterator(EDGE_CF), edgeEncoder.getScanBytes(sid)), version)) {
+            while (it.hasNext()) {
+                Tuple<byte[], byte[]> pair = it.next();
+                IEdge<K, EV> edge = edgeEncoder.getEdge(pair.f0, pair.f1);
+                if (filter.filterEdge(edge)) {
+                    list.add(edge);
+                }
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(long version, K sid,
+                                                       IStatePushDown pushdown) {
+        IVertex<K, VV> vertex = getVertex(version, sid, pushdown);
+        List<IEdge<K, EV>> edgeList = getEdges(version, sid, pushdown);
+        OneDegreeGraph<K, VV, EV> oneDegreeGraph = new OneDegreeGraph<>(sid, vertex,
+            edgeList.iterator());
+        if (((IGraphFilter) pushdown.getFilter()).filterOneDegreeGraph(oneDegreeGraph)) {
+            return oneDegreeGraph;
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public Iterator<K> vertexIDIterator() {
+        RocksdbIterator it = new RocksdbIterator(this.rocksdbClient.getIterator(VERTEX_CF));
+        return new IteratorWithFnThenFilter<>(it,
+            tuple2 -> vertexEncoder.getVertexID(getDataKey(tuple2.f0)),
+            new Predicate<K>() {
+                K last = null;
+                @Override
+                public boolean test(K k) {
+                    boolean res = k.equals(last);
+                    last = k;
+                    return !res;
+                }
+            });
+    }
+
+    @Override
+    public Iterator<IVertex<K, VV>> getVertexIterator(long version, IStatePushDown pushdown) {
+        DeltaVersionScanIterator it = new DeltaVersionScanIterator(
+            new RocksdbIterator(rocksdbClient.getIterator(VERTEX_CF)), version);
+        return new VertexScanIterator<>(it, pushdown, vertexEncoder::getVertex);
+    }
+
+    @Override
+    public Iterator<IVertex<K, VV>> getVertexIterator(long version, List<K> keys,
+                                                      IStatePushDown pushdown) {
+        return new KeysIterator<>(keys, (k, f) -> getVertex(version, k, f), pushdown);
+    }
+
+    @Override
+    public Iterator<IEdge<K, EV>> getEdgeIterator(long version, IStatePushDown pushdown) {
+        DeltaVersionScanIterator it = new DeltaVersionScanIterator(
+            new RocksdbIterator(rocksdbClient.getIterator(EDGE_CF)), version);
+        return new EdgeScanIterator<>(it, pushdown, edgeEncoder::getEdge);
+    }
+
+    @Override
+    public Iterator<IEdge<K, EV>> getEdgeIterator(long version, List<K> keys,
+                                                  IStatePushDown pushdown) {
+        return new IteratorWithFlatFn<>(new KeysIterator<>(keys,
+            (k, f) -> getEdges(version, k, f), pushdown), List::iterator);
+    }
+
+    @Override
+    public Iterator<OneDegreeGraph<K, VV, EV>> getOneDegreeGraphIterator(long version,
+                                                                         IStatePushDown pushdown) {
+        return new OneDegreeGraphScanIterator<>(
+            encoder.getKeyType(),
+            getVertexIterator(version, pushdown),
+            getEdgeIterator(version, pushdown),
+            pushdown);
+    }
+
+    @Override
+    public Iterator<OneDegreeGraph<K, VV, EV>> getOneDegreeGraphIterator(long version, List<K> keys,
+                                                                         IStatePushDown pushdown) {
+        return new KeysIterator<>(keys, (k, f) -> getOneDegreeGraph(version, k, f), pushdown);
+    }
+
+    @Override
+    public List<Long> getAllVersions(K id, DataType dataType) {
+        List<Long> list = new ArrayList<>();
+        for (Tuple<byte[], byte[]> pair : getVertexRecords(id, dataType)) {
+            if (!isTombstone(pair.f1)) {
+                list.add(getVersion(pair.f0));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public long getLatestVersion(K id, DataType dataType) {
+        List<Tuple<byte[], byte[]>> records = getVertexRecords(id, dataType);
+        if (records.isEmpty() || isTombstone(records.get(0).f1)) {
+            return -1;
+        }
+        return getVersion(records.get(0).f0);
+    }
+
+    @Override
+    public Map<Long, IVertex<K, VV>> getAllVersionData(K id, IStatePushDown pushdown,
+                                                       DataType dataType) {
+        return getVersionData(id, getAllVersions(id, dataType), pushdown, dataType);
+    }
+
+    @Override
+    public Map<Long, IVertex<K, VV>> getVersionData(K id, Collection<Long> versions,
+                                                    IStatePushDown pushdown, DataType dataType) {
+        List<Tuple<byte[], byte[]>> records = getVertexRecords(id, dataType);
+        byte[] key = encoder.getKeyType().serialize(id);
+        Map<Long, IVertex<K, VV>> map = new HashMap<>();
+        for (long version : versions) {
+            for (Tuple<byte[], byte[]> pair : records) {
+                if (getVersion(pair.f0) > version) {
+                    continue;
+                }
+                if (!isTombstone(pair.f1)) {
+                    IVertex<K, VV> vertex = vertexEncoder.getVertex(key, getPayload(pair.f1));
+                    if (pushdown == null
+                        || ((IGraphFilter) pushdown.getFilter()).filterVertex(vertex)) {
+                        map.put(version, vertex);
+                    }
+                }
+                break;
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Returns all the records of the vertex, from the newest version.
+     */
+    private List<Tuple<byte[], byte[]>> getVertexRecords(K id, DataType dataType) {
+        if (dataType != DataType.V && dataType != DataType.V_TOPO) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+        }
+        byte[] key = encoder.getKeyType().serialize(id);
+        List<Tuple<byte[], byte[]>> list = new ArrayList<>();
+        try (RocksdbIterator it = new RocksdbIterator(this.rocksdbClient.getIterator(VERTEX_CF),
+            Bytes.concat(key, StateConfigKeys.DELIMITER))) {
+            while (it.hasNext()) {
+                Tuple<byte[], byte[]> pair = it.next();
+                if (isSameKey(pair.f0, key)) {
+                    list.add(pair);
+                }
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void compact() {
+        if (retention < 0 || maxVersion < 0) {
+            return;
+        }
+        long watermark = maxVersion - retention;
+        long dropped = compact(VERTEX_CF, watermark) + compact(EDGE_CF, watermark);
+        LOGGER.info("drop {} records older than version {}", dropped, watermark);
+    }
+
+    /**
+     * Drops the records no read at or after the watermark can see: for each key, the versions
+     * newer than the watermark are kept, together with the latest one as of the watermark if it
+     * is a put.
+     */
+    private long compact(String cf, long watermark) {
+        ColumnFamilyHandle handle = this.rocksdbClient.getColumnFamilyHandleMap().get(cf);
+        long dropped = 0;
+        try (WriteBatch writeBatch = new WriteBatch();
+             RocksdbIterator it = new RocksdbIterator(this.rocksdbClient.getIterator(cf))) {
+            byte[] lastKey = null;
+            boolean floorSeen = false;
+            while (it.hasNext()) {
+                Tuple<byte[], byte[]> pair = it.next();
+                if (lastKey == null || !isSameKey(pair.f0, lastKey)) {
+                    lastKey = getDataKey(pair.f0);
+                    floorSeen = false;
+                }
+                if (getVersion(pair.f0) > watermark) {
+                    continue;
+                }
+                if (floorSeen || isTombstone(pair.f1)) {
+                    writeBatch.delete(handle, pair.f0);
+                    dropped++;
+                    if (writeBatch.count() >= compactBatchSize) {
+                        this.rocksdbClient.write(writeBatch);
+                        writeBatch.clear();
+                    }
+                }
+                floorSeen = true;
+            }
+            this.rocksdbClient.write(writeBatch);
+        } catch (RocksDBException e) {
+            throw new GeaflowRuntimeException(RuntimeErrors.INST.runError("rocksdb compact error"), e);
+        }
+        return dropped;
+    }
+
+    @Override
+    public RocksdbClient getClient() {
+        return rocksdbClient;
+    }
+
+    @Override
+    public void flush() {
+        if (maxVersion > flushedMaxVersion) {
+            this.rocksdbClient.write(META_CF, MAX_VERSION_KEY,
+                Longs.toByteArray(maxVersion));
+            flushedMaxVersion = maxVersion;
+        }
+    }
+
+    @Override
+    public void recover() {
+        byte[] value = this.rocksdbClient.get(META_CF, MAX_VERSION_KEY);
+        maxVersion = value == null ? -1 : Longs.fromByteArray(value);
+        flushedMaxVersion = maxVersion;
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    private byte[] concat(byte[] key, long version) {
+        return Bytes.concat(key, StateConfigKeys.DELIMITER,
+            Longs.toByteArray(Long.MAX_VALUE - version));
+    }
+}
@@ -19,4 +19,17 @@ import com.antgroup.geaflow.state.graph.DynamicGraphTrait;
 public interface IGraphMultiVersionedRocksdbProxy<K, VV, EV> extends DynamicGraphTrait<K, VV, EV>,
     IRocksdbProxy {
 
+    /**
+     * Drop the versions no longer readable, called before the rocksdb compaction.
+     */
+    default void compact() {
+
+    }
+
+    /**
+     * Reload the proxy state kept in rocksdb, called after the store recovery.
+     */
+    default void recover() {
+
+    }
 }
@@ -18,6 +18,7 @@ import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
 import com.antgroup.geaflow.state.graph.encoder.IGraphKVEncoder;
 import com.antgroup.geaflow.store.rocksdb.RocksdbClient;
+import com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys;
 
 public class ProxyBuilder {
 
@@ -34,6 +35,9 @@ public class ProxyBuilder {
     public static <K, VV, EV> IGraphMultiVersionedRocksdbProxy<K, VV, EV> buildMultiVersioned(
         Configuration config, RocksdbClient rocksdbClient,
         IGraphKVEncoder<K, VV, EV> encoder) {
+        if (config.getBoolean(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_DELTA_ENABLE)) {
+            return new DeltaGraphMultiVersionedProxy<>(rocksdbClient, encoder, config);
+        }
         if (config.getBoolean(StateConfigKeys.STATE_WRITE_ASYNC_ENABLE)) {
             return new AsyncGraphMultiVersionedProxy<>(rocksdbClient, encoder, config);
         } else {
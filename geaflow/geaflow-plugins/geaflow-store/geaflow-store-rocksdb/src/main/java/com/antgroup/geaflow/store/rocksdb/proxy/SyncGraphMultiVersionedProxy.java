@@ -34,8 +34,10 @@ import com.antgroup.geaflow.state.iterator.IteratorWithFlatFn;
 import com.antgroup.geaflow.state.iterator.IteratorWithFnThenFilter;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
+import com.antgroup.geaflow.store.iterator.BatchKeysIterator;
 import com.antgroup.geaflow.store.iterator.KeysIterator;
 import com.antgroup.geaflow.store.rocksdb.RocksdbClient;
+import com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys;
 import com.antgroup.geaflow.store.rocksdb.iterator.EdgeScanIterator;
 import com.antgroup.geaflow.store.rocksdb.iterator.OneDegreeGraphScanIterator;
 import com.antgroup.geaflow.store.rocksdb.iterator.RocksdbIterator;
@@ -45,10 +47,12 @@ import com.google.common.primitives.Longs;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class SyncGraphMultiVersionedProxy<K, VV, EV> implements IGraphMultiVersionedRocksdbProxy<K, VV, EV> {
@@ -62,6 +66,7 @@ public class SyncGraphMultiVersionedProxy<K, VV, EV> implements IGraphMultiVersi
     protected IGraphKVEncoder<K, VV, EV> encoder;
     protected IEdgeKVEncoder<K, EV> edgeEncoder;
     protected IVertexKVEncoder<K, VV> vertexEncoder;
+    protected final int multiGetBatchSize;
 
     public SyncGraphMultiVersionedProxy(RocksdbClient rocksdbStore,
                                         IGraphKVEncoder<K, VV, EV> encoder,
@@ -71,6 +76,7 @@ public class SyncGraphMultiVersionedProxy<K, VV, EV> implements IGraphMultiVersi
         this.vertexEncoder = encoder.getVertexEncoder();
         this.edgeEncoder = encoder.getEdgeEncoder();
         this.config = config;
+        this.multiGetBatchSize = config.getInteger(RocksdbConfigKeys.ROCKSDB_MULTI_GET_BATCH_SIZE);
     }
 
     @Override
@@ -102,6 +108,36 @@ public class SyncGraphMultiVersionedProxy<K, VV, EV> implements IGraphMultiVersi
         return null;
     }
 
+    /**
+     * Batch get the vertices of the version and key pairs with one rocksdb multiGet, the result
+     * is in the order of the pairs and null for the absent or filtered ones.
+     */
+    protected List<IVertex<K, VV>> getVertices(List<Long> versions, List<K> keys,
+                                               Function<K, IStatePushDown> pushdownFun) {
+        List<byte[]> keyBytes = new ArrayList<>(keys.size());
+        List<byte[]> versionKeyBytes = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] key = encoder.getKeyType().serialize(keys.get(i));
+            keyBytes.add(key);
+            versionKeyBytes.add(concat(getBinaryVersion(versions.get(i)), key));
+        }
+        List<byte[]> values = this.rocksdbClient.multiGet(VERTEX_CF, versionKeyBytes);
+        List<IVertex<K, VV>> vertices = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            IVertex<K, VV> vertex = null;
+            byte[] value = values.get(i);
+            if (value != null) {
+                vertex = vertexEncoder.getVertex(keyBytes.get(i), value);
+                IStatePushDown pushdown = pushdownFun.apply(keys.get(i));
+                if (pushdown != null && !((IGraphFilter) pushdown.getFilter()).filterVertex(vertex)) {
+                    vertex = null;
+                }
+            }
+            vertices.add(vertex);
+        }
+        return vertices;
+    }
+
     @Override
     public List<IEdge<K, EV>> getEdges(long version, K sid, IStatePushDown pushdown) {
         List<IEdge<K, EV>> list = new ArrayList<>();
@@ -164,7 +200,9 @@ public class SyncGraphMultiVersionedProxy<K, VV, EV> implements IGraphMultiVersi
     @Override
     public Iterator<IVertex<K, VV>> getVertexIterator(long version, List<K> keys,
                                                       IStatePushDown pushdown) {
-        return new KeysIterator<>(keys, (k, f) -> getVertex(version, k, f), pushdown);
+        return new BatchKeysIterator<>(keys, multiGetBatchSize,
+            (batchKeys, pushdownFun) -> getVertices(Collections.nCopies(batchKeys.size(), version),
+                batchKeys, pushdownFun), pushdown);
     }
 
     @Override
@@ -246,10 +284,12 @@ public class SyncGraphMultiVersionedProxy<K, VV, EV> implements IGraphMultiVersi
                                                     IStatePushDown pushdown, DataType dataType) {
         if (dataType == DataType.V || dataType == DataType.V_TOPO) {
             Map<Long, IVertex<K, VV>> map = new HashMap<>();
-            for (long version: versions) {
-                IVertex<K, VV> vertex = getVertex(version, id, pushdown);
-                if (vertex != null) {
-                    map.put(version, vertex);
+            List<Long> versionList = new ArrayList<>(versions);
+            List<IVertex<K, VV>> vertices = getVertices(versionList,
+                Collections.nCopies(versionList.size(), id), k -> pushdown);
+            for (int i = 0; i < versionList.size(); i++) {
+                if (vertices.get(i) != null) {
+                    map.put(versionList.get(i), vertices.get(i));
                 }
             }
             return map;
@@ -25,28 +25,39 @@ import com.antgroup.geaflow.state.data.OneDegreeGraph;
 import com.antgroup.geaflow.state.graph.encoder.IEdgeKVEncoder;
 import com.antgroup.geaflow.state.graph.encoder.IGraphKVEncoder;
 import com.antgroup.geaflow.state.graph.encoder.IVertexKVEncoder;
+import com.antgroup.geaflow.state.iterator.EdgeListCursor;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.iterator.IteratorWithFlatFn;
 import com.antgroup.geaflow.state.iterator.IteratorWithFn;
 import com.antgroup.geaflow.state.iterator.IteratorWithFnThenFilter;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import com.antgroup.geaflow.state.pushdown.StatePushDown;
+import com.antgroup.geaflow.state.pushdown.filter.FilterType;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
 import com.antgroup.geaflow.state.pushdown.filter.inner.IGraphFilter;
-import com.antgroup.geaflow.store.iterator.KeysIterator;
+import com.antgroup.geaflow.store.iterator.BatchKeysIterator;
 import com.antgroup.geaflow.store.rocksdb.RocksdbClient;
+import com.antgroup.geaflow.store.rocksdb.RocksdbConfigKeys;
 import com.antgroup.geaflow.store.rocksdb.iterator.EdgeListScanIterator;
 import com.antgroup.geaflow.store.rocksdb.iterator.EdgeScanIterator;
 import com.antgroup.geaflow.store.rocksdb.iterator.OneDegreeGraphScanIterator;
+import com.antgroup.geaflow.store.rocksdb.iterator.RocksdbEdgeCursor;
 import com.antgroup.geaflow.store.rocksdb.iterator.RocksdbIterator;
 import com.antgroup.geaflow.store.rocksdb.iterator.VertexScanIterator;
+import com.antgroup.geaflow.utils.ByteUtils;
+import com.google.common.primitives.UnsignedBytes;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import org.rocksdb.RocksIterator;
 
 public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, VV, EV> {
 
@@ -55,6 +66,9 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
     protected final IEdgeKVEncoder<K,EV> edgeEncoder;
     protected IGraphKVEncoder<K, VV, EV> encoder;
     protected final RocksdbClient rocksdbClient;
+    protected final EdgeListCursor<K, EV> listCursor;
+    private final RocksdbEdgeCursor<K, EV> edgeCursor;
+    protected final int multiGetBatchSize;
 
     public SyncGraphRocksdbProxy(RocksdbClient rocksdbClient, IGraphKVEncoder<K, VV, EV> encoder,
                                  Configuration config) {
@@ -63,6 +77,9 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
         this.edgeEncoder = this.encoder.getEdgeEncoder();
         this.rocksdbClient = rocksdbClient;
         this.config = config;
+        this.listCursor = new EdgeListCursor<>();
+        this.edgeCursor = new RocksdbEdgeCursor<>(this.edgeEncoder);
+        this.multiGetBatchSize = config.getInteger(RocksdbConfigKeys.ROCKSDB_MULTI_GET_BATCH_SIZE);
     }
 
     @Override
@@ -95,6 +112,32 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
         return null;
     }
 
+    /**
+     * Batch get the vertices with one rocksdb multiGet, the result is in the order of the keys
+     * and null for the absent or filtered ones.
+     */
+    protected List<IVertex<K, VV>> getVertices(List<K> keys, Function<K, IStatePushDown> pushdownFun) {
+        List<byte[]> keyBytes = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            keyBytes.add(encoder.getKeyType().serialize(key));
+        }
+        List<byte[]> values = this.rocksdbClient.multiGet(VERTEX_CF, keyBytes);
+        List<IVertex<K, VV>> vertices = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            IVertex<K, VV> vertex = null;
+            byte[] value = values.get(i);
+            if (value != null) {
+                vertex = vertexEncoder.getVertex(keyBytes.get(i), value);
+                IStatePushDown pushdown = pushdownFun.apply(keys.get(i));
+                if (pushdown != null && !((IGraphFilter) pushdown.getFilter()).filterVertex(vertex)) {
+                    vertex = null;
+                }
+            }
+            vertices.add(vertex);
+        }
+        return vertices;
+    }
+
     @Override
     public List<IEdge<K, EV>> getEdges(K sid, IStatePushDown pushdown) {
         IGraphFilter filter = GraphFilter.of(pushdown.getFilter(), pushdown.getEdgeLimit());
@@ -102,24 +145,90 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
     }
 
     protected List<IEdge<K, EV>> getEdges(K sid, IGraphFilter filter) {
+        try (RocksIterator it = this.rocksdbClient.getIterator(EDGE_CF)) {
+            return scanEdges(it, edgeEncoder.getScanBytes(sid), filter);
+        }
+    }
+
+    /**
+     * Batch scan the edges of the keys with one rocksdb iterator, the prefixes are sought in
+     * sorted order so the scans move forward. The result is in the order of the keys.
+     */
+    protected List<List<IEdge<K, EV>>> getEdges(List<K> keys, List<IGraphFilter> filters) {
+        int size = keys.size();
+        byte[][] prefixes = new byte[size][];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            prefixes[i] = edgeEncoder.getScanBytes(keys.get(i));
+            order[i] = i;
+        }
+        Comparator<byte[]> comparator = UnsignedBytes.lexicographicalComparator();
+        Arrays.sort(order, (a, b) -> comparator.compare(prefixes[a], prefixes[b]));
+        List<List<IEdge<K, EV>>> edges = new ArrayList<>(Collections.nCopies(size, null));
+        try (RocksIterator it = this.rocksdbClient.getIterator(EDGE_CF)) {
+            for (int i : order) {
+                edges.set(i, scanEdges(it, prefixes[i], filters.get(i)));
+            }
+        }
+        return edges;
+    }
+
+    private List<List<IEdge<K, EV>>> getEdgeLists(List<K> keys,
+                                                  Function<K, IStatePushDown> pushdownFun) {
+        return getEdges(keys, getEdgeFilters(keys, pushdownFun));
+    }
+
+    private static <K> List<IGraphFilter> getEdgeFilters(List<K> keys,
+                                                         Function<K, IStatePushDown> pushdownFun) {
+        List<IGraphFilter> filters = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            IStatePushDown pushdown = pushdownFun.apply(key);
+            filters.add(GraphFilter.of(pushdown.getFilter(), pushdown.getEdgeLimit()));
+        }
+        return filters;
+    }
+
+    private List<IEdge<K, EV>> scanEdges(RocksIterator it, byte[] prefix, IGraphFilter filter) {
         List<IEdge<K, EV>> list = new ArrayList<>();
-        byte[] prefix = edgeEncoder.getScanBytes(sid);
-        try (RocksdbIterator it =
-            new RocksdbIterator(this.rocksdbClient.getIterator(EDGE_CF), prefix)) {
-            while (it.hasNext()) {
-                Tuple<byte[], byte[]> pair = it.next();
-                IEdge<K, EV> edge = edgeEncoder.getEdge(pair.f0, pair.f1);
-                if (filter.filterEdge(edge)) {
-                    list.add(edge);
-                }
-                if (filter.dropAllRemaining()) {
-                    break;
-                }
+        for (it.seek(prefix); it.isValid(); it.next()) {
+            byte[] key = it.key();
+            if (!ByteUtils.isStartsWith(key, prefix)) {
+                break;
+            }
+            IEdge<K, EV> edge = edgeEncoder.getEdge(key, it.value());
+            if (filter.filterEdge(edge)) {
+                list.add(edge);
+            }
+            if (filter.dropAllRemaining()) {
+                break;
             }
         }
         return list;
     }
 
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        if (pushdown.getEdgeLimit() != null || pushdown.getFilters() != null
+            || !isKeyOnlyFilter(pushdown.getFilter().getFilterType())) {
+            return listCursor.reset(sid, getEdges(sid, pushdown));
+        }
+        return edgeCursor.reset(this.rocksdbClient.getIterator(EDGE_CF), sid,
+            GraphFilter.of(pushdown.getFilter()));
+    }
+
+    private static boolean isKeyOnlyFilter(FilterType filterType) {
+        switch (filterType) {
+            case EMPTY:
+            case IN_EDGE:
+            case OUT_EDGE:
+            case EDGE_TS:
+            case EDGE_LABEL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     @Override
     public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(K sid, IStatePushDown pushdown) {
         IVertex<K, VV> vertex = getVertex(sid, pushdown);
@@ -133,6 +242,22 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
         }
     }
 
+    protected List<OneDegreeGraph<K, VV, EV>> getOneDegreeGraphs(List<K> keys,
+                                                                 Function<K, IStatePushDown> pushdownFun) {
+        List<IVertex<K, VV>> vertices = getVertices(keys, pushdownFun);
+        List<List<IEdge<K, EV>>> edgeLists = getEdgeLists(keys, pushdownFun);
+        List<OneDegreeGraph<K, VV, EV>> graphs = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            K key = keys.get(i);
+            IStatePushDown pushdown = pushdownFun.apply(key);
+            IGraphFilter filter = GraphFilter.of(pushdown.getFilter(), pushdown.getEdgeLimit());
+            OneDegreeGraph<K, VV, EV> oneDegreeGraph = new OneDegreeGraph<>(key, vertices.get(i),
+                edgeLists.get(i).iterator());
+            graphs.add(filter.filterOneDegreeGraph(oneDegreeGraph) ? oneDegreeGraph : null);
+        }
+        return graphs;
+    }
+
     @Override
     public Iterator<K> vertexIDIterator() {
         flush();
@@ -158,7 +283,7 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
 
     @Override
     public Iterator<IVertex<K, VV>> getVertexIterator(List<K> keys, IStatePushDown pushdown) {
-        return new KeysIterator<>(keys, this::getVertex, pushdown);
+        return new BatchKeysIterator<>(keys, multiGetBatchSize, this::getVertices, pushdown);
     }
 
     @Override
@@ -170,7 +295,8 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
 
     @Override
     public Iterator<IEdge<K, EV>> getEdgeIterator(List<K> keys, IStatePushDown pushdown) {
-        return new IteratorWithFlatFn<>(new KeysIterator<>(keys, this::getEdges, pushdown), List::iterator);
+        return new IteratorWithFlatFn<>(
+            new BatchKeysIterator<>(keys, multiGetBatchSize, this::getEdgeLists, pushdown), List::iterator);
     }
 
     @Override
@@ -183,7 +309,7 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
 
     @Override
     public Iterator<OneDegreeGraph<K, VV, EV>> getOneDegreeGraphIterator(List<K> keys, IStatePushDown pushdown) {
-        return new KeysIterator<>(keys, this::getOneDegreeGraph, pushdown);
+        return new BatchKeysIterator<>(keys, multiGetBatchSize, this::getOneDegreeGraphs, pushdown);
     }
 
     @Override
@@ -238,7 +364,7 @@ public class SyncGraphRocksdbProxy<K, VV, EV> implements IGraphRocksdbProxy<K, V
 
     @Override
     public void close() {
-
+        edgeCursor.close();
     }
 
 }
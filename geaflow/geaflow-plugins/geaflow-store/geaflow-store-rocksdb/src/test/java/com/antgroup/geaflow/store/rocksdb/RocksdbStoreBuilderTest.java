@@ -18,17 +18,33 @@ import static com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys.JOB_MA
 
 import com.antgroup.geaflow.common.config.Configuration;
 import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
 import com.antgroup.geaflow.file.FileConfigKeys;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.vertex.IVertex;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
 import com.antgroup.geaflow.state.DataModel;
+import com.antgroup.geaflow.state.data.DataType;
 import com.antgroup.geaflow.state.StoreType;
+import com.antgroup.geaflow.state.data.OneDegreeGraph;
+import com.antgroup.geaflow.state.pushdown.StatePushDown;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
 import com.antgroup.geaflow.state.serializer.DefaultKVSerializer;
 import com.antgroup.geaflow.store.IStoreBuilder;
+import com.antgroup.geaflow.store.api.graph.IGraphMultiVersionedStore;
+import com.antgroup.geaflow.store.api.graph.IGraphStore;
 import com.antgroup.geaflow.store.api.key.IKVStore;
 import com.antgroup.geaflow.store.api.key.StoreBuilderFactory;
 import com.antgroup.geaflow.store.context.StoreContext;
+import com.google.common.collect.Lists;
 import java.io.File;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -112,6 +128,113 @@ public class RocksdbStoreBuilderTest {
         kvStore.drop();
     }
 
+    @Test
+    public void testGraphMultiGet() {
+        IStoreBuilder builder = StoreBuilderFactory.build(StoreType.ROCKSDB.name());
+        config.put(RocksdbConfigKeys.ROCKSDB_MULTI_GET_BATCH_SIZE.getKey(), "3");
+        Configuration configuration = new Configuration(config);
+        IGraphStore<Integer, Integer, Integer> graphStore =
+            (IGraphStore<Integer, Integer, Integer>) builder.getStore(DataModel.STATIC_GRAPH, configuration);
+        StoreContext storeContext = new StoreContext("rocksdb_graph").withConfig(configuration)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(new GraphMetaType<>(IntegerType.INSTANCE,
+                ValueVertex.class, Integer.class, ValueEdge.class, Integer.class))));
+        graphStore.init(storeContext);
+        for (int i = 0; i < 10; i += 2) {
+            graphStore.addVertex(new ValueVertex<>(i, i));
+            graphStore.addEdge(new ValueEdge<>(i, i + 1, i));
+        }
+        graphStore.flush();
+
+        List<Integer> keys = Arrays.asList(8, 1, 6, 3, 4, 0, 100, 2);
+        List<IVertex<Integer, Integer>> vertices = Lists.newArrayList(
+            graphStore.getVertexIterator(keys, StatePushDown.of()));
+        Assert.assertEquals(vertices.stream().map(IVertex::getId).collect(Collectors.toList()),
+            Arrays.asList(8, 6, 4, 0, 2));
+        vertices.forEach(v -> Assert.assertEquals(v.getValue(), v.getId()));
+
+        List<OneDegreeGraph<Integer, Integer, Integer>> graphs = Lists.newArrayList(
+            graphStore.getOneDegreeGraphIterator(keys, StatePushDown.of()));
+        Assert.assertEquals(graphs.size(), keys.size());
+        for (OneDegreeGraph<Integer, Integer, Integer> graph : graphs) {
+            if (graph.getKey() % 2 == 0 && graph.getKey() < 10) {
+                Assert.assertEquals(graph.getVertex().getId(), graph.getKey());
+                Assert.assertTrue(graph.getEdgeIterator().hasNext());
+            } else {
+                Assert.assertNull(graph.getVertex());
+            }
+        }
+        graphStore.close();
+        graphStore.drop();
+        config.remove(RocksdbConfigKeys.ROCKSDB_MULTI_GET_BATCH_SIZE.getKey());
+    }
+
+    @Test
+    public void testDeltaMultiVersion() {
+        IStoreBuilder builder = StoreBuilderFactory.build(StoreType.ROCKSDB.name());
+        config.put(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_DELTA_ENABLE.getKey(), "true");
+        config.put(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_RETENTION.getKey(), "2");
+        config.put(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_COMPACT_BATCH_SIZE.getKey(), "1");
+        Configuration configuration = new Configuration(config);
+        IGraphMultiVersionedStore<Integer, Integer, Integer> graphStore =
+            (IGraphMultiVersionedStore<Integer, Integer, Integer>) builder.getStore(
+                DataModel.DYNAMIC_GRAPH, configuration);
+        StoreContext storeContext = new StoreContext("rocksdb_delta_graph").withConfig(configuration)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(new GraphMetaType<>(IntegerType.INSTANCE,
+                ValueVertex.class, Integer.class, ValueEdge.class, Integer.class))));
+        graphStore.init(storeContext);
+        graphStore.addVertex(1, new ValueVertex<>(1, 1));
+        graphStore.addEdge(1, new ValueEdge<>(1, 2, 1));
+        graphStore.addVertex(3, new ValueVertex<>(1, 3));
+        graphStore.addEdge(3, new ValueEdge<>(1, 3, 3));
+        graphStore.addVertex(3, new ValueVertex<>(2, 3));
+        graphStore.deleteVertex(5, 1);
+        graphStore.deleteEdge(5, new ValueEdge<>(1, 2, 1));
+        graphStore.flush();
+
+        Assert.assertNull(graphStore.getVertex(0, 1, StatePushDown.of()));
+        Assert.assertEquals(graphStore.getVertex(2, 1, StatePushDown.of()).getValue(), 1);
+        Assert.assertEquals(graphStore.getVertex(4, 1, StatePushDown.of()).getValue(), 3);
+        Assert.assertNull(graphStore.getVertex(6, 1, StatePushDown.of()));
+        Assert.assertEquals(graphStore.getEdges(2, 1, StatePushDown.of()).size(), 1);
+        Assert.assertEquals(graphStore.getEdges(4, 1, StatePushDown.of()).size(), 2);
+        Assert.assertEquals(graphStore.getEdges(6, 1, StatePushDown.of()).size(), 1);
+        Assert.assertEquals(Lists.newArrayList(graphStore.getVertexIterator(4,
+            StatePushDown.of())).size(), 2);
+        Assert.assertEquals(Lists.newArrayList(graphStore.getVertexIterator(6,
+            StatePushDown.of())).size(), 1);
+        Assert.assertEquals(graphStore.getAllVersions(1, DataType.V), Arrays.asList(3L, 1L));
+        Assert.assertEquals(graphStore.getLatestVersion(1, DataType.V), -1);
+        Assert.assertEquals(graphStore.getLatestVersion(2, DataType.V), 3);
+
+        // Retention 2 behind version 5 keeps what the reads from version 3 on can see.
+        graphStore.compact();
+        Assert.assertEquals(graphStore.getVertex(3, 1, StatePushDown.of()).getValue(), 3);
+        Assert.assertNull(graphStore.getVertex(2, 1, StatePushDown.of()));
+        Assert.assertEquals(graphStore.getEdges(4, 1, StatePushDown.of()).size(), 2);
+        Assert.assertEquals(graphStore.getAllVersions(1, DataType.V), Arrays.asList(3L));
+
+        // The max version 5 is recovered, so a compaction right after the recovery still
+        // drops the versions behind the retention.
+        graphStore.addVertex(1, new ValueVertex<>(4, 1));
+        graphStore.addVertex(2, new ValueVertex<>(4, 2));
+        graphStore.archive(1);
+        graphStore.close();
+        graphStore.drop();
+        graphStore = (IGraphMultiVersionedStore<Integer, Integer, Integer>) builder.getStore(
+            DataModel.DYNAMIC_GRAPH, configuration);
+        graphStore.init(storeContext);
+        graphStore.recovery(1);
+        Assert.assertEquals(graphStore.getAllVersions(4, DataType.V), Arrays.asList(2L, 1L));
+        graphStore.compact();
+        Assert.assertEquals(graphStore.getAllVersions(4, DataType.V), Arrays.asList(2L));
+
+        graphStore.close();
+        graphStore.drop();
+        config.remove(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_DELTA_ENABLE.getKey());
+        config.remove(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_RETENTION.getKey());
+        config.remove(RocksdbConfigKeys.ROCKSDB_MULTI_VERSION_COMPACT_BATCH_SIZE.getKey());
+    }
+
     @AfterMethod
     public void tearUp() {
         FileUtils.deleteQuietly(new File("/tmp/RocksdbStoreBuilderTest"));
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.store.rocksdb.iterator;
+
+import static com.antgroup.geaflow.common.config.keys.FrameworkConfigKeys.JOB_MAX_PARALLEL;
+
+import com.antgroup.geaflow.common.config.Configuration;
+import com.antgroup.geaflow.common.config.keys.ExecutionConfigKeys;
+import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
+import com.antgroup.geaflow.common.type.primitive.IntegerType;
+import com.antgroup.geaflow.file.FileConfigKeys;
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+import com.antgroup.geaflow.model.graph.edge.impl.ValueEdge;
+import com.antgroup.geaflow.model.graph.meta.GraphMeta;
+import com.antgroup.geaflow.model.graph.meta.GraphMetaType;
+import com.antgroup.geaflow.model.graph.vertex.impl.ValueVertex;
+import com.antgroup.geaflow.state.DataModel;
+import com.antgroup.geaflow.state.StoreType;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import com.antgroup.geaflow.state.pushdown.StatePushDown;
+import com.antgroup.geaflow.state.pushdown.filter.InEdgeFilter;
+import com.antgroup.geaflow.state.pushdown.filter.OutEdgeFilter;
+import com.antgroup.geaflow.state.pushdown.filter.inner.GraphFilter;
+import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import com.antgroup.geaflow.store.IStoreBuilder;
+import com.antgroup.geaflow.store.api.graph.IGraphStore;
+import com.antgroup.geaflow.store.api.key.StoreBuilderFactory;
+import com.antgroup.geaflow.store.context.StoreContext;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RocksdbEdgeCursorTest {
+
+    private IGraphStore<Integer, Integer, Integer> store;
+
+    @BeforeMethod
+    public void setUp() {
+        FileUtils.deleteQuietly(new File("/tmp/RocksdbEdgeCursorTest"));
+        Map<String, String> config = new HashMap<>();
+        config.put(ExecutionConfigKeys.JOB_APP_NAME.getKey(), "RocksdbEdgeCursorTest");
+        config.put(FileConfigKeys.PERSISTENT_TYPE.getKey(), "LOCAL");
+        config.put(FileConfigKeys.ROOT.getKey(), "/tmp/RocksdbEdgeCursorTest");
+        config.put(JOB_MAX_PARALLEL.getKey(), "1");
+        // read the edges through the rocksdb cursor rather than the write buffer.
+        config.put(StateConfigKeys.STATE_WRITE_ASYNC_ENABLE.getKey(), "false");
+        Configuration configuration = new Configuration(config);
+
+        IStoreBuilder builder = StoreBuilderFactory.build(StoreType.ROCKSDB.name());
+        store = (IGraphStore<Integer, Integer, Integer>) builder.getStore(
+            DataModel.STATIC_GRAPH, configuration);
+        StoreContext storeContext = new StoreContext("rocksdb_edge_cursor").withConfig(configuration)
+            .withDataSchema(new GraphDataSchema(new GraphMeta(new GraphMetaType<>(IntegerType.INSTANCE,
+                ValueVertex.class, Integer.class, ValueEdge.class, Integer.class))));
+        store.init(storeContext);
+
+        for (int src = 1; src <= 3; src++) {
+            for (int i = 0; i < 10; i++) {
+                store.addEdge(new ValueEdge<>(src, src * 100 + i, i,
+                    i % 2 == 0 ? EdgeDirection.OUT : EdgeDirection.IN));
+            }
+        }
+        store.flush();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        store.close();
+        store.drop();
+        FileUtils.deleteQuietly(new File("/tmp/RocksdbEdgeCursorTest"));
+    }
+
+    @Test
+    public void testDirectionFilter() {
+        IEdgeCursor<Integer, Integer> cursor = store.getEdgeCursor(2, StatePushDown.of());
+        Assert.assertTrue(cursor instanceof RocksdbEdgeCursor);
+        List<Integer> targets = new ArrayList<>();
+        while (cursor.hasNext()) {
+            int targetId = cursor.nextTargetId();
+            Assert.assertEquals(cursor.srcId().intValue(), 2);
+            Assert.assertEquals(cursor.value().intValue(), targetId - 200);
+            targets.add(targetId);
+        }
+        Assert.assertEquals(targets.size(), 10);
+
+        cursor = store.getEdgeCursor(2, StatePushDown.of().withFilter(
+            GraphFilter.of(OutEdgeFilter.instance())));
+        Assert.assertEquals(readTargets(cursor, EdgeDirection.OUT),
+            Arrays.asList(200, 202, 204, 206, 208));
+
+        cursor = store.getEdgeCursor(2, StatePushDown.of().withFilter(
+            GraphFilter.of(InEdgeFilter.instance())));
+        Assert.assertEquals(readTargets(cursor, EdgeDirection.IN),
+            Arrays.asList(201, 203, 205, 207, 209));
+    }
+
+    @Test
+    public void testReuseAcrossKeys() {
+        IEdgeCursor<Integer, Integer> cursor = store.getEdgeCursor(1, StatePushDown.of().withFilter(
+            GraphFilter.of(OutEdgeFilter.instance())));
+        // leave the cursor half consumed before it is reset to another key.
+        Assert.assertTrue(cursor.hasNext());
+        Assert.assertEquals(cursor.nextTargetId() / 100, 1);
+
+        IEdgeCursor<Integer, Integer> reused = store.getEdgeCursor(3, StatePushDown.of().withFilter(
+            GraphFilter.of(InEdgeFilter.instance())));
+        Assert.assertSame(reused, cursor);
+        Assert.assertEquals(reused.srcId().intValue(), 3);
+        Assert.assertEquals(readTargets(reused, EdgeDirection.IN),
+            Arrays.asList(301, 303, 305, 307, 309));
+
+        reused = store.getEdgeCursor(1, StatePushDown.of().withFilter(
+            GraphFilter.of(OutEdgeFilter.instance())));
+        Assert.assertSame(reused, cursor);
+        Assert.assertEquals(readTargets(reused, EdgeDirection.OUT),
+            Arrays.asList(100, 102, 104, 106, 108));
+
+        Assert.assertFalse(store.getEdgeCursor(4, StatePushDown.of()).hasNext());
+    }
+
+    private static List<Integer> readTargets(IEdgeCursor<Integer, Integer> cursor,
+                                             EdgeDirection direction) {
+        List<Integer> targets = new ArrayList<>();
+        while (cursor.hasNext()) {
+            targets.add(cursor.nextTargetId());
+            Assert.assertEquals(cursor.direction(), direction);
+        }
+        // edges are in the order of the encoded keys.
+        Collections.sort(targets);
+        return targets;
+    }
+}
@@ -16,6 +16,7 @@ package com.antgroup.geaflow.state;
 
 import com.antgroup.geaflow.state.query.QueryableAllGraphState;
 import com.antgroup.geaflow.state.query.QueryableKeysGraphState;
+import com.antgroup.geaflow.state.query.QueryableOneKeyGraphState;
 import java.util.Iterator;
 import java.util.List;
 
@@ -32,7 +33,7 @@ public interface StaticQueryableState<K, VV, EV, R> {
     /**
      * Returns the point query graph handler.
      */
-    QueryableKeysGraphState<K, VV, EV, R> query(K id);
+    QueryableOneKeyGraphState<K, VV, EV, R> query(K id);
 
     /**
      * Returns the point query graph handler.
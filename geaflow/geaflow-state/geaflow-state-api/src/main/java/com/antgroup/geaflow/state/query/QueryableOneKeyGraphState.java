@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+
+package com.antgroup.geaflow.state.query;
+
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
+import com.antgroup.geaflow.state.pushdown.filter.IFilter;
+
+/**
+ * The point query interface of one key for graph.
+ */
+public interface QueryableOneKeyGraphState<K, VV, EV, R> extends QueryableKeysGraphState<K, VV, EV, R> {
+
+    /**
+     * query by a filter of the key.
+     */
+    @Override
+    QueryableOneKeyGraphState<K, VV, EV, R> by(IFilter filter);
+
+    /**
+     * query edges of the key as a reusable cursor, which is valid until the next query.
+     */
+    IEdgeCursor<K, EV> cursor();
+}
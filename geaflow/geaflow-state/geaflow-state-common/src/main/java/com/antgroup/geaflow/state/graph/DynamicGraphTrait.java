@@ -14,6 +14,8 @@
 
 package com.antgroup.geaflow.state.graph;
 
+import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
+import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.data.DataType;
@@ -39,6 +41,20 @@ public interface DynamicGraphTrait<K, VV, EV> {
      */
     void addVertex(long version, IVertex<K, VV> vertex);
 
+    /**
+     * Delete the vertex of the id since the version.
+     */
+    default void deleteVertex(long version, K id) {
+        throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+    }
+
+    /**
+     * Delete the edge since the version.
+     */
+    default void deleteEdge(long version, IEdge<K, EV> edge) {
+        throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+    }
+
     /**
      * Fetch the vertex according to the version, id and pushdown condition.
      */
@@ -18,6 +18,7 @@ import com.antgroup.geaflow.common.tuple.Tuple;
 import com.antgroup.geaflow.model.graph.edge.IEdge;
 import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.data.OneDegreeGraph;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import java.util.Iterator;
 import java.util.List;
@@ -48,6 +49,12 @@ public interface StaticGraphTrait<K, VV, EV> {
      */
     List<IEdge<K, EV>> getEdges(K sid, IStatePushDown pushdown);
 
+    /**
+     * Fetch a reusable cursor over the edges according to the id and pushdown condition,
+     * the cursor is valid until the next cursor request.
+     */
+    IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown);
+
     /**
      * Fetch the one degree graph according to the id and pushdown condition.
      */
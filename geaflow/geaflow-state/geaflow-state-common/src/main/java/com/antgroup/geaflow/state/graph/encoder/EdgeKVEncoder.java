@@ -36,4 +36,9 @@ public class EdgeKVEncoder<K, EV> extends EdgeKVEncoderWithoutValue<K, EV> {
         IEdge edge = super.getEdge(key, value);
         return edge.withValue(graphDataSchema.getEdgePropertyDeFun().apply(value));
     }
+
+    @Override
+    public EV getEdgeValue(byte[] value) {
+        return (EV) graphDataSchema.getEdgePropertyDeFun().apply(value);
+    }
 }
@@ -55,7 +55,12 @@ public class EdgeKVEncoderWithoutValue<K, EV> implements IEdgeKVEncoder<K, EV> {
 
     @Override
     public IEdge<K, EV> getEdge(byte[] key, byte[] value) {
-        IEdge edge = this.graphDataSchema.getEdgeConsFun().get();
+        return getEdgeKey(key, null);
+    }
+
+    @Override
+    public IEdge<K, EV> getEdgeKey(byte[] key, IEdge<K, EV> reuse) {
+        IEdge edge = reuse != null ? reuse : this.graphDataSchema.getEdgeConsFun().get();
         List<byte[]> values = bytesEncoder.split(key, StateConfigKeys.DELIMITER);
         if (values == null) {
             IBytesEncoder encoder = BytesEncoderRepo.get(
@@ -68,6 +73,11 @@ public class EdgeKVEncoderWithoutValue<K, EV> implements IEdgeKVEncoder<K, EV> {
         return edge;
     }
 
+    @Override
+    public EV getEdgeValue(byte[] value) {
+        return null;
+    }
+
     @Override
     public IBytesEncoder getBytesEncoder() {
         return this.bytesEncoder;
@@ -19,6 +19,7 @@ import com.antgroup.geaflow.common.config.keys.StateConfigKeys;
 import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
 import com.antgroup.geaflow.state.schema.GraphDataSchema;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,12 +31,7 @@ public class GraphKVEncoderFactory {
     public static <K, VV, EV> IGraphKVEncoder<K, VV, EV> build(Configuration config,
                                                                GraphDataSchema schema) {
         String clazz = config.getString(StateConfigKeys.STATE_KV_ENCODER_CLASS);
-        String edgeOrder = config.getString(StateConfigKeys.STATE_KV_ENCODER_EDGE_ORDER);
-        if (edgeOrder != null && edgeOrder.length() > 0) {
-            List<EdgeAtom> list = Splitter.on(EDGE_ORDER_SPLITTER).splitToList(edgeOrder).stream()
-                .map(c -> EdgeAtom.getEnum(c.trim())).collect(Collectors.toList());
-            schema.setEdgeAtoms(list);
-        }
+        initEdgeOrder(config, schema);
         try {
             IGraphKVEncoder<K, VV, EV> encoder = (IGraphKVEncoder) Class.forName(clazz).newInstance();
             encoder.init(schema);
@@ -44,4 +40,23 @@ public class GraphKVEncoderFactory {
             throw new GeaflowRuntimeException(RuntimeErrors.INST.runError(e.getMessage()), e);
         }
     }
+
+    /**
+     * Apply the configured edge atom order to the schema.
+     *
+     * @return the atom edges of one vertex are sorted by, or null if no order is declared.
+     */
+    public static EdgeAtom initEdgeOrder(Configuration config, GraphDataSchema schema) {
+        String edgeOrder = config.getString(StateConfigKeys.STATE_KV_ENCODER_EDGE_ORDER);
+        if (edgeOrder == null || edgeOrder.length() == 0) {
+            return null;
+        }
+        List<EdgeAtom> list = Splitter.on(EDGE_ORDER_SPLITTER).splitToList(edgeOrder).stream()
+            .map(c -> EdgeAtom.getEnum(c.trim())).collect(Collectors.toList());
+        // the first atom is the source id, edges of one vertex are ordered by the second one.
+        Preconditions.checkArgument(list.size() > 1,
+            "edge order %s should declare the sort atom after the source id", edgeOrder);
+        schema.setEdgeAtoms(list);
+        return list.get(1);
+    }
 }
@@ -25,5 +25,15 @@ public interface IEdgeKVEncoder<K, EV> {
 
     IEdge<K, EV> getEdge(byte[] key, byte[] value);
 
+    /**
+     * Decode the key fields into the reused edge, a new edge is created if reuse is null.
+     */
+    IEdge<K, EV> getEdgeKey(byte[] key, IEdge<K, EV> reuse);
+
+    /**
+     * Decode the edge value only.
+     */
+    EV getEdgeValue(byte[] value);
+
     IBytesEncoder getBytesEncoder();
 }
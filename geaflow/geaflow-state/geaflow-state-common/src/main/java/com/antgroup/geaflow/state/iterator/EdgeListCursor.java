@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+package com.antgroup.geaflow.state.iterator;
+
+import com.antgroup.geaflow.model.graph.IGraphElementWithLabelField;
+import com.antgroup.geaflow.model.graph.IGraphElementWithTimeField;
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+import com.antgroup.geaflow.model.graph.edge.IEdge;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Edge cursor over materialized edges, used when a store can not read edges in place.
+ */
+public class EdgeListCursor<K, EV> implements IEdgeCursor<K, EV> {
+
+    private K srcId;
+    private List<IEdge<K, EV>> edges = Collections.emptyList();
+    private int next;
+    private IEdge<K, EV> current;
+
+    public EdgeListCursor() {
+    }
+
+    public EdgeListCursor(K srcId, List<IEdge<K, EV>> edges) {
+        reset(srcId, edges);
+    }
+
+    public EdgeListCursor<K, EV> reset(K srcId, List<IEdge<K, EV>> edges) {
+        this.srcId = srcId;
+        this.edges = edges;
+        this.next = 0;
+        this.current = null;
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next < edges.size();
+    }
+
+    @Override
+    public K nextTargetId() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        current = edges.get(next++);
+        return current.getTargetId();
+    }
+
+    @Override
+    public K srcId() {
+        return srcId;
+    }
+
+    @Override
+    public EdgeDirection direction() {
+        return current.getDirect();
+    }
+
+    @Override
+    public String label() {
+        return current instanceof IGraphElementWithLabelField
+               ? ((IGraphElementWithLabelField) current).getLabel() : null;
+    }
+
+    @Override
+    public long ts() {
+        return current instanceof IGraphElementWithTimeField
+               ? ((IGraphElementWithTimeField) current).getTime() : 0L;
+    }
+
+    @Override
+    public EV value() {
+        return current.getValue();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+package com.antgroup.geaflow.state.iterator;
+
+import com.antgroup.geaflow.model.graph.edge.EdgeDirection;
+
+/**
+ * Flyweight cursor over the edges of one vertex. Fields are read from the underlying
+ * storage of the current edge without materializing an edge object, and the cursor
+ * instance is reused by the store, so it is only valid until the next cursor request.
+ */
+public interface IEdgeCursor<K, EV> {
+
+    /**
+     * Returns true if there is another edge.
+     */
+    boolean hasNext();
+
+    /**
+     * Move to the next edge and return its target id.
+     */
+    K nextTargetId();
+
+    /**
+     * Returns the source id of the edges.
+     */
+    K srcId();
+
+    /**
+     * Returns the direction of the current edge.
+     */
+    EdgeDirection direction();
+
+    /**
+     * Returns the label of the current edge, null if the edge has no label.
+     */
+    String label();
+
+    /**
+     * Returns the timestamp of the current edge, 0 if the edge has no time.
+     */
+    long ts();
+
+    /**
+     * Returns the value of the current edge, decoded lazily.
+     */
+    EV value();
+}
@@ -20,6 +20,7 @@ import com.antgroup.geaflow.state.query.QueryableAllGraphState;
 import com.antgroup.geaflow.state.query.QueryableAllGraphStateImpl;
 import com.antgroup.geaflow.state.query.QueryableKeysGraphState;
 import com.antgroup.geaflow.state.query.QueryableKeysGraphStateImpl;
+import com.antgroup.geaflow.state.query.QueryableOneKeyGraphState;
 import com.antgroup.geaflow.state.query.QueryableOneKeyGraphStateImpl;
 import com.antgroup.geaflow.state.strategy.manager.IGraphManager;
 import java.util.Arrays;
@@ -45,7 +46,7 @@ public abstract class BaseQueryState<K, VV, EV, R> implements StaticQueryableSta
     }
 
     @Override
-    public QueryableKeysGraphState<K, VV, EV, R> query(K id) {
+    public QueryableOneKeyGraphState<K, VV, EV, R> query(K id) {
         QueryCondition<K> queryCondition = new QueryCondition<>();
         queryCondition.queryId = id;
         queryCondition.isFullScan = false;
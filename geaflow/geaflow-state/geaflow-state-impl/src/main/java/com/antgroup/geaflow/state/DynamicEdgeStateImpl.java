@@ -59,7 +59,7 @@ public class DynamicEdgeStateImpl<K, VV, EV> extends
 
     @Override
     public void delete(long version, IEdge<K, EV> edge) {
-        throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+        this.graphManager.getDynamicGraphTrait().deleteEdge(version, edge);
     }
 
     @Override
@@ -53,16 +53,20 @@ public class DynamicVertexStateImpl<K, VV, EV>  extends
 
     @Override
     public void delete(long version, IVertex<K, VV> vertex) {
-        throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+        this.graphManager.getDynamicGraphTrait().deleteVertex(version, vertex.getId());
     }
 
     @Override
     public void delete(long version, K... ids) {
-        throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+        for (K id : ids) {
+            this.graphManager.getDynamicGraphTrait().deleteVertex(version, id);
+        }
     }
 
     @Override
     public void delete(long version, Collection<K> ids) {
-        throw new GeaflowRuntimeException(RuntimeErrors.INST.unsupportedError());
+        for (K id : ids) {
+            this.graphManager.getDynamicGraphTrait().deleteVertex(version, id);
+        }
     }
 }
@@ -17,16 +17,19 @@ package com.antgroup.geaflow.state.query;
 import com.antgroup.geaflow.common.errorcode.RuntimeErrors;
 import com.antgroup.geaflow.common.exception.GeaflowRuntimeException;
 import com.antgroup.geaflow.state.data.DataType;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.StatePushDown;
 import com.antgroup.geaflow.state.pushdown.filter.IFilter;
 import com.antgroup.geaflow.state.pushdown.project.IProjector;
 import com.antgroup.geaflow.state.strategy.manager.IGraphManager;
+import com.google.common.base.Preconditions;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 public class QueryableOneKeyGraphStateImpl<K, VV, EV, R>
-    extends QueryableKeysGraphStateImpl<K, VV, EV, R> {
+    extends QueryableKeysGraphStateImpl<K, VV, EV, R>
+    implements QueryableOneKeyGraphState<K, VV, EV, R> {
 
     public QueryableOneKeyGraphStateImpl(QueryType<R> type, IGraphManager<K, VV, EV> graphManager,
                                          QueryCondition<K> queryCondition) {
@@ -39,7 +42,7 @@ public class QueryableOneKeyGraphStateImpl<K, VV, EV, R>
     }
 
     @Override
-    public QueryableGraphState<K, VV, EV, R> by(IFilter filter) {
+    public QueryableOneKeyGraphState<K, VV, EV, R> by(IFilter filter) {
         this.queryCondition.stateFilters[0] = filter;
         return this;
     }
@@ -71,6 +74,13 @@ public class QueryableOneKeyGraphStateImpl<K, VV, EV, R>
         }
     }
 
+    @Override
+    public IEdgeCursor<K, EV> cursor() {
+        Preconditions.checkArgument(DataType.E == this.type.getType(), "only edge cursor is supported.");
+        return this.graphManager.getStaticGraphTrait().getEdgeCursor(
+            queryCondition.queryId, getPushDown());
+    }
+
     @Override
     public R get() {
         switch (this.type.getType()) {
@@ -72,6 +72,11 @@ public class RWDynamicGraphAccessor<K, VV, EV> extends BaseActionAccess implemen
         this.graphStore.addEdge(version, edge);
     }
 
+    @Override
+    public void deleteEdge(long version, IEdge<K, EV> edge) {
+        this.graphStore.deleteEdge(version, edge);
+    }
+
     @Override
     public List<IEdge<K, EV>> getEdges(long version, K sid, IStatePushDown pushdown) {
         return this.graphStore.getEdges(version, sid, pushdown);
@@ -93,6 +98,11 @@ public class RWDynamicGraphAccessor<K, VV, EV> extends BaseActionAccess implemen
         this.graphStore.addVertex(version, vertex);
     }
 
+    @Override
+    public void deleteVertex(long version, K id) {
+        this.graphStore.deleteVertex(version, id);
+    }
+
     @Override
     public IVertex<K, VV> getVertex(long version, K sid, IStatePushDown pushdown) {
         return this.graphStore.getVertex(version, sid, pushdown);
@@ -22,6 +22,7 @@ import com.antgroup.geaflow.state.action.ActionType;
 import com.antgroup.geaflow.state.context.StateContext;
 import com.antgroup.geaflow.state.data.OneDegreeGraph;
 import com.antgroup.geaflow.state.descriptor.GraphStateDescriptor;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
 import com.antgroup.geaflow.store.IBaseStore;
 import com.antgroup.geaflow.store.IStoreBuilder;
@@ -75,6 +76,11 @@ public class RWStaticGraphAccessor<K, VV, EV> extends BaseActionAccess implement
         return this.graphStore.getEdges(sid, pushdown);
     }
 
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        return this.graphStore.getEdgeCursor(sid, pushdown);
+    }
+
     @Override
     public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(K sid, IStatePushDown pushdown) {
         return this.graphStore.getOneDegreeGraph(sid, pushdown);
@@ -48,6 +48,11 @@ public class DynamicGraphManagerImpl<K, VV, EV> extends BaseShardManager<K,
         getTraitByKey(edge.getSrcId()).addEdge(version, edge);
     }
 
+    @Override
+    public void deleteEdge(long version, IEdge<K, EV> edge) {
+        getTraitByKey(edge.getSrcId()).deleteEdge(version, edge);
+    }
+
     @Override
     public List<IEdge<K, EV>> getEdges(long version, K sid, IStatePushDown pushdown) {
         return getTraitByKey(sid).getEdges(version, sid, pushdown);
@@ -64,6 +69,11 @@ public class DynamicGraphManagerImpl<K, VV, EV> extends BaseShardManager<K,
         getTraitByKey(vertex.getId()).addVertex(version, vertex);
     }
 
+    @Override
+    public void deleteVertex(long version, K id) {
+        getTraitByKey(id).deleteVertex(version, id);
+    }
+
     @Override
     public IVertex<K, VV> getVertex(long version, K sid, IStatePushDown pushdown) {
         return getTraitByKey(sid).getVertex(version, sid, pushdown);
@@ -20,6 +20,7 @@ import com.antgroup.geaflow.model.graph.vertex.IVertex;
 import com.antgroup.geaflow.state.context.StateContext;
 import com.antgroup.geaflow.state.data.OneDegreeGraph;
 import com.antgroup.geaflow.state.graph.StaticGraphTrait;
+import com.antgroup.geaflow.state.iterator.IEdgeCursor;
 import com.antgroup.geaflow.state.iterator.IteratorWithFilter;
 import com.antgroup.geaflow.state.iterator.MultiIterator;
 import com.antgroup.geaflow.state.pushdown.IStatePushDown;
@@ -54,6 +55,11 @@ public class StaticGraphManagerImpl<K, VV, EV> extends BaseShardManager<K,
         return getTraitByKey(sid).getEdges(sid, pushdown);
     }
 
+    @Override
+    public IEdgeCursor<K, EV> getEdgeCursor(K sid, IStatePushDown pushdown) {
+        return getTraitByKey(sid).getEdgeCursor(sid, pushdown);
+    }
+
     @Override
     public OneDegreeGraph<K, VV, EV> getOneDegreeGraph(K sid, IStatePushDown pushdown) {
         return getTraitByKey(sid).getOneDegreeGraph(sid, pushdown);
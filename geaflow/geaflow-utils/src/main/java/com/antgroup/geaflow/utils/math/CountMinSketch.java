@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.utils.math;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+
+/**
+ * Count-min sketch estimating the frequency of keys in a fixed memory. The estimate never
+ * under counts, it may over count by the collisions of a key in every row.
+ */
+public class CountMinSketch {
+
+    private static final int HASH_SEED = 0x9E3779B9;
+
+    private final int depth;
+    private final int mask;
+    private final int[][] counters;
+
+    public CountMinSketch(int depth, int width) {
+        Preconditions.checkArgument(depth > 0, "depth must be positive");
+        Preconditions.checkArgument(width > 0 && (width & (width - 1)) == 0,
+            "width must be a power of 2: %s", width);
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new int[depth][width];
+    }
+
+    /**
+     * Count the key once and return its estimated frequency.
+     */
+    public int add(Object key) {
+        int hash = key.hashCode();
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            int[] row = counters[i];
+            int index = index(hash, i);
+            if (row[index] < Integer.MAX_VALUE) {
+                row[index]++;
+            }
+            estimate = Math.min(estimate, row[index]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Return the estimated frequency of the key.
+     */
+    public int estimate(Object key) {
+        int hash = key.hashCode();
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters[i][index(hash, i)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (int[] row : counters) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int index(int hash, int row) {
+        return MathUtil.murmurHash(hash + row * HASH_SEED) & mask;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 AntGroup CO., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ */
+
+package com.antgroup.geaflow.utils.math;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CountMinSketchTest {
+
+    @Test
+    public void testEstimate() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        for (int i = 0; i < 10000; i++) {
+            sketch.add("cold" + i);
+            if (i % 10 == 0) {
+                sketch.add("hot");
+            }
+        }
+        Assert.assertTrue(sketch.estimate("hot") >= 1000);
+        Assert.assertTrue(sketch.estimate("hot") < 1100);
+        for (int i = 0; i < 10000; i += 100) {
+            Assert.assertTrue(sketch.estimate("cold" + i) >= 1);
+        }
+        Assert.assertEquals(sketch.add("hot"), sketch.estimate("hot"));
+
+        sketch.clear();
+        Assert.assertEquals(sketch.estimate("hot"), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIllegalWidth() {
+        new CountMinSketch(4, 1000);
+    }
+}